@@ -0,0 +1,12 @@
+package br.com.senac.auditoria;
+
+/**
+ * Alteração a ser gravada no LogAuditoria; a sequência e o instante são atribuídos na gravação.
+ *
+ * @param entidade A entidade alterada.
+ * @param operacao A operação realizada.
+ * @param entidadeId O ID do registro alterado.
+ * @param nome O nome gravado pela inclusão ou alteração, ou nulo na exclusão.
+ */
+public record Alteracao(EntidadeAuditada entidade, OperacaoAuditada operacao, int entidadeId, String nome) {
+}
@@ -0,0 +1,40 @@
+package br.com.senac.auditoria;
+
+/**
+ * Entidades cujas alterações são registradas no LogAuditoria. O código é o byte gravado em cada registro e não
+ * pode ser alterado depois de usado.
+ */
+public enum EntidadeAuditada {
+
+	ALUNO(1),
+	TURMA(2),
+	DISCIPLINA(3);
+
+	private final byte codigo;
+
+	EntidadeAuditada(int codigo) {
+		this.codigo = (byte) codigo;
+	}
+
+	/**
+	 * @return O código gravado nos registros.
+	 */
+	public byte getCodigo() {
+		return codigo;
+	}
+
+	/**
+	 * @param codigo O código lido de um registro.
+	 * @return A entidade correspondente.
+	 * @throws IllegalArgumentException Se o código não corresponder a nenhuma entidade.
+	 */
+	public static EntidadeAuditada doCodigo(byte codigo) {
+		for (EntidadeAuditada entidade : values()) {
+			if (entidade.codigo == codigo) {
+				return entidade;
+			}
+		}
+		throw new IllegalArgumentException("Código de entidade auditada desconhecido: " + codigo);
+	}
+
+}
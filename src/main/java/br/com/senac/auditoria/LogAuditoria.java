@@ -0,0 +1,513 @@
+package br.com.senac.auditoria;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.senac.dto.RegistroAuditoriaDTO;
+import br.com.senac.service.Metricas;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Log de auditoria somente de acréscimo, gravado em segmentos de tamanho fixo mapeados em memória
+ * (MappedByteBuffer). Cada segmento é um arquivo nomeado pela sequência do seu primeiro registro; quando um
+ * registro não cabe no segmento atual, um novo segmento é criado.
+ *
+ * Formato de cada registro (big-endian): tamanho do corpo (int), CRC32C do corpo (int) e o corpo, com a sequência
+ * (long), o instante em microssegundos desde 1970 (long), a entidade (byte), a operação (byte), o ID (int), o
+ * tamanho do nome em bytes (short, -1 para nulo) e o nome em UTF-8. Um tamanho zero marca o fim dos registros do
+ * segmento, que é criado preenchido com zeros.
+ *
+ * Gravar um registro é uma cópia de poucas dezenas de bytes para a memória mapeada, sem chamada ao sistema: o
+ * registro sobrevive à queda do processo assim que é gravado. A gravação em disco (force) é feita em grupo por uma
+ * thread própria a cada intervalo de sincronização, de modo que uma queda do sistema operacional perde no máximo
+ * os registros desse intervalo. Na abertura, o último segmento é percorrido até o primeiro registro incompleto ou
+ * com CRC inválido, e o restante do segmento é zerado.
+ *
+ * Enquanto está aberto, o log mantém um bloqueio exclusivo (FileChannel.lock) no arquivo {@value #ARQUIVO_TRAVA}
+ * do diretório, de modo que dois processos nunca gravem nos mesmos segmentos. Com um limite de segmentos, os
+ * segmentos mais antigos são excluídos a cada novo segmento criado; sem limite, o log cresce indefinidamente.
+ */
+public class LogAuditoria implements Closeable, MeterBinder {
+
+	private static final Logger log = LoggerFactory.getLogger(LogAuditoria.class);
+
+//  Extensão dos arquivos de segmento
+	private static final String EXTENSAO = ".audit";
+
+//  Arquivo bloqueado enquanto o log está aberto
+	public static final String ARQUIVO_TRAVA = "auditoria.lock";
+
+//  Tamanho do corpo e CRC32C do corpo
+	private static final int CABECALHO = 8;
+
+//  Sequência, instante, entidade, operação, ID e tamanho do nome
+	private static final int CORPO_FIXO = 8 + 8 + 1 + 1 + 4 + 2;
+
+//  Tamanho máximo do nome gravado, em bytes; nomes maiores são truncados
+	private static final int MAXIMO_NOME = Short.MAX_VALUE;
+
+//  Menor tamanho de segmento aceito: o de um registro com o maior nome possível
+	public static final int TAMANHO_MINIMO_SEGMENTO = CABECALHO + CORPO_FIXO + MAXIMO_NOME;
+
+	private final Path diretorio;
+	private final int tamanhoSegmento;
+	private final int segmentosMaximos;
+	private final long intervaloSincronizacaoNanos;
+
+//  Canal do arquivo de trava; o bloqueio é liberado quando o canal é fechado
+	private final FileChannel canalTrava;
+
+//  Todos os segmentos, do mais antigo ao atual; só o último recebe registros
+	private final List<Segmento> segmentos = new CopyOnWriteArrayList<>();
+
+//  Estado da gravação, protegido pelo monitor do LogAuditoria
+	private Segmento atual;
+	private long proximaSequencia;
+	private long ultimoInstante;
+
+//  Área de montagem de um registro, usada sob o monitor
+	private final ByteBuffer registro = ByteBuffer.allocate(CABECALHO + CORPO_FIXO + MAXIMO_NOME);
+
+	private final Object travaSincronizacao = new Object();
+	private final Thread sincronizador;
+	private volatile boolean fechado;
+
+	private final LongAdder registros = new LongAdder();
+	private final LongAdder sincronizacoes = new LongAdder();
+
+	/**
+	 * Abre o log no diretório informado, sem limite de segmentos.
+	 *
+	 * @param diretorio O diretório dos segmentos.
+	 * @param tamanhoSegmento O tamanho de cada novo segmento, em bytes.
+	 * @param intervaloSincronizacaoMillis O intervalo entre as gravações em disco, em milissegundos.
+	 * @throws IOException Se os segmentos não puderem ser abertos ou criados, ou se o diretório estiver em uso.
+	 */
+	public LogAuditoria(Path diretorio, int tamanhoSegmento, long intervaloSincronizacaoMillis) throws IOException {
+		this(diretorio, tamanhoSegmento, 0, intervaloSincronizacaoMillis);
+	}
+
+	/**
+	 * Abre o log no diretório informado, criando o diretório e o primeiro segmento se necessário, bloqueia o
+	 * diretório para os demais processos e inicia a thread de sincronização.
+	 *
+	 * @param diretorio O diretório dos segmentos.
+	 * @param tamanhoSegmento O tamanho de cada novo segmento, em bytes.
+	 * @param segmentosMaximos A quantidade máxima de segmentos mantidos (os mais antigos são excluídos), ou 0 para
+	 * manter todos.
+	 * @param intervaloSincronizacaoMillis O intervalo entre as gravações em disco, em milissegundos.
+	 * @throws IOException Se os segmentos não puderem ser abertos ou criados, ou se o diretório estiver em uso.
+	 */
+	public LogAuditoria(Path diretorio, int tamanhoSegmento, int segmentosMaximos, long intervaloSincronizacaoMillis) throws IOException {
+		if (tamanhoSegmento < TAMANHO_MINIMO_SEGMENTO) {
+			throw new IllegalArgumentException("O tamanho do segmento deve ser de pelo menos " + TAMANHO_MINIMO_SEGMENTO + " bytes.");
+		}
+		if (segmentosMaximos < 0) {
+			throw new IllegalArgumentException("A quantidade máxima de segmentos não pode ser negativa.");
+		}
+		this.diretorio = diretorio;
+		this.tamanhoSegmento = tamanhoSegmento;
+		this.segmentosMaximos = segmentosMaximos;
+		this.intervaloSincronizacaoNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(intervaloSincronizacaoMillis, 1));
+		Files.createDirectories(diretorio);
+		canalTrava = FileChannel.open(diretorio.resolve(ARQUIVO_TRAVA), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		travar(canalTrava, diretorio);
+		try {
+			List<Path> arquivos;
+			try (Stream<Path> lista = Files.list(diretorio)) {
+				arquivos = lista.filter(arquivo -> arquivo.getFileName().toString().endsWith(EXTENSAO)).sorted().toList();
+			}
+			for (int i = 0; i < arquivos.size() - 1; i++) {
+				segmentos.add(Segmento.abrir(arquivos.get(i), false));
+			}
+			if (arquivos.isEmpty()) {
+				atual = Segmento.criar(arquivo(1), 1, tamanhoSegmento);
+				proximaSequencia = 1;
+			} else {
+				atual = Segmento.abrir(arquivos.get(arquivos.size() - 1), true);
+				recuperar(atual);
+			}
+			segmentos.add(atual);
+			descartarAntigos();
+		} catch (IOException | RuntimeException e) {
+			canalTrava.close();
+			throw e;
+		}
+		sincronizador = new Thread(this::sincronizarPeriodicamente, "auditoria-sincronizacao");
+		sincronizador.setDaemon(true);
+		sincronizador.start();
+		log.info("Log de auditoria aberto em {}: {} segmentos, próxima sequência {}", diretorio.toAbsolutePath(), segmentos.size(), proximaSequencia);
+	}
+
+	/**
+	 * Grava as alterações no log, na ordem recebida e com sequências consecutivas.
+	 *
+	 * @param alteracoes As alterações a serem gravadas.
+	 * @throws IllegalStateException Se o log estiver fechado.
+	 */
+	public void gravar(List<Alteracao> alteracoes) {
+		byte[][] nomes = new byte[alteracoes.size()][];
+		for (int i = 0; i < nomes.length; i++) {
+			String nome = alteracoes.get(i).nome();
+			nomes[i] = nome == null ? null : nome.getBytes(StandardCharsets.UTF_8);
+		}
+		synchronized (this) {
+			if (fechado) {
+				throw new IllegalStateException("O log de auditoria está fechado.");
+			}
+			long instante = Math.max(agoraMicros(), ultimoInstante);
+			for (int i = 0; i < nomes.length; i++) {
+				anexar(alteracoes.get(i), nomes[i], instante);
+			}
+			ultimoInstante = instante;
+		}
+		registros.add(alteracoes.size());
+	}
+
+	/**
+	 * Percorre os registros em ordem de sequência, filtrando por entidade, ID e período. Os segmentos fora do
+	 * período são ignorados sem leitura, pois os instantes dos registros são crescentes.
+	 *
+	 * @param entidade A entidade, ou nula para todas.
+	 * @param entidadeId O ID do registro alterado, ou nulo para todos.
+	 * @param de O instante inicial (inclusive), ou nulo para o início do log.
+	 * @param ate O instante final (inclusive), ou nulo para o fim do log.
+	 * @param limite A quantidade máxima de registros entregues.
+	 * @param consumidor Recebe cada registro encontrado.
+	 */
+	public void percorrer(EntidadeAuditada entidade, Integer entidadeId, Instant de, Instant ate, long limite,
+			Consumer<RegistroAuditoriaDTO> consumidor) {
+		long inicio = de == null ? Long.MIN_VALUE : paraMicros(de);
+		long fim = ate == null ? Long.MAX_VALUE : paraMicros(ate);
+		long entregues = 0;
+		List<Segmento> lista = List.copyOf(segmentos);
+		for (int s = 0; s < lista.size() && entregues < limite; s++) {
+			Segmento segmento = lista.get(s);
+			if (segmento.primeiroInstante > fim) {
+				break;
+			}
+			if (s + 1 < lista.size() && lista.get(s + 1).primeiroInstante != Long.MIN_VALUE && lista.get(s + 1).primeiroInstante < inicio) {
+				continue;
+			}
+			ByteBuffer buffer = segmento.buffer.duplicate();
+			int limiteSegmento = segmento.fim;
+			int posicao = 0;
+			int tamanho;
+			while (entregues < limite && (tamanho = tamanhoValido(buffer, posicao, limiteSegmento)) > 0) {
+				int corpo = posicao + CABECALHO;
+				long instante = buffer.getLong(corpo + 8);
+				if (instante > fim) {
+					return;
+				}
+				if (instante >= inicio && (entidade == null || buffer.get(corpo + 16) == entidade.getCodigo())
+						&& (entidadeId == null || buffer.getInt(corpo + 18) == entidadeId)) {
+					consumidor.accept(ler(buffer, corpo));
+					entregues++;
+				}
+				posicao = corpo + tamanho;
+			}
+		}
+	}
+
+	/**
+	 * Grava em disco os registros ainda não sincronizados. É chamado periodicamente pela thread de sincronização,
+	 * que agrupa em uma única gravação todos os registros do intervalo.
+	 */
+	public void sincronizar() {
+		synchronized (travaSincronizacao) {
+			List<Segmento> lista = List.copyOf(segmentos);
+			for (int s = lista.size() - 1; s >= 0; s--) {
+				Segmento segmento = lista.get(s);
+				int fim = segmento.fim;
+				if (segmento.sincronizado >= fim) {
+					if (s < lista.size() - 1) {
+						break;
+					}
+					continue;
+				}
+				segmento.buffer.force(segmento.sincronizado, fim - segmento.sincronizado);
+				segmento.sincronizado = fim;
+				sincronizacoes.increment();
+			}
+		}
+	}
+
+	/**
+	 * @return A sequência que será atribuída ao próximo registro.
+	 */
+	public synchronized long getProximaSequencia() {
+		return proximaSequencia;
+	}
+
+	/**
+	 * @return A quantidade de segmentos do log.
+	 */
+	public int getQuantidadeSegmentos() {
+		return segmentos.size();
+	}
+
+	/**
+	 * Encerra a thread de sincronização, grava em disco os registros pendentes e libera a trava do diretório.
+	 */
+	@Override
+	public void close() {
+		synchronized (this) {
+			if (fechado) {
+				return;
+			}
+			fechado = true;
+		}
+		LockSupport.unpark(sincronizador);
+		try {
+			sincronizador.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		sincronizar();
+		try {
+			canalTrava.close();
+		} catch (IOException e) {
+			log.warn("Não foi possível liberar a trava do log de auditoria: {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder(Metricas.AUDITORIA_REGISTROS, registros, LongAdder::sum)
+				.description("Registros gravados no log de auditoria")
+				.register(registry);
+		FunctionCounter.builder(Metricas.AUDITORIA_SINCRONIZACOES, sincronizacoes, LongAdder::sum)
+				.description("Gravações em disco (force) do log de auditoria, cada uma com todos os registros do intervalo")
+				.register(registry);
+	}
+
+	private void sincronizarPeriodicamente() {
+		while (!fechado) {
+			LockSupport.parkNanos(intervaloSincronizacaoNanos);
+			try {
+				sincronizar();
+			} catch (RuntimeException e) {
+				log.error("Falha ao gravar o log de auditoria em disco", e);
+			}
+		}
+	}
+
+//  Grava um registro no segmento atual, criando um novo segmento se ele não couber; chamado com o monitor
+	private void anexar(Alteracao alteracao, byte[] nome, long instante) {
+		int tamanhoNome = nome == null ? 0 : Math.min(nome.length, MAXIMO_NOME);
+		int tamanhoCorpo = CORPO_FIXO + tamanhoNome;
+		if (atual.fim + CABECALHO + tamanhoCorpo > atual.buffer.capacity()) {
+			rolar();
+		}
+		registro.clear();
+		registro.putInt(tamanhoCorpo).putInt(0)
+				.putLong(proximaSequencia).putLong(instante)
+				.put(alteracao.entidade().getCodigo()).put(alteracao.operacao().getCodigo())
+				.putInt(alteracao.entidadeId()).putShort(nome == null ? -1 : (short) tamanhoNome);
+		if (nome != null) {
+			registro.put(nome, 0, tamanhoNome);
+		}
+		CRC32C crc = new CRC32C();
+		crc.update(registro.array(), CABECALHO, tamanhoCorpo);
+		registro.putInt(4, (int) crc.getValue());
+		atual.buffer.put(atual.fim, registro.array(), 0, registro.position());
+		if (atual.primeiroInstante == Long.MIN_VALUE) {
+			atual.primeiroInstante = instante;
+		}
+//		Publica o registro para as leituras concorrentes (campo volatile)
+		atual.fim += registro.position();
+		proximaSequencia++;
+	}
+
+//  Cria o próximo segmento; o anterior é gravado em disco pela thread de sincronização
+	private void rolar() {
+		try {
+			atual = Segmento.criar(arquivo(proximaSequencia), proximaSequencia, tamanhoSegmento);
+		} catch (IOException e) {
+			throw new IllegalStateException("Não foi possível criar o segmento do log de auditoria.", e);
+		}
+		segmentos.add(atual);
+		descartarAntigos();
+	}
+
+//  Exclui os segmentos mais antigos além do limite; as leituras em andamento continuam com o mapeamento já obtido
+	private void descartarAntigos() {
+		while (segmentosMaximos > 0 && segmentos.size() > segmentosMaximos) {
+			Segmento antigo = segmentos.remove(0);
+			try {
+				Files.delete(antigo.arquivo);
+				log.info("Log de auditoria: segmento {} excluído pelo limite de {} segmentos", antigo.arquivo, segmentosMaximos);
+			} catch (IOException e) {
+				log.warn("Não foi possível excluir o segmento {} do log de auditoria: {}", antigo.arquivo, e.getMessage());
+			}
+		}
+	}
+
+//  Obtém o bloqueio exclusivo do arquivo de trava; outro processo (ou outro LogAuditoria) com o bloqueio impede a abertura
+	private static void travar(FileChannel canal, Path diretorio) throws IOException {
+		FileLock obtida;
+		try {
+			obtida = canal.tryLock();
+		} catch (OverlappingFileLockException e) {
+			obtida = null;
+		}
+		if (obtida == null) {
+			canal.close();
+			throw new IOException("O log de auditoria em " + diretorio.toAbsolutePath() + " já está aberto por outro processo.");
+		}
+	}
+
+//  Percorre o último segmento até o primeiro registro inválido, define a posição de gravação e zera o restante
+	private void recuperar(Segmento segmento) {
+		MappedByteBuffer buffer = segmento.buffer;
+		int posicao = 0;
+		int tamanho;
+		proximaSequencia = segmento.primeiraSequencia;
+		while ((tamanho = tamanhoValido(buffer, posicao, buffer.capacity())) > 0) {
+			int corpo = posicao + CABECALHO;
+			proximaSequencia = buffer.getLong(corpo) + 1;
+			ultimoInstante = buffer.getLong(corpo + 8);
+			posicao = corpo + tamanho;
+		}
+		int descartados = 0;
+		for (int i = posicao; i < buffer.capacity(); i++) {
+			if (buffer.get(i) != 0) {
+				buffer.put(i, (byte) 0);
+				descartados++;
+			}
+		}
+		if (descartados > 0) {
+			log.warn("Log de auditoria: descartados {} bytes de registros incompletos no fim de {}", descartados, segmento.arquivo);
+			buffer.force();
+		}
+		segmento.fim = posicao;
+		segmento.sincronizado = posicao;
+//		Com o último segmento vazio, os instantes continuam a partir do último registro do segmento anterior
+		if (posicao == 0 && !segmentos.isEmpty()) {
+			ultimoInstante = segmentos.get(segmentos.size() - 1).ultimoInstante();
+		}
+	}
+
+//  Retorna o tamanho do corpo do registro na posição, ou 0 se não houver um registro completo e íntegro
+	private static int tamanhoValido(ByteBuffer buffer, int posicao, int limite) {
+		if (posicao + CABECALHO + CORPO_FIXO > limite) {
+			return 0;
+		}
+		int tamanho = buffer.getInt(posicao);
+		if (tamanho < CORPO_FIXO || tamanho > limite - posicao - CABECALHO) {
+			return 0;
+		}
+		CRC32C crc = new CRC32C();
+		crc.update(buffer.slice(posicao + CABECALHO, tamanho));
+		return (int) crc.getValue() == buffer.getInt(posicao + 4) ? tamanho : 0;
+	}
+
+	private static RegistroAuditoriaDTO ler(ByteBuffer buffer, int corpo) {
+		short tamanhoNome = buffer.getShort(corpo + 22);
+		String nome = null;
+		if (tamanhoNome >= 0) {
+			byte[] bytes = new byte[tamanhoNome];
+			buffer.get(corpo + CORPO_FIXO, bytes);
+			nome = new String(bytes, StandardCharsets.UTF_8);
+		}
+		long micros = buffer.getLong(corpo + 8);
+		return new RegistroAuditoriaDTO(buffer.getLong(corpo), Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+				Math.floorMod(micros, 1_000_000L) * 1000), EntidadeAuditada.doCodigo(buffer.get(corpo + 16)),
+				OperacaoAuditada.doCodigo(buffer.get(corpo + 17)), buffer.getInt(corpo + 18), nome);
+	}
+
+	private Path arquivo(long primeiraSequencia) {
+		return diretorio.resolve(String.format("%020d%s", primeiraSequencia, EXTENSAO));
+	}
+
+	private static long agoraMicros() {
+		return paraMicros(Instant.now());
+	}
+
+	private static long paraMicros(Instant instante) {
+		return Math.addExact(Math.multiplyExact(instante.getEpochSecond(), 1_000_000L), instante.getNano() / 1000);
+	}
+
+//  Arquivo de segmento mapeado em memória; fim é a posição após o último registro, publicada a cada gravação
+	private static final class Segmento {
+
+		private final Path arquivo;
+		private final long primeiraSequencia;
+		private final MappedByteBuffer buffer;
+		private volatile long primeiroInstante = Long.MIN_VALUE;
+		private volatile int fim;
+//		Posição até a qual o segmento já foi gravado em disco (usada somente sob a trava de sincronização)
+		private int sincronizado;
+
+		private Segmento(Path arquivo, long primeiraSequencia, MappedByteBuffer buffer) {
+			this.arquivo = arquivo;
+			this.primeiraSequencia = primeiraSequencia;
+			this.buffer = buffer;
+		}
+
+		static Segmento criar(Path arquivo, long primeiraSequencia, int tamanho) throws IOException {
+			try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				return new Segmento(arquivo, primeiraSequencia, canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanho));
+			}
+		}
+
+//		Abre um segmento existente; os antigos são somente leitura e os seus registros terminam no primeiro tamanho zero
+		static Segmento abrir(Path arquivo, boolean gravavel) throws IOException {
+			String nome = arquivo.getFileName().toString();
+			long primeiraSequencia = Long.parseLong(nome.substring(0, nome.length() - EXTENSAO.length()));
+			Segmento segmento;
+			if (gravavel) {
+				try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+					segmento = new Segmento(arquivo, primeiraSequencia, canal.map(FileChannel.MapMode.READ_WRITE, 0, canal.size()));
+				}
+			} else {
+				try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+					segmento = new Segmento(arquivo, primeiraSequencia, canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size()));
+				}
+				segmento.fim = segmento.buffer.capacity();
+				segmento.sincronizado = segmento.fim;
+			}
+			if (tamanhoValido(segmento.buffer, 0, segmento.buffer.capacity()) > 0) {
+				segmento.primeiroInstante = segmento.buffer.getLong(CABECALHO + 8);
+			}
+			return segmento;
+		}
+
+//		Instante do último registro, percorrendo o segmento (usado somente na abertura)
+		long ultimoInstante() {
+			long ultimo = Long.MIN_VALUE;
+			int posicao = 0;
+			int tamanho;
+			while ((tamanho = tamanhoValido(buffer, posicao, fim)) > 0) {
+				ultimo = buffer.getLong(posicao + CABECALHO + 8);
+				posicao += CABECALHO + tamanho;
+			}
+			return ultimo;
+		}
+
+	}
+
+}
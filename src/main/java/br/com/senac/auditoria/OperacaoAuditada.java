@@ -0,0 +1,40 @@
+package br.com.senac.auditoria;
+
+/**
+ * Operações registradas no LogAuditoria. O código é o byte gravado em cada registro e não pode ser alterado
+ * depois de usado.
+ */
+public enum OperacaoAuditada {
+
+	INCLUSAO(1),
+	ALTERACAO(2),
+	EXCLUSAO(3);
+
+	private final byte codigo;
+
+	OperacaoAuditada(int codigo) {
+		this.codigo = (byte) codigo;
+	}
+
+	/**
+	 * @return O código gravado nos registros.
+	 */
+	public byte getCodigo() {
+		return codigo;
+	}
+
+	/**
+	 * @param codigo O código lido de um registro.
+	 * @return A operação correspondente.
+	 * @throws IllegalArgumentException Se o código não corresponder a nenhuma operação.
+	 */
+	public static OperacaoAuditada doCodigo(byte codigo) {
+		for (OperacaoAuditada operacao : values()) {
+			if (operacao.codigo == codigo) {
+				return operacao;
+			}
+		}
+		throw new IllegalArgumentException("Código de operação auditada desconhecido: " + codigo);
+	}
+
+}
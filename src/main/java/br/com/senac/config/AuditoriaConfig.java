@@ -0,0 +1,36 @@
+package br.com.senac.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.senac.auditoria.LogAuditoria;
+
+/**
+ * Configuração do log de auditoria (academico.auditoria.*), gravado em arquivos próprios, fora do banco de dados.
+ */
+@Configuration
+public class AuditoriaConfig {
+
+	/**
+	 * Abre o log de auditoria; ao encerrar a aplicação, os registros pendentes são gravados em disco.
+	 *
+	 * @param diretorio O diretório dos segmentos do log.
+	 * @param tamanhoSegmentoMb O tamanho de cada segmento, em megabytes.
+	 * @param segmentosMaximos A quantidade máxima de segmentos mantidos, ou 0 para manter todos.
+	 * @param intervaloSincronizacaoMillis O intervalo entre as gravações em disco (force), em milissegundos.
+	 * @return O log de auditoria.
+	 * @throws IOException Se o log não puder ser aberto.
+	 */
+	@Bean(destroyMethod = "close")
+	public LogAuditoria logAuditoria(@Value("${academico.auditoria.diretorio:./auditoria}") Path diretorio,
+			@Value("${academico.auditoria.segmento-mb:64}") int tamanhoSegmentoMb,
+			@Value("${academico.auditoria.segmentos-maximos:0}") int segmentosMaximos,
+			@Value("${academico.auditoria.sincronizacao-ms:50}") long intervaloSincronizacaoMillis) throws IOException {
+		return new LogAuditoria(diretorio, tamanhoSegmentoMb * 1024 * 1024, segmentosMaximos, intervaloSincronizacaoMillis);
+	}
+
+}
@@ -0,0 +1,28 @@
+package br.com.senac.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.senac.entity.Disciplina;
+import br.com.senac.entity.Turma;
+import br.com.senac.service.CarregamentoUnico;
+
+/**
+ * Agrupadores de buscas por ID usados pelos serviços nos recursos mais acessados simultaneamente (turmas e
+ * disciplinas durante o período de matrícula). Por serem MeterBinders, o Spring Boot registra os contadores
+ * de cada um em /actuator/prometheus.
+ */
+@Configuration
+public class CarregamentoConfig {
+
+	@Bean
+	public CarregamentoUnico<Integer, Turma> carregamentoTurma() {
+		return new CarregamentoUnico<>("turma");
+	}
+
+	@Bean
+	public CarregamentoUnico<Integer, Disciplina> carregamentoDisciplina() {
+		return new CarregamentoUnico<>("disciplina");
+	}
+
+}
@@ -0,0 +1,63 @@
+package br.com.senac.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import br.com.senac.diagnostico.FiltroOrcamentoSql;
+import br.com.senac.diagnostico.OuvinteContadorSql;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Modo de diagnóstico de SQL, ativado com academico.diagnostico.sql.habilitado=true. O DataSource da aplicação
+ * passa a ser envolvido pelo datasource-proxy e cada requisição aos controllers de aluno, turma e disciplina
+ * é comparada com o orçamento de comandos SQL (academico.diagnostico.sql.orcamento) e com o limite de tempo
+ * no JDBC (academico.diagnostico.sql.limite-ms).
+ */
+@Configuration
+@ConditionalOnProperty(name = "academico.diagnostico.sql.habilitado", havingValue = "true")
+public class DiagnosticoSqlConfig {
+
+//  Nome do bean do DataSource criado pelo Spring Boot
+	private static final String NOME_DATA_SOURCE = "dataSource";
+
+	/**
+	 * Envolve o DataSource da aplicação em um proxy que informa cada execução JDBC ao ContadorSql. O método é
+	 * estático para que o pós-processador seja criado antes dos demais beans desta configuração.
+	 * 
+	 * @return O pós-processador que cria o proxy.
+	 */
+	@Bean
+	public static BeanPostProcessor proxyDataSourceDiagnostico() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String nome) {
+				if (bean instanceof DataSource dataSource && NOME_DATA_SOURCE.equals(nome)) {
+					return ProxyDataSourceBuilder.create(dataSource).name(NOME_DATA_SOURCE).listener(new OuvinteContadorSql()).build();
+				}
+				return bean;
+			}
+		};
+	}
+
+	/**
+	 * Registra o filtro de orçamento de SQL nos caminhos dos controllers de aluno, turma e disciplina.
+	 * 
+	 * @param ambiente O ambiente, de onde são lidos o orçamento e o limite de tempo.
+	 * @return O registro do filtro.
+	 */
+	@Bean
+	public FilterRegistrationBean<FiltroOrcamentoSql> filtroOrcamentoSql(Environment ambiente) {
+		int orcamento = ambiente.getProperty("academico.diagnostico.sql.orcamento", Integer.class, 10);
+		long limiteMillis = ambiente.getProperty("academico.diagnostico.sql.limite-ms", Long.class, 200L);
+		FilterRegistrationBean<FiltroOrcamentoSql> registro = new FilterRegistrationBean<>(new FiltroOrcamentoSql(orcamento, limiteMillis));
+		registro.addUrlPatterns("/aluno", "/aluno/*", "/turma", "/turma/*", "/disciplina", "/disciplina/*");
+		return registro;
+	}
+
+}
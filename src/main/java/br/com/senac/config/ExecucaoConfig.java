@@ -0,0 +1,42 @@
+package br.com.senac.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuração do modelo de execução. Com o perfil "virtual" (application-virtual.properties) as requisições
+ * do Tomcat, as respostas assíncronas (exportações NDJSON) e os métodos @Async passam a rodar em virtual threads,
+ * o que exige Java 21 ou superior em tempo de execução.
+ */
+@Configuration
+//Habilita a execução de métodos @Async no executor da aplicação (applicationTaskExecutor)
+@EnableAsync
+//Habilita as tarefas @Scheduled (ex.: reconciliação das vagas das turmas no VagaService)
+@EnableScheduling
+public class ExecucaoConfig {
+
+	private static final Logger log = LoggerFactory.getLogger(ExecucaoConfig.class);
+
+	/**
+	 * Avisa quando as virtual threads foram solicitadas, mas a JVM não oferece suporte a elas; nesse caso
+	 * o Spring Boot mantém silenciosamente o pool de threads de plataforma.
+	 * 
+	 * @param evento O evento de aplicação pronta.
+	 */
+	@EventListener
+	public void verificarVirtualThreads(ApplicationReadyEvent evento) {
+		Environment ambiente = evento.getApplicationContext().getEnvironment();
+		boolean solicitadas = ambiente.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+		if (solicitadas && Runtime.version().feature() < 21) {
+			log.warn("spring.threads.virtual.enabled=true, mas a JVM é Java {}; as requisições continuarão em threads de plataforma",
+					Runtime.version().feature());
+		}
+	}
+
+}
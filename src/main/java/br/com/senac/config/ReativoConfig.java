@@ -0,0 +1,76 @@
+package br.com.senac.config;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * Configuração do perfil "reativo" (application-reativo.properties): a aplicação sobe como WebFlux, os
+ * controllers de aluno, turma e disciplina passam a ser as versões *ReativoController e o acesso ao banco é
+ * feito por R2DBC. O Hibernate continua criando o esquema no mesmo banco H2.
+ */
+@Configuration
+@Profile("reativo")
+public class ReativoConfig implements WebFluxConfigurer {
+
+	/**
+	 * Registra os conversores do Spring Boot nos parâmetros das requisições WebFlux, como WebConfig faz no
+	 * Spring MVC (ex.: modo=contem).
+	 * 
+	 * @param registro O registro de conversores do WebFlux.
+	 */
+	@Override
+	public void addFormatters(FormatterRegistry registro) {
+		ApplicationConversionService.addApplicationConverters(registro);
+	}
+
+	/**
+	 * Utiliza o Reactor Netty como servidor; sem esta definição o Spring Boot escolheria o Tomcat, que também
+	 * está no classpath por causa do perfil servlet.
+	 * 
+	 * @return A fábrica do servidor Netty, configurada pelas propriedades server.* do Spring Boot.
+	 */
+	@Bean
+	public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+		return new NettyReactiveWebServerFactory();
+	}
+
+	/**
+	 * DataSource JDBC (Hikari) equivalente ao criado pelo Spring Boot no perfil servlet. O Spring Boot deixa de
+	 * configurá-lo quando existe uma ConnectionFactory R2DBC, mas o Hibernate (esquema e serviços JPA) e o
+	 * Flyway continuam precisando dele.
+	 * 
+	 * @param propriedades As propriedades spring.datasource.*, registradas pelo Spring Boot.
+	 * @return O pool de conexões JDBC, configurado também pelas propriedades spring.datasource.hikari.*.
+	 */
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource dataSource(DataSourceProperties propriedades) {
+		return propriedades.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	/**
+	 * Operador de transações R2DBC usado nas gravações em lote. O gerenciador de transações não é registrado
+	 * como bean para não concorrer com o JpaTransactionManager usado pelos @Transactional dos serviços JPA.
+	 * 
+	 * @param connectionFactory A fábrica de conexões R2DBC configurada pelo Spring Boot.
+	 * @return O operador que executa um Flux ou Mono dentro de uma transação.
+	 */
+	@Bean
+	public TransactionalOperator transacaoReativa(ConnectionFactory connectionFactory) {
+		return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+	}
+
+}
@@ -0,0 +1,112 @@
+package br.com.senac.config;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import br.com.senac.replica.AlimentadorReplica;
+import br.com.senac.replica.RoteadorDataSource;
+import br.com.senac.service.ContadorAlteracoes;
+
+/**
+ * Perfil "replica" (application-replica.properties): as transações somente leitura passam a ser atendidas por
+ * uma réplica e as demais pelo banco primário (spring.datasource.*). A réplica é uma segunda instância H2, com
+ * pool de conexões próprio, criada pelas migrações do Flyway e alimentada periodicamente a partir do primário
+ * pelo AlimentadorReplica, o que permite testar e medir a escala das leituras sem infraestrutura externa.
+ */
+@Configuration
+@Profile("replica")
+public class ReplicaConfig {
+
+	/**
+	 * Pool de conexões do banco primário, configurado pelas propriedades spring.datasource.* e
+	 * spring.datasource.hikari.* como o pool padrão do Spring Boot.
+	 *
+	 * @param propriedades As propriedades spring.datasource.*.
+	 * @return O DataSource do primário.
+	 */
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource dataSourcePrimario(DataSourceProperties propriedades) {
+		HikariDataSource dataSource = propriedades.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primario");
+		return dataSource;
+	}
+
+	/**
+	 * Pool de conexões da réplica, somente leitura. O esquema é criado pelas mesmas migrações do Flyway usadas
+	 * no perfil "persistente".
+	 *
+	 * @param url A URL JDBC da réplica.
+	 * @param conexoes O tamanho do pool da réplica.
+	 * @return O DataSource da réplica.
+	 */
+	@Bean
+	public HikariDataSource dataSourceReplica(@Value("${academico.replica.url}") String url,
+			@Value("${academico.replica.conexoes:10}") int conexoes) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setPoolName("replica");
+		dataSource.setJdbcUrl(url);
+		dataSource.setUsername("replica");
+		dataSource.setMaximumPoolSize(conexoes);
+		dataSource.setReadOnly(true);
+		Flyway.configure().dataSource(url, "replica", "").locations("classpath:db/migration").load().migrate();
+		return dataSource;
+	}
+
+	/**
+	 * @param replica O DataSource da réplica.
+	 * @param propriedades As propriedades spring.datasource.*, de onde são lidos a URL e o usuário do primário.
+	 * @param contadorAlteracoes O contador de alterações, capturado no início de cada sincronização.
+	 * @return O alimentador da réplica.
+	 */
+	@Bean
+	public AlimentadorReplica alimentadorReplica(@Qualifier("dataSourceReplica") DataSource replica, DataSourceProperties propriedades,
+			ContadorAlteracoes contadorAlteracoes) {
+		return new AlimentadorReplica(replica, propriedades.determineUrl(), propriedades.determineUsername(), propriedades.determinePassword(),
+				contadorAlteracoes::capturar);
+	}
+
+	/**
+	 * @param primario O DataSource do primário.
+	 * @param replica O DataSource da réplica.
+	 * @param alimentador O alimentador da réplica.
+	 * @param atrasoMaximoMillis O atraso máximo aceito nas leituras da réplica (academico.replica.atraso-maximo-ms).
+	 * @param contadorAlteracoes O contador de alterações, que passa a gerar as ETags de tabela com os contadores
+	 * que as leituras enxergam.
+	 * @return O roteador entre o primário e a réplica.
+	 */
+	@Bean
+	public RoteadorDataSource roteadorDataSource(@Qualifier("dataSourcePrimario") DataSource primario,
+			@Qualifier("dataSourceReplica") DataSource replica, AlimentadorReplica alimentador,
+			@Value("${academico.replica.atraso-maximo-ms:5000}") long atrasoMaximoMillis, ContadorAlteracoes contadorAlteracoes) {
+		RoteadorDataSource roteador = new RoteadorDataSource(primario, replica, alimentador, atrasoMaximoMillis);
+		contadorAlteracoes.setFonteLeitura(roteador::contadoresLeitura);
+		return roteador;
+	}
+
+	/**
+	 * DataSource usado pela aplicação (JPA, Flyway e TransactionTemplate). A conexão só é obtida do roteador no
+	 * primeiro comando da transação, quando ela já foi marcada como somente leitura ou não.
+	 *
+	 * @param roteador O roteador entre o primário e a réplica.
+	 * @return O DataSource principal da aplicação.
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(RoteadorDataSource roteador) {
+		return new LazyConnectionDataSourceProxy(roteador);
+	}
+
+}
@@ -0,0 +1,82 @@
+package br.com.senac.config;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import br.com.senac.controller.CamposParciaisAdvice;
+import br.com.senac.dto.AlunoDTO;
+import br.com.senac.dto.DisciplinaDTO;
+import br.com.senac.dto.TurmaDTO;
+
+/**
+ * Configuração do Spring MVC compartilhada pelos controllers.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+	/**
+	 * Registra os conversores do Spring Boot nos parâmetros das requisições, permitindo que enums como
+	 * ModoBusca sejam informados sem diferenciar maiúsculas e minúsculas (ex.: modo=contem).
+	 * 
+	 * @param registro O registro de conversores do Spring MVC.
+	 */
+	@Override
+	public void addFormatters(FormatterRegistry registro) {
+		ApplicationConversionService.addApplicationConverters(registro);
+	}
+
+	/**
+	 * Associa os DTOs das listagens ao filtro de propriedades usado pelo parâmetro "fields" (CamposParciaisAdvice).
+	 * A associação é feita por mix-in, sem anotar os DTOs, e o filtro padrão desconhecido faz com que todas as
+	 * propriedades sejam escritas quando o parâmetro não é informado (ex.: exportações NDJSON).
+	 * 
+	 * @return O customizador aplicado a todos os ObjectMappers criados pelo Spring Boot.
+	 */
+	@Bean
+	public Jackson2ObjectMapperBuilderCustomizer filtroCamposParciais() {
+		return builder -> builder
+				.mixIn(AlunoDTO.class, ComFiltroCampos.class)
+				.mixIn(TurmaDTO.class, ComFiltroCampos.class)
+				.mixIn(DisciplinaDTO.class, ComFiltroCampos.class)
+				.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+	}
+
+	/**
+	 * Conversor CBOR (Accept: application/cbor) criado com a mesma configuração do ObjectMapper JSON.
+	 * 
+	 * @param builder O construtor de ObjectMapper configurado pelo Spring Boot (uma nova instância por injeção).
+	 * @return O conversor que substitui o CBOR padrão do Spring MVC.
+	 */
+	@Bean
+	public MappingJackson2CborHttpMessageConverter conversorCbor(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+	}
+
+	/**
+	 * Conversor Smile (Accept: application/x-jackson-smile) criado com a mesma configuração do ObjectMapper JSON.
+	 * 
+	 * @param builder O construtor de ObjectMapper configurado pelo Spring Boot (uma nova instância por injeção).
+	 * @return O conversor que substitui o Smile padrão do Spring MVC.
+	 */
+	@Bean
+	public MappingJackson2SmileHttpMessageConverter conversorSmile(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+	}
+
+	@JsonFilter(CamposParciaisAdvice.FILTRO_CAMPOS)
+	interface ComFiltroCampos {
+	}
+
+}
@@ -1,10 +1,15 @@
 package br.com.senac.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,24 +18,60 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import br.com.senac.dto.AlunoDTO;
+import br.com.senac.dto.PaginaDTO;
+import br.com.senac.dto.ResultadoImportacaoDTO;
+import br.com.senac.dto.TurmaDTO;
 import br.com.senac.entity.Aluno;
+import br.com.senac.entity.Turma;
+import br.com.senac.mapper.AlunoMapper;
+import br.com.senac.mapper.TurmaMapper;
 import br.com.senac.service.AlunoService;
+import br.com.senac.service.ContadorAlteracoes;
+import br.com.senac.service.ImportacaoAlunoService;
+import br.com.senac.service.MatriculaService;
+import br.com.senac.service.ModoBusca;
 
 @RestController
+//Desativado no perfil "reativo", que publica os mesmos endereços em AlunoReativoController
+@Profile("!reativo")
 @RequestMapping("/aluno")
 public class AlunoController {
 
-//  Realiza a injeção automática de dependência do ModelMapper pelo Spring
+//  Realiza a injeção automática de dependência do AlunoMapper pelo Spring
 	@Autowired
-	ModelMapper modelMapper;
+	AlunoMapper alunoMapper;
 
 //  Realiza a injeção automática de dependência do AlunoService pelo Spring
 	@Autowired
 	private AlunoService alunoService;
 
+//  Realiza a injeção automática de dependência do EscritorNdjson pelo Spring
+	@Autowired
+	private EscritorNdjson escritorNdjson;
+
+//  Realiza a injeção automática de dependência do ContadorAlteracoes pelo Spring
+	@Autowired
+	private ContadorAlteracoes contadorAlteracoes;
+
+//  Realiza a injeção automática de dependência do ImportacaoAlunoService pelo Spring
+	@Autowired
+	private ImportacaoAlunoService importacaoAlunoService;
+
+//  Realiza a injeção automática de dependência do TurmaMapper pelo Spring
+	@Autowired
+	private TurmaMapper turmaMapper;
+
+//  Realiza a injeção automática de dependência do MatriculaService pelo Spring
+	@Autowired
+	private MatriculaService matriculaService;
+
 	/**
 	 * Cadastrar um novo aluno a partir dos dados fornecidos no AlunoDTO.
 	 * 
@@ -39,35 +80,100 @@ public class AlunoController {
 	 */
 	@PostMapping
 	public ResponseEntity<AlunoDTO> cadastrarAluno(@RequestBody AlunoDTO alunoDTO) {
-		Aluno aluno = modelMapper.map(alunoDTO, Aluno.class);
+		Aluno aluno = alunoMapper.paraEntidade(alunoDTO);
 		aluno = alunoService.salvarAluno(aluno);
-		AlunoDTO alunoNovo = modelMapper.map(aluno, AlunoDTO.class);
+		AlunoDTO alunoNovo = alunoMapper.paraDTO(aluno);
 		return ResponseEntity.ok().body(alunoNovo);
 	}
 
 	/**
 	 * Busca todos os alunos cadastrados e retorna uma lista de AlunoDTOs.
 	 * 
-	 * @return Uma resposta HTTP com a lista de AlunoDTOs dos alunos encontrados (codigo 200 OK).
+	 * @param cursor O último ID retornado na página anterior (opcional).
+	 * @param tamanho A quantidade de registros por página (limitada pelo serviço).
+	 * @param requisicao A requisição, usada para avaliar o cabeçalho If-None-Match.
+	 * @return Uma resposta HTTP com a lista de AlunoDTOs dos alunos encontrados (codigo 200 OK). O cursor da próxima página
+	 *         é enviado no cabeçalho X-Proximo-Cursor.
 	 */
 	@GetMapping
-	public ResponseEntity<List<AlunoDTO>> buscarTodosAlunos() {
-		List<Aluno> listarAlunos = alunoService.buscarTodosAlunos();
-		List<AlunoDTO> listarAlunoDTO = listarAlunos.stream().map(aluno -> modelMapper.map(aluno, AlunoDTO.class)).collect(Collectors.toList());
-		return ResponseEntity.ok().body(listarAlunoDTO);
+	public ResponseEntity<List<AlunoDTO>> buscarTodosAlunos(@RequestParam(name = "cursor", required = false) Integer cursor,
+			@RequestParam(name = "tamanho", defaultValue = "100") int tamanho, WebRequest requisicao) {
+//		A ETag é obtida antes da leitura; se o cliente já possui a versão atual, responde 304 sem consultar o banco
+		String etag = contadorAlteracoes.gerarEtag(Aluno.class);
+		if (requisicao.checkNotModified(etag)) {
+			return null;
+		}
+		PaginaDTO<AlunoDTO> pagina = alunoService.buscarAlunosPaginados(cursor, tamanho);
+		ResponseEntity.BodyBuilder resposta = ResponseEntity.ok().eTag(etag);
+		if (pagina.getProximoCursor() != null) {
+			resposta.header(PaginaDTO.CABECALHO_PROXIMO_CURSOR, pagina.getProximoCursor().toString());
+		}
+		return resposta.body(pagina.getItens());
+	}
+
+	/**
+	 * Busca os alunos pelo nome, sem diferenciar maiúsculas, minúsculas e acentos.
+	 * 
+	 * @param nome O termo a ser buscado.
+	 * @param modo "prefixo" (padrão) para nomes que começam com o termo ou "contem" para nomes que contêm o termo.
+	 * @param limite A quantidade máxima de resultados (limitada pelo serviço).
+	 * @param requisicao A requisição, usada para avaliar o cabeçalho If-None-Match.
+	 * @return Uma resposta HTTP com a lista de AlunoDTOs dos alunos encontrados, em ordem alfabética (codigo 200 OK).
+	 */
+	@GetMapping("/search")
+	public ResponseEntity<List<AlunoDTO>> buscarAlunosPorNome(@RequestParam("nome") String nome,
+			@RequestParam(name = "modo", defaultValue = "prefixo") ModoBusca modo,
+			@RequestParam(name = "limite", defaultValue = "20") int limite, WebRequest requisicao) {
+		String etag = contadorAlteracoes.gerarEtag(Aluno.class);
+		if (requisicao.checkNotModified(etag)) {
+			return null;
+		}
+		List<Aluno> alunos = alunoService.buscarAlunosPorNome(nome, modo, limite);
+		return ResponseEntity.ok().eTag(etag).body(alunoMapper.paraDTO(alunos));
+	}
+
+	/**
+	 * Exporta todos os alunos em formato NDJSON (um AlunoDTO por linha), escrevendo cada registro na resposta assim
+	 * que ele é lido do banco de dados.
+	 * 
+	 * @return Uma resposta HTTP 200 (OK) com o conteúdo application/x-ndjson.
+	 */
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportarAlunos() {
+		StreamingResponseBody corpo = escritorNdjson.escrever(
+				consumidor -> alunoService.exportarAlunos(aluno -> consumidor.accept(alunoMapper.paraDTO(aluno))));
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(corpo);
 	}
 
 	/**
 	 * Busca um aluno pelo ID fornecido e retorna seu AlunoDTO correspondente.
 	 * 
 	 * @param id O ID do aluno a ser buscado.
+	 * @param requisicao A requisição, usada para avaliar o cabeçalho If-None-Match.
 	 * @return Uma resposta HTTP com o AlunoDTO do aluno encontrado (codigo 200 OK).
 	 */
 	@GetMapping("/{id}")
-	public ResponseEntity<AlunoDTO> buscarAlunoPorId(@PathVariable("id") Integer id) {
+	public ResponseEntity<AlunoDTO> buscarAlunoPorId(@PathVariable("id") Integer id, WebRequest requisicao) {
+//		A ETag vem da versão do próprio registro, lido pela região do cache de segundo nível; um ID inexistente
+//		é respondido com 404 sem ETag
 		Aluno aluno = alunoService.buscarAlunoPorId(id);
-		AlunoDTO alunoDTO = modelMapper.map(aluno, AlunoDTO.class);
-		return ResponseEntity.ok().body(alunoDTO);
+		String etag = contadorAlteracoes.gerarEtag(Aluno.class, aluno.getId(), aluno.getVersao());
+		if (requisicao.checkNotModified(etag)) {
+			return null;
+		}
+		return ResponseEntity.ok().eTag(etag).body(alunoMapper.paraDTO(aluno));
+	}
+
+	/**
+	 * Busca as turmas do aluno pelo ID fornecido, em ordem alfabética.
+	 * 
+	 * @param id O ID do aluno.
+	 * @return Uma resposta HTTP com a lista de TurmaDTOs das turmas do aluno (codigo 200 OK).
+	 */
+	@GetMapping("/{id}/turmas")
+	public ResponseEntity<List<TurmaDTO>> buscarTurmasDoAluno(@PathVariable("id") Integer id) {
+		List<Turma> turmas = matriculaService.buscarTurmasDoAluno(id);
+		return ResponseEntity.ok().body(turmaMapper.paraDTO(turmas));
 	}
 
 	/**
@@ -79,9 +185,9 @@ public class AlunoController {
 	 */
 	@PutMapping("/{id}")
 	public ResponseEntity<AlunoDTO> atualizarAluno(@PathVariable("id") Integer id, @RequestBody AlunoDTO alunoDTO) {
-		Aluno aluno = modelMapper.map(alunoDTO, Aluno.class);
+		Aluno aluno = alunoMapper.paraEntidade(alunoDTO);
 		aluno = alunoService.atualizarAluno(id, aluno);
-		AlunoDTO alunoAlteradoDTO = modelMapper.map(aluno, AlunoDTO.class);
+		AlunoDTO alunoAlteradoDTO = alunoMapper.paraDTO(aluno);
 		return ResponseEntity.ok().body(alunoAlteradoDTO);
 	}
 
@@ -97,4 +203,70 @@ public class AlunoController {
 		return ResponseEntity.ok().build();
 	}
 
+	/**
+	 * Cadastra em lote os alunos fornecidos na lista de AlunoDTOs, em uma única transação.
+	 * 
+	 * @param alunosDTO Os dados dos alunos a serem cadastrados.
+	 * @return Uma resposta HTTP 200 (OK) com os AlunoDTOs cadastrados.
+	 */
+	@PostMapping("/batch")
+	public ResponseEntity<List<AlunoDTO>> cadastrarAlunos(@RequestBody List<AlunoDTO> alunosDTO) {
+		List<Aluno> alunos = alunoService.salvarAlunos(alunoMapper.paraEntidade(alunosDTO));
+		return ResponseEntity.ok().body(alunoMapper.paraDTO(alunos));
+	}
+
+	/**
+	 * Atualiza em lote os alunos identificados pelo ID de cada AlunoDTO, em uma única transação.
+	 * 
+	 * @param alunosDTO Os novos dados dos alunos, incluindo o ID de cada um.
+	 * @return Uma resposta HTTP 200 (OK) com os AlunoDTOs após a atualização.
+	 */
+	@PutMapping("/batch")
+	public ResponseEntity<List<AlunoDTO>> atualizarAlunos(@RequestBody List<AlunoDTO> alunosDTO) {
+		List<Aluno> alunos = alunoService.atualizarAlunos(alunoMapper.paraEntidade(alunosDTO));
+		return ResponseEntity.ok().body(alunoMapper.paraDTO(alunos));
+	}
+
+	/**
+	 * Exclui em lote os alunos com os IDs fornecidos, em uma única transação.
+	 * 
+	 * @param ids Os IDs dos alunos a serem excluídos.
+	 * @return Uma resposta HTTP 200 (OK) indicando o sucesso da exclusão.
+	 */
+	@DeleteMapping("/batch")
+	public ResponseEntity<Void> excluirAlunos(@RequestBody List<Integer> ids) {
+		alunoService.excluirAlunos(ids);
+		return ResponseEntity.ok().build();
+	}
+
+	/**
+	 * Importa alunos de um arquivo CSV (UTF-8) enviado como multipart/form-data no campo "arquivo". O arquivo é
+	 * lido linha a linha e gravado em blocos, sem ser carregado inteiro em memória.
+	 * 
+	 * @param arquivo O arquivo CSV com a coluna nome.
+	 * @return Uma resposta HTTP 200 (OK) com as quantidades importadas e rejeitadas e os erros por linha.
+	 * @throws IOException Se ocorrer um erro na leitura do arquivo.
+	 */
+	@PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<ResultadoImportacaoDTO> importarAlunos(@RequestParam("arquivo") MultipartFile arquivo) throws IOException {
+		try (Reader leitor = new InputStreamReader(arquivo.getInputStream(), StandardCharsets.UTF_8)) {
+			return ResponseEntity.ok().body(importacaoAlunoService.importar(leitor));
+		}
+	}
+
+	/**
+	 * Importa alunos de um CSV (UTF-8) enviado diretamente no corpo da requisição (Content-Type text/csv), lido
+	 * à medida que chega, sem arquivo temporário.
+	 * 
+	 * @param corpo O corpo da requisição com o conteúdo CSV.
+	 * @return Uma resposta HTTP 200 (OK) com as quantidades importadas e rejeitadas e os erros por linha.
+	 * @throws IOException Se ocorrer um erro na leitura do corpo.
+	 */
+	@PostMapping(value = "/import", consumes = "text/csv")
+	public ResponseEntity<ResultadoImportacaoDTO> importarAlunosCsv(InputStream corpo) throws IOException {
+		try (Reader leitor = new InputStreamReader(corpo, StandardCharsets.UTF_8)) {
+			return ResponseEntity.ok().body(importacaoAlunoService.importar(leitor));
+		}
+	}
+
 }
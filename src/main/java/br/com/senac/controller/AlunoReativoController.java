@@ -0,0 +1,149 @@
+package br.com.senac.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import br.com.senac.dto.AlunoDTO;
+import br.com.senac.entity.Aluno;
+import br.com.senac.service.AlunoReativoService;
+import br.com.senac.service.ContadorAlteracoes;
+import br.com.senac.service.ModoBusca;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Versão WebFlux do AlunoController, ativa somente no perfil "reativo". Publica os mesmos endereços, com as
+ * listagens entregues em fluxo (Flux) conforme a demanda da conexão.
+ */
+@RestController
+@RequestMapping("/aluno")
+@Profile("reativo")
+public class AlunoReativoController {
+
+//  Realiza a injeção automática de dependência do AlunoReativoService pelo Spring
+	@Autowired
+	private AlunoReativoService alunoReativoService;
+
+//  Realiza a injeção automática de dependência do ContadorAlteracoes pelo Spring
+	@Autowired
+	private ContadorAlteracoes contadorAlteracoes;
+
+	/**
+	 * Cadastra um novo aluno a partir dos dados fornecidos no AlunoDTO.
+	 * 
+	 * @param alunoDTO Os dados do aluno a serem cadastrados.
+	 * @return O AlunoDTO do aluno recém-cadastrado (codigo 200 OK).
+	 */
+	@PostMapping
+	public Mono<AlunoDTO> cadastrarAluno(@RequestBody AlunoDTO alunoDTO) {
+		return alunoReativoService.salvarAluno(alunoDTO);
+	}
+
+	/**
+	 * Busca uma página de alunos ordenados pelo ID. Como os registros são enviados à medida que são lidos, o
+	 * cursor da próxima página não é enviado em cabeçalho: é o ID do último registro recebido.
+	 * 
+	 * @param cursor O último ID retornado na página anterior (opcional).
+	 * @param tamanho A quantidade de registros por página (limitada pelo serviço).
+	 * @return Uma resposta HTTP 200 (OK) com os alunos, ou 304 (Not Modified) sem consultar o banco se a ETag
+	 *         enviada em If-None-Match ainda for a atual.
+	 */
+	@GetMapping
+	public ResponseEntity<Flux<AlunoDTO>> buscarTodosAlunos(@RequestParam(name = "cursor", required = false) Integer cursor,
+			@RequestParam(name = "tamanho", defaultValue = "100") int tamanho) {
+//		A ETag é obtida antes da leitura; o Flux só é assinado se a resposta não for 304
+		String etag = contadorAlteracoes.gerarEtag(Aluno.class);
+		return ResponseEntity.ok().eTag(etag).body(alunoReativoService.buscarAlunosPaginados(cursor, tamanho));
+	}
+
+	/**
+	 * Busca os alunos pelo nome, sem diferenciar maiúsculas, minúsculas e acentos.
+	 * 
+	 * @param nome O termo a ser buscado.
+	 * @param modo "prefixo" (padrão) ou "contem".
+	 * @param limite A quantidade máxima de resultados (limitada pelo serviço).
+	 * @return Uma resposta HTTP 200 (OK) com os alunos encontrados, em ordem alfabética.
+	 */
+	@GetMapping("/search")
+	public ResponseEntity<Flux<AlunoDTO>> buscarAlunosPorNome(@RequestParam("nome") String nome,
+			@RequestParam(name = "modo", defaultValue = "prefixo") ModoBusca modo,
+			@RequestParam(name = "limite", defaultValue = "20") int limite) {
+		String etag = contadorAlteracoes.gerarEtag(Aluno.class);
+		return ResponseEntity.ok().eTag(etag).body(alunoReativoService.buscarAlunosPorNome(nome, modo, limite));
+	}
+
+	/**
+	 * Exporta todos os alunos em formato NDJSON (um AlunoDTO por linha), enviados conforme a demanda da conexão.
+	 * 
+	 * @return Todos os alunos, com o conteúdo application/x-ndjson.
+	 */
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<AlunoDTO> exportarAlunos() {
+		return alunoReativoService.exportarAlunos();
+	}
+
+	/**
+	 * Busca um aluno pelo ID fornecido.
+	 * 
+	 * @param id O ID do aluno a ser buscado.
+	 * @param troca A requisição e a resposta, usadas para avaliar o cabeçalho If-None-Match.
+	 * @return Uma resposta HTTP 200 (OK) com o AlunoDTO do aluno encontrado.
+	 */
+	@GetMapping("/{id}")
+	public Mono<ResponseEntity<AlunoDTO>> buscarAlunoPorId(@PathVariable("id") Integer id, ServerWebExchange troca) {
+		String etag = contadorAlteracoes.gerarEtag(Aluno.class);
+		if (troca.checkNotModified(etag)) {
+			return Mono.empty();
+		}
+		return alunoReativoService.buscarAlunoPorId(id).map(alunoDTO -> ResponseEntity.ok().eTag(etag).body(alunoDTO));
+	}
+
+	/**
+	 * Atualiza o nome do aluno com base no ID fornecido.
+	 * 
+	 * @param id O ID do aluno a ser atualizado.
+	 * @param alunoDTO Os novos dados do aluno.
+	 * @return O AlunoDTO do aluno após a atualização (codigo 200 OK).
+	 */
+	@PutMapping("/{id}")
+	public Mono<AlunoDTO> atualizarAluno(@PathVariable("id") Integer id, @RequestBody AlunoDTO alunoDTO) {
+		return alunoReativoService.atualizarAluno(id, alunoDTO);
+	}
+
+	/**
+	 * Exclui um aluno pelo ID fornecido.
+	 * 
+	 * @param id O ID do aluno a ser excluído.
+	 * @return Uma resposta HTTP indicando o sucesso da exclusão (codigo 200 OK).
+	 */
+	@DeleteMapping("/{id}")
+	public Mono<ResponseEntity<Void>> excluirAluno(@PathVariable("id") Integer id) {
+		return alunoReativoService.excluirAluno(id).thenReturn(ResponseEntity.ok().build());
+	}
+
+	/**
+	 * Cadastra em lote os alunos fornecidos, em uma única transação.
+	 * 
+	 * @param alunosDTO Os dados dos alunos a serem cadastrados.
+	 * @return Os AlunoDTOs cadastrados (codigo 200 OK).
+	 */
+	@PostMapping("/batch")
+	public Flux<AlunoDTO> cadastrarAlunos(@RequestBody List<AlunoDTO> alunosDTO) {
+		return alunoReativoService.salvarAlunos(alunosDTO);
+	}
+
+}
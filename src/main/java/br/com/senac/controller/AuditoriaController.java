@@ -0,0 +1,73 @@
+package br.com.senac.controller;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import br.com.senac.auditoria.EntidadeAuditada;
+import br.com.senac.dto.RegistroAuditoriaDTO;
+import br.com.senac.service.AuditoriaService;
+
+@RestController
+//Desativado no perfil "reativo", pois a reprodução usa o StreamingResponseBody do Spring MVC
+@Profile("!reativo")
+@RequestMapping("/auditoria")
+public class AuditoriaController {
+
+//  Realiza a injeção automática de dependência do AuditoriaService pelo Spring
+	@Autowired
+	private AuditoriaService auditoriaService;
+
+//  Realiza a injeção automática de dependência do EscritorNdjson pelo Spring
+	@Autowired
+	private EscritorNdjson escritorNdjson;
+
+	/**
+	 * Consulta a trilha de auditoria das inclusões, alterações e exclusões, em ordem de gravação.
+	 *
+	 * @param entidade A entidade (aluno, turma ou disciplina), ou nenhuma para todas.
+	 * @param id O ID do registro alterado (exige a entidade), ou nenhum para todos.
+	 * @param de O instante inicial no formato ISO-8601 (ex.: 2024-03-01T00:00:00Z), inclusive.
+	 * @param ate O instante final no formato ISO-8601, inclusive.
+	 * @param limite A quantidade máxima de registros (limitada pelo serviço).
+	 * @return Uma resposta HTTP com a lista de RegistroAuditoriaDTOs encontrados (codigo 200 OK).
+	 */
+	@GetMapping
+	public ResponseEntity<List<RegistroAuditoriaDTO>> consultar(@RequestParam(name = "entidade", required = false) EntidadeAuditada entidade,
+			@RequestParam(name = "id", required = false) Integer id,
+			@RequestParam(name = "de", required = false) Instant de,
+			@RequestParam(name = "ate", required = false) Instant ate,
+			@RequestParam(name = "limite", defaultValue = "100") int limite) {
+		return ResponseEntity.ok().body(auditoriaService.consultar(entidade, id, de, ate, limite));
+	}
+
+	/**
+	 * Reproduz a trilha de auditoria em formato NDJSON (um RegistroAuditoriaDTO por linha), em ordem de gravação e
+	 * sem limite de registros, escrevendo cada registro na resposta assim que ele é lido do log.
+	 *
+	 * @param entidade A entidade (aluno, turma ou disciplina), ou nenhuma para todas.
+	 * @param id O ID do registro alterado (exige a entidade), ou nenhum para todos.
+	 * @param de O instante inicial no formato ISO-8601, inclusive.
+	 * @param ate O instante final no formato ISO-8601, inclusive.
+	 * @return Uma resposta HTTP 200 (OK) com o conteúdo application/x-ndjson.
+	 */
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> reproduzir(@RequestParam(name = "entidade", required = false) EntidadeAuditada entidade,
+			@RequestParam(name = "id", required = false) Integer id,
+			@RequestParam(name = "de", required = false) Instant de,
+			@RequestParam(name = "ate", required = false) Instant ate) {
+//		O filtro é validado antes de a resposta começar a ser escrita, para que um erro ainda seja respondido com 400
+		StreamingResponseBody corpo = escritorNdjson.escrever(auditoriaService.reproduzir(entidade, id, de, ate));
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(corpo);
+	}
+
+}
@@ -0,0 +1,32 @@
+package br.com.senac.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.senac.dto.EstatisticaCacheDTO;
+import br.com.senac.service.CacheService;
+
+@RestController
+@RequestMapping("/cache")
+public class CacheController {
+
+//  Realiza a injeção automática de dependência do CacheService pelo Spring
+	@Autowired
+	private CacheService cacheService;
+
+	/**
+	 * Busca as estatísticas de acertos e falhas do cache de segundo nível e do cache de consultas.
+	 * 
+	 * @return Uma resposta HTTP 200 (OK) com as estatísticas de cada região do cache.
+	 */
+	@GetMapping("/estatisticas")
+	public ResponseEntity<List<EstatisticaCacheDTO>> buscarEstatisticas() {
+		return ResponseEntity.ok().body(cacheService.buscarEstatisticas());
+	}
+
+}
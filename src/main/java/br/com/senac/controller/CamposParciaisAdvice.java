@@ -0,0 +1,56 @@
+package br.com.senac.controller;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * Aplica o parâmetro "fields" (ex.: GET /aluno?fields=id,nome) às respostas serializadas pelo Jackson em
+ * qualquer formato (JSON, CBOR ou Smile): somente as propriedades informadas dos DTOs que usam o filtro
+ * {@link #FILTRO_CAMPOS} são escritas, sem a criação de objetos intermediários. Sem o parâmetro, todas as
+ * propriedades são escritas.
+ */
+@RestControllerAdvice
+public class CamposParciaisAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+//  Nome do parâmetro da requisição com as propriedades desejadas, separadas por vírgula
+	public static final String PARAMETRO_CAMPOS = "fields";
+
+//  ID do filtro do Jackson associado aos DTOs em WebConfig
+	public static final String FILTRO_CAMPOS = "campos";
+
+	@Override
+	protected void beforeBodyWriteInternal(MappingJacksonValue valor, MediaType tipo, MethodParameter metodo,
+			ServerHttpRequest requisicao, ServerHttpResponse resposta) {
+//		O mesmo endereço pode responder em JSON, CBOR ou Smile, conforme o cabeçalho Accept
+		resposta.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+		if (!(requisicao instanceof ServletServerHttpRequest servlet)) {
+			return;
+		}
+		String campos = servlet.getServletRequest().getParameter(PARAMETRO_CAMPOS);
+		if (campos == null || campos.isBlank()) {
+			return;
+		}
+		Set<String> propriedades = Arrays.stream(campos.split(","))
+				.map(String::trim)
+				.filter(campo -> !campo.isEmpty())
+				.collect(Collectors.toSet());
+		valor.setFilters(new SimpleFilterProvider()
+				.addFilter(FILTRO_CAMPOS, SimpleBeanPropertyFilter.filterOutAllExcept(propriedades))
+				.setFailOnUnknownId(false));
+	}
+
+}
@@ -1,10 +1,10 @@
 package br.com.senac.controller;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,23 +13,52 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import br.com.senac.dto.DisciplinaDTO;
+import br.com.senac.dto.PaginaDTO;
+import br.com.senac.dto.TurmaDTO;
 import br.com.senac.entity.Disciplina;
+import br.com.senac.entity.Turma;
+import br.com.senac.mapper.DisciplinaMapper;
+import br.com.senac.mapper.TurmaMapper;
+import br.com.senac.service.ContadorAlteracoes;
 import br.com.senac.service.DisciplinaService;
+import br.com.senac.service.ModoBusca;
+import br.com.senac.service.OfertaService;
 
 @RestController
+//Desativado no perfil "reativo", que publica os mesmos endereços em DisciplinaReativoController
+@Profile("!reativo")
 @RequestMapping("/disciplina")
 public class DisciplinaController {
 
-//  Realiza a injeção automática de dependência do ModelMapper pelo Spring
+//  Realiza a injeção automática de dependência do DisciplinaMapper pelo Spring
 	@Autowired
-	ModelMapper modelMapper;
+	DisciplinaMapper disciplinaMapper;
 	
 //  Realiza a injeção automática de dependência da DisciplinaService pelo Spring
 	@Autowired
 	DisciplinaService disciplinaService;
+
+//  Realiza a injeção automática de dependência do EscritorNdjson pelo Spring
+	@Autowired
+	EscritorNdjson escritorNdjson;
+
+//  Realiza a injeção automática de dependência do ContadorAlteracoes pelo Spring
+	@Autowired
+	ContadorAlteracoes contadorAlteracoes;
+
+//  Realiza a injeção automática de dependência do TurmaMapper pelo Spring
+	@Autowired
+	TurmaMapper turmaMapper;
+
+//  Realiza a injeção automática de dependência do OfertaService pelo Spring
+	@Autowired
+	OfertaService ofertaService;
 	
 	/**
 	 * Cadastrar uma nova disciplina a partir dos dados fornecidos na DisciplinaDTO
@@ -39,35 +68,100 @@ public class DisciplinaController {
 	 */
 	@PostMapping
 	public ResponseEntity<DisciplinaDTO> cadastrarDisciplina(@RequestBody DisciplinaDTO disciplinaDTO) {
-		Disciplina disciplina = modelMapper.map(disciplinaDTO, Disciplina.class);
+		Disciplina disciplina = disciplinaMapper.paraEntidade(disciplinaDTO);
 		disciplina = disciplinaService.salvarDisciplina(disciplina);
-		DisciplinaDTO disciplinaNova = modelMapper.map(disciplina, DisciplinaDTO.class);
+		DisciplinaDTO disciplinaNova = disciplinaMapper.paraDTO(disciplina);
 		return ResponseEntity.ok().body(disciplinaNova);
 	}
 	
 	/**
 	 * Busca todos as disciplinas cadastradas e retorna uma lista de DisciplinaDTOs.
 	 * 
-	 * @return Uma resposta HTTP 200 (OK) com a lista de DisciplinaDTOs das disciplinas encontradas.
+	 * @param cursor O último ID retornado na página anterior (opcional).
+	 * @param tamanho A quantidade de registros por página (limitada pelo serviço).
+	 * @param requisicao A requisição, usada para avaliar o cabeçalho If-None-Match.
+	 * @return Uma resposta HTTP 200 (OK) com a lista de DisciplinaDTOs das disciplinas encontradas. O cursor da próxima página
+	 *         é enviado no cabeçalho X-Proximo-Cursor.
 	 */
 	@GetMapping
-	public ResponseEntity<List<DisciplinaDTO>> buscarTodasDisciplinas() {
-		List<Disciplina> listarDisciplinas = disciplinaService.buscarTodasDisciplinas();
-		List<DisciplinaDTO> listarDisciplinaDTO = listarDisciplinas.stream().map(disciplina -> modelMapper.map(disciplina, DisciplinaDTO.class)).collect(Collectors.toList());
-		return ResponseEntity.ok().body(listarDisciplinaDTO);
+	public ResponseEntity<List<DisciplinaDTO>> buscarTodasDisciplinas(@RequestParam(name = "cursor", required = false) Integer cursor,
+			@RequestParam(name = "tamanho", defaultValue = "100") int tamanho, WebRequest requisicao) {
+//		A ETag é obtida antes da leitura; se o cliente já possui a versão atual, responde 304 sem consultar o banco
+		String etag = contadorAlteracoes.gerarEtag(Disciplina.class);
+		if (requisicao.checkNotModified(etag)) {
+			return null;
+		}
+		PaginaDTO<DisciplinaDTO> pagina = disciplinaService.buscarDisciplinasPaginadas(cursor, tamanho);
+		ResponseEntity.BodyBuilder resposta = ResponseEntity.ok().eTag(etag);
+		if (pagina.getProximoCursor() != null) {
+			resposta.header(PaginaDTO.CABECALHO_PROXIMO_CURSOR, pagina.getProximoCursor().toString());
+		}
+		return resposta.body(pagina.getItens());
+	}
+
+	/**
+	 * Busca as disciplinas pelo nome, sem diferenciar maiúsculas, minúsculas e acentos.
+	 * 
+	 * @param nome O termo a ser buscado.
+	 * @param modo "prefixo" (padrão) para nomes que começam com o termo ou "contem" para nomes que contêm o termo.
+	 * @param limite A quantidade máxima de resultados (limitada pelo serviço).
+	 * @param requisicao A requisição, usada para avaliar o cabeçalho If-None-Match.
+	 * @return Uma resposta HTTP com a lista de DisciplinaDTOs das disciplinas encontradas, em ordem alfabética (codigo 200 OK).
+	 */
+	@GetMapping("/search")
+	public ResponseEntity<List<DisciplinaDTO>> buscarDisciplinasPorNome(@RequestParam("nome") String nome,
+			@RequestParam(name = "modo", defaultValue = "prefixo") ModoBusca modo,
+			@RequestParam(name = "limite", defaultValue = "20") int limite, WebRequest requisicao) {
+		String etag = contadorAlteracoes.gerarEtag(Disciplina.class);
+		if (requisicao.checkNotModified(etag)) {
+			return null;
+		}
+		List<Disciplina> disciplinas = disciplinaService.buscarDisciplinasPorNome(nome, modo, limite);
+		return ResponseEntity.ok().eTag(etag).body(disciplinaMapper.paraDTO(disciplinas));
+	}
+
+	/**
+	 * Exporta todas as disciplinas em formato NDJSON (um DisciplinaDTO por linha), escrevendo cada registro na resposta assim
+	 * que ele é lido do banco de dados.
+	 * 
+	 * @return Uma resposta HTTP 200 (OK) com o conteúdo application/x-ndjson.
+	 */
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportarDisciplinas() {
+		StreamingResponseBody corpo = escritorNdjson.escrever(
+				consumidor -> disciplinaService.exportarDisciplinas(disciplina -> consumidor.accept(disciplinaMapper.paraDTO(disciplina))));
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(corpo);
 	}
 	
 	/**
 	 * Busca uma disciplina pelo ID fornecido e retorna sua TurmaDTO correspondente.
 	 * 
 	 * @param id O ID da disciplina a ser buscada.
+	 * @param requisicao A requisição, usada para avaliar o cabeçalho If-None-Match.
 	 * @return Uma resposta HTTP 200 (OK) com a TurmaDTO da turma encontrada.
 	 */
 	@GetMapping("/{id}")
-	public ResponseEntity<DisciplinaDTO> buscarDisciplinaPorId(@PathVariable("id") Integer id) {
+	public ResponseEntity<DisciplinaDTO> buscarDisciplinaPorId(@PathVariable("id") Integer id, WebRequest requisicao) {
+//		A ETag vem da versão do próprio registro, lido pela região do cache de segundo nível; um ID inexistente
+//		é respondido com 404 sem ETag
 		Disciplina disciplina = disciplinaService.buscarDisciplinaPorId(id);
-		DisciplinaDTO disciplinaDTO = modelMapper.map(disciplina, DisciplinaDTO.class);
-		return ResponseEntity.ok().body(disciplinaDTO);
+		String etag = contadorAlteracoes.gerarEtag(Disciplina.class, disciplina.getId(), disciplina.getVersao());
+		if (requisicao.checkNotModified(etag)) {
+			return null;
+		}
+		return ResponseEntity.ok().eTag(etag).body(disciplinaMapper.paraDTO(disciplina));
+	}
+
+	/**
+	 * Busca as turmas da disciplina pelo ID fornecido, em ordem alfabética.
+	 * 
+	 * @param id O ID da disciplina.
+	 * @return Uma resposta HTTP com a lista de TurmaDTOs das turmas da disciplina (codigo 200 OK).
+	 */
+	@GetMapping("/{id}/turmas")
+	public ResponseEntity<List<TurmaDTO>> buscarTurmasDaDisciplina(@PathVariable("id") Integer id) {
+		List<Turma> turmas = ofertaService.buscarTurmasDaDisciplina(id);
+		return ResponseEntity.ok().body(turmaMapper.paraDTO(turmas));
 	}
 	
 	/**
@@ -79,9 +173,9 @@ public class DisciplinaController {
 	 */
 	@PutMapping("/{id}")
 	public ResponseEntity<DisciplinaDTO> atualizarDisciplina(@PathVariable("id") Integer id, @RequestBody DisciplinaDTO disciplinaDTO) {
-		Disciplina disciplina = modelMapper.map(disciplinaDTO, Disciplina.class);
+		Disciplina disciplina = disciplinaMapper.paraEntidade(disciplinaDTO);
 		disciplina = disciplinaService.atualizarDisciplina(id, disciplina);
-		DisciplinaDTO disciplinaAlteradaDTO = modelMapper.map(disciplina, DisciplinaDTO.class);
+		DisciplinaDTO disciplinaAlteradaDTO = disciplinaMapper.paraDTO(disciplina);
 		return ResponseEntity.ok().body(disciplinaAlteradaDTO);
 	}
 
@@ -97,4 +191,41 @@ public class DisciplinaController {
 		return ResponseEntity.ok().build();
 	}
 	
+
+	/**
+	 * Cadastra em lote as disciplinas fornecidas na lista de DisciplinaDTOs, em uma única transação.
+	 * 
+	 * @param disciplinasDTO Os dados das disciplinas a serem cadastradas.
+	 * @return Uma resposta HTTP 200 (OK) com as DisciplinaDTOs cadastradas.
+	 */
+	@PostMapping("/batch")
+	public ResponseEntity<List<DisciplinaDTO>> cadastrarDisciplinas(@RequestBody List<DisciplinaDTO> disciplinasDTO) {
+		List<Disciplina> disciplinas = disciplinaService.salvarDisciplinas(disciplinaMapper.paraEntidade(disciplinasDTO));
+		return ResponseEntity.ok().body(disciplinaMapper.paraDTO(disciplinas));
+	}
+
+	/**
+	 * Atualiza em lote as disciplinas identificadas pelo ID de cada DisciplinaDTO, em uma única transação.
+	 * 
+	 * @param disciplinasDTO Os novos dados das disciplinas, incluindo o ID de cada um.
+	 * @return Uma resposta HTTP 200 (OK) com as DisciplinaDTOs após a atualização.
+	 */
+	@PutMapping("/batch")
+	public ResponseEntity<List<DisciplinaDTO>> atualizarDisciplinas(@RequestBody List<DisciplinaDTO> disciplinasDTO) {
+		List<Disciplina> disciplinas = disciplinaService.atualizarDisciplinas(disciplinaMapper.paraEntidade(disciplinasDTO));
+		return ResponseEntity.ok().body(disciplinaMapper.paraDTO(disciplinas));
+	}
+
+	/**
+	 * Exclui em lote as disciplinas com os IDs fornecidos, em uma única transação.
+	 * 
+	 * @param ids Os IDs das disciplinas a serem excluídas.
+	 * @return Uma resposta HTTP 200 (OK) indicando o sucesso da exclusão.
+	 */
+	@DeleteMapping("/batch")
+	public ResponseEntity<Void> excluirDisciplinas(@RequestBody List<Integer> ids) {
+		disciplinaService.excluirDisciplinas(ids);
+		return ResponseEntity.ok().build();
+	}
+
 }
@@ -0,0 +1,149 @@
+package br.com.senac.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import br.com.senac.dto.DisciplinaDTO;
+import br.com.senac.entity.Disciplina;
+import br.com.senac.service.ContadorAlteracoes;
+import br.com.senac.service.DisciplinaReativoService;
+import br.com.senac.service.ModoBusca;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Versão WebFlux do DisciplinaController, ativa somente no perfil "reativo". Publica os mesmos endereços, com as
+ * listagens entregues em fluxo (Flux) conforme a demanda da conexão.
+ */
+@RestController
+@RequestMapping("/disciplina")
+@Profile("reativo")
+public class DisciplinaReativoController {
+
+//  Realiza a injeção automática de dependência do DisciplinaReativoService pelo Spring
+	@Autowired
+	private DisciplinaReativoService disciplinaReativoService;
+
+//  Realiza a injeção automática de dependência do ContadorAlteracoes pelo Spring
+	@Autowired
+	private ContadorAlteracoes contadorAlteracoes;
+
+	/**
+	 * Cadastra uma nova disciplina a partir dos dados fornecidos no DisciplinaDTO.
+	 * 
+	 * @param disciplinaDTO Os dados da disciplina a serem cadastrados.
+	 * @return O DisciplinaDTO da disciplina recém-cadastrada (codigo 200 OK).
+	 */
+	@PostMapping
+	public Mono<DisciplinaDTO> cadastrarDisciplina(@RequestBody DisciplinaDTO disciplinaDTO) {
+		return disciplinaReativoService.salvarDisciplina(disciplinaDTO);
+	}
+
+	/**
+	 * Busca uma página de disciplinas ordenadas pelo ID. Como os registros são enviados à medida que são lidos, o
+	 * cursor da próxima página não é enviado em cabeçalho: é o ID do último registro recebido.
+	 * 
+	 * @param cursor O último ID retornado na página anterior (opcional).
+	 * @param tamanho A quantidade de registros por página (limitada pelo serviço).
+	 * @return Uma resposta HTTP 200 (OK) com as disciplinas, ou 304 (Not Modified) sem consultar o banco se a ETag
+	 *         enviada em If-None-Match ainda for a atual.
+	 */
+	@GetMapping
+	public ResponseEntity<Flux<DisciplinaDTO>> buscarTodasDisciplinas(@RequestParam(name = "cursor", required = false) Integer cursor,
+			@RequestParam(name = "tamanho", defaultValue = "100") int tamanho) {
+//		A ETag é obtida antes da leitura; o Flux só é assinado se a resposta não for 304
+		String etag = contadorAlteracoes.gerarEtag(Disciplina.class);
+		return ResponseEntity.ok().eTag(etag).body(disciplinaReativoService.buscarDisciplinasPaginadas(cursor, tamanho));
+	}
+
+	/**
+	 * Busca as disciplinas pelo nome, sem diferenciar maiúsculas, minúsculas e acentos.
+	 * 
+	 * @param nome O termo a ser buscado.
+	 * @param modo "prefixo" (padrão) ou "contem".
+	 * @param limite A quantidade máxima de resultados (limitada pelo serviço).
+	 * @return Uma resposta HTTP 200 (OK) com as disciplinas encontradas, em ordem alfabética.
+	 */
+	@GetMapping("/search")
+	public ResponseEntity<Flux<DisciplinaDTO>> buscarDisciplinasPorNome(@RequestParam("nome") String nome,
+			@RequestParam(name = "modo", defaultValue = "prefixo") ModoBusca modo,
+			@RequestParam(name = "limite", defaultValue = "20") int limite) {
+		String etag = contadorAlteracoes.gerarEtag(Disciplina.class);
+		return ResponseEntity.ok().eTag(etag).body(disciplinaReativoService.buscarDisciplinasPorNome(nome, modo, limite));
+	}
+
+	/**
+	 * Exporta todas as disciplinas em formato NDJSON (um DisciplinaDTO por linha), enviados conforme a demanda da conexão.
+	 * 
+	 * @return Todas as disciplinas, com o conteúdo application/x-ndjson.
+	 */
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<DisciplinaDTO> exportarDisciplinas() {
+		return disciplinaReativoService.exportarDisciplinas();
+	}
+
+	/**
+	 * Busca uma disciplina pelo ID fornecido.
+	 * 
+	 * @param id O ID da disciplina a ser buscada.
+	 * @param troca A requisição e a resposta, usadas para avaliar o cabeçalho If-None-Match.
+	 * @return Uma resposta HTTP 200 (OK) com o DisciplinaDTO da disciplina encontrada.
+	 */
+	@GetMapping("/{id}")
+	public Mono<ResponseEntity<DisciplinaDTO>> buscarDisciplinaPorId(@PathVariable("id") Integer id, ServerWebExchange troca) {
+		String etag = contadorAlteracoes.gerarEtag(Disciplina.class);
+		if (troca.checkNotModified(etag)) {
+			return Mono.empty();
+		}
+		return disciplinaReativoService.buscarDisciplinaPorId(id).map(disciplinaDTO -> ResponseEntity.ok().eTag(etag).body(disciplinaDTO));
+	}
+
+	/**
+	 * Atualiza o nome da disciplina com base no ID fornecido.
+	 * 
+	 * @param id O ID da disciplina a ser atualizada.
+	 * @param disciplinaDTO Os novos dados da disciplina.
+	 * @return O DisciplinaDTO da disciplina após a atualização (codigo 200 OK).
+	 */
+	@PutMapping("/{id}")
+	public Mono<DisciplinaDTO> atualizarDisciplina(@PathVariable("id") Integer id, @RequestBody DisciplinaDTO disciplinaDTO) {
+		return disciplinaReativoService.atualizarDisciplina(id, disciplinaDTO);
+	}
+
+	/**
+	 * Exclui uma disciplina pelo ID fornecido.
+	 * 
+	 * @param id O ID da disciplina a ser excluída.
+	 * @return Uma resposta HTTP indicando o sucesso da exclusão (codigo 200 OK).
+	 */
+	@DeleteMapping("/{id}")
+	public Mono<ResponseEntity<Void>> excluirDisciplina(@PathVariable("id") Integer id) {
+		return disciplinaReativoService.excluirDisciplina(id).thenReturn(ResponseEntity.ok().build());
+	}
+
+	/**
+	 * Cadastra em lote as disciplinas fornecidas, em uma única transação.
+	 * 
+	 * @param disciplinasDTO Os dados das disciplinas a serem cadastradas.
+	 * @return Os DisciplinaDTOs cadastrados (codigo 200 OK).
+	 */
+	@PostMapping("/batch")
+	public Flux<DisciplinaDTO> cadastrarDisciplinas(@RequestBody List<DisciplinaDTO> disciplinasDTO) {
+		return disciplinaReativoService.salvarDisciplinas(disciplinasDTO);
+	}
+
+}
@@ -0,0 +1,53 @@
+package br.com.senac.controller;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+@Component
+public class EscritorNdjson {
+
+//  Quantidade de registros escritos entre cada envio forçado ao cliente
+	private static final int REGISTROS_POR_ENVIO = 500;
+
+//  Realiza a injeção automática de dependência do ObjectMapper configurado pelo Spring
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	/**
+	 * Cria o corpo de uma resposta NDJSON (um objeto JSON por linha) que é escrito à medida que os
+	 * registros são produzidos, sem acumular a lista completa em memória.
+	 * 
+	 * @param produtor Função que entrega cada registro ao consumidor informado.
+	 * @return O corpo da resposta a ser escrito de forma assíncrona pelo Spring MVC.
+	 */
+	public <T> StreamingResponseBody escrever(Consumer<Consumer<T>> produtor) {
+		ObjectWriter escritor = objectMapper.writer();
+		return saida -> {
+			OutputStream buffer = new BufferedOutputStream(saida);
+			int[] escritos = { 0 };
+			produtor.accept(registro -> {
+				try {
+					buffer.write(escritor.writeValueAsBytes(registro));
+					buffer.write('\n');
+					if (++escritos[0] % REGISTROS_POR_ENVIO == 0) {
+						buffer.flush();
+					}
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			buffer.flush();
+		};
+	}
+
+}
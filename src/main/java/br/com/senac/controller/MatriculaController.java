@@ -0,0 +1,69 @@
+package br.com.senac.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.senac.dto.MatriculaDTO;
+import br.com.senac.entity.Matricula;
+import br.com.senac.mapper.MatriculaMapper;
+import br.com.senac.service.MatriculaService;
+
+@RestController
+//Desativado no perfil "reativo", que não executa os serviços JPA na thread do servidor Netty
+@Profile("!reativo")
+@RequestMapping("/matricula")
+public class MatriculaController {
+
+//  Realiza a injeção automática de dependência do MatriculaMapper pelo Spring
+	@Autowired
+	private MatriculaMapper matriculaMapper;
+
+//  Realiza a injeção automática de dependência do MatriculaService pelo Spring
+	@Autowired
+	private MatriculaService matriculaService;
+
+	/**
+	 * Cria uma matrícula a partir dos IDs do aluno e da turma fornecidos no MatriculaDTO.
+	 * 
+	 * @param matriculaDTO Os IDs do aluno e da turma.
+	 * @return Uma resposta HTTP com o MatriculaDTO da matrícula recém-criada (codigo 200 OK).
+	 */
+	@PostMapping
+	public ResponseEntity<MatriculaDTO> cadastrarMatricula(@RequestBody MatriculaDTO matriculaDTO) {
+		Matricula matricula = matriculaService.salvarMatricula(matriculaDTO.getAlunoId(), matriculaDTO.getTurmaId());
+		return ResponseEntity.ok().body(matriculaMapper.paraDTO(matricula));
+	}
+
+	/**
+	 * Busca uma matrícula pelo ID fornecido e retorna seu MatriculaDTO correspondente.
+	 * 
+	 * @param id O ID da matrícula a ser buscada.
+	 * @return Uma resposta HTTP com o MatriculaDTO da matrícula encontrada (codigo 200 OK).
+	 */
+	@GetMapping("/{id}")
+	public ResponseEntity<MatriculaDTO> buscarMatriculaPorId(@PathVariable("id") Integer id) {
+		Matricula matricula = matriculaService.buscarMatriculaPorId(id);
+		return ResponseEntity.ok().body(matriculaMapper.paraDTO(matricula));
+	}
+
+	/**
+	 * Exclui uma matrícula pelo ID fornecido.
+	 * 
+	 * @param id O ID da matrícula a ser excluída.
+	 * @return Uma resposta HTTP indicando o sucesso da exclusão (codigo 200 OK).
+	 */
+	@DeleteMapping("/{id}")
+	public ResponseEntity<Void> excluirMatricula(@PathVariable("id") Integer id) {
+		matriculaService.excluirMatricula(id);
+		return ResponseEntity.ok().build();
+	}
+
+}
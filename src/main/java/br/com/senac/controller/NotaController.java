@@ -0,0 +1,121 @@
+package br.com.senac.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.senac.dto.EstatisticaNotasDTO;
+import br.com.senac.dto.NotaDTO;
+import br.com.senac.entity.Nota;
+import br.com.senac.mapper.NotaMapper;
+import br.com.senac.service.NotaService;
+
+@RestController
+//Desativado no perfil "reativo", que não executa os serviços JPA na thread do servidor Netty
+@Profile("!reativo")
+@RequestMapping("/nota")
+public class NotaController {
+
+//  Realiza a injeção automática de dependência do NotaMapper pelo Spring
+	@Autowired
+	private NotaMapper notaMapper;
+
+//  Realiza a injeção automática de dependência do NotaService pelo Spring
+	@Autowired
+	private NotaService notaService;
+
+	/**
+	 * Lança a nota do aluno na disciplina da turma a partir dos IDs e do valor fornecidos no NotaDTO, substituindo
+	 * a nota anterior se já houver uma.
+	 * 
+	 * @param notaDTO Os IDs da turma, da disciplina e do aluno e o valor da nota.
+	 * @return Uma resposta HTTP com o NotaDTO da nota gravada (codigo 200 OK).
+	 */
+	@PutMapping
+	public ResponseEntity<NotaDTO> lancarNota(@RequestBody NotaDTO notaDTO) {
+		Nota nota = notaService.lancarNota(notaDTO.getTurmaId(), notaDTO.getDisciplinaId(), notaDTO.getAlunoId(), notaDTO.getValor());
+		return ResponseEntity.ok().body(notaMapper.paraDTO(nota));
+	}
+
+	/**
+	 * Busca as notas da disciplina na turma informadas.
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @param disciplinaId O ID da disciplina.
+	 * @return Uma resposta HTTP com a lista de NotaDTOs, em ordem de ID do aluno (codigo 200 OK).
+	 */
+	@GetMapping
+	public ResponseEntity<List<NotaDTO>> buscarNotasDaTurma(@RequestParam("turmaId") Integer turmaId,
+			@RequestParam("disciplinaId") Integer disciplinaId) {
+		return ResponseEntity.ok().body(notaMapper.paraDTO(notaService.buscarNotasDaTurma(turmaId, disciplinaId)));
+	}
+
+	/**
+	 * Busca uma nota pelo ID fornecido e retorna seu NotaDTO correspondente.
+	 * 
+	 * @param id O ID da nota a ser buscada.
+	 * @return Uma resposta HTTP com o NotaDTO da nota encontrada (codigo 200 OK).
+	 */
+	@GetMapping("/{id}")
+	public ResponseEntity<NotaDTO> buscarNotaPorId(@PathVariable("id") Integer id) {
+		Nota nota = notaService.buscarNotaPorId(id);
+		return ResponseEntity.ok().body(notaMapper.paraDTO(nota));
+	}
+
+	/**
+	 * Exclui uma nota pelo ID fornecido.
+	 * 
+	 * @param id O ID da nota a ser excluída.
+	 * @return Uma resposta HTTP indicando o sucesso da exclusão (codigo 200 OK).
+	 */
+	@DeleteMapping("/{id}")
+	public ResponseEntity<Void> excluirNota(@PathVariable("id") Integer id) {
+		notaService.excluirNota(id);
+		return ResponseEntity.ok().build();
+	}
+
+	/**
+	 * Busca as estatísticas das notas da turma (média, desvio padrão, aprovação e distribuição), sem percorrer
+	 * as notas no banco.
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @return Uma resposta HTTP com as estatísticas das notas da turma (codigo 200 OK).
+	 */
+	@GetMapping("/estatisticas/turma/{turmaId}")
+	public ResponseEntity<EstatisticaNotasDTO> buscarEstatisticasDaTurma(@PathVariable("turmaId") Integer turmaId) {
+		return ResponseEntity.ok().body(notaService.buscarEstatisticasDaTurma(turmaId));
+	}
+
+	/**
+	 * Busca as estatísticas das notas da disciplina em todas as turmas, sem percorrer as notas no banco.
+	 * 
+	 * @param disciplinaId O ID da disciplina.
+	 * @return Uma resposta HTTP com as estatísticas das notas da disciplina (codigo 200 OK).
+	 */
+	@GetMapping("/estatisticas/disciplina/{disciplinaId}")
+	public ResponseEntity<EstatisticaNotasDTO> buscarEstatisticasDaDisciplina(@PathVariable("disciplinaId") Integer disciplinaId) {
+		return ResponseEntity.ok().body(notaService.buscarEstatisticasDaDisciplina(disciplinaId));
+	}
+
+	/**
+	 * Recalcula as estatísticas de todas as turmas e disciplinas a partir das notas gravadas no banco.
+	 * 
+	 * @return Uma resposta HTTP com a quantidade de notas lidas (codigo 200 OK).
+	 */
+	@PostMapping("/estatisticas/recalcular")
+	public ResponseEntity<Long> recalcularEstatisticas() {
+		return ResponseEntity.ok().body(notaService.recalcularEstatisticas());
+	}
+
+}
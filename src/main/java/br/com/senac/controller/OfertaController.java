@@ -0,0 +1,69 @@
+package br.com.senac.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.senac.dto.OfertaDTO;
+import br.com.senac.entity.Oferta;
+import br.com.senac.mapper.OfertaMapper;
+import br.com.senac.service.OfertaService;
+
+@RestController
+//Desativado no perfil "reativo", que não executa os serviços JPA na thread do servidor Netty
+@Profile("!reativo")
+@RequestMapping("/oferta")
+public class OfertaController {
+
+//  Realiza a injeção automática de dependência do OfertaMapper pelo Spring
+	@Autowired
+	private OfertaMapper ofertaMapper;
+
+//  Realiza a injeção automática de dependência do OfertaService pelo Spring
+	@Autowired
+	private OfertaService ofertaService;
+
+	/**
+	 * Cria uma oferta a partir dos IDs da disciplina e da turma fornecidos no OfertaDTO.
+	 * 
+	 * @param ofertaDTO Os IDs da disciplina e da turma.
+	 * @return Uma resposta HTTP com o OfertaDTO da oferta recém-criada (codigo 200 OK).
+	 */
+	@PostMapping
+	public ResponseEntity<OfertaDTO> cadastrarOferta(@RequestBody OfertaDTO ofertaDTO) {
+		Oferta oferta = ofertaService.salvarOferta(ofertaDTO.getDisciplinaId(), ofertaDTO.getTurmaId());
+		return ResponseEntity.ok().body(ofertaMapper.paraDTO(oferta));
+	}
+
+	/**
+	 * Busca uma oferta pelo ID fornecido e retorna seu OfertaDTO correspondente.
+	 * 
+	 * @param id O ID da oferta a ser buscada.
+	 * @return Uma resposta HTTP com o OfertaDTO da oferta encontrada (codigo 200 OK).
+	 */
+	@GetMapping("/{id}")
+	public ResponseEntity<OfertaDTO> buscarOfertaPorId(@PathVariable("id") Integer id) {
+		Oferta oferta = ofertaService.buscarOfertaPorId(id);
+		return ResponseEntity.ok().body(ofertaMapper.paraDTO(oferta));
+	}
+
+	/**
+	 * Exclui uma oferta pelo ID fornecido.
+	 * 
+	 * @param id O ID da oferta a ser excluída.
+	 * @return Uma resposta HTTP indicando o sucesso da exclusão (codigo 200 OK).
+	 */
+	@DeleteMapping("/{id}")
+	public ResponseEntity<Void> excluirOferta(@PathVariable("id") Integer id) {
+		ofertaService.excluirOferta(id);
+		return ResponseEntity.ok().build();
+	}
+
+}
@@ -0,0 +1,74 @@
+package br.com.senac.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import br.com.senac.dto.ErroDTO;
+import br.com.senac.service.ConflitoException;
+import br.com.senac.service.RequisicaoInvalidaException;
+import br.com.senac.service.VagasEsgotadasException;
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Converte as exceções de negócio lançadas pelos serviços em respostas HTTP com um corpo ErroDTO, sem passar
+ * pela página de erro padrão do Spring Boot (que registraria a pilha e responderia 500).
+ */
+@RestControllerAdvice
+public class TratadorExcecoes {
+
+	/**
+	 * Responde 404 quando o registro solicitado não existe (RecursoNaoEncontradoException ou qualquer outra
+	 * EntityNotFoundException).
+	 * 
+	 * @param excecao A exceção lançada pelo serviço.
+	 * @return Uma resposta HTTP 404 (Not Found) com a mensagem da exceção.
+	 */
+	@ExceptionHandler(EntityNotFoundException.class)
+	public ResponseEntity<ErroDTO> tratarNaoEncontrado(EntityNotFoundException excecao) {
+		return responder(HttpStatus.NOT_FOUND, excecao);
+	}
+
+	/**
+	 * Responde 400 quando o serviço rejeita os dados recebidos (ex.: nota fora da faixa ou horário mal formado).
+	 * Só as RequisicaoInvalidaExceptions lançadas pelos serviços são tratadas aqui; as demais
+	 * IllegalArgumentExceptions são erros internos e seguem para a resposta 500 padrão, sem expor a mensagem.
+	 * 
+	 * @param excecao A exceção lançada pelo serviço.
+	 * @return Uma resposta HTTP 400 (Bad Request) com a mensagem da exceção.
+	 */
+	@ExceptionHandler(RequisicaoInvalidaException.class)
+	public ResponseEntity<ErroDTO> tratarRequisicaoInvalida(RequisicaoInvalidaException excecao) {
+		return responder(HttpStatus.BAD_REQUEST, excecao);
+	}
+
+	/**
+	 * Responde 409 quando a requisição conflita com o estado atual dos registros (ex.: horário sobreposto a outra
+	 * aula, matrícula ou oferta duplicada).
+	 * 
+	 * @param excecao A exceção lançada pelo serviço.
+	 * @return Uma resposta HTTP 409 (Conflict) com a mensagem da exceção.
+	 */
+	@ExceptionHandler(ConflitoException.class)
+	public ResponseEntity<ErroDTO> tratarConflito(ConflitoException excecao) {
+		return responder(HttpStatus.CONFLICT, excecao);
+	}
+
+	/**
+	 * Responde 409 quando a turma não tem mais vagas (a reserva em POST /turma/{id}/reserva coloca o aluno na
+	 * lista de espera em vez de lançar a exceção).
+	 * 
+	 * @param excecao A exceção lançada pelo serviço.
+	 * @return Uma resposta HTTP 409 (Conflict) com a mensagem da exceção.
+	 */
+	@ExceptionHandler(VagasEsgotadasException.class)
+	public ResponseEntity<ErroDTO> tratarVagasEsgotadas(VagasEsgotadasException excecao) {
+		return responder(HttpStatus.CONFLICT, excecao);
+	}
+
+	private ResponseEntity<ErroDTO> responder(HttpStatus status, RuntimeException excecao) {
+		return ResponseEntity.status(status).body(new ErroDTO(status.value(), excecao.getMessage()));
+	}
+
+}
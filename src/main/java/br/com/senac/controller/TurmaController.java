@@ -1,10 +1,10 @@
 package br.com.senac.controller;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,23 +13,84 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import br.com.senac.dto.AlunoDTO;
+import br.com.senac.dto.ConflitoHorarioDTO;
+import br.com.senac.dto.DisciplinaDTO;
+import br.com.senac.dto.HorarioDTO;
+import br.com.senac.dto.PaginaDTO;
+import br.com.senac.dto.ReservaDTO;
 import br.com.senac.dto.TurmaDTO;
+import br.com.senac.dto.VagasDTO;
+import br.com.senac.entity.Aluno;
+import br.com.senac.entity.Disciplina;
+import br.com.senac.entity.Horario;
 import br.com.senac.entity.Turma;
+import br.com.senac.mapper.AlunoMapper;
+import br.com.senac.mapper.DisciplinaMapper;
+import br.com.senac.mapper.HorarioMapper;
+import br.com.senac.mapper.TurmaMapper;
+import br.com.senac.service.ContadorAlteracoes;
+import br.com.senac.service.HorarioService;
+import br.com.senac.service.MatriculaService;
+import br.com.senac.service.ModoBusca;
+import br.com.senac.service.OfertaService;
 import br.com.senac.service.TurmaService;
+import br.com.senac.service.VagaService;
 
 @RestController
+//Desativado no perfil "reativo", que publica os mesmos endereços em TurmaReativoController
+@Profile("!reativo")
 @RequestMapping("/turma")
 public class TurmaController {
 
-//  Realiza a injeção automática de dependência do ModelMapper pelo Spring
+//  Realiza a injeção automática de dependência do TurmaMapper pelo Spring
 	@Autowired
-	ModelMapper modelMapper;
+	TurmaMapper turmaMapper;
 
 //  Realiza a injeção automática de dependência da TurmaService pelo Spring
 	@Autowired
 	private TurmaService turmaService;
+
+//  Realiza a injeção automática de dependência do EscritorNdjson pelo Spring
+	@Autowired
+	private EscritorNdjson escritorNdjson;
+
+//  Realiza a injeção automática de dependência do ContadorAlteracoes pelo Spring
+	@Autowired
+	private ContadorAlteracoes contadorAlteracoes;
+
+//  Realiza a injeção automática de dependência do DisciplinaMapper pelo Spring
+	@Autowired
+	private DisciplinaMapper disciplinaMapper;
+
+//  Realiza a injeção automática de dependência do OfertaService pelo Spring
+	@Autowired
+	private OfertaService ofertaService;
+
+//  Realiza a injeção automática de dependência do AlunoMapper pelo Spring
+	@Autowired
+	private AlunoMapper alunoMapper;
+
+//  Realiza a injeção automática de dependência do MatriculaService pelo Spring
+	@Autowired
+	private MatriculaService matriculaService;
+
+//  Realiza a injeção automática de dependência do HorarioService pelo Spring
+	@Autowired
+	private HorarioService horarioService;
+
+//  Realiza a injeção automática de dependência do HorarioMapper pelo Spring
+	@Autowired
+	private HorarioMapper horarioMapper;
+
+//  Realiza a injeção automática de dependência do VagaService pelo Spring
+	@Autowired
+	private VagaService vagaService;
 	
 	/**
 	 * Cadastrar uma nova turma a partir dos dados fornecidos na TurmaDTO.
@@ -39,35 +100,210 @@ public class TurmaController {
 	 */
 	@PostMapping
 	public ResponseEntity<TurmaDTO> cadastrarTurma(@RequestBody TurmaDTO turmaDTO) {
-		Turma turma = modelMapper.map(turmaDTO, Turma.class);
+		Turma turma = turmaMapper.paraEntidade(turmaDTO);
 		turma = turmaService.salvarTurma(turma);
-		TurmaDTO turmaNova = modelMapper.map(turma, TurmaDTO.class);
+		TurmaDTO turmaNova = turmaMapper.paraDTO(turma);
 		return ResponseEntity.ok().body(turmaNova);
 	}
 
 	/**
 	 * Busca todos as turmas cadastradas e retorna uma lista de TurmaDTOs.
 	 * 
-	 * @return Uma resposta HTTP 200 (OK)com a lista de TurmaDTOs das turmas encontradas.
+	 * @param cursor O último ID retornado na página anterior (opcional).
+	 * @param tamanho A quantidade de registros por página (limitada pelo serviço).
+	 * @param requisicao A requisição, usada para avaliar o cabeçalho If-None-Match.
+	 * @return Uma resposta HTTP 200 (OK)com a lista de TurmaDTOs das turmas encontradas. O cursor da próxima página
+	 *         é enviado no cabeçalho X-Proximo-Cursor.
 	 */
 	@GetMapping
-	public ResponseEntity<List<TurmaDTO>> buscarTodasTurmas() {
-		List<Turma> listarTurmas = turmaService.buscarTodasTurmas();
-		List<TurmaDTO> listarTurmaDTO = listarTurmas.stream().map(turma -> modelMapper.map(turma, TurmaDTO.class)).collect(Collectors.toList());
-		return ResponseEntity.ok().body(listarTurmaDTO);
+	public ResponseEntity<List<TurmaDTO>> buscarTodasTurmas(@RequestParam(name = "cursor", required = false) Integer cursor,
+			@RequestParam(name = "tamanho", defaultValue = "100") int tamanho, WebRequest requisicao) {
+//		A ETag é obtida antes da leitura; se o cliente já possui a versão atual, responde 304 sem consultar o banco
+		String etag = contadorAlteracoes.gerarEtag(Turma.class);
+		if (requisicao.checkNotModified(etag)) {
+			return null;
+		}
+		PaginaDTO<TurmaDTO> pagina = turmaService.buscarTurmasPaginadas(cursor, tamanho);
+		ResponseEntity.BodyBuilder resposta = ResponseEntity.ok().eTag(etag);
+		if (pagina.getProximoCursor() != null) {
+			resposta.header(PaginaDTO.CABECALHO_PROXIMO_CURSOR, pagina.getProximoCursor().toString());
+		}
+		return resposta.body(pagina.getItens());
+	}
+
+	/**
+	 * Busca as turmas pelo nome, sem diferenciar maiúsculas, minúsculas e acentos.
+	 * 
+	 * @param nome O termo a ser buscado.
+	 * @param modo "prefixo" (padrão) para nomes que começam com o termo ou "contem" para nomes que contêm o termo.
+	 * @param limite A quantidade máxima de resultados (limitada pelo serviço).
+	 * @param requisicao A requisição, usada para avaliar o cabeçalho If-None-Match.
+	 * @return Uma resposta HTTP com a lista de TurmaDTOs das turmas encontradas, em ordem alfabética (codigo 200 OK).
+	 */
+	@GetMapping("/search")
+	public ResponseEntity<List<TurmaDTO>> buscarTurmasPorNome(@RequestParam("nome") String nome,
+			@RequestParam(name = "modo", defaultValue = "prefixo") ModoBusca modo,
+			@RequestParam(name = "limite", defaultValue = "20") int limite, WebRequest requisicao) {
+		String etag = contadorAlteracoes.gerarEtag(Turma.class);
+		if (requisicao.checkNotModified(etag)) {
+			return null;
+		}
+		List<Turma> turmas = turmaService.buscarTurmasPorNome(nome, modo, limite);
+		return ResponseEntity.ok().eTag(etag).body(turmaMapper.paraDTO(turmas));
+	}
+
+	/**
+	 * Exporta todas as turmas em formato NDJSON (um TurmaDTO por linha), escrevendo cada registro na resposta assim
+	 * que ele é lido do banco de dados.
+	 * 
+	 * @return Uma resposta HTTP 200 (OK) com o conteúdo application/x-ndjson.
+	 */
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportarTurmas() {
+		StreamingResponseBody corpo = escritorNdjson.escrever(
+				consumidor -> turmaService.exportarTurmas(turma -> consumidor.accept(turmaMapper.paraDTO(turma))));
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(corpo);
 	}
 
 	/**
 	 * Busca uma turma pelo ID fornecido e retorna sua TurmaDTO correspondente.
 	 * 
 	 * @param id O ID da turma a ser buscada.
+	 * @param requisicao A requisição, usada para avaliar o cabeçalho If-None-Match.
 	 * @return Uma resposta HTTP 200 (OK) com a TurmaDTO da turma encontrada.
 	 */
 	@GetMapping("/{id}")
-	public ResponseEntity<TurmaDTO> buscarTurmaPorId(@PathVariable("id") Integer id) {
+	public ResponseEntity<TurmaDTO> buscarTurmaPorId(@PathVariable("id") Integer id, WebRequest requisicao) {
+//		A ETag vem da versão do próprio registro, lido pela região do cache de segundo nível; um ID inexistente
+//		é respondido com 404 sem ETag
 		Turma turma = turmaService.buscarTurmaPorId(id);
-		TurmaDTO turmaDTO = modelMapper.map(turma, TurmaDTO.class);
-		return ResponseEntity.ok().body(turmaDTO);
+		String etag = contadorAlteracoes.gerarEtag(Turma.class, turma.getId(), turma.getVersao());
+		if (requisicao.checkNotModified(etag)) {
+			return null;
+		}
+		return ResponseEntity.ok().eTag(etag).body(turmaMapper.paraDTO(turma));
+	}
+
+	/**
+	 * Busca as disciplinas da turma pelo ID fornecido, em ordem alfabética.
+	 * 
+	 * @param id O ID da turma.
+	 * @return Uma resposta HTTP com a lista de DisciplinaDTOs das disciplinas da turma (codigo 200 OK).
+	 */
+	@GetMapping("/{id}/disciplinas")
+	public ResponseEntity<List<DisciplinaDTO>> buscarDisciplinasDaTurma(@PathVariable("id") Integer id) {
+		List<Disciplina> disciplinas = ofertaService.buscarDisciplinasDaTurma(id);
+		return ResponseEntity.ok().body(disciplinaMapper.paraDTO(disciplinas));
+	}
+
+	/**
+	 * Busca os alunos da turma pelo ID fornecido, em ordem alfabética.
+	 * 
+	 * @param id O ID da turma.
+	 * @return Uma resposta HTTP com a lista de AlunoDTOs dos alunos da turma (codigo 200 OK).
+	 */
+	@GetMapping("/{id}/alunos")
+	public ResponseEntity<List<AlunoDTO>> buscarAlunosDaTurma(@PathVariable("id") Integer id) {
+		List<Aluno> alunos = matriculaService.buscarAlunosDaTurma(id);
+		return ResponseEntity.ok().body(alunoMapper.paraDTO(alunos));
+	}
+
+	/**
+	 * Busca a capacidade, as vagas ocupadas e o tamanho da lista de espera da turma.
+	 * 
+	 * @param id O ID da turma.
+	 * @return Uma resposta HTTP com a VagasDTO da turma (codigo 200 OK).
+	 */
+	@GetMapping("/{id}/vagas")
+	public ResponseEntity<VagasDTO> consultarVagas(@PathVariable("id") Integer id) {
+		return ResponseEntity.ok().body(vagaService.consultarVagas(id));
+	}
+
+	/**
+	 * Define a capacidade da turma (capacidade nula remove o limite), promovendo a lista de espera se abrir vagas.
+	 * 
+	 * @param id O ID da turma.
+	 * @param vagasDTO A nova capacidade (os demais campos são ignorados).
+	 * @return Uma resposta HTTP 200 (OK) com a VagasDTO da turma após a alteração.
+	 */
+	@PutMapping("/{id}/vagas")
+	public ResponseEntity<VagasDTO> definirCapacidade(@PathVariable("id") Integer id, @RequestBody VagasDTO vagasDTO) {
+		return ResponseEntity.ok().body(vagaService.definirCapacidade(id, vagasDTO.getCapacidade()));
+	}
+
+	/**
+	 * Reserva uma vaga do aluno na turma: matricula o aluno se houver vaga ou o coloca na lista de espera.
+	 * 
+	 * @param id O ID da turma.
+	 * @param alunoId O ID do aluno.
+	 * @return Uma resposta HTTP 200 (OK) com a ReservaDTO indicando a matrícula ou a posição na lista de espera.
+	 */
+	@PostMapping("/{id}/reserva")
+	public ResponseEntity<ReservaDTO> reservarVaga(@PathVariable("id") Integer id, @RequestParam("alunoId") Integer alunoId) {
+		return ResponseEntity.ok().body(vagaService.reservar(id, alunoId));
+	}
+
+	/**
+	 * Remove o aluno da lista de espera da turma.
+	 * 
+	 * @param id O ID da turma.
+	 * @param alunoId O ID do aluno.
+	 * @return Uma resposta HTTP 200 (OK) indicando o sucesso da remoção.
+	 */
+	@DeleteMapping("/{id}/espera/{alunoId}")
+	public ResponseEntity<Void> sairDaEspera(@PathVariable("id") Integer id, @PathVariable("alunoId") Integer alunoId) {
+		vagaService.sairDaEspera(id, alunoId);
+		return ResponseEntity.ok().build();
+	}
+
+	/**
+	 * Busca os horários semanais da turma pelo ID fornecido, em ordem de dia da semana e início.
+	 * 
+	 * @param id O ID da turma.
+	 * @return Uma resposta HTTP com a lista de HorarioDTOs da turma (codigo 200 OK).
+	 */
+	@GetMapping("/{id}/horario")
+	public ResponseEntity<List<HorarioDTO>> buscarHorariosDaTurma(@PathVariable("id") Integer id) {
+		List<Horario> horarios = horarioService.buscarHorariosDaTurma(id);
+		return ResponseEntity.ok().body(horarioMapper.paraDTO(horarios));
+	}
+
+	/**
+	 * Adiciona um horário semanal à turma, recusando conflitos de sala, professor e alunos.
+	 * 
+	 * @param id O ID da turma.
+	 * @param horarioDTO Os dados do horário (o turmaId é ignorado).
+	 * @return Uma resposta HTTP 200 (OK) com o HorarioDTO cadastrado, ou 400 (Bad Request) em caso de conflito.
+	 */
+	@PostMapping("/{id}/horario")
+	public ResponseEntity<HorarioDTO> adicionarHorario(@PathVariable("id") Integer id, @RequestBody HorarioDTO horarioDTO) {
+		Horario horario = horarioService.adicionarHorario(id, horarioMapper.paraEntidade(horarioDTO));
+		return ResponseEntity.ok().body(horarioMapper.paraDTO(horario));
+	}
+
+	/**
+	 * Exclui um horário da turma.
+	 * 
+	 * @param id O ID da turma.
+	 * @param horarioId O ID do horário a ser excluído.
+	 * @return Uma resposta HTTP 200 (OK) indicando o sucesso da exclusão.
+	 */
+	@DeleteMapping("/{id}/horario/{horarioId}")
+	public ResponseEntity<Void> excluirHorario(@PathVariable("id") Integer id, @PathVariable("horarioId") Integer horarioId) {
+		horarioService.excluirHorario(id, horarioId);
+		return ResponseEntity.ok().build();
+	}
+
+	/**
+	 * Valida uma grade horária completa, sem gravá-la, e retorna todos os conflitos encontrados.
+	 * 
+	 * @param horariosDTO Os horários da grade, cada um com o turmaId.
+	 * @return Uma resposta HTTP 200 (OK) com a lista de conflitos (vazia se a grade for válida).
+	 */
+	@PostMapping("/horario/validar")
+	public ResponseEntity<List<ConflitoHorarioDTO>> validarGrade(@RequestBody List<HorarioDTO> horariosDTO) {
+		List<ConflitoHorarioDTO> conflitos = horarioService.validarGrade(horarioMapper.paraEntidade(horariosDTO));
+		return ResponseEntity.ok().body(conflitos);
 	}
 
 	/**
@@ -79,9 +315,9 @@ public class TurmaController {
 	 */
 	@PutMapping("/{id}")
 	public ResponseEntity<TurmaDTO> atualizarTurma(@PathVariable("id") Integer id, @RequestBody TurmaDTO turmaDTO) {
-		Turma turma = modelMapper.map(turmaDTO, Turma.class);
+		Turma turma = turmaMapper.paraEntidade(turmaDTO);
 		turma = turmaService.atualizarTurma(id, turma);
-		TurmaDTO turmaAlteradaDTO = modelMapper.map(turma, TurmaDTO.class);
+		TurmaDTO turmaAlteradaDTO = turmaMapper.paraDTO(turma);
 		return ResponseEntity.ok().body(turmaAlteradaDTO);
 	}
 
@@ -97,4 +333,40 @@ public class TurmaController {
 		return ResponseEntity.ok().build();
 	}
 
+	/**
+	 * Cadastra em lote as turmas fornecidas na lista de TurmaDTOs, em uma única transação.
+	 * 
+	 * @param turmasDTO Os dados das turmas a serem cadastradas.
+	 * @return Uma resposta HTTP 200 (OK) com as TurmaDTOs cadastradas.
+	 */
+	@PostMapping("/batch")
+	public ResponseEntity<List<TurmaDTO>> cadastrarTurmas(@RequestBody List<TurmaDTO> turmasDTO) {
+		List<Turma> turmas = turmaService.salvarTurmas(turmaMapper.paraEntidade(turmasDTO));
+		return ResponseEntity.ok().body(turmaMapper.paraDTO(turmas));
+	}
+
+	/**
+	 * Atualiza em lote as turmas identificadas pelo ID de cada TurmaDTO, em uma única transação.
+	 * 
+	 * @param turmasDTO Os novos dados das turmas, incluindo o ID de cada um.
+	 * @return Uma resposta HTTP 200 (OK) com as TurmaDTOs após a atualização.
+	 */
+	@PutMapping("/batch")
+	public ResponseEntity<List<TurmaDTO>> atualizarTurmas(@RequestBody List<TurmaDTO> turmasDTO) {
+		List<Turma> turmas = turmaService.atualizarTurmas(turmaMapper.paraEntidade(turmasDTO));
+		return ResponseEntity.ok().body(turmaMapper.paraDTO(turmas));
+	}
+
+	/**
+	 * Exclui em lote as turmas com os IDs fornecidos, em uma única transação.
+	 * 
+	 * @param ids Os IDs das turmas a serem excluídas.
+	 * @return Uma resposta HTTP 200 (OK) indicando o sucesso da exclusão.
+	 */
+	@DeleteMapping("/batch")
+	public ResponseEntity<Void> excluirTurmas(@RequestBody List<Integer> ids) {
+		turmaService.excluirTurmas(ids);
+		return ResponseEntity.ok().build();
+	}
+
 }
@@ -0,0 +1,149 @@
+package br.com.senac.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import br.com.senac.dto.TurmaDTO;
+import br.com.senac.entity.Turma;
+import br.com.senac.service.ContadorAlteracoes;
+import br.com.senac.service.ModoBusca;
+import br.com.senac.service.TurmaReativoService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Versão WebFlux do TurmaController, ativa somente no perfil "reativo". Publica os mesmos endereços, com as
+ * listagens entregues em fluxo (Flux) conforme a demanda da conexão.
+ */
+@RestController
+@RequestMapping("/turma")
+@Profile("reativo")
+public class TurmaReativoController {
+
+//  Realiza a injeção automática de dependência do TurmaReativoService pelo Spring
+	@Autowired
+	private TurmaReativoService turmaReativoService;
+
+//  Realiza a injeção automática de dependência do ContadorAlteracoes pelo Spring
+	@Autowired
+	private ContadorAlteracoes contadorAlteracoes;
+
+	/**
+	 * Cadastra uma nova turma a partir dos dados fornecidos no TurmaDTO.
+	 * 
+	 * @param turmaDTO Os dados da turma a serem cadastrados.
+	 * @return O TurmaDTO da turma recém-cadastrada (codigo 200 OK).
+	 */
+	@PostMapping
+	public Mono<TurmaDTO> cadastrarTurma(@RequestBody TurmaDTO turmaDTO) {
+		return turmaReativoService.salvarTurma(turmaDTO);
+	}
+
+	/**
+	 * Busca uma página de turmas ordenadas pelo ID. Como os registros são enviados à medida que são lidos, o
+	 * cursor da próxima página não é enviado em cabeçalho: é o ID do último registro recebido.
+	 * 
+	 * @param cursor O último ID retornado na página anterior (opcional).
+	 * @param tamanho A quantidade de registros por página (limitada pelo serviço).
+	 * @return Uma resposta HTTP 200 (OK) com as turmas, ou 304 (Not Modified) sem consultar o banco se a ETag
+	 *         enviada em If-None-Match ainda for a atual.
+	 */
+	@GetMapping
+	public ResponseEntity<Flux<TurmaDTO>> buscarTodasTurmas(@RequestParam(name = "cursor", required = false) Integer cursor,
+			@RequestParam(name = "tamanho", defaultValue = "100") int tamanho) {
+//		A ETag é obtida antes da leitura; o Flux só é assinado se a resposta não for 304
+		String etag = contadorAlteracoes.gerarEtag(Turma.class);
+		return ResponseEntity.ok().eTag(etag).body(turmaReativoService.buscarTurmasPaginadas(cursor, tamanho));
+	}
+
+	/**
+	 * Busca as turmas pelo nome, sem diferenciar maiúsculas, minúsculas e acentos.
+	 * 
+	 * @param nome O termo a ser buscado.
+	 * @param modo "prefixo" (padrão) ou "contem".
+	 * @param limite A quantidade máxima de resultados (limitada pelo serviço).
+	 * @return Uma resposta HTTP 200 (OK) com as turmas encontradas, em ordem alfabética.
+	 */
+	@GetMapping("/search")
+	public ResponseEntity<Flux<TurmaDTO>> buscarTurmasPorNome(@RequestParam("nome") String nome,
+			@RequestParam(name = "modo", defaultValue = "prefixo") ModoBusca modo,
+			@RequestParam(name = "limite", defaultValue = "20") int limite) {
+		String etag = contadorAlteracoes.gerarEtag(Turma.class);
+		return ResponseEntity.ok().eTag(etag).body(turmaReativoService.buscarTurmasPorNome(nome, modo, limite));
+	}
+
+	/**
+	 * Exporta todas as turmas em formato NDJSON (um TurmaDTO por linha), enviados conforme a demanda da conexão.
+	 * 
+	 * @return Todas as turmas, com o conteúdo application/x-ndjson.
+	 */
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<TurmaDTO> exportarTurmas() {
+		return turmaReativoService.exportarTurmas();
+	}
+
+	/**
+	 * Busca uma turma pelo ID fornecido.
+	 * 
+	 * @param id O ID da turma a ser buscada.
+	 * @param troca A requisição e a resposta, usadas para avaliar o cabeçalho If-None-Match.
+	 * @return Uma resposta HTTP 200 (OK) com o TurmaDTO da turma encontrada.
+	 */
+	@GetMapping("/{id}")
+	public Mono<ResponseEntity<TurmaDTO>> buscarTurmaPorId(@PathVariable("id") Integer id, ServerWebExchange troca) {
+		String etag = contadorAlteracoes.gerarEtag(Turma.class);
+		if (troca.checkNotModified(etag)) {
+			return Mono.empty();
+		}
+		return turmaReativoService.buscarTurmaPorId(id).map(turmaDTO -> ResponseEntity.ok().eTag(etag).body(turmaDTO));
+	}
+
+	/**
+	 * Atualiza o nome da turma com base no ID fornecido.
+	 * 
+	 * @param id O ID da turma a ser atualizada.
+	 * @param turmaDTO Os novos dados da turma.
+	 * @return O TurmaDTO da turma após a atualização (codigo 200 OK).
+	 */
+	@PutMapping("/{id}")
+	public Mono<TurmaDTO> atualizarTurma(@PathVariable("id") Integer id, @RequestBody TurmaDTO turmaDTO) {
+		return turmaReativoService.atualizarTurma(id, turmaDTO);
+	}
+
+	/**
+	 * Exclui uma turma pelo ID fornecido.
+	 * 
+	 * @param id O ID da turma a ser excluída.
+	 * @return Uma resposta HTTP indicando o sucesso da exclusão (codigo 200 OK).
+	 */
+	@DeleteMapping("/{id}")
+	public Mono<ResponseEntity<Void>> excluirTurma(@PathVariable("id") Integer id) {
+		return turmaReativoService.excluirTurma(id).thenReturn(ResponseEntity.ok().build());
+	}
+
+	/**
+	 * Cadastra em lote as turmas fornecidas, em uma única transação.
+	 * 
+	 * @param turmasDTO Os dados das turmas a serem cadastradas.
+	 * @return Os TurmaDTOs cadastrados (codigo 200 OK).
+	 */
+	@PostMapping("/batch")
+	public Flux<TurmaDTO> cadastrarTurmas(@RequestBody List<TurmaDTO> turmasDTO) {
+		return turmaReativoService.salvarTurmas(turmasDTO);
+	}
+
+}
@@ -0,0 +1,73 @@
+package br.com.senac.diagnostico;
+
+import java.util.List;
+
+/**
+ * Acumula os comandos SQL executados pela thread corrente entre {@link #iniciar()} e {@link #finalizar()}.
+ * Alimentado pelo {@link OuvinteContadorSql}; fora de uma medição os comandos são ignorados.
+ * 
+ * Também serve de API de asserção nos testes, por exemplo:
+ * {@code ContadorSql.verificar(1, () -> matriculaService.buscarAlunosDaTurma(1));}
+ */
+public final class ContadorSql {
+
+	private static final ThreadLocal<RelatorioSql> RELATORIO = new ThreadLocal<>();
+
+	private ContadorSql() {
+	}
+
+	/**
+	 * Inicia uma medição na thread corrente, descartando qualquer medição anterior.
+	 */
+	public static void iniciar() {
+		RELATORIO.set(new RelatorioSql());
+	}
+
+	/**
+	 * Encerra a medição da thread corrente.
+	 * 
+	 * @return O relatório com os comandos executados desde {@link #iniciar()}; vazio se não havia medição.
+	 */
+	public static RelatorioSql finalizar() {
+		RelatorioSql relatorio = RELATORIO.get();
+		RELATORIO.remove();
+		return relatorio == null ? new RelatorioSql() : relatorio;
+	}
+
+	/**
+	 * Executa a ação informada medindo os comandos SQL que ela executa na thread corrente.
+	 * 
+	 * @param acao A ação a ser medida.
+	 * @return O relatório com os comandos executados pela ação.
+	 */
+	public static RelatorioSql medir(Runnable acao) {
+		RelatorioSql relatorio = new RelatorioSql();
+		RELATORIO.set(relatorio);
+		try {
+			acao.run();
+		} finally {
+			RELATORIO.remove();
+		}
+		return relatorio;
+	}
+
+	/**
+	 * Executa a ação informada e falha se ela executar mais comandos SQL que o orçamento.
+	 * 
+	 * @param maximo A quantidade máxima de execuções permitida.
+	 * @param acao A ação a ser medida.
+	 * @throws AssertionError Se o orçamento foi ultrapassado.
+	 */
+	public static void verificar(int maximo, Runnable acao) {
+		medir(acao).verificarOrcamento(maximo);
+	}
+
+//  Registra uma execução JDBC na medição da thread corrente, se houver
+	static void registrar(List<String> comandos, long nanos) {
+		RelatorioSql relatorio = RELATORIO.get();
+		if (relatorio != null) {
+			relatorio.registrar(comandos, nanos);
+		}
+	}
+
+}
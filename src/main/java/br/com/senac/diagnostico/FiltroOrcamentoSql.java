@@ -0,0 +1,57 @@
+package br.com.senac.diagnostico;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Mede os comandos SQL executados em cada requisição e registra um aviso quando a requisição ultrapassa o
+ * orçamento de comandos ou o limite de tempo gasto no JDBC, listando os formatos de comando mais executados.
+ * As exportações NDJSON, que escrevem a resposta em outra thread, não são medidas.
+ */
+public class FiltroOrcamentoSql extends OncePerRequestFilter {
+
+	private static final Logger log = LoggerFactory.getLogger(FiltroOrcamentoSql.class);
+
+//  Quantidade de formatos de comando listados no aviso
+	private static final int FORMATOS_NO_AVISO = 5;
+
+	private final int orcamento;
+	private final long limiteMillis;
+
+	/**
+	 * @param orcamento A quantidade máxima de comandos SQL esperada por requisição.
+	 * @param limiteMillis O tempo máximo esperado no JDBC por requisição, em milissegundos.
+	 */
+	public FiltroOrcamentoSql(int orcamento, long limiteMillis) {
+		this.orcamento = orcamento;
+		this.limiteMillis = limiteMillis;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest requisicao, HttpServletResponse resposta, FilterChain cadeia)
+			throws ServletException, IOException {
+		ContadorSql.iniciar();
+		try {
+			cadeia.doFilter(requisicao, resposta);
+		} finally {
+			RelatorioSql relatorio = ContadorSql.finalizar();
+			if (relatorio.getQuantidade() > orcamento || relatorio.getTempoMillis() > limiteMillis) {
+				log.warn("{} {}: {} comandos SQL em {} ms (orçamento de {} comandos e {} ms). Mais executados: {}",
+						requisicao.getMethod(), requisicao.getRequestURI(), relatorio.getQuantidade(), relatorio.getTempoMillis(),
+						orcamento, limiteMillis, relatorio.formatosMaisFrequentes(FORMATOS_NO_AVISO));
+			} else if (log.isDebugEnabled()) {
+				log.debug("{} {}: {} comandos SQL em {} ms", requisicao.getMethod(), requisicao.getRequestURI(),
+						relatorio.getQuantidade(), relatorio.getTempoMillis());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,30 @@
+package br.com.senac.diagnostico;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Ouvinte do datasource-proxy que envia cada execução JDBC (comandos e tempo gasto) para o {@link ContadorSql}.
+ */
+public class OuvinteContadorSql implements QueryExecutionListener {
+
+	private static final String INICIO = OuvinteContadorSql.class.getName() + ".inicio";
+
+	@Override
+	public void beforeQuery(ExecutionInfo execucao, List<QueryInfo> comandos) {
+//		O tempo é medido aqui em nanossegundos, pois o ExecutionInfo só informa milissegundos
+		execucao.addCustomValue(INICIO, System.nanoTime());
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execucao, List<QueryInfo> comandos) {
+		Long inicio = execucao.getCustomValue(INICIO, Long.class);
+		long nanos = inicio == null ? 0 : System.nanoTime() - inicio;
+		ContadorSql.registrar(comandos.stream().map(QueryInfo::getQuery).collect(Collectors.toList()), nanos);
+	}
+
+}
@@ -0,0 +1,94 @@
+package br.com.senac.diagnostico;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Comandos SQL executados durante uma medição (uma requisição HTTP ou um trecho de teste): quantidade de
+ * execuções, tempo total gasto no JDBC e quantas vezes cada formato de comando foi executado.
+ */
+public class RelatorioSql {
+
+//  Listas de parâmetros de IN com tamanhos diferentes são agrupadas no mesmo formato
+	private static final Pattern LISTA_PARAMETROS = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+
+	private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+	private int quantidade;
+	private long tempoNanos;
+	private final Map<String, Integer> formatos = new LinkedHashMap<>();
+
+	/**
+	 * Registra uma execução JDBC. Um lote JDBC conta como uma única execução (uma ida ao banco).
+	 * 
+	 * @param comandos Os comandos SQL enviados na execução.
+	 * @param nanos O tempo gasto na execução, em nanossegundos.
+	 */
+	void registrar(List<String> comandos, long nanos) {
+		quantidade++;
+		tempoNanos += nanos;
+		for (String comando : comandos) {
+			formatos.merge(formato(comando), 1, Integer::sum);
+		}
+	}
+
+	/**
+	 * @return A quantidade de execuções JDBC.
+	 */
+	public int getQuantidade() {
+		return quantidade;
+	}
+
+	/**
+	 * @return O tempo total gasto nas execuções JDBC, em milissegundos.
+	 */
+	public long getTempoMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(tempoNanos);
+	}
+
+	/**
+	 * @return Quantas vezes cada formato de comando foi executado, na ordem da primeira execução.
+	 */
+	public Map<String, Integer> getFormatos() {
+		return formatos;
+	}
+
+	/**
+	 * Lista os formatos mais executados, no formato "3x select ...". Um mesmo SELECT repetido muitas vezes
+	 * é o sinal típico de N+1.
+	 * 
+	 * @param limite A quantidade máxima de formatos listados.
+	 * @return Os formatos em ordem decrescente de execuções.
+	 */
+	public List<String> formatosMaisFrequentes(int limite) {
+		return formatos.entrySet().stream()
+				.sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+				.limit(limite)
+				.map(formato -> formato.getValue() + "x " + formato.getKey())
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Falha quando a quantidade de execuções passou do orçamento, listando os comandos executados.
+	 * 
+	 * @param maximo A quantidade máxima de execuções permitida.
+	 * @throws AssertionError Se o orçamento foi ultrapassado.
+	 */
+	public void verificarOrcamento(int maximo) {
+		if (quantidade > maximo) {
+			throw new AssertionError("Esperado no máximo " + maximo + " comandos SQL, mas foram executados " + quantidade + ": "
+					+ formatosMaisFrequentes(formatos.size()));
+		}
+	}
+
+//  Remove espaços repetidos e agrupa as listas de parâmetros, para que comandos equivalentes tenham o mesmo formato
+	static String formato(String comando) {
+		String compacto = ESPACOS.matcher(comando.trim()).replaceAll(" ");
+		return LISTA_PARAMETROS.matcher(compacto).replaceAll("(?...)");
+	}
+
+}
@@ -0,0 +1,21 @@
+package br.com.senac.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConflitoHorarioDTO {
+
+//  Recurso disputado: "sala", "professor", "turma" ou "aluno"
+	private String tipo;
+	private String mensagem;
+//  Posições (a partir de 0) dos horários conflitantes na lista validada
+	private List<Integer> posicoes;
+
+}
@@ -0,0 +1,17 @@
+package br.com.senac.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ErroDTO {
+
+//  Código HTTP da resposta (ex.: 404)
+	private int status;
+	private String mensagem;
+
+}
@@ -0,0 +1,18 @@
+package br.com.senac.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+//Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
+@Data
+@AllArgsConstructor
+public class EstatisticaCacheDTO {
+
+	private String regiao;
+	private long acertos;
+	private long falhas;
+	private long insercoes;
+//  Proporção de acertos sobre o total de leituras (0 quando ainda não houve leituras)
+	private double taxaAcerto;
+
+}
@@ -0,0 +1,23 @@
+package br.com.senac.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstatisticaNotasDTO {
+
+	private long quantidade;
+//  Média e desvio padrão populacional das notas (nulos enquanto não houver notas)
+	private Double media;
+	private Double desvioPadrao;
+//  Notas iguais ou maiores que a média de aprovação (EstatisticasNotas.MEDIA_APROVACAO) e sua proporção sobre o total
+	private long aprovados;
+	private double taxaAprovacao;
+//  Quantidade de notas em cada faixa de um ponto: [0, 1), [1, 2), ..., [9, 10]
+	private long[] distribuicao;
+
+}
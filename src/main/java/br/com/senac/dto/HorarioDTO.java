@@ -0,0 +1,22 @@
+package br.com.senac.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import lombok.Data;
+
+//Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
+@Data
+public class HorarioDTO {
+
+	private Integer id;
+	private Integer turmaId;
+//  Dia da semana em inglês, como no java.time.DayOfWeek (ex.: MONDAY)
+	private DayOfWeek diaSemana;
+//  Início e fim da aula (ex.: "19:00" e "20:40"), em múltiplos de GradeHoraria.MINUTOS_POR_SLOT
+	private LocalTime inicio;
+	private LocalTime fim;
+	private String sala;
+	private String professor;
+
+}
@@ -0,0 +1,13 @@
+package br.com.senac.dto;
+
+import lombok.Data;
+
+//Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
+@Data
+public class MatriculaDTO {
+
+	private Integer id;
+	private Integer alunoId;
+	private Integer turmaId;
+
+}
@@ -0,0 +1,17 @@
+package br.com.senac.dto;
+
+import java.math.BigDecimal;
+
+import lombok.Data;
+
+//Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
+@Data
+public class NotaDTO {
+
+	private Integer id;
+	private Integer turmaId;
+	private Integer disciplinaId;
+	private Integer alunoId;
+	private BigDecimal valor;
+
+}
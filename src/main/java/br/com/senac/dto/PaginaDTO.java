@@ -0,0 +1,32 @@
+package br.com.senac.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+//Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
+@Data
+@AllArgsConstructor
+public class PaginaDTO<T> {
+
+//  Cabeçalho HTTP utilizado para devolver o cursor da próxima página nas listagens
+	public static final String CABECALHO_PROXIMO_CURSOR = "X-Proximo-Cursor";
+
+	private List<T> itens;
+//  Cursor (último ID retornado) a ser enviado na próxima requisição; nulo quando não há mais páginas
+	private Integer proximoCursor;
+
+	/**
+	 * Converte os itens da página mantendo o mesmo cursor.
+	 *
+	 * @param conversor A função utilizada para converter cada item.
+	 * @return Uma nova página com os itens convertidos.
+	 */
+	public <R> PaginaDTO<R> map(Function<T, R> conversor) {
+		return new PaginaDTO<>(itens.stream().map(conversor).collect(Collectors.toList()), proximoCursor);
+	}
+
+}
@@ -0,0 +1,27 @@
+package br.com.senac.dto;
+
+import java.time.Instant;
+
+import br.com.senac.auditoria.EntidadeAuditada;
+import br.com.senac.auditoria.OperacaoAuditada;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistroAuditoriaDTO {
+
+//  Número do registro no log, crescente e sem repetição
+	private Long sequencia;
+//  Instante em que a alteração foi gravada no log (após o commit), com precisão de microssegundos
+	private Instant instante;
+	private EntidadeAuditada entidade;
+	private OperacaoAuditada operacao;
+	private Integer entidadeId;
+//  Nome gravado pela inclusão ou alteração (nulo na exclusão)
+	private String nome;
+
+}
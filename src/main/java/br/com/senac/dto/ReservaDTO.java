@@ -0,0 +1,20 @@
+package br.com.senac.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservaDTO {
+
+//  Situação do aluno após a reserva: MATRICULADO ou EM_ESPERA
+	private String situacao;
+//  ID da matrícula criada (somente quando MATRICULADO)
+	private Integer matriculaId;
+//  Posição na lista de espera, a partir de 1 (somente quando EM_ESPERA)
+	private Long posicaoEspera;
+
+}
@@ -0,0 +1,21 @@
+package br.com.senac.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+//Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
+@Data
+public class ResultadoImportacaoDTO {
+
+//  Linhas de dados lidas do arquivo (sem contar o cabeçalho e as linhas em branco)
+	private long linhasLidas;
+	private long importados;
+	private long rejeitados;
+//  Erros por linha, limitados a ImportacaoAlunoService.MAXIMO_ERROS_RELATADOS
+	private List<ErroImportacaoDTO> erros = new ArrayList<>();
+//  Indica que houve mais erros que os listados em erros
+	private boolean errosTruncados;
+
+}
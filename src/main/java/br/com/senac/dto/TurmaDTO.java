@@ -1,9 +1,14 @@
 package br.com.senac.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 //Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
 @Data
+//Construtor vazio usado pelo Jackson e construtor completo usado nas projeções JPQL (select new ...)
+@NoArgsConstructor
+@AllArgsConstructor
 public class TurmaDTO {
 
 	private Integer id;
@@ -0,0 +1,21 @@
+package br.com.senac.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VagasDTO {
+
+	private Integer turmaId;
+//  Capacidade da turma (nula para turmas sem limite); é o único campo lido na alteração da capacidade
+	private Integer capacidade;
+	private Integer ocupadas;
+//  Vagas ainda disponíveis (nulo para turmas sem limite)
+	private Integer disponiveis;
+	private Long emEspera;
+
+}
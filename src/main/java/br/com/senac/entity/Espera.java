@@ -0,0 +1,50 @@
+package br.com.senac.entity;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Representa um aluno na lista de espera de uma turma sem vagas. A ordem de chegada é a ordem dos IDs, e a
+ * restrição única (turma_id, aluno_id) também serve de índice para as consultas por turma.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_espera_turma_aluno", columnNames = { "turma_id", "aluno_id" }))
+//Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
+@Data
+public class Espera {
+
+//  Indica que o campo id é a chave primária da entidade
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "espera_seq")
+	@SequenceGenerator(name = "espera_seq", sequenceName = "espera_seq", allocationSize = 50)
+	private Integer id;
+//  Carregada somente quando acessada; a exclusão da turma remove a lista de espera no próprio banco (ON DELETE CASCADE)
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "turma_id")
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private Turma turma;
+//  Carregado somente quando acessado; a exclusão do aluno o remove das listas de espera (ON DELETE CASCADE)
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "aluno_id")
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private Aluno aluno;
+
+}
@@ -0,0 +1,60 @@
+package br.com.senac.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Representa uma aula semanal de uma turma: o dia da semana, o intervalo de horário, a sala e o professor.
+ * Os conflitos de sala, professor e alunos são verificados pela GradeHoraria antes da gravação.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_horario_turma", columnList = "turma_id"))
+//Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
+@Data
+public class Horario {
+
+//  Indica que o campo id é a chave primária da entidade
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "horario_seq")
+	@SequenceGenerator(name = "horario_seq", sequenceName = "horario_seq", allocationSize = 50)
+	private Integer id;
+//  Carregada somente quando acessada; a exclusão da turma remove os horários no próprio banco (ON DELETE CASCADE)
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "turma_id")
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private Turma turma;
+	@Enumerated(EnumType.STRING)
+	@Column(name = "dia_semana", nullable = false, length = 9)
+	private DayOfWeek diaSemana;
+	@Column(nullable = false)
+	private LocalTime inicio;
+	@Column(nullable = false)
+	private LocalTime fim;
+	@Column(nullable = false)
+	private String sala;
+	@Column(nullable = false)
+	private String professor;
+
+}
@@ -0,0 +1,52 @@
+package br.com.senac.entity;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Representa a matrícula de um aluno em uma turma. A restrição única (aluno_id, turma_id) também serve de
+ * índice para as consultas por aluno; as consultas por turma usam o índice idx_matricula_turma.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_matricula_aluno_turma", columnNames = { "aluno_id", "turma_id" }),
+		indexes = @Index(name = "idx_matricula_turma", columnList = "turma_id"))
+//Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
+@Data
+public class Matricula {
+
+//  Indica que o campo id é a chave primária da entidade
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "matricula_seq")
+	@SequenceGenerator(name = "matricula_seq", sequenceName = "matricula_seq", allocationSize = 50)
+	private Integer id;
+//  Carregado somente quando acessado; a exclusão do aluno remove as matrículas no próprio banco (ON DELETE CASCADE)
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "aluno_id")
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private Aluno aluno;
+//  Carregada somente quando acessada; a exclusão da turma remove as matrículas no próprio banco (ON DELETE CASCADE)
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "turma_id")
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private Turma turma;
+
+}
@@ -0,0 +1,64 @@
+package br.com.senac.entity;
+
+import java.math.BigDecimal;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Representa a nota de um aluno em uma disciplina oferecida na turma. Cada aluno tem no máximo uma nota por
+ * turma e disciplina; a restrição única (turma_id, disciplina_id, aluno_id) também serve de índice para as
+ * consultas por turma.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_nota_turma_disciplina_aluno", columnNames = { "turma_id", "disciplina_id", "aluno_id" }))
+//Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
+@Data
+public class Nota {
+
+//  Indica que o campo id é a chave primária da entidade
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "nota_seq")
+	@SequenceGenerator(name = "nota_seq", sequenceName = "nota_seq", allocationSize = 50)
+	private Integer id;
+//  Carregada somente quando acessada; a exclusão da turma remove as notas no próprio banco (ON DELETE CASCADE)
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "turma_id")
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private Turma turma;
+//  Carregada somente quando acessada; a exclusão da disciplina remove as notas no próprio banco (ON DELETE CASCADE)
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "disciplina_id")
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private Disciplina disciplina;
+//  Carregado somente quando acessado; a exclusão do aluno remove as notas no próprio banco (ON DELETE CASCADE)
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "aluno_id")
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private Aluno aluno;
+//  Nota de 0 a 10, com duas casas decimais
+	@Column(nullable = false, precision = 4, scale = 2)
+	private BigDecimal valor;
+
+}
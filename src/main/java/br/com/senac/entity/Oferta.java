@@ -0,0 +1,52 @@
+package br.com.senac.entity;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Representa a oferta de uma disciplina em uma turma. A restrição única (disciplina_id, turma_id) também serve de
+ * índice para as consultas por disciplina; as consultas por turma usam o índice idx_oferta_turma.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_oferta_disciplina_turma", columnNames = { "disciplina_id", "turma_id" }),
+		indexes = @Index(name = "idx_oferta_turma", columnList = "turma_id"))
+//Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
+@Data
+public class Oferta {
+
+//  Indica que o campo id é a chave primária da entidade
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "oferta_seq")
+	@SequenceGenerator(name = "oferta_seq", sequenceName = "oferta_seq", allocationSize = 50)
+	private Integer id;
+//  Carregada somente quando acessada; a exclusão da disciplina remove as ofertas no próprio banco (ON DELETE CASCADE)
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "disciplina_id")
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private Disciplina disciplina;
+//  Carregada somente quando acessada; a exclusão da turma remove as ofertas no próprio banco (ON DELETE CASCADE)
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "turma_id")
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private Turma turma;
+
+}
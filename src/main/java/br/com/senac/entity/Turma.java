@@ -1,21 +1,55 @@
 package br.com.senac.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import br.com.senac.util.NormalizadorTexto;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
 
 @Entity
+//Índice sobre o nome normalizado, utilizado pelas buscas por nome
+@Table(indexes = @Index(name = "idx_turma_nome_normalizado", columnList = "nome_normalizado"))
+//Mantém as instâncias no cache de segundo nível do Hibernate (região "turma" configurada no ehcache.xml)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "turma")
 //Anotação do Lombok para gerar métodos getter, setter, toString, equals e hashCode
 @Data
 public class Turma {
 
 //  Indica que o campo id é a chave primária da entidade
 	@Id
-//	Define a estratégia de geração automática para a chave primária
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+//	Gera a chave primária por sequência, reservando blocos de 50 IDs por consulta; ao contrário de IDENTITY,
+//	permite que o Hibernate agrupe as inserções em lotes JDBC
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "turma_seq")
+	@SequenceGenerator(name = "turma_seq", sequenceName = "turma_seq", allocationSize = 50)
 	private Integer id;
 	private String nome;
+//  Nome sem acentos, em minúsculas, preenchido automaticamente a partir do nome
+	@Column(name = "nome_normalizado")
+	private String nomeNormalizado;
+//  Quantidade máxima de alunos matriculados (nula para turmas sem limite), controlada em memória pelo ControleVagas
+	private Integer capacidade;
+//  Versão da linha, incrementada a cada atualização (controle de concorrência otimista)
+	@Version
+	private Long versao;
+
+//  Recalcula o nome normalizado antes de cada inserção ou atualização da entidade
+	@PrePersist
+	@PreUpdate
+	void normalizarNome() {
+		nomeNormalizado = NormalizadorTexto.normalizar(nome);
+	}
 
 }
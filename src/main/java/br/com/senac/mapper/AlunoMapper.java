@@ -0,0 +1,50 @@
+package br.com.senac.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+import br.com.senac.dto.AlunoDTO;
+import br.com.senac.entity.Aluno;
+
+//  Mapeador gerado em tempo de compilação pelo MapStruct (sem reflexão em tempo de execução)
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface AlunoMapper {
+
+	/**
+	 * Converte a entidade Aluno em seu AlunoDTO correspondente.
+	 * 
+	 * @param aluno A entidade a ser convertida.
+	 * @return O AlunoDTO com os dados do aluno.
+	 */
+	AlunoDTO paraDTO(Aluno aluno);
+
+	/**
+	 * Converte uma lista de entidades Aluno em uma lista de AlunoDTOs.
+	 * 
+	 * @param alunos A lista de entidades a ser convertida.
+	 * @return A lista de AlunoDTOs.
+	 */
+	List<AlunoDTO> paraDTO(List<Aluno> alunos);
+
+	/**
+	 * Converte o AlunoDTO recebido na entidade Aluno.
+	 * 
+	 * @param alunoDTO O DTO a ser convertido.
+	 * @return A entidade Aluno com os dados do DTO.
+	 */
+	@Mapping(target = "nomeNormalizado", ignore = true)
+	@Mapping(target = "versao", ignore = true)
+	Aluno paraEntidade(AlunoDTO alunoDTO);
+
+	/**
+	 * Converte uma lista de AlunoDTOs em uma lista de entidades Aluno.
+	 * 
+	 * @param alunosDTO A lista de DTOs a ser convertida.
+	 * @return A lista de entidades Aluno.
+	 */
+	List<Aluno> paraEntidade(List<AlunoDTO> alunosDTO);
+
+}
@@ -0,0 +1,50 @@
+package br.com.senac.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+import br.com.senac.dto.DisciplinaDTO;
+import br.com.senac.entity.Disciplina;
+
+//  Mapeador gerado em tempo de compilação pelo MapStruct (sem reflexão em tempo de execução)
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface DisciplinaMapper {
+
+	/**
+	 * Converte a entidade Disciplina em seu DisciplinaDTO correspondente.
+	 * 
+	 * @param disciplina A entidade a ser convertida.
+	 * @return O DisciplinaDTO com os dados da disciplina.
+	 */
+	DisciplinaDTO paraDTO(Disciplina disciplina);
+
+	/**
+	 * Converte uma lista de entidades Disciplina em uma lista de DisciplinaDTOs.
+	 * 
+	 * @param disciplinas A lista de entidades a ser convertida.
+	 * @return A lista de DisciplinaDTOs.
+	 */
+	List<DisciplinaDTO> paraDTO(List<Disciplina> disciplinas);
+
+	/**
+	 * Converte o DisciplinaDTO recebido na entidade Disciplina.
+	 * 
+	 * @param disciplinaDTO O DTO a ser convertido.
+	 * @return A entidade Disciplina com os dados do DTO.
+	 */
+	@Mapping(target = "nomeNormalizado", ignore = true)
+	@Mapping(target = "versao", ignore = true)
+	Disciplina paraEntidade(DisciplinaDTO disciplinaDTO);
+
+	/**
+	 * Converte uma lista de DisciplinaDTOs em uma lista de entidades Disciplina.
+	 * 
+	 * @param disciplinasDTO A lista de DTOs a ser convertida.
+	 * @return A lista de entidades Disciplina.
+	 */
+	List<Disciplina> paraEntidade(List<DisciplinaDTO> disciplinasDTO);
+
+}
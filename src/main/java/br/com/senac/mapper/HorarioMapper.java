@@ -0,0 +1,52 @@
+package br.com.senac.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+import br.com.senac.dto.HorarioDTO;
+import br.com.senac.entity.Horario;
+
+//  Mapeador gerado em tempo de compilação pelo MapStruct (sem reflexão em tempo de execução)
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface HorarioMapper {
+
+	/**
+	 * Converte a entidade Horario em seu HorarioDTO correspondente. Somente o ID da turma é lido, o que não
+	 * exige carregar a turma.
+	 * 
+	 * @param horario A entidade a ser convertida.
+	 * @return O HorarioDTO com os dados do horário.
+	 */
+	@Mapping(source = "turma.id", target = "turmaId")
+	HorarioDTO paraDTO(Horario horario);
+
+	/**
+	 * Converte uma lista de entidades Horario em uma lista de HorarioDTOs.
+	 * 
+	 * @param horarios A lista de entidades a ser convertida.
+	 * @return A lista de HorarioDTOs.
+	 */
+	List<HorarioDTO> paraDTO(List<Horario> horarios);
+
+	/**
+	 * Converte o HorarioDTO na entidade Horario. A turma recebe apenas o ID informado em turmaId, usado na
+	 * validação da grade; ao adicionar um horário, o serviço a substitui pela turma informada no endereço.
+	 * 
+	 * @param horarioDTO O HorarioDTO a ser convertido.
+	 * @return A entidade Horario.
+	 */
+	@Mapping(source = "turmaId", target = "turma.id")
+	Horario paraEntidade(HorarioDTO horarioDTO);
+
+	/**
+	 * Converte uma lista de HorarioDTOs em uma lista de entidades Horario.
+	 * 
+	 * @param horariosDTO A lista de HorarioDTOs a ser convertida.
+	 * @return A lista de entidades Horario.
+	 */
+	List<Horario> paraEntidade(List<HorarioDTO> horariosDTO);
+
+}
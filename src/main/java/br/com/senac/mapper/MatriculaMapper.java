@@ -0,0 +1,35 @@
+package br.com.senac.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+import br.com.senac.dto.MatriculaDTO;
+import br.com.senac.entity.Matricula;
+
+//  Mapeador gerado em tempo de compilação pelo MapStruct (sem reflexão em tempo de execução)
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface MatriculaMapper {
+
+	/**
+	 * Converte a entidade Matricula em seu MatriculaDTO correspondente. Somente os IDs das associações são lidos,
+	 * o que não exige carregar o aluno e a turma.
+	 * 
+	 * @param matricula A entidade a ser convertida.
+	 * @return O MatriculaDTO com os dados da matrícula.
+	 */
+	@Mapping(source = "aluno.id", target = "alunoId")
+	@Mapping(source = "turma.id", target = "turmaId")
+	MatriculaDTO paraDTO(Matricula matricula);
+
+	/**
+	 * Converte uma lista de entidades Matricula em uma lista de MatriculaDTOs.
+	 * 
+	 * @param matriculas A lista de entidades a ser convertida.
+	 * @return A lista de MatriculaDTOs.
+	 */
+	List<MatriculaDTO> paraDTO(List<Matricula> matriculas);
+
+}
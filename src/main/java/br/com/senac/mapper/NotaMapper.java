@@ -0,0 +1,36 @@
+package br.com.senac.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+import br.com.senac.dto.NotaDTO;
+import br.com.senac.entity.Nota;
+
+//  Mapeador gerado em tempo de compilação pelo MapStruct (sem reflexão em tempo de execução)
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface NotaMapper {
+
+	/**
+	 * Converte a entidade Nota em seu NotaDTO correspondente. Somente os IDs das associações são lidos,
+	 * o que não exige carregar a turma, a disciplina e o aluno.
+	 * 
+	 * @param nota A entidade a ser convertida.
+	 * @return O NotaDTO com os dados da nota.
+	 */
+	@Mapping(source = "turma.id", target = "turmaId")
+	@Mapping(source = "disciplina.id", target = "disciplinaId")
+	@Mapping(source = "aluno.id", target = "alunoId")
+	NotaDTO paraDTO(Nota nota);
+
+	/**
+	 * Converte uma lista de entidades Nota em uma lista de NotaDTOs.
+	 * 
+	 * @param notas A lista de entidades a ser convertida.
+	 * @return A lista de NotaDTOs.
+	 */
+	List<NotaDTO> paraDTO(List<Nota> notas);
+
+}
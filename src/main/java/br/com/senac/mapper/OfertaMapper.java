@@ -0,0 +1,35 @@
+package br.com.senac.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+import br.com.senac.dto.OfertaDTO;
+import br.com.senac.entity.Oferta;
+
+//  Mapeador gerado em tempo de compilação pelo MapStruct (sem reflexão em tempo de execução)
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface OfertaMapper {
+
+	/**
+	 * Converte a entidade Oferta em seu OfertaDTO correspondente. Somente os IDs das associações são lidos,
+	 * o que não exige carregar a disciplina e a turma.
+	 * 
+	 * @param oferta A entidade a ser convertida.
+	 * @return O OfertaDTO com os dados da oferta.
+	 */
+	@Mapping(source = "disciplina.id", target = "disciplinaId")
+	@Mapping(source = "turma.id", target = "turmaId")
+	OfertaDTO paraDTO(Oferta oferta);
+
+	/**
+	 * Converte uma lista de entidades Oferta em uma lista de OfertaDTOs.
+	 * 
+	 * @param ofertas A lista de entidades a ser convertida.
+	 * @return A lista de OfertaDTOs.
+	 */
+	List<OfertaDTO> paraDTO(List<Oferta> ofertas);
+
+}
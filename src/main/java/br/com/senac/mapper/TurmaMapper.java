@@ -0,0 +1,51 @@
+package br.com.senac.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+import br.com.senac.dto.TurmaDTO;
+import br.com.senac.entity.Turma;
+
+//  Mapeador gerado em tempo de compilação pelo MapStruct (sem reflexão em tempo de execução)
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface TurmaMapper {
+
+	/**
+	 * Converte a entidade Turma em seu TurmaDTO correspondente.
+	 * 
+	 * @param turma A entidade a ser convertida.
+	 * @return O TurmaDTO com os dados da turma.
+	 */
+	TurmaDTO paraDTO(Turma turma);
+
+	/**
+	 * Converte uma lista de entidades Turma em uma lista de TurmaDTOs.
+	 * 
+	 * @param turmas A lista de entidades a ser convertida.
+	 * @return A lista de TurmaDTOs.
+	 */
+	List<TurmaDTO> paraDTO(List<Turma> turmas);
+
+	/**
+	 * Converte o TurmaDTO recebido na entidade Turma.
+	 * 
+	 * @param turmaDTO O DTO a ser convertido.
+	 * @return A entidade Turma com os dados do DTO.
+	 */
+	@Mapping(target = "nomeNormalizado", ignore = true)
+	@Mapping(target = "versao", ignore = true)
+	@Mapping(target = "capacidade", ignore = true)
+	Turma paraEntidade(TurmaDTO turmaDTO);
+
+	/**
+	 * Converte uma lista de TurmaDTOs em uma lista de entidades Turma.
+	 * 
+	 * @param turmasDTO A lista de DTOs a ser convertida.
+	 * @return A lista de entidades Turma.
+	 */
+	List<Turma> paraEntidade(List<TurmaDTO> turmasDTO);
+
+}
@@ -0,0 +1,231 @@
+package br.com.senac.replica;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Alimenta a réplica H2 usada no perfil "replica" com os dados do banco primário, em substituição à replicação
+ * de um banco real nos testes locais. A réplica tem o mesmo esquema do primário (criado pelas migrações do
+ * Flyway) e enxerga cada tabela do primário como uma LINKED TABLE do H2 no esquema PRIMARIO.
+ *
+ * A cada sincronização, as tabelas do primário são copiadas para tabelas temporárias da réplica e aplicadas em
+ * uma única transação: as linhas novas são inseridas, as alteradas são atualizadas e as que não existem mais no
+ * primário são excluídas. As leituras na réplica enxergam todas as tabelas trocarem de uma só vez, mas cada
+ * tabela é copiada de um instante próprio do primário; as restrições de integridade referencial da réplica
+ * ficam desativadas, pois a réplica só é alterada pelo alimentador. O custo de cada sincronização é
+ * proporcional ao tamanho do banco, o que é adequado a um substituto local, e não a uma réplica de produção.
+ *
+ * No início de cada sincronização, antes de qualquer cópia, os contadores de alterações (ContadorAlteracoes)
+ * são capturados: a réplica sincronizada contém pelo menos as alterações contadas, e as ETags das leituras
+ * atendidas por ela são geradas a partir desses contadores.
+ */
+public class AlimentadorReplica {
+
+	private static final Logger log = LoggerFactory.getLogger(AlimentadorReplica.class);
+
+//  Tabela de controle do Flyway, que não é copiada
+	private static final String HISTORICO_FLYWAY = "flyway_schema_history";
+
+	private final DataSource replica;
+	private final String urlPrimario;
+	private final String usuarioPrimario;
+	private final String senhaPrimario;
+	private final Supplier<Map<Class<?>, Long>> capturarContadores;
+
+	private List<Tabela> tabelas;
+
+//  Contadores de alterações capturados no início da última sincronização concluída, ou nulo antes da primeira
+	private volatile Map<Class<?>, Long> contadoresUltimaSincronizacao;
+
+//  Instante (System.nanoTime) do início da última sincronização concluída, ou nulo antes da primeira
+	private volatile Long inicioUltimaSincronizacao;
+
+	/**
+	 * @param replica O DataSource da réplica, com o esquema já criado.
+	 * @param urlPrimario A URL JDBC do banco primário.
+	 * @param usuarioPrimario O usuário do banco primário.
+	 * @param senhaPrimario A senha do banco primário.
+	 * @param capturarContadores Captura os contadores de alterações no início de cada sincronização.
+	 */
+	public AlimentadorReplica(DataSource replica, String urlPrimario, String usuarioPrimario, String senhaPrimario,
+			Supplier<Map<Class<?>, Long>> capturarContadores) {
+		this.replica = replica;
+		this.urlPrimario = urlPrimario;
+		this.usuarioPrimario = usuarioPrimario;
+		this.senhaPrimario = senhaPrimario == null ? "" : senhaPrimario;
+		this.capturarContadores = capturarContadores;
+	}
+
+	/**
+	 * Copia para a réplica as alterações feitas no primário desde a sincronização anterior. Na primeira
+	 * execução, cria as LINKED TABLEs das tabelas do esquema da réplica.
+	 *
+	 * @return A quantidade de linhas inseridas, atualizadas ou excluídas na réplica.
+	 * @throws SQLException Se a cópia falhar; a réplica permanece como estava.
+	 */
+	public synchronized int sincronizar() throws SQLException {
+		long inicio = System.nanoTime();
+		Map<Class<?>, Long> contadores = capturarContadores.get();
+		int alteradas = 0;
+		try (Connection conexao = replica.getConnection(); Statement comando = conexao.createStatement()) {
+			if (tabelas == null) {
+				tabelas = vincular(conexao, comando);
+			}
+			try {
+				for (Tabela tabela : tabelas) {
+					comando.execute("create local temporary table " + tabela.copia + " as select * from primario." + tabela.nome);
+					comando.execute("alter table " + tabela.copia + " alter column \"ID\" set not null");
+					comando.execute("alter table " + tabela.copia + " add primary key (\"ID\")");
+				}
+				conexao.setAutoCommit(false);
+				for (Tabela tabela : tabelas) {
+					alteradas += comando.executeUpdate(tabela.mesclar);
+					alteradas += comando.executeUpdate(tabela.excluir);
+				}
+				conexao.commit();
+			} catch (SQLException e) {
+				if (!conexao.getAutoCommit()) {
+					conexao.rollback();
+				}
+				throw e;
+			} finally {
+				conexao.setAutoCommit(true);
+				for (Tabela tabela : tabelas) {
+					comando.execute("drop table if exists " + tabela.copia);
+				}
+			}
+		}
+		contadoresUltimaSincronizacao = contadores;
+		inicioUltimaSincronizacao = inicio;
+		if (alteradas > 0) {
+			log.debug("Réplica sincronizada: {} linhas alteradas em {} ms", alteradas, (System.nanoTime() - inicio) / 1_000_000);
+		}
+		return alteradas;
+	}
+
+	/**
+	 * Sincroniza a réplica a cada academico.replica.intervalo-ms. Uma falha (ex.: tabelas do primário ainda não
+	 * criadas) só é registrada no log; a réplica continua como estava, e as leituras voltam ao primário quando
+	 * ela passa do atraso máximo.
+	 */
+	@Scheduled(fixedDelayString = "${academico.replica.intervalo-ms:1000}")
+	public void sincronizarPeriodicamente() {
+		try {
+			sincronizar();
+		} catch (SQLException e) {
+			log.warn("Falha ao sincronizar a réplica: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * @return O instante (System.nanoTime) do início da última sincronização concluída, ou nulo se a réplica
+	 * ainda não foi sincronizada. A réplica contém todas as alterações confirmadas no primário até esse instante.
+	 */
+	public Long getInicioUltimaSincronizacao() {
+		return inicioUltimaSincronizacao;
+	}
+
+	/**
+	 * @return Os contadores de alterações capturados no início da última sincronização concluída, ou nulo se a
+	 * réplica ainda não foi sincronizada.
+	 */
+	public Map<Class<?>, Long> getContadoresUltimaSincronizacao() {
+		return contadoresUltimaSincronizacao;
+	}
+
+	/**
+	 * @return O atraso da réplica em milissegundos (tempo desde o início da última sincronização concluída), ou
+	 * -1 se a réplica ainda não foi sincronizada.
+	 */
+	public long getAtrasoMillis() {
+		Long inicio = inicioUltimaSincronizacao;
+		return inicio == null ? -1 : (System.nanoTime() - inicio) / 1_000_000;
+	}
+
+//  Cria uma LINKED TABLE somente leitura para cada tabela do esquema da réplica e prepara os comandos de cópia;
+//  as restrições de integridade referencial são desativadas, pois as tabelas são aplicadas em qualquer ordem
+	private List<Tabela> vincular(Connection conexao, Statement comando) throws SQLException {
+		comando.execute("set referential_integrity false");
+		comando.execute("create schema if not exists primario");
+		List<String> nomes = new ArrayList<>();
+		try (ResultSet resultado = comando.executeQuery("select table_name from information_schema.tables "
+				+ "where table_schema = 'PUBLIC' and table_type = 'BASE TABLE' order by table_name")) {
+			while (resultado.next()) {
+				if (!HISTORICO_FLYWAY.equals(resultado.getString(1))) {
+					nomes.add(resultado.getString(1));
+				}
+			}
+		}
+		List<Tabela> vinculadas = new ArrayList<>();
+		for (String nome : nomes) {
+			comando.execute("create linked table if not exists primario.\"" + nome + "\"('org.h2.Driver', " + literal(urlPrimario)
+					+ ", " + literal(usuarioPrimario) + ", " + literal(senhaPrimario) + ", 'PUBLIC', " + literal(nome) + ") readonly fetch_size 1000");
+			vinculadas.add(new Tabela(nome, colunas(conexao, nome)));
+		}
+		log.info("Réplica vinculada ao primário {}: tabelas {}", urlPrimario, nomes);
+		return vinculadas;
+	}
+
+//  O H2 não aceita parâmetros no CREATE LINKED TABLE; os valores entram no comando como literais
+	private static String literal(String valor) {
+		return "'" + valor.replace("'", "''") + "'";
+	}
+
+	private static List<String> colunas(Connection conexao, String tabela) throws SQLException {
+		List<String> colunas = new ArrayList<>();
+		try (PreparedStatement consulta = conexao.prepareStatement("select column_name from information_schema.columns "
+				+ "where table_schema = 'PUBLIC' and table_name = ? order by ordinal_position")) {
+			consulta.setString(1, tabela);
+			try (ResultSet resultado = consulta.executeQuery()) {
+				while (resultado.next()) {
+					colunas.add(resultado.getString(1));
+				}
+			}
+		}
+		return colunas;
+	}
+
+//  Comandos de cópia de uma tabela: o MERGE só atualiza as linhas com alguma coluna diferente da cópia do primário
+	private static final class Tabela {
+
+		private final String nome;
+		private final String copia;
+		private final String mesclar;
+		private final String excluir;
+
+		Tabela(String nome, List<String> colunas) {
+			this.nome = "\"" + nome + "\"";
+			this.copia = "\"COPIA_" + nome + "\"";
+			List<String> dados = colunas.stream().filter(coluna -> !"ID".equals(coluna)).map(coluna -> "\"" + coluna + "\"").toList();
+			String lista = colunas.stream().map(coluna -> "\"" + coluna + "\"").collect(Collectors.joining(", "));
+			StringBuilder sql = new StringBuilder("merge into ").append(this.nome).append(" r using ").append(copia)
+					.append(" c on r.\"ID\" = c.\"ID\"");
+			if (!dados.isEmpty()) {
+				sql.append(" when matched and (")
+						.append(dados.stream().map(coluna -> "r." + coluna + " is distinct from c." + coluna).collect(Collectors.joining(" or ")))
+						.append(") then update set ")
+						.append(dados.stream().map(coluna -> coluna + " = c." + coluna).collect(Collectors.joining(", ")));
+			}
+			sql.append(" when not matched then insert (").append(lista).append(") values (")
+					.append(colunas.stream().map(coluna -> "c.\"" + coluna + "\"").collect(Collectors.joining(", "))).append(")");
+			this.mesclar = sql.toString();
+			this.excluir = "delete from " + this.nome + " r where not exists (select 1 from " + copia + " c where c.\"ID\" = r.\"ID\")";
+		}
+
+	}
+
+}
@@ -0,0 +1,153 @@
+package br.com.senac.replica;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.senac.service.Metricas;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Encaminha as transações somente leitura (@Transactional(readOnly = true)) para a réplica e as demais para o
+ * primário. Deve ser envolvido por um LazyConnectionDataSourceProxy, para que a conexão só seja obtida depois
+ * de a transação ter sido marcada como somente leitura.
+ *
+ * Uma leitura volta para o primário quando a réplica está atrasada demais (mais que o atraso máximo desde o
+ * início da última sincronização) ou quando a própria thread confirmou uma escrita que a réplica ainda não
+ * recebeu, de modo que uma requisição sempre lê o que acabou de gravar.
+ *
+ * O roteador também informa os contadores de alterações que as leituras enxergam ({@link #contadoresLeitura()}),
+ * usados nas ETags de tabela: com a réplica em dia, os capturados no início da última sincronização; caso
+ * contrário, a próxima leitura da thread é fixada no primário e os contadores atuais são usados.
+ */
+public class RoteadorDataSource extends AbstractRoutingDataSource implements MeterBinder {
+
+	/**
+	 * Destinos das conexões.
+	 */
+	public enum Destino {
+		PRIMARIO, REPLICA
+	}
+
+//  Instante (System.nanoTime) do último commit de escrita da thread, comparado com o início da última sincronização
+	private static final ThreadLocal<Long> ULTIMA_ESCRITA = new ThreadLocal<>();
+
+//  Indica que a próxima leitura da thread deve ir ao primário, pois a ETag foi gerada com os contadores atuais
+	private static final ThreadLocal<Boolean> LEITURA_NO_PRIMARIO = new ThreadLocal<>();
+
+	private final AlimentadorReplica alimentador;
+	private final long atrasoMaximoNanos;
+
+	private final LongAdder leiturasReplica = new LongAdder();
+	private final LongAdder leiturasPrimario = new LongAdder();
+	private final LongAdder escritas = new LongAdder();
+
+	/**
+	 * @param primario O DataSource do banco primário.
+	 * @param replica O DataSource da réplica.
+	 * @param alimentador O alimentador da réplica, que informa o instante da última sincronização.
+	 * @param atrasoMaximoMillis O atraso máximo aceito nas leituras da réplica, em milissegundos.
+	 */
+	public RoteadorDataSource(DataSource primario, DataSource replica, AlimentadorReplica alimentador, long atrasoMaximoMillis) {
+		this.alimentador = alimentador;
+		this.atrasoMaximoNanos = atrasoMaximoMillis * 1_000_000;
+		setTargetDataSources(Map.of(Destino.PRIMARIO, primario, Destino.REPLICA, replica));
+		setDefaultTargetDataSource(primario);
+		afterPropertiesSet();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return destino();
+	}
+
+	/**
+	 * Decide o destino da conexão da transação corrente.
+	 *
+	 * @return REPLICA para transações somente leitura com a réplica em dia; PRIMARIO nos demais casos.
+	 */
+	Destino destino() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if (TransactionSynchronizationManager.isSynchronizationActive()) {
+				TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						ULTIMA_ESCRITA.set(System.nanoTime());
+					}
+				});
+			}
+			escritas.increment();
+			return Destino.PRIMARIO;
+		}
+		boolean fixadaNoPrimario = LEITURA_NO_PRIMARIO.get() != null;
+		LEITURA_NO_PRIMARIO.remove();
+		Long sincronizacao = alimentador.getInicioUltimaSincronizacao();
+		Long ultimaEscrita = ULTIMA_ESCRITA.get();
+		if (fixadaNoPrimario || !replicaEmDia(sincronizacao)
+				|| (ultimaEscrita != null && ultimaEscrita - sincronizacao >= 0)) {
+			leiturasPrimario.increment();
+			return Destino.PRIMARIO;
+		}
+		leiturasReplica.increment();
+		return Destino.REPLICA;
+	}
+
+	/**
+	 * Informa os contadores de alterações que a próxima leitura da thread corrente enxerga, para a geração das
+	 * ETags de tabela (ContadorAlteracoes). Deve ser chamado antes da leitura. Com a réplica em dia, retorna os
+	 * contadores capturados no início da última sincronização: mesmo que a leitura vá ao primário, ela enxerga
+	 * pelo menos essas alterações. Caso contrário, fixa a próxima leitura da thread no primário, para que ela não
+	 * vá a uma réplica sincronizada depois desta chamada sem as alterações já contadas.
+	 *
+	 * @return Os contadores da réplica, ou nulo se os contadores atuais devem ser usados.
+	 */
+	public Map<Class<?>, Long> contadoresLeitura() {
+		Long sincronizacao = alimentador.getInicioUltimaSincronizacao();
+		Map<Class<?>, Long> contadores = alimentador.getContadoresUltimaSincronizacao();
+		if (contadores == null || !replicaEmDia(sincronizacao)) {
+			LEITURA_NO_PRIMARIO.set(Boolean.TRUE);
+			return null;
+		}
+		return contadores;
+	}
+
+	private boolean replicaEmDia(Long sincronizacao) {
+		return sincronizacao != null && System.nanoTime() - sincronizacao <= atrasoMaximoNanos;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		registrarContador(registry, leiturasReplica, "replica", "leitura");
+		registrarContador(registry, leiturasPrimario, "primario", "leitura");
+		registrarContador(registry, escritas, "primario", "escrita");
+		Gauge.builder(Metricas.ATRASO_REPLICA, alimentador, AlimentadorReplica::getAtrasoMillis)
+				.baseUnit("milliseconds")
+				.description("Tempo desde o início da última sincronização da réplica (-1 antes da primeira)")
+				.register(registry);
+	}
+
+	private static void registrarContador(MeterRegistry registry, LongAdder contador, String destino, String operacao) {
+		FunctionCounter.builder(Metricas.ROTEAMENTO_DATASOURCE, contador, LongAdder::sum)
+				.tag("destino", destino)
+				.tag("operacao", operacao)
+				.description("Conexões obtidas pelo roteador de DataSource")
+				.register(registry);
+	}
+
+	/**
+	 * Esquece a última escrita e a leitura fixada no primário da thread corrente (usado nos testes).
+	 */
+	static void limparUltimaEscrita() {
+		ULTIMA_ESCRITA.remove();
+		LEITURA_NO_PRIMARIO.remove();
+	}
+
+}
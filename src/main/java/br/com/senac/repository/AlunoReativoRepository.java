@@ -0,0 +1,19 @@
+package br.com.senac.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import br.com.senac.dto.AlunoDTO;
+
+/**
+ * Repositório R2DBC dos alunos, utilizado pelo perfil "reativo".
+ */
+@Repository
+@Profile("reativo")
+public class AlunoReativoRepository extends RepositorioReativo<AlunoDTO> {
+
+	public AlunoReativoRepository() {
+		super("aluno", AlunoDTO::new);
+	}
+
+}
@@ -1,12 +1,113 @@
 package br.com.senac.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import br.com.senac.dto.AlunoDTO;
 import br.com.senac.entity.Aluno;
+import jakarta.persistence.QueryHint;
 
 @Repository
 // Esta interface herda métodos prontos para operações CRUD do JpaRepository
 public interface AlunoRepository extends JpaRepository<Aluno, Integer> {
 
+	/**
+	 * Retorna todos os alunos, mantendo o resultado no cache de consultas do Hibernate. O cache é
+	 * invalidado automaticamente a cada escrita na tabela.
+	 * 
+	 * @return Lista contendo todos os alunos.
+	 */
+	@Override
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	List<Aluno> findAll();
+
+	/**
+	 * Busca os registros com ID maior que o cursor informado, ordenados pelo ID (paginação por keyset). Os
+	 * registros são projetados diretamente em AlunoDTO, sem criar entidades gerenciadas no contexto de persistência.
+	 * 
+	 * @param cursor O último ID já retornado ao cliente.
+	 * @param limite A quantidade máxima de registros a serem retornados.
+	 * @return Lista ordenada pelo ID com no máximo {@code limite} registros.
+	 */
+	@Query("select new br.com.senac.dto.AlunoDTO(a.id, a.nome) from Aluno a where a.id > :cursor order by a.id")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	List<AlunoDTO> buscarPagina(@Param("cursor") Integer cursor, Limit limite);
+
+	/**
+	 * Percorre todos os registros ordenados pelo ID por meio de um cursor JDBC, lendo-os em blocos
+	 * do tamanho do fetch size em vez de carregar a tabela inteira. Os registros lidos não são colocados
+	 * no cache de segundo nível, para que uma exportação não descarte as entradas mais acessadas. Deve ser
+	 * consumido dentro de uma transação e fechado ao final.
+	 * 
+	 * @return Stream com todos os registros.
+	 */
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE") })
+	Stream<Aluno> streamAllByOrderByIdAsc();
+
+	/**
+	 * Busca os alunos cujo nome normalizado começa com o termo informado, em ordem alfabética. A comparação
+	 * é resolvida por uma faixa do índice idx_aluno_nome_normalizado.
+	 * 
+	 * @param prefixo O termo já normalizado.
+	 * @param limite A quantidade máxima de registros a serem retornados.
+	 * @return Lista ordenada pelo nome normalizado com no máximo {@code limite} registros.
+	 */
+	List<Aluno> findByNomeNormalizadoStartingWithOrderByNomeNormalizadoAscIdAsc(String prefixo, Limit limite);
+
+	/**
+	 * Busca os alunos cujo nome normalizado contém o termo informado, em ordem alfabética. Como o termo pode
+	 * estar em qualquer posição, o índice idx_aluno_nome_normalizado não restringe a busca: o H2 percorre a
+	 * tabela inteira (tableScan) e ordena os registros encontrados.
+	 * 
+	 * @param trecho O termo já normalizado.
+	 * @param limite A quantidade máxima de registros a serem retornados.
+	 * @return Lista ordenada pelo nome normalizado com no máximo {@code limite} registros.
+	 */
+	List<Aluno> findByNomeNormalizadoContainingOrderByNomeNormalizadoAscIdAsc(String trecho, Limit limite);
+
+	/**
+	 * Atualiza o nome do aluno com o ID informado em um único comando UPDATE, sem carregar a entidade.
+	 * 
+	 * @param id O ID do aluno a ser atualizado.
+	 * @param nome O novo nome do aluno.
+	 * @param nomeNormalizado O novo nome normalizado, utilizado nas buscas por nome.
+	 * @return A quantidade de registros alterados (0 se o aluno não existir).
+	 */
+	@Modifying
+	@Query("update Aluno a set a.nome = :nome, a.nomeNormalizado = :nomeNormalizado, a.versao = a.versao + 1 where a.id = :id")
+	int atualizarNome(@Param("id") Integer id, @Param("nome") String nome,
+			@Param("nomeNormalizado") String nomeNormalizado);
+
+	/**
+	 * Exclui o aluno com o ID informado em um único comando DELETE, sem carregar a entidade.
+	 * 
+	 * @param id O ID do aluno a ser excluído.
+	 * @return A quantidade de registros excluídos (0 se o aluno não existir).
+	 */
+	@Modifying
+	@Query("delete from Aluno a where a.id = :id")
+	int excluirPorId(@Param("id") Integer id);
+
+	/**
+	 * Exclui os alunos com os IDs informados em um único comando DELETE, sem carregar as entidades.
+	 * 
+	 * @param ids Os IDs distintos dos alunos a serem excluídos.
+	 * @return A quantidade de registros excluídos.
+	 */
+	@Modifying
+	@Query("delete from Aluno a where a.id in :ids")
+	int excluirPorIds(@Param("ids") Collection<Integer> ids);
+
 }
@@ -0,0 +1,19 @@
+package br.com.senac.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import br.com.senac.dto.DisciplinaDTO;
+
+/**
+ * Repositório R2DBC das disciplinas, utilizado pelo perfil "reativo".
+ */
+@Repository
+@Profile("reativo")
+public class DisciplinaReativoRepository extends RepositorioReativo<DisciplinaDTO> {
+
+	public DisciplinaReativoRepository() {
+		super("disciplina", DisciplinaDTO::new);
+	}
+
+}
@@ -0,0 +1,85 @@
+package br.com.senac.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.senac.entity.Espera;
+
+@Repository
+// Esta interface herda métodos prontos para operações CRUD do JpaRepository
+public interface EsperaRepository extends JpaRepository<Espera, Integer> {
+
+	/**
+	 * Verifica se o aluno já está na lista de espera da turma.
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @param alunoId O ID do aluno.
+	 * @return Verdadeiro se o aluno já aguarda uma vaga na turma.
+	 */
+	boolean existsByTurmaIdAndAlunoId(Integer turmaId, Integer alunoId);
+
+	/**
+	 * Conta os alunos na lista de espera da turma.
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @return O tamanho da lista de espera.
+	 */
+	long countByTurmaId(Integer turmaId);
+
+	/**
+	 * Calcula a posição de uma entrada na lista de espera (1 para a primeira da fila).
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @param id O ID da entrada na lista de espera.
+	 * @return A quantidade de entradas da turma com ID menor ou igual ao informado.
+	 */
+	@Query("select count(e) from Espera e where e.turma.id = :turmaId and e.id <= :id")
+	long calcularPosicao(@Param("turmaId") Integer turmaId, @Param("id") Integer id);
+
+	/**
+	 * Busca as primeiras entradas da lista de espera da turma, em ordem de chegada, projetadas em pares
+	 * [ID da entrada, ID do aluno].
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @param limite A quantidade máxima de entradas.
+	 * @return Os pares [ID da entrada, ID do aluno], do mais antigo para o mais recente.
+	 */
+	@Query("select e.id, e.aluno.id from Espera e where e.turma.id = :turmaId order by e.id")
+	List<Object[]> buscarProximos(@Param("turmaId") Integer turmaId, Limit limite);
+
+	/**
+	 * Busca as turmas que têm alunos na lista de espera.
+	 * 
+	 * @return Os IDs das turmas com lista de espera.
+	 */
+	@Query("select distinct e.turma.id from Espera e")
+	List<Integer> buscarTurmasComEspera();
+
+	/**
+	 * Exclui a entrada da lista de espera com o ID informado em um único comando DELETE.
+	 * 
+	 * @param id O ID da entrada.
+	 * @return A quantidade de registros excluídos (0 se a entrada já tiver sido removida).
+	 */
+	@Modifying
+	@Query("delete from Espera e where e.id = :id")
+	int excluirPorId(@Param("id") Integer id);
+
+	/**
+	 * Remove o aluno da lista de espera da turma em um único comando DELETE.
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @param alunoId O ID do aluno.
+	 * @return A quantidade de registros excluídos (0 se o aluno não estiver na lista).
+	 */
+	@Modifying
+	@Query("delete from Espera e where e.turma.id = :turmaId and e.aluno.id = :alunoId")
+	int excluirPorTurmaEAluno(@Param("turmaId") Integer turmaId, @Param("alunoId") Integer alunoId);
+
+}
@@ -0,0 +1,47 @@
+package br.com.senac.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.senac.entity.Horario;
+
+@Repository
+// Esta interface herda métodos prontos para operações CRUD do JpaRepository
+public interface HorarioRepository extends JpaRepository<Horario, Integer> {
+
+	/**
+	 * Busca os horários da turma informada, sem ordem definida (o dia da semana é gravado pelo nome, cuja
+	 * ordem alfabética não é a da semana).
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @return Lista dos horários da turma.
+	 */
+	@Query("select h from Horario h where h.turma.id = :turmaId")
+	List<Horario> buscarHorariosDaTurma(@Param("turmaId") Integer turmaId);
+
+	/**
+	 * Busca todos os horários com o ID da turma já disponível, usado para montar a grade em memória na
+	 * inicialização.
+	 * 
+	 * @return Todos os horários cadastrados.
+	 */
+	@Query("select h from Horario h order by h.id")
+	List<Horario> buscarTodos();
+
+	/**
+	 * Exclui o horário com o ID informado, desde que pertença à turma, em um único comando DELETE.
+	 * 
+	 * @param id O ID do horário.
+	 * @param turmaId O ID da turma.
+	 * @return A quantidade de registros excluídos (0 se o horário não existir ou for de outra turma).
+	 */
+	@Modifying
+	@Query("delete from Horario h where h.id = :id and h.turma.id = :turmaId")
+	int excluirPorIdETurma(@Param("id") Integer id, @Param("turmaId") Integer turmaId);
+
+}
@@ -0,0 +1,116 @@
+package br.com.senac.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.senac.entity.Aluno;
+import br.com.senac.entity.Matricula;
+import br.com.senac.entity.Turma;
+
+@Repository
+// Esta interface herda métodos prontos para operações CRUD do JpaRepository
+public interface MatriculaRepository extends JpaRepository<Matricula, Integer> {
+
+	/**
+	 * Verifica se já existe uma matrícula do aluno na turma informada.
+	 * 
+	 * @param alunoId O ID do aluno.
+	 * @param turmaId O ID da turma.
+	 * @return true se a matrícula já existir.
+	 */
+	boolean existsByAlunoIdAndTurmaId(Integer alunoId, Integer turmaId);
+
+	/**
+	 * Busca os alunos vinculados à turma informada, em ordem alfabética. Os alunos são lidos na mesma
+	 * consulta, por junção, em vez de um SELECT por matrícula.
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @return Lista dos alunos da turma.
+	 */
+	@Query("select a from Matricula m join m.aluno a where m.turma.id = :turmaId order by a.nome, a.id")
+	List<Aluno> buscarAlunosDaTurma(@Param("turmaId") Integer turmaId);
+
+	/**
+	 * Busca as turmas às quais o aluno informado está vinculado, em ordem alfabética. As turmas são lidas na
+	 * mesma consulta, por junção, em vez de um SELECT por matrícula.
+	 * 
+	 * @param alunoId O ID do aluno.
+	 * @return Lista das turmas do aluno.
+	 */
+	@Query("select t from Matricula m join m.turma t where m.aluno.id = :alunoId order by t.nome, t.id")
+	List<Turma> buscarTurmasDoAluno(@Param("alunoId") Integer alunoId);
+
+	/**
+	 * Busca o ID da turma da matrícula informada, sem carregar a matrícula.
+	 * 
+	 * @param id O ID da matrícula.
+	 * @return O ID da turma, ou vazio se a matrícula não existir.
+	 */
+	@Query("select m.turma.id from Matricula m where m.id = :id")
+	Optional<Integer> buscarIdTurma(@Param("id") Integer id);
+
+	/**
+	 * Conta as matrículas da turma informada.
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @return A quantidade de alunos matriculados.
+	 */
+	long countByTurmaId(Integer turmaId);
+
+	/**
+	 * Conta as matrículas de cada turma com limite de vagas, em uma única consulta agrupada.
+	 * 
+	 * @return Os pares [ID da turma, quantidade de matrículas]; turmas sem matrículas não aparecem.
+	 */
+	@Query("select m.turma.id, count(m) from Matricula m where m.turma.capacidade is not null group by m.turma.id")
+	List<Object[]> contarMatriculasDasTurmasComCapacidade();
+
+	/**
+	 * Busca os IDs das turmas do aluno informado.
+	 * 
+	 * @param alunoId O ID do aluno.
+	 * @return Os IDs das turmas em que o aluno está matriculado.
+	 */
+	@Query("select m.turma.id from Matricula m where m.aluno.id = :alunoId")
+	List<Integer> buscarIdsTurmasDoAluno(@Param("alunoId") Integer alunoId);
+
+	/**
+	 * Busca as outras turmas que têm ao menos um aluno em comum com a turma informada, cujos horários não
+	 * podem se sobrepor aos dela.
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @return Os IDs das turmas com alunos em comum (sem a própria turma).
+	 */
+	@Query("select distinct m2.turma.id from Matricula m1 join Matricula m2 on m2.aluno = m1.aluno "
+			+ "where m1.turma.id = :turmaId and m2.turma.id <> :turmaId")
+	List<Integer> buscarTurmasComAlunosEmComum(@Param("turmaId") Integer turmaId);
+
+	/**
+	 * Busca, entre as turmas informadas, os pares de turmas que têm ao menos um aluno em comum, em uma única
+	 * consulta.
+	 * 
+	 * @param turmas Os IDs das turmas.
+	 * @return Os pares [menor ID, maior ID] de turmas com alunos em comum.
+	 */
+	@Query("select distinct m1.turma.id, m2.turma.id from Matricula m1 join Matricula m2 on m2.aluno = m1.aluno "
+			+ "where m1.turma.id in :turmas and m2.turma.id in :turmas and m1.turma.id < m2.turma.id")
+	List<Object[]> buscarParesDeTurmasComAlunosEmComum(@Param("turmas") Collection<Integer> turmas);
+
+	/**
+	 * Exclui a matrícula com o ID informado em um único comando DELETE, sem carregar a entidade.
+	 * 
+	 * @param id O ID da matrícula a ser excluída.
+	 * @return A quantidade de registros excluídos (0 se a matrícula não existir).
+	 */
+	@Modifying
+	@Query("delete from Matricula m where m.id = :id")
+	int excluirPorId(@Param("id") Integer id);
+
+}
@@ -0,0 +1,66 @@
+package br.com.senac.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.senac.entity.Nota;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+// Esta interface herda métodos prontos para operações CRUD do JpaRepository
+public interface NotaRepository extends JpaRepository<Nota, Integer> {
+
+	/**
+	 * Busca a nota do aluno na disciplina da turma, travando a linha (SELECT ... FOR UPDATE) até o fim da
+	 * transação, para que duas alterações simultâneas da mesma nota não partam do mesmo valor anterior.
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @param disciplinaId O ID da disciplina.
+	 * @param alunoId O ID do aluno.
+	 * @return A nota, ou vazio se o aluno ainda não tiver nota na disciplina da turma.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<Nota> findByTurmaIdAndDisciplinaIdAndAlunoId(Integer turmaId, Integer disciplinaId, Integer alunoId);
+
+	/**
+	 * Busca a nota com o ID informado, travando a linha (SELECT ... FOR UPDATE) até o fim da transação.
+	 * 
+	 * @param id O ID da nota.
+	 * @return A nota, ou vazio se não existir.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select n from Nota n where n.id = :id")
+	Optional<Nota> buscarParaAlterar(@Param("id") Integer id);
+
+	/**
+	 * Busca as notas da disciplina na turma, em ordem de ID do aluno.
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @param disciplinaId O ID da disciplina.
+	 * @return Lista das notas da disciplina na turma.
+	 */
+	@Query("select n from Nota n where n.turma.id = :turmaId and n.disciplina.id = :disciplinaId order by n.aluno.id")
+	List<Nota> buscarNotasDaTurma(@Param("turmaId") Integer turmaId, @Param("disciplinaId") Integer disciplinaId);
+
+	/**
+	 * Percorre todas as notas, projetadas em [ID da turma, ID da disciplina, valor], por meio de um cursor JDBC
+	 * lido em blocos do tamanho do fetch size. Deve ser consumido dentro de uma transação e fechado ao final.
+	 * 
+	 * @return Stream com as notas projetadas.
+	 */
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+	@Query("select n.turma.id, n.disciplina.id, n.valor from Nota n")
+	Stream<Object[]> streamValores();
+
+}
@@ -0,0 +1,58 @@
+package br.com.senac.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.senac.entity.Disciplina;
+import br.com.senac.entity.Oferta;
+import br.com.senac.entity.Turma;
+
+@Repository
+// Esta interface herda métodos prontos para operações CRUD do JpaRepository
+public interface OfertaRepository extends JpaRepository<Oferta, Integer> {
+
+	/**
+	 * Verifica se já existe uma oferta da disciplina na turma informada.
+	 * 
+	 * @param disciplinaId O ID da disciplina.
+	 * @param turmaId O ID da turma.
+	 * @return true se a oferta já existir.
+	 */
+	boolean existsByDisciplinaIdAndTurmaId(Integer disciplinaId, Integer turmaId);
+
+	/**
+	 * Busca as disciplinas vinculadas à turma informada, em ordem alfabética. As disciplinas são lidas na mesma
+	 * consulta, por junção, em vez de um SELECT por oferta.
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @return Lista das disciplinas da turma.
+	 */
+	@Query("select d from Oferta o join o.disciplina d where o.turma.id = :turmaId order by d.nome, d.id")
+	List<Disciplina> buscarDisciplinasDaTurma(@Param("turmaId") Integer turmaId);
+
+	/**
+	 * Busca as turmas às quais a disciplina informada está vinculada, em ordem alfabética. As turmas são lidas na
+	 * mesma consulta, por junção, em vez de um SELECT por oferta.
+	 * 
+	 * @param disciplinaId O ID da disciplina.
+	 * @return Lista das turmas da disciplina.
+	 */
+	@Query("select t from Oferta o join o.turma t where o.disciplina.id = :disciplinaId order by t.nome, t.id")
+	List<Turma> buscarTurmasDaDisciplina(@Param("disciplinaId") Integer disciplinaId);
+
+	/**
+	 * Exclui a oferta com o ID informado em um único comando DELETE, sem carregar a entidade.
+	 * 
+	 * @param id O ID da oferta a ser excluída.
+	 * @return A quantidade de registros excluídos (0 se a oferta não existir).
+	 */
+	@Modifying
+	@Query("delete from Oferta o where o.id = :id")
+	int excluirPorId(@Param("id") Integer id);
+
+}
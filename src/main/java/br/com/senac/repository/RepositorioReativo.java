@@ -0,0 +1,187 @@
+package br.com.senac.repository;
+
+import java.util.function.BiFunction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Base dos repositórios R2DBC do perfil "reativo" para as tabelas com id e nome (aluno, turma e disciplina).
+ * As consultas são escritas em SQL e projetadas diretamente nos DTOs, como nas projeções JPQL dos repositórios
+ * JPA, e os resultados são entregues em Flux conforme a demanda do assinante (backpressure).
+ *
+ * Os IDs seguem a mesma sequência e o mesmo esquema de blocos do Hibernate (otimizador "pooled"), de modo que
+ * os dois perfis podem gravar no mesmo banco sem colisões: cada valor v da sequência reserva os IDs de
+ * v - 49 até v.
+ *
+ * @param <T> O DTO retornado pelas consultas.
+ */
+public abstract class RepositorioReativo<T> {
+
+//  Incremento da sequência (deve acompanhar o allocationSize do @SequenceGenerator das entidades)
+	public static final int INCREMENTO_SEQUENCIA = 50;
+
+//  Realiza a injeção automática de dependência do DatabaseClient (R2DBC) pelo Spring
+	@Autowired
+	protected DatabaseClient databaseClient;
+
+	private final String tabela;
+	private final BiFunction<Integer, String, T> construtor;
+
+//  Bloco de IDs reservado na sequência e ainda não utilizado (proximoId > ultimoId quando esgotado)
+	private long proximoId = 1;
+	private long ultimoId = 0;
+
+	/**
+	 * @param tabela O nome da tabela, também usado como prefixo da sequência (ex.: "aluno" e "aluno_seq").
+	 * @param construtor O construtor do DTO a partir do id e do nome.
+	 */
+	protected RepositorioReativo(String tabela, BiFunction<Integer, String, T> construtor) {
+		this.tabela = tabela;
+		this.construtor = construtor;
+	}
+
+	/**
+	 * Retorna uma página de registros ordenados pelo ID, a partir do cursor informado (paginação por keyset).
+	 *
+	 * @param cursor O último ID retornado na página anterior (0 para a primeira página).
+	 * @param limite A quantidade máxima de registros.
+	 * @return Os registros da página, em ordem de ID.
+	 */
+	public Flux<T> buscarPagina(int cursor, int limite) {
+		return databaseClient.sql("select id, nome from " + tabela + " where id > :cursor order by id limit :limite")
+				.bind("cursor", cursor)
+				.bind("limite", limite)
+				.map(this::paraDTO)
+				.all();
+	}
+
+	/**
+	 * Retorna todos os registros em ordem de ID, lidos à medida que são consumidos.
+	 *
+	 * @return Todos os registros da tabela.
+	 */
+	public Flux<T> buscarTodos() {
+		return databaseClient.sql("select id, nome from " + tabela + " order by id")
+				.map(this::paraDTO)
+				.all();
+	}
+
+	/**
+	 * @param id O ID do registro.
+	 * @return O registro com o ID informado, ou vazio se não existir.
+	 */
+	public Mono<T> buscarPorId(Integer id) {
+		return databaseClient.sql("select id, nome from " + tabela + " where id = :id")
+				.bind("id", id)
+				.map(this::paraDTO)
+				.one();
+	}
+
+	/**
+	 * Busca os registros cujo nome normalizado começa com o termo (ou o contém), em ordem alfabética.
+	 *
+	 * @param termo O termo já normalizado.
+	 * @param contem Se o termo pode aparecer em qualquer posição do nome, e não apenas no início.
+	 * @param limite A quantidade máxima de registros.
+	 * @return Os registros encontrados.
+	 */
+	public Flux<T> buscarPorNomeNormalizado(String termo, boolean contem, int limite) {
+		String padrao = (contem ? "%" : "") + escaparLike(termo) + "%";
+		return databaseClient.sql("select id, nome from " + tabela
+				+ " where nome_normalizado like :padrao escape '\\' order by nome_normalizado, id limit :limite")
+				.bind("padrao", padrao)
+				.bind("limite", limite)
+				.map(this::paraDTO)
+				.all();
+	}
+
+	/**
+	 * Insere um novo registro com o próximo ID do bloco reservado na sequência.
+	 *
+	 * @param nome O nome do registro.
+	 * @param nomeNormalizado O nome normalizado (NormalizadorTexto).
+	 * @return O DTO do registro inserido.
+	 */
+	public Mono<T> inserir(String nome, String nomeNormalizado) {
+		return gerarId().flatMap(id -> databaseClient
+				.sql("insert into " + tabela + " (id, nome, nome_normalizado, versao) values (:id, :nome, :nomeNormalizado, 0)")
+				.bind("id", id)
+				.bind("nome", nome)
+				.bind("nomeNormalizado", nomeNormalizado)
+				.fetch()
+				.rowsUpdated()
+				.thenReturn(construtor.apply(id, nome)));
+	}
+
+	/**
+	 * Atualiza o nome do registro com um único comando UPDATE, incrementando a versão da linha.
+	 *
+	 * @param id O ID do registro.
+	 * @param nome O novo nome.
+	 * @param nomeNormalizado O novo nome normalizado.
+	 * @return A quantidade de registros alterados (0 se o ID não existir).
+	 */
+	public Mono<Long> atualizarNome(Integer id, String nome, String nomeNormalizado) {
+		return databaseClient.sql("update " + tabela + " set nome = :nome, nome_normalizado = :nomeNormalizado, versao = versao + 1 where id = :id")
+				.bind("id", id)
+				.bind("nome", nome)
+				.bind("nomeNormalizado", nomeNormalizado)
+				.fetch()
+				.rowsUpdated();
+	}
+
+	/**
+	 * Exclui o registro com um único comando DELETE.
+	 *
+	 * @param id O ID do registro.
+	 * @return A quantidade de registros excluídos (0 se o ID não existir).
+	 */
+	public Mono<Long> excluirPorId(Integer id) {
+		return databaseClient.sql("delete from " + tabela + " where id = :id")
+				.bind("id", id)
+				.fetch()
+				.rowsUpdated();
+	}
+
+	private T paraDTO(Readable linha) {
+		return construtor.apply(linha.get("id", Integer.class), linha.get("nome", String.class));
+	}
+
+	private Mono<Integer> gerarId() {
+		return Mono.defer(() -> {
+			Integer id = reservarId();
+			if (id != null) {
+				return Mono.just(id);
+			}
+			return databaseClient.sql("select next value for " + tabela + "_seq")
+					.map(linha -> linha.get(0, Long.class))
+					.one()
+					.map(this::iniciarBloco);
+		});
+	}
+
+	private synchronized Integer reservarId() {
+		return proximoId <= ultimoId ? (int) proximoId++ : null;
+	}
+
+//  Utiliza o bloco recém-reservado; se outro assinante já iniciou um bloco novo nesse meio tempo, usa apenas
+//  o primeiro ID do próprio bloco e descarta o restante (apenas uma lacuna, como ao reiniciar a aplicação)
+	private synchronized int iniciarBloco(long valorSequencia) {
+		long inicio = Math.max(valorSequencia - INCREMENTO_SEQUENCIA + 1, 1);
+		if (proximoId > ultimoId) {
+			proximoId = inicio + 1;
+			ultimoId = valorSequencia;
+		}
+		return (int) inicio;
+	}
+
+	private static String escaparLike(String termo) {
+		return termo.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+
+}
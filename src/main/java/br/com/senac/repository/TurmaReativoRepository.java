@@ -0,0 +1,19 @@
+package br.com.senac.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import br.com.senac.dto.TurmaDTO;
+
+/**
+ * Repositório R2DBC das turmas, utilizado pelo perfil "reativo".
+ */
+@Repository
+@Profile("reativo")
+public class TurmaReativoRepository extends RepositorioReativo<TurmaDTO> {
+
+	public TurmaReativoRepository() {
+		super("turma", TurmaDTO::new);
+	}
+
+}
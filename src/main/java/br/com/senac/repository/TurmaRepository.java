@@ -1,12 +1,132 @@
 package br.com.senac.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import br.com.senac.dto.TurmaDTO;
 import br.com.senac.entity.Turma;
+import jakarta.persistence.QueryHint;
 
 @Repository
 //Esta interface herda métodos prontos para operações CRUD do JpaRepository
 public interface TurmaRepository extends JpaRepository<Turma, Integer> {
 
+	/**
+	 * Retorna todas as turmas, mantendo o resultado no cache de consultas do Hibernate. O cache é
+	 * invalidado automaticamente a cada escrita na tabela.
+	 * 
+	 * @return Lista contendo todas as turmas.
+	 */
+	@Override
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	List<Turma> findAll();
+
+	/**
+	 * Busca os registros com ID maior que o cursor informado, ordenados pelo ID (paginação por keyset). Os
+	 * registros são projetados diretamente em TurmaDTO, sem criar entidades gerenciadas no contexto de persistência.
+	 * 
+	 * @param cursor O último ID já retornado ao cliente.
+	 * @param limite A quantidade máxima de registros a serem retornados.
+	 * @return Lista ordenada pelo ID com no máximo {@code limite} registros.
+	 */
+	@Query("select new br.com.senac.dto.TurmaDTO(t.id, t.nome) from Turma t where t.id > :cursor order by t.id")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	List<TurmaDTO> buscarPagina(@Param("cursor") Integer cursor, Limit limite);
+
+	/**
+	 * Percorre todos os registros ordenados pelo ID por meio de um cursor JDBC, lendo-os em blocos
+	 * do tamanho do fetch size em vez de carregar a tabela inteira. Os registros lidos não são colocados
+	 * no cache de segundo nível, para que uma exportação não descarte as entradas mais acessadas. Deve ser
+	 * consumido dentro de uma transação e fechado ao final.
+	 * 
+	 * @return Stream com todos os registros.
+	 */
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE") })
+	Stream<Turma> streamAllByOrderByIdAsc();
+
+	/**
+	 * Busca as turmas cujo nome normalizado começa com o termo informado, em ordem alfabética. A comparação
+	 * é resolvida por uma faixa do índice idx_turma_nome_normalizado.
+	 * 
+	 * @param prefixo O termo já normalizado.
+	 * @param limite A quantidade máxima de registros a serem retornados.
+	 * @return Lista ordenada pelo nome normalizado com no máximo {@code limite} registros.
+	 */
+	List<Turma> findByNomeNormalizadoStartingWithOrderByNomeNormalizadoAscIdAsc(String prefixo, Limit limite);
+
+	/**
+	 * Busca as turmas cujo nome normalizado contém o termo informado, em ordem alfabética. Como o termo pode
+	 * estar em qualquer posição, o índice idx_turma_nome_normalizado não restringe a busca: o H2 percorre a
+	 * tabela inteira (tableScan) e ordena os registros encontrados.
+	 * 
+	 * @param trecho O termo já normalizado.
+	 * @param limite A quantidade máxima de registros a serem retornados.
+	 * @return Lista ordenada pelo nome normalizado com no máximo {@code limite} registros.
+	 */
+	List<Turma> findByNomeNormalizadoContainingOrderByNomeNormalizadoAscIdAsc(String trecho, Limit limite);
+
+	/**
+	 * Atualiza o nome da turma com o ID informado em um único comando UPDATE, sem carregar a entidade.
+	 * 
+	 * @param id O ID da turma a ser atualizada.
+	 * @param nome O novo nome da turma.
+	 * @param nomeNormalizado O novo nome normalizado, utilizado nas buscas por nome.
+	 * @return A quantidade de registros alterados (0 se a turma não existir).
+	 */
+	@Modifying
+	@Query("update Turma t set t.nome = :nome, t.nomeNormalizado = :nomeNormalizado, t.versao = t.versao + 1 where t.id = :id")
+	int atualizarNome(@Param("id") Integer id, @Param("nome") String nome,
+			@Param("nomeNormalizado") String nomeNormalizado);
+
+	/**
+	 * Atualiza a capacidade da turma com o ID informado em um único comando UPDATE, sem carregar a entidade.
+	 * 
+	 * @param id O ID da turma a ser atualizada.
+	 * @param capacidade A nova capacidade (nula para uma turma sem limite).
+	 * @return A quantidade de registros alterados (0 se a turma não existir).
+	 */
+	@Modifying
+	@Query("update Turma t set t.capacidade = :capacidade, t.versao = t.versao + 1 where t.id = :id")
+	int atualizarCapacidade(@Param("id") Integer id, @Param("capacidade") Integer capacidade);
+
+	/**
+	 * Busca o ID e a capacidade das turmas com limite de vagas.
+	 * 
+	 * @return Os pares [ID da turma, capacidade].
+	 */
+	@Query("select t.id, t.capacidade from Turma t where t.capacidade is not null")
+	List<Object[]> buscarCapacidades();
+
+	/**
+	 * Exclui a turma com o ID informado em um único comando DELETE, sem carregar a entidade.
+	 * 
+	 * @param id O ID da turma a ser excluída.
+	 * @return A quantidade de registros excluídos (0 se a turma não existir).
+	 */
+	@Modifying
+	@Query("delete from Turma t where t.id = :id")
+	int excluirPorId(@Param("id") Integer id);
+
+	/**
+	 * Exclui as turmas com os IDs informados em um único comando DELETE, sem carregar as entidades.
+	 * 
+	 * @param ids Os IDs distintos das turmas a serem excluídas.
+	 * @return A quantidade de registros excluídos.
+	 */
+	@Modifying
+	@Query("delete from Turma t where t.id in :ids")
+	int excluirPorIds(@Param("ids") Collection<Integer> ids);
+
 }
@@ -0,0 +1,176 @@
+package br.com.senac.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import br.com.senac.auditoria.EntidadeAuditada;
+import br.com.senac.auditoria.OperacaoAuditada;
+import br.com.senac.dto.AlunoDTO;
+import br.com.senac.entity.Aluno;
+import br.com.senac.repository.AlunoReativoRepository;
+import br.com.senac.util.NormalizadorTexto;
+import jakarta.persistence.EntityNotFoundException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Versão não bloqueante do AlunoService, utilizada pelo perfil "reativo". Aplica os mesmos limites de
+ * paginação e de busca e registra as alterações no mesmo ContadorAlteracoes (ETags) e na mesma trilha de
+ * auditoria (AuditoriaService).
+ */
+@Service
+@Profile("reativo")
+public class AlunoReativoService {
+
+//  Realiza a injeção automática de dependência do AlunoReativoRepository pelo Spring
+	@Autowired
+	AlunoReativoRepository alunoReativoRepository;
+
+//  Realiza a injeção automática de dependência do ContadorAlteracoes pelo Spring
+	@Autowired
+	ContadorAlteracoes contadorAlteracoes;
+
+//  Realiza a injeção automática de dependência do AuditoriaService pelo Spring
+	@Autowired
+	AuditoriaService auditoriaService;
+
+//  Realiza a injeção do operador de transações R2DBC (definido em ReativoConfig) pelo Spring
+	@Autowired
+	TransactionalOperator transacaoReativa;
+
+	/**
+	 * Salva um novo aluno no banco.
+	 * 
+	 * @param alunoDTO Os dados do aluno.
+	 * @return O AlunoDTO do aluno salvo, com o ID gerado.
+	 */
+	public Mono<AlunoDTO> salvarAluno(AlunoDTO alunoDTO) {
+		String nome = alunoDTO.getNome();
+		return alunoReativoRepository.inserir(nome, NormalizadorTexto.normalizar(nome))
+				.doOnSuccess(salvo -> {
+					contadorAlteracoes.registrarAlteracao(Aluno.class);
+					auditoriaService.registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, salvo.getId(), salvo.getNome());
+				});
+	}
+
+	/**
+	 * Salva os alunos informados em uma única transação R2DBC: se alguma inserção falhar, nenhum é gravado.
+	 * 
+	 * @param alunosDTO Os dados dos alunos.
+	 * @return Os AlunoDTOs dos alunos salvos, na ordem recebida.
+	 */
+	public Flux<AlunoDTO> salvarAlunos(List<AlunoDTO> alunosDTO) {
+//		A lista só é emitida quando o Mono transacional termina, ou seja, após o commit: nenhum ID é entregue ao
+//		cliente (nem auditado) se a transação for desfeita
+		return Flux.fromIterable(alunosDTO)
+				.concatMap(this::inserir)
+				.collectList()
+				.as(transacaoReativa::transactional)
+				.doOnNext(salvos -> {
+					contadorAlteracoes.registrarAlteracao(Aluno.class);
+					salvos.forEach(salvo -> auditoriaService.registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, salvo.getId(), salvo.getNome()));
+				})
+				.flatMapMany(Flux::fromIterable);
+	}
+
+	/**
+	 * Retorna uma página de alunos ordenados pelo ID, a partir do cursor informado (paginação por keyset). Os
+	 * registros são lidos conforme a demanda do assinante; o cursor da próxima página é o ID do último registro.
+	 * 
+	 * @param cursor O último ID retornado na página anterior, ou nulo para a primeira página.
+	 * @param tamanho A quantidade de registros desejada (limitada a AlunoService.TAMANHO_MAXIMO_PAGINA).
+	 * @return Os alunos da página.
+	 */
+	public Flux<AlunoDTO> buscarAlunosPaginados(Integer cursor, int tamanho) {
+		int limite = Math.min(Math.max(tamanho, 1), AlunoService.TAMANHO_MAXIMO_PAGINA);
+		return alunoReativoRepository.buscarPagina(cursor == null ? 0 : cursor, limite);
+	}
+
+	/**
+	 * Busca os alunos pelo nome, sem diferenciar maiúsculas, minúsculas e acentos.
+	 * 
+	 * @param nome O termo a ser buscado.
+	 * @param modo Se o nome deve começar com o termo ou apenas contê-lo.
+	 * @param limite A quantidade máxima de registros (limitada a AlunoService.TAMANHO_MAXIMO_BUSCA).
+	 * @return Os alunos encontrados, em ordem alfabética; vazio se o termo estiver em branco.
+	 */
+	public Flux<AlunoDTO> buscarAlunosPorNome(String nome, ModoBusca modo, int limite) {
+		String termo = NormalizadorTexto.normalizar(nome);
+		if (termo == null || termo.isEmpty()) {
+			return Flux.empty();
+		}
+		int maximo = Math.min(Math.max(limite, 1), AlunoService.TAMANHO_MAXIMO_BUSCA);
+		return alunoReativoRepository.buscarPorNomeNormalizado(termo, modo == ModoBusca.CONTEM, maximo);
+	}
+
+	/**
+	 * Percorre todos os alunos em ordem de ID, entregando cada registro conforme a demanda do assinante.
+	 * 
+	 * @return Todos os alunos.
+	 */
+	public Flux<AlunoDTO> exportarAlunos() {
+		return alunoReativoRepository.buscarTodos();
+	}
+
+	/**
+	 * Busca um aluno pelo ID fornecido.
+	 * 
+	 * @param id O ID do aluno.
+	 * @return O AlunoDTO do aluno, ou um erro RecursoNaoEncontradoException se o ID não existir.
+	 */
+	public Mono<AlunoDTO> buscarAlunoPorId(Integer id) {
+		return alunoReativoRepository.buscarPorId(id)
+				.switchIfEmpty(Mono.error(() -> naoEncontrado(id)));
+	}
+
+	/**
+	 * Atualiza o nome do aluno com um único comando UPDATE.
+	 * 
+	 * @param id O ID do aluno.
+	 * @param alunoAlteracao Os novos dados do aluno.
+	 * @return O AlunoDTO do aluno atualizado, ou um erro RecursoNaoEncontradoException se o ID não existir.
+	 */
+	public Mono<AlunoDTO> atualizarAluno(Integer id, AlunoDTO alunoAlteracao) {
+		String nome = alunoAlteracao.getNome();
+		return alunoReativoRepository.atualizarNome(id, nome, NormalizadorTexto.normalizar(nome))
+				.flatMap(alterados -> {
+					if (alterados == 0) {
+						return Mono.error(naoEncontrado(id));
+					}
+					contadorAlteracoes.registrarAlteracao(Aluno.class);
+					auditoriaService.registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.ALTERACAO, id, nome);
+					return Mono.just(new AlunoDTO(id, nome));
+				});
+	}
+
+	/**
+	 * Exclui o aluno com um único comando DELETE.
+	 * 
+	 * @param id O ID do aluno.
+	 * @return Um Mono vazio, ou um erro RecursoNaoEncontradoException se o ID não existir.
+	 */
+	public Mono<Void> excluirAluno(Integer id) {
+		return alunoReativoRepository.excluirPorId(id)
+				.flatMap(excluidos -> {
+					if (excluidos == 0) {
+						return Mono.error(naoEncontrado(id));
+					}
+					contadorAlteracoes.registrarAlteracao(Aluno.class);
+					auditoriaService.registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.EXCLUSAO, id, null);
+					return Mono.empty();
+				});
+	}
+
+	private Mono<AlunoDTO> inserir(AlunoDTO alunoDTO) {
+		return alunoReativoRepository.inserir(alunoDTO.getNome(), NormalizadorTexto.normalizar(alunoDTO.getNome()));
+	}
+
+	private static EntityNotFoundException naoEncontrado(Integer id) {
+		return RecursoNaoEncontradoException.masculino("Aluno", id);
+	}
+
+}
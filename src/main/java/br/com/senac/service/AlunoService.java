@@ -1,29 +1,76 @@
 package br.com.senac.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.senac.auditoria.EntidadeAuditada;
+import br.com.senac.auditoria.OperacaoAuditada;
+import br.com.senac.dto.AlunoDTO;
+import br.com.senac.dto.PaginaDTO;
 import br.com.senac.entity.Aluno;
 import br.com.senac.repository.AlunoRepository;
+import br.com.senac.util.NormalizadorTexto;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 
 @Service
+//Registra o tempo de execução de cada método público do serviço (Metricas.TEMPO_SERVICO)
+@Timed(value = Metricas.TEMPO_SERVICO, histogram = true)
 public class AlunoService {
 
+//  Tamanho máximo de página aceito na listagem paginada
+	public static final int TAMANHO_MAXIMO_PAGINA = 500;
+
+//  Quantidade de registros enviados ao banco por lote JDBC (deve acompanhar hibernate.jdbc.batch_size)
+	public static final int TAMANHO_LOTE = 50;
+
+//  Quantidade máxima de resultados retornados pela busca por nome
+	public static final int TAMANHO_MAXIMO_BUSCA = 50;
+
 //  Realiza a injeção automática de dependência do AlunoRepository pelo Spring
 	@Autowired
 	AlunoRepository alunoRepository;
 
+//  Realiza a injeção do EntityManager da transação corrente pelo Spring
+	@PersistenceContext
+	EntityManager entityManager;
+
+//  Realiza a injeção automática de dependência do ContadorAlteracoes pelo Spring
+	@Autowired
+	ContadorAlteracoes contadorAlteracoes;
+
+//  Realiza a injeção automática de dependência do AuditoriaService pelo Spring
+	@Autowired
+	AuditoriaService auditoriaService;
+
 	/**
-	 * Salva um novo aluno no repositório.
+	 * Salva um novo aluno no repositório. O ID recebido é descartado e gerado pela sequência.
 	 * 
 	 * @param aluno O aluno a ser salvo.
 	 * @return O aluno salvo no repositório.
 	 */
 	public Aluno salvarAluno(Aluno aluno) {
-		return alunoRepository.save(aluno);
+//		Um ID enviado pelo cliente faria o save() tratar a nova entidade, sem versão, como destacada
+		aluno.setId(null);
+		Aluno salvo = alunoRepository.save(aluno);
+		contadorAlteracoes.registrarAlteracao(Aluno.class);
+		auditoriaService.registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, salvo.getId(), salvo.getNome());
+		return salvo;
 	}
 
 	/**
@@ -31,19 +78,82 @@ public class AlunoService {
 	 * 
 	 * @return Lista contendo todos os alunos.
 	 */
+	@Transactional(readOnly = true)
 	public List<Aluno> buscarTodosAlunos() {
 		return alunoRepository.findAll();
 	}
 
 	/**
-	 * Busca um aluno no repositório com base no ID fornecido.
+	 * Retorna uma página de alunos ordenados pelo ID, a partir do cursor informado (paginação por keyset).
+	 * O tamanho da página é limitado a {@link #TAMANHO_MAXIMO_PAGINA}.
+	 * 
+	 * @param cursor O último ID retornado na página anterior, ou nulo para a primeira página.
+	 * @param tamanho A quantidade de registros desejada na página.
+	 * @return A página com os registros encontrados e o cursor da próxima página (nulo se for a última).
+	 */
+	@Transactional(readOnly = true)
+	public PaginaDTO<AlunoDTO> buscarAlunosPaginados(Integer cursor, int tamanho) {
+		int limite = Math.min(Math.max(tamanho, 1), TAMANHO_MAXIMO_PAGINA);
+//		Busca um registro a mais para saber se existe uma próxima página sem precisar de um count
+		List<AlunoDTO> alunos = alunoRepository.buscarPagina(cursor == null ? 0 : cursor, Limit.of(limite + 1));
+		if (alunos.size() <= limite) {
+			return new PaginaDTO<>(alunos, null);
+		}
+		List<AlunoDTO> pagina = alunos.subList(0, limite);
+		return new PaginaDTO<>(pagina, pagina.get(limite - 1).getId());
+	}
+
+	/**
+	 * Busca os alunos pelo nome, sem diferenciar maiúsculas, minúsculas e acentos. O termo é normalizado da
+	 * mesma forma que o nome armazenado e a quantidade de resultados é limitada a {@link #TAMANHO_MAXIMO_BUSCA}.
+	 * 
+	 * @param nome O termo a ser buscado.
+	 * @param modo Se o nome deve começar com o termo ou apenas contê-lo.
+	 * @param limite A quantidade máxima de registros desejada.
+	 * @return Lista dos alunos encontrados, em ordem alfabética; vazia se o termo estiver em branco.
+	 */
+	@Transactional(readOnly = true)
+	public List<Aluno> buscarAlunosPorNome(String nome, ModoBusca modo, int limite) {
+		String termo = NormalizadorTexto.normalizar(nome);
+		if (termo == null || termo.isEmpty()) {
+			return new ArrayList<>();
+		}
+		Limit maximo = Limit.of(Math.min(Math.max(limite, 1), TAMANHO_MAXIMO_BUSCA));
+		if (modo == ModoBusca.CONTEM) {
+			return alunoRepository.findByNomeNormalizadoContainingOrderByNomeNormalizadoAscIdAsc(termo, maximo);
+		}
+		return alunoRepository.findByNomeNormalizadoStartingWithOrderByNomeNormalizadoAscIdAsc(termo, maximo);
+	}
+
+	/**
+	 * Percorre todos os alunos do repositório em ordem de ID, entregando cada registro ao consumidor assim
+	 * que é lido do banco. Os registros já entregues são removidos do contexto de persistência, de forma
+	 * que o consumo de memória não cresce com o tamanho da tabela.
+	 * 
+	 * @param consumidor A função que recebe cada registro lido.
+	 */
+	@Transactional(readOnly = true)
+	public void exportarAlunos(Consumer<Aluno> consumidor) {
+		try (Stream<Aluno> alunos = alunoRepository.streamAllByOrderByIdAsc()) {
+			alunos.forEach(aluno -> {
+				consumidor.accept(aluno);
+				entityManager.detach(aluno);
+			});
+		}
+	}
+
+	/**
+	 * Busca um aluno no repositório com base no ID fornecido. A busca é atendida pela região "aluno" do cache de
+	 * segundo nível, sem ocupar o cache de consultas usado pelas páginas da listagem.
 	 * 
 	 * @param id O ID do aluno a ser buscado.
 	 * @return O aluno encontrado com o ID especificado.
 	 * @throws EntityNotFoundException Se o aluno com o ID fornecido não for encontrado.
 	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional(readOnly = true)
 	public Aluno buscarAlunoPorId(Integer id) {
-		return alunoRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Aluno com o ID " + id + " não encontrado."));
+		return alunoRepository.findById(id).orElseThrow(() -> RecursoNaoEncontradoException.masculino("Aluno", id));
 	}
 
 	/**
@@ -54,10 +164,16 @@ public class AlunoService {
 	 * @return O aluno com as informações atualizadas no repositório.
 	 * @throws EntityNotFoundException Se o aluno com o ID fornecido não for encontrado.
 	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
 	public Aluno atualizarAluno(Integer id, Aluno alunoAlteracao) {
-		Aluno aluno = alunoRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Aluno com o ID " + id + " não encontrado."));
-		aluno.setNome(alunoAlteracao.getNome());
-		return alunoRepository.save(aluno);
+		if (alunoRepository.atualizarNome(id, alunoAlteracao.getNome(), NormalizadorTexto.normalizar(alunoAlteracao.getNome())) == 0) {
+			throw RecursoNaoEncontradoException.masculino("Aluno", id);
+		}
+		contadorAlteracoes.registrarAlteracao(Aluno.class);
+		auditoriaService.registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.ALTERACAO, id, alunoAlteracao.getNome());
+		alunoAlteracao.setId(id);
+		return alunoAlteracao;
 	}
 
 	/**
@@ -66,10 +182,84 @@ public class AlunoService {
 	 * @param id O ID do aluno a ser excluído.
 	 * @throws EntityNotFoundException Se o aluno com o ID fornecido não for encontrado.
 	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
 	public void excluirAluno(Integer id) {
-		alunoRepository.findById(id)
-				.orElseThrow(() -> new EntityNotFoundException("Aluno com o ID " + id + " não encontrado."));
-		alunoRepository.deleteById(id);
+		if (alunoRepository.excluirPorId(id) == 0) {
+			throw RecursoNaoEncontradoException.masculino("Aluno", id);
+		}
+		contadorAlteracoes.registrarAlteracao(Aluno.class);
+		auditoriaService.registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.EXCLUSAO, id, null);
+	}
+
+	/**
+	 * Salva os alunos informados em uma única transação. As inserções são enviadas ao banco em lotes
+	 * JDBC e o contexto de persistência é esvaziado a cada lote para manter o uso de memória constante. Os IDs
+	 * recebidos são descartados e gerados pela sequência.
+	 * 
+	 * @param alunos Os alunos a serem salvos.
+	 * @return Os alunos salvos no repositório, na mesma ordem recebida.
+	 */
+	@Transactional
+	public List<Aluno> salvarAlunos(List<Aluno> alunos) {
+		List<Aluno> salvos = new ArrayList<>(alunos.size());
+		for (Aluno aluno : alunos) {
+			aluno.setId(null);
+			salvos.add(alunoRepository.save(aluno));
+			if (salvos.size() % TAMANHO_LOTE == 0) {
+				entityManager.flush();
+				entityManager.clear();
+			}
+		}
+		contadorAlteracoes.registrarAlteracao(Aluno.class);
+		salvos.forEach(salvo -> auditoriaService.registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, salvo.getId(), salvo.getNome()));
+		return salvos;
+	}
+
+	/**
+	 * Atualiza os alunos informados em uma única transação. Os registros são carregados com uma
+	 * única consulta e as alterações são enviadas ao banco em lotes JDBC no commit.
+	 * 
+	 * @param alteracoes Os alunos com o ID e as informações atualizadas.
+	 * @return Os alunos com as informações atualizadas, na mesma ordem recebida.
+	 * @throws EntityNotFoundException Se algum dos IDs fornecidos não for encontrado.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
+	public List<Aluno> atualizarAlunos(List<Aluno> alteracoes) {
+		List<Integer> ids = alteracoes.stream().map(Aluno::getId).collect(Collectors.toList());
+		Map<Integer, Aluno> alunos = alunoRepository.findAllById(ids).stream().collect(Collectors.toMap(Aluno::getId, Function.identity()));
+		List<Aluno> atualizados = new ArrayList<>(alteracoes.size());
+		for (Aluno alteracao : alteracoes) {
+			Aluno aluno = alunos.get(alteracao.getId());
+			if (aluno == null) {
+				throw RecursoNaoEncontradoException.masculino("Aluno", alteracao.getId());
+			}
+			aluno.setNome(alteracao.getNome());
+			atualizados.add(aluno);
+		}
+		contadorAlteracoes.registrarAlteracao(Aluno.class);
+		atualizados.forEach(aluno -> auditoriaService.registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.ALTERACAO, aluno.getId(), aluno.getNome()));
+		return atualizados;
+	}
+
+	/**
+	 * Exclui os alunos com os IDs informados em uma única transação, com um único comando DELETE. Os IDs
+	 * repetidos são considerados uma única vez.
+	 * 
+	 * @param ids Os IDs dos alunos a serem excluídos.
+	 * @throws EntityNotFoundException Se algum dos IDs fornecidos não for encontrado; nesse caso nada é excluído.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
+	public void excluirAlunos(List<Integer> ids) {
+		Set<Integer> distintos = new LinkedHashSet<>(ids);
+		int excluidos = alunoRepository.excluirPorIds(distintos);
+		if (excluidos != distintos.size()) {
+			throw RecursoNaoEncontradoException.masculinos("alunos", distintos.size() - excluidos, distintos.size());
+		}
+		contadorAlteracoes.registrarAlteracao(Aluno.class);
+		distintos.forEach(id -> auditoriaService.registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.EXCLUSAO, id, null));
 	}
 
 }
@@ -0,0 +1,149 @@
+package br.com.senac.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.senac.auditoria.Alteracao;
+import br.com.senac.auditoria.EntidadeAuditada;
+import br.com.senac.auditoria.LogAuditoria;
+import br.com.senac.auditoria.OperacaoAuditada;
+import br.com.senac.dto.RegistroAuditoriaDTO;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Trilha de auditoria das inclusões, alterações e exclusões de alunos, turmas e disciplinas, gravada no
+ * LogAuditoria fora do banco de dados. As alterações feitas dentro de uma transação são acumuladas e gravadas de
+ * uma só vez após o commit, de modo que a trilha só contém alterações confirmadas e a transação não paga nenhuma
+ * escrita adicional no banco.
+ *
+ * Como a alteração já está confirmada no banco, uma falha na gravação do log (ex.: log fechado durante o
+ * encerramento da aplicação ou disco cheio) não é propagada à requisição: as alterações perdidas são registradas
+ * no log da aplicação e contadas em {@link Metricas#AUDITORIA_FALHAS}.
+ */
+@Service
+public class AuditoriaService implements MeterBinder {
+
+	private static final Logger log = LoggerFactory.getLogger(AuditoriaService.class);
+
+//  Quantidade máxima de registros retornados pela consulta
+	public static final int TAMANHO_MAXIMO_CONSULTA = 1000;
+
+//  Realiza a injeção automática de dependência do LogAuditoria (definido em AuditoriaConfig) pelo Spring
+	@Autowired
+	LogAuditoria logAuditoria;
+
+	private final LongAdder falhas = new LongAdder();
+
+	/**
+	 * Registra uma alteração, gravada no log após o commit da transação (ou de imediato, fora de transação). Não
+	 * é medido pelo @Timed, para não acrescentar o custo da medição a cada alteração.
+	 *
+	 * @param entidade A entidade alterada.
+	 * @param operacao A operação realizada.
+	 * @param id O ID do registro alterado.
+	 * @param nome O nome gravado pela inclusão ou alteração, ou nulo na exclusão.
+	 */
+	public void registrar(EntidadeAuditada entidade, OperacaoAuditada operacao, Integer id, String nome) {
+		Alteracao alteracao = new Alteracao(entidade, operacao, id, nome);
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			gravar(List.of(alteracao));
+			return;
+		}
+		@SuppressWarnings("unchecked")
+		List<Alteracao> pendentes = (List<Alteracao>) TransactionSynchronizationManager.getResource(this);
+		if (pendentes == null) {
+			List<Alteracao> alteracoes = new ArrayList<>();
+			pendentes = alteracoes;
+			TransactionSynchronizationManager.bindResource(this, alteracoes);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					gravar(alteracoes);
+				}
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(AuditoriaService.this);
+				}
+			});
+		}
+		pendentes.add(alteracao);
+	}
+
+	/**
+	 * Consulta a trilha de auditoria, em ordem de gravação.
+	 *
+	 * @param entidade A entidade, ou nula para todas.
+	 * @param id O ID do registro alterado, ou nulo para todos (exige a entidade).
+	 * @param de O instante inicial (inclusive), ou nulo para o início da trilha.
+	 * @param ate O instante final (inclusive), ou nulo para o fim da trilha.
+	 * @param limite A quantidade máxima de registros (limitada a {@link #TAMANHO_MAXIMO_CONSULTA}).
+	 * @return Os registros encontrados.
+	 * @throws RequisicaoInvalidaException Se o ID for informado sem a entidade ou se o período for inválido.
+	 */
+	@Timed(value = Metricas.TEMPO_SERVICO, histogram = true)
+	public List<RegistroAuditoriaDTO> consultar(EntidadeAuditada entidade, Integer id, Instant de, Instant ate, int limite) {
+		validar(entidade, id, de, ate);
+		List<RegistroAuditoriaDTO> registros = new ArrayList<>();
+		logAuditoria.percorrer(entidade, id, de, ate, Math.min(Math.max(limite, 1), TAMANHO_MAXIMO_CONSULTA), registros::add);
+		return registros;
+	}
+
+	/**
+	 * Prepara a reprodução da trilha de auditoria em ordem de gravação, sem limite de registros. O filtro é
+	 * validado de imediato; o log só é lido quando a função retornada é executada, entregando cada registro ao
+	 * consumidor assim que ele é lido.
+	 *
+	 * @param entidade A entidade, ou nula para todas.
+	 * @param id O ID do registro alterado, ou nulo para todos (exige a entidade).
+	 * @param de O instante inicial (inclusive), ou nulo para o início da trilha.
+	 * @param ate O instante final (inclusive), ou nulo para o fim da trilha.
+	 * @return Função que percorre o log, entregando cada registro encontrado ao consumidor recebido.
+	 * @throws RequisicaoInvalidaException Se o ID for informado sem a entidade ou se o período for inválido.
+	 */
+	public Consumer<Consumer<RegistroAuditoriaDTO>> reproduzir(EntidadeAuditada entidade, Integer id, Instant de, Instant ate) {
+		validar(entidade, id, de, ate);
+		return consumidor -> logAuditoria.percorrer(entidade, id, de, ate, Long.MAX_VALUE, consumidor);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder(Metricas.AUDITORIA_FALHAS, falhas, LongAdder::sum)
+				.description("Alterações confirmadas no banco que não puderam ser gravadas no log de auditoria")
+				.register(registry);
+	}
+
+//  Grava as alterações no log sem propagar a falha, que ocorreria depois do commit. O InternalError é o que a JVM
+//  lança quando a memória mapeada não pode ser gravada no arquivo (ex.: disco cheio)
+	private void gravar(List<Alteracao> alteracoes) {
+		try {
+			logAuditoria.gravar(alteracoes);
+		} catch (RuntimeException | InternalError e) {
+			falhas.add(alteracoes.size());
+			log.error("Falha ao gravar no log de auditoria as alterações {}", alteracoes, e);
+		}
+	}
+
+	private static void validar(EntidadeAuditada entidade, Integer id, Instant de, Instant ate) {
+		if (id != null && entidade == null) {
+			throw new RequisicaoInvalidaException("Informe a entidade para consultar pelo ID.");
+		}
+		if (de != null && ate != null && de.isAfter(ate)) {
+			throw new RequisicaoInvalidaException("O instante inicial deve ser anterior ao final.");
+		}
+	}
+
+}
@@ -0,0 +1,57 @@
+package br.com.senac.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import br.com.senac.dto.EstatisticaCacheDTO;
+import jakarta.persistence.EntityManagerFactory;
+
+@Service
+public class CacheService {
+
+//  Regiões de entidades configuradas no ehcache.xml
+	public static final List<String> REGIOES_ENTIDADES = List.of("aluno", "turma", "disciplina");
+
+//  Nome da região usada pelo cache de consultas (default-query-results-region no ehcache.xml)
+	public static final String REGIAO_CONSULTAS = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+//  Realiza a injeção automática de dependência do EntityManagerFactory pelo Spring
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	/**
+	 * Retorna os acertos, falhas e inserções de cada região do cache de segundo nível e do cache de consultas,
+	 * acumulados desde a inicialização da aplicação. As regiões inexistentes são omitidas, de modo que a lista
+	 * fica vazia quando o cache de segundo nível está desabilitado (academico.cache.habilitado=false).
+	 * 
+	 * @return Lista com as estatísticas de cada região.
+	 */
+	public List<EstatisticaCacheDTO> buscarEstatisticas() {
+		Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		List<EstatisticaCacheDTO> resultado = new ArrayList<>();
+		for (String regiao : REGIOES_ENTIDADES) {
+			adicionarEstatistica(resultado, regiao, estatisticas.getCacheRegionStatistics(regiao));
+		}
+		adicionarEstatistica(resultado, REGIAO_CONSULTAS, estatisticas.getCacheRegionStatistics(REGIAO_CONSULTAS));
+		return resultado;
+	}
+
+	private void adicionarEstatistica(List<EstatisticaCacheDTO> resultado, String regiao, CacheRegionStatistics regiaoEstatisticas) {
+//		Nula quando o cache de segundo nível (ou o de consultas) está desabilitado
+		if (regiaoEstatisticas == null) {
+			return;
+		}
+		long acertos = regiaoEstatisticas.getHitCount();
+		long leituras = acertos + regiaoEstatisticas.getMissCount();
+		resultado.add(new EstatisticaCacheDTO(regiao, acertos, regiaoEstatisticas.getMissCount(), regiaoEstatisticas.getPutCount(),
+				leituras == 0 ? 0 : (double) acertos / leituras));
+	}
+
+}
@@ -0,0 +1,112 @@
+package br.com.senac.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Agrupa carregamentos simultâneos da mesma chave (single-flight): enquanto uma busca por uma chave está em
+ * andamento, as demais chamadas para a mesma chave aguardam e recebem o mesmo resultado (ou a mesma exceção),
+ * em vez de consultar o banco novamente. Chaves diferentes não compartilham nenhum bloqueio.
+ *
+ * Só são agrupadas as chamadas que chegam durante um carregamento em andamento; nada é guardado depois que
+ * ele termina. Por isso, uma leitura concorrente a uma alteração pode receber o valor anterior a ela, assim
+ * como aconteceria se tivesse chegado ao banco alguns milissegundos antes.
+ *
+ * @param <K> O tipo da chave (ex.: o ID do registro).
+ * @param <V> O tipo do valor carregado.
+ */
+public class CarregamentoUnico<K, V> implements MeterBinder {
+
+	private final String recurso;
+
+	private final ConcurrentHashMap<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+
+//  Quantidade de carregamentos executados e de chamadas atendidas por um carregamento já em andamento
+	private final LongAdder carregamentos = new LongAdder();
+	private final LongAdder agrupados = new LongAdder();
+
+	/**
+	 * @param recurso O nome do recurso, usado na tag "recurso" das métricas (ex.: "turma").
+	 */
+	public CarregamentoUnico(String recurso) {
+		this.recurso = recurso;
+	}
+
+	/**
+	 * Retorna o valor da chave, executando o carregador apenas se não houver outro carregamento da mesma
+	 * chave em andamento. O carregador é executado na thread de quem chegou primeiro.
+	 *
+	 * @param chave A chave a ser carregada.
+	 * @param carregador A função que busca o valor da chave.
+	 * @return O valor carregado.
+	 * @throws RuntimeException A mesma exceção lançada pelo carregador, para todas as chamadas agrupadas.
+	 */
+	public V carregar(K chave, Function<K, V> carregador) {
+		CompletableFuture<V> futuro = new CompletableFuture<>();
+		CompletableFuture<V> existente = emAndamento.putIfAbsent(chave, futuro);
+		if (existente != null) {
+			agrupados.increment();
+			return aguardar(existente);
+		}
+		carregamentos.increment();
+		try {
+			V valor = carregador.apply(chave);
+			futuro.complete(valor);
+			return valor;
+		} catch (RuntimeException | Error e) {
+			futuro.completeExceptionally(e);
+			throw e;
+		} finally {
+			emAndamento.remove(chave, futuro);
+		}
+	}
+
+	private V aguardar(CompletableFuture<V> futuro) {
+		try {
+			return futuro.join();
+		} catch (CompletionException e) {
+//			Repassa a exceção original do carregador (ex.: EntityNotFoundException) em vez do invólucro
+			if (e.getCause() instanceof RuntimeException causa) {
+				throw causa;
+			}
+			if (e.getCause() instanceof Error erro) {
+				throw erro;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * @return A quantidade de carregamentos executados.
+	 */
+	public long getCarregamentos() {
+		return carregamentos.sum();
+	}
+
+	/**
+	 * @return A quantidade de chamadas que aproveitaram um carregamento já em andamento.
+	 */
+	public long getAgrupados() {
+		return agrupados.sum();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder(Metricas.CARREGAMENTOS, carregamentos, LongAdder::sum)
+				.tag("recurso", recurso)
+				.description("Carregamentos por ID executados no banco")
+				.register(registry);
+		FunctionCounter.builder(Metricas.CARREGAMENTOS_AGRUPADOS, agrupados, LongAdder::sum)
+				.tag("recurso", recurso)
+				.description("Chamadas por ID atendidas por um carregamento já em andamento")
+				.register(registry);
+	}
+
+}
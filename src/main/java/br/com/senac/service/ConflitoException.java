@@ -0,0 +1,34 @@
+package br.com.senac.service;
+
+import java.util.Locale;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Exceção lançada pelos serviços quando a requisição é válida, mas conflita com o estado atual dos registros
+ * (ex.: horário sobreposto a outra aula, matrícula ou oferta já existente); o TratadorExcecoes a converte em uma
+ * resposta 409, como a VagasEsgotadasException.
+ */
+public class ConflitoException extends RequisicaoInvalidaException {
+
+	private static final long serialVersionUID = 1L;
+
+	public ConflitoException(String mensagem) {
+		super(mensagem);
+	}
+
+	/**
+	 * Indica se a falha de integridade foi causada pela restrição única informada, como ocorre quando duas
+	 * transações simultâneas passam pela verificação de existência e gravam o mesmo registro.
+	 * 
+	 * @param e A exceção lançada na gravação.
+	 * @param restricao O nome da restrição única (ex.: uk_matricula_aluno_turma).
+	 * @return true se a mensagem do banco citar a restrição.
+	 */
+	public static boolean causadaPor(DataIntegrityViolationException e, String restricao) {
+		String mensagem = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+		return mensagem != null && mensagem.toLowerCase(Locale.ROOT).contains(restricao);
+	}
+
+}
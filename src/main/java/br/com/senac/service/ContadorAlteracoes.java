@@ -0,0 +1,108 @@
+package br.com.senac.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Mantém um contador de alterações por tabela, usado para gerar as ETags das respostas de leitura.
+ * Como o contador só muda quando a tabela muda, uma requisição com If-None-Match igual à ETag atual pode
+ * ser respondida com 304 sem consultar o banco.
+ *
+ * No perfil "replica", as leituras podem ser atendidas por uma réplica que ainda não recebeu as últimas
+ * alterações. Nesse caso as ETags são geradas a partir dos contadores capturados no início da sincronização da
+ * réplica (ver {@link #setFonteLeitura(Supplier)}), para que nenhuma ETag represente alterações que a leitura
+ * ainda não enxerga.
+ */
+@Component
+public class ContadorAlteracoes {
+
+//  Instante de inicialização, incluído na ETag para que ETags de execuções anteriores não sejam aceitas
+	private final String inicio = Long.toString(System.currentTimeMillis(), 36);
+
+	private final ConcurrentHashMap<Class<?>, AtomicLong> contadores = new ConcurrentHashMap<>();
+
+//  Contadores já visíveis para as leituras, ou nulo se as leituras enxergam todas as alterações registradas
+	private volatile Supplier<Map<Class<?>, Long>> fonteLeitura;
+
+	/**
+	 * Registra uma alteração na tabela da entidade informada. Dentro de uma transação o contador só é
+	 * incrementado após o commit, para que nenhuma ETag nova seja entregue junto com dados antigos.
+	 * 
+	 * @param entidade A classe da entidade alterada.
+	 */
+	public void registrarAlteracao(Class<?> entidade) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					contador(entidade).incrementAndGet();
+				}
+			});
+		} else {
+			contador(entidade).incrementAndGet();
+		}
+	}
+
+	/**
+	 * Gera a ETag fraca que representa o estado atual da tabela da entidade informada. Deve ser obtida
+	 * antes da leitura dos dados. É fraca porque o mesmo estado pode ser entregue em formatos (JSON, CBOR,
+	 * Smile) e compressões diferentes; o Tomcat também não comprime respostas com ETag forte.
+	 * 
+	 * @param entidade A classe da entidade.
+	 * @return A ETag, por exemplo W/"aluno-lx3k2a1b-42".
+	 */
+	public String gerarEtag(Class<?> entidade) {
+		Supplier<Map<Class<?>, Long>> fonte = fonteLeitura;
+		Map<Class<?>, Long> visiveis = fonte == null ? null : fonte.get();
+		long alteracoes = visiveis == null ? contador(entidade).get() : visiveis.getOrDefault(entidade, 0L);
+		return "W/\"" + entidade.getSimpleName().toLowerCase() + "-" + inicio + "-" + alteracoes + "\"";
+	}
+
+	/**
+	 * Gera a ETag fraca de um único registro a partir da sua versão (@Version), incrementada a cada
+	 * atualização da linha. Como é obtida do próprio registro lido, a ETag sempre corresponde aos dados entregues.
+	 *
+	 * @param entidade A classe da entidade.
+	 * @param id O ID do registro.
+	 * @param versao A versão do registro.
+	 * @return A ETag, por exemplo W/"aluno-lx3k2a1b-7-3".
+	 */
+	public String gerarEtag(Class<?> entidade, Integer id, Long versao) {
+		return "W/\"" + entidade.getSimpleName().toLowerCase() + "-" + inicio + "-" + id + "-" + versao + "\"";
+	}
+
+	/**
+	 * Captura o valor atual dos contadores de todas as tabelas. Uma cópia do banco iniciada depois da captura
+	 * contém pelo menos as alterações contadas, pois o contador só é incrementado após o commit.
+	 *
+	 * @return Os contadores por entidade; as entidades nunca alteradas não aparecem.
+	 */
+	public Map<Class<?>, Long> capturar() {
+		Map<Class<?>, Long> capturados = new HashMap<>();
+		contadores.forEach((entidade, contador) -> capturados.put(entidade, contador.get()));
+		return capturados;
+	}
+
+	/**
+	 * Define de onde vêm os contadores das ETags de tabela quando as leituras podem estar atrasadas em relação
+	 * às escritas (perfil "replica"). A fonte retorna os contadores capturados no início da cópia que as leituras
+	 * enxergam, ou nulo quando as leituras vão ao banco primário e os contadores atuais podem ser usados.
+	 *
+	 * @param fonte A fonte dos contadores visíveis para as leituras.
+	 */
+	public void setFonteLeitura(Supplier<Map<Class<?>, Long>> fonte) {
+		this.fonteLeitura = fonte;
+	}
+
+	private AtomicLong contador(Class<?> entidade) {
+		return contadores.computeIfAbsent(entidade, chave -> new AtomicLong());
+	}
+
+}
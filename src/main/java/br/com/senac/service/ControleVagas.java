@@ -0,0 +1,216 @@
+package br.com.senac.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Controla em memória as vagas ocupadas das turmas com capacidade. Cada reserva é um compareAndSet em um
+ * AtomicInteger, sem bloqueios e sem ler ou travar a linha da turma no banco, de modo que milhares de alunos
+ * disputando a mesma turma nunca ultrapassam a capacidade nem ficam em fila em um lock.
+ *
+ * As matrículas gravadas no banco são o registro durável: os contadores são montados a partir delas na
+ * inicialização e reconciliados periodicamente pelo VagaService (ex.: matrículas removidas pela exclusão de
+ * alunos, que não passam pelos serviços). Turmas sem capacidade não são controladas.
+ */
+@Component
+public class ControleVagas implements MeterBinder {
+
+	private final ConcurrentHashMap<Integer, Vagas> turmas = new ConcurrentHashMap<>();
+
+	private final LongAdder aceitas = new LongAdder();
+	private final LongAdder recusadas = new LongAdder();
+
+	/**
+	 * Reserva uma vaga na turma. Dentro de uma transação, a vaga é devolvida se a transação não for confirmada.
+	 *
+	 * @param turmaId O ID da turma.
+	 * @return Verdadeiro se a vaga foi reservada (ou se a turma não tem limite); falso se a turma está lotada.
+	 */
+	public boolean reservar(Integer turmaId) {
+		Vagas vagas = turmas.get(turmaId);
+		if (vagas == null) {
+			return true;
+		}
+//		A reserva fica pendente até o fim da transação, o que impede a reconciliação de sobrescrever o contador
+		vagas.pendentes.incrementAndGet();
+		if (!vagas.ocupar()) {
+			vagas.pendentes.decrementAndGet();
+			recusadas.increment();
+			return false;
+		}
+		aceitas.increment();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status != STATUS_COMMITTED) {
+						vagas.desocupar();
+					}
+					vagas.pendentes.decrementAndGet();
+				}
+			});
+		} else {
+			vagas.pendentes.decrementAndGet();
+		}
+		return true;
+	}
+
+	/**
+	 * Devolve a vaga de uma matrícula excluída. Dentro de uma transação, só é devolvida após o commit.
+	 *
+	 * @param turmaId O ID da turma.
+	 */
+	public void liberar(Integer turmaId) {
+		aposCommit(() -> {
+			Vagas vagas = turmas.get(turmaId);
+			if (vagas != null) {
+				vagas.desocupar();
+			}
+		});
+	}
+
+	/**
+	 * Define a capacidade da turma, mantendo as vagas já ocupadas se a turma já era controlada. Dentro de uma
+	 * transação, só é aplicada após o commit.
+	 *
+	 * @param turmaId O ID da turma.
+	 * @param capacidade A nova capacidade, ou nula para deixar de controlar a turma.
+	 * @param ocupadas As matrículas da turma, usadas se ela ainda não era controlada.
+	 */
+	public void definir(Integer turmaId, Integer capacidade, long ocupadas) {
+		aposCommit(() -> {
+			if (capacidade == null) {
+				turmas.remove(turmaId);
+			} else {
+				turmas.compute(turmaId, (chave, vagas) -> vagas == null ? new Vagas(capacidade, (int) ocupadas) : vagas.redimensionar(capacidade));
+			}
+		});
+	}
+
+	/**
+	 * Sincroniza os contadores com o banco: passa a controlar exatamente as turmas informadas e corrige as vagas
+	 * ocupadas de acordo com a contagem de matrículas. A correção de uma turma é descartada se ela tiver reservas
+	 * pendentes ou se o contador mudar durante a contagem, pois a contagem pode não refletir essas reservas; a
+	 * turma é corrigida em uma próxima execução.
+	 *
+	 * @param capacidades A capacidade de cada turma com limite de vagas.
+	 * @param contarMatriculas Função que conta as matrículas de cada turma no banco.
+	 */
+	public void reconciliar(Map<Integer, Integer> capacidades, Supplier<Map<Integer, Integer>> contarMatriculas) {
+		turmas.keySet().retainAll(capacidades.keySet());
+		Map<Integer, Integer> antes = new HashMap<>();
+		turmas.forEach((turmaId, vagas) -> {
+			if (vagas.pendentes.get() == 0) {
+				antes.put(turmaId, vagas.ocupadas.get());
+			}
+		});
+		Map<Integer, Integer> contagens = contarMatriculas.get();
+		capacidades.forEach((turmaId, capacidade) -> {
+			int contagem = contagens.getOrDefault(turmaId, 0);
+			Vagas vagas = turmas.computeIfAbsent(turmaId, chave -> new Vagas(capacidade, contagem));
+			vagas.redimensionar(capacidade);
+			Integer ocupadasAntes = antes.get(turmaId);
+			if (ocupadasAntes != null && vagas.pendentes.get() == 0) {
+				vagas.ocupadas.compareAndSet(ocupadasAntes, contagem);
+			}
+		});
+	}
+
+	/**
+	 * @param turmaId O ID da turma.
+	 * @return As vagas ocupadas da turma, ou nulo se ela não tem capacidade.
+	 */
+	public Integer ocupadas(Integer turmaId) {
+		Vagas vagas = turmas.get(turmaId);
+		return vagas == null ? null : vagas.ocupadas.get();
+	}
+
+	/**
+	 * @param turmaId O ID da turma.
+	 * @return As vagas disponíveis na turma (zero se lotada), ou nulo se ela não tem capacidade.
+	 */
+	public Integer disponiveis(Integer turmaId) {
+		Vagas vagas = turmas.get(turmaId);
+		return vagas == null ? null : Math.max(vagas.capacidade - vagas.ocupadas.get(), 0);
+	}
+
+	public long getAceitas() {
+		return aceitas.sum();
+	}
+
+	public long getRecusadas() {
+		return recusadas.sum();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder(Metricas.RESERVAS_VAGAS, aceitas, LongAdder::sum)
+				.tag("resultado", "aceita")
+				.description("Reservas de vagas aceitas")
+				.register(registry);
+		FunctionCounter.builder(Metricas.RESERVAS_VAGAS, recusadas, LongAdder::sum)
+				.tag("resultado", "recusada")
+				.description("Reservas de vagas recusadas por turma lotada")
+				.register(registry);
+	}
+
+	private static void aposCommit(Runnable acao) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					acao.run();
+				}
+			});
+		} else {
+			acao.run();
+		}
+	}
+
+//  Capacidade e vagas ocupadas de uma turma; pendentes conta as reservas cujas transações ainda não terminaram
+	private static class Vagas {
+
+		private volatile int capacidade;
+		private final AtomicInteger ocupadas;
+		private final AtomicInteger pendentes = new AtomicInteger();
+
+		Vagas(int capacidade, int ocupadas) {
+			this.capacidade = capacidade;
+			this.ocupadas = new AtomicInteger(ocupadas);
+		}
+
+		boolean ocupar() {
+			int atual;
+			do {
+				atual = ocupadas.get();
+				if (atual >= capacidade) {
+					return false;
+				}
+			} while (!ocupadas.compareAndSet(atual, atual + 1));
+			return true;
+		}
+
+		void desocupar() {
+			ocupadas.updateAndGet(atual -> atual > 0 ? atual - 1 : 0);
+		}
+
+		Vagas redimensionar(int novaCapacidade) {
+			capacidade = novaCapacidade;
+			return this;
+		}
+
+	}
+
+}
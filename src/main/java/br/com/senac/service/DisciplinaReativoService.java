@@ -0,0 +1,176 @@
+package br.com.senac.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import br.com.senac.auditoria.EntidadeAuditada;
+import br.com.senac.auditoria.OperacaoAuditada;
+import br.com.senac.dto.DisciplinaDTO;
+import br.com.senac.entity.Disciplina;
+import br.com.senac.repository.DisciplinaReativoRepository;
+import br.com.senac.util.NormalizadorTexto;
+import jakarta.persistence.EntityNotFoundException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Versão não bloqueante do DisciplinaService, utilizada pelo perfil "reativo". Aplica os mesmos limites de
+ * paginação e de busca e registra as alterações no mesmo ContadorAlteracoes (ETags) e na mesma trilha de
+ * auditoria (AuditoriaService).
+ */
+@Service
+@Profile("reativo")
+public class DisciplinaReativoService {
+
+//  Realiza a injeção automática de dependência do DisciplinaReativoRepository pelo Spring
+	@Autowired
+	DisciplinaReativoRepository disciplinaReativoRepository;
+
+//  Realiza a injeção automática de dependência do ContadorAlteracoes pelo Spring
+	@Autowired
+	ContadorAlteracoes contadorAlteracoes;
+
+//  Realiza a injeção automática de dependência do AuditoriaService pelo Spring
+	@Autowired
+	AuditoriaService auditoriaService;
+
+//  Realiza a injeção do operador de transações R2DBC (definido em ReativoConfig) pelo Spring
+	@Autowired
+	TransactionalOperator transacaoReativa;
+
+	/**
+	 * Salva uma nova disciplina no banco.
+	 * 
+	 * @param disciplinaDTO Os dados da disciplina.
+	 * @return O DisciplinaDTO da disciplina salva, com o ID gerado.
+	 */
+	public Mono<DisciplinaDTO> salvarDisciplina(DisciplinaDTO disciplinaDTO) {
+		String nome = disciplinaDTO.getNome();
+		return disciplinaReativoRepository.inserir(nome, NormalizadorTexto.normalizar(nome))
+				.doOnSuccess(salva -> {
+					contadorAlteracoes.registrarAlteracao(Disciplina.class);
+					auditoriaService.registrar(EntidadeAuditada.DISCIPLINA, OperacaoAuditada.INCLUSAO, salva.getId(), salva.getNome());
+				});
+	}
+
+	/**
+	 * Salva as disciplinas informadas em uma única transação R2DBC: se alguma inserção falhar, nenhuma é gravada.
+	 * 
+	 * @param disciplinasDTO Os dados das disciplinas.
+	 * @return Os DisciplinaDTOs das disciplinas salvas, na ordem recebida.
+	 */
+	public Flux<DisciplinaDTO> salvarDisciplinas(List<DisciplinaDTO> disciplinasDTO) {
+//		A lista só é emitida quando o Mono transacional termina, ou seja, após o commit: nenhum ID é entregue ao
+//		cliente (nem auditado) se a transação for desfeita
+		return Flux.fromIterable(disciplinasDTO)
+				.concatMap(this::inserir)
+				.collectList()
+				.as(transacaoReativa::transactional)
+				.doOnNext(salvas -> {
+					contadorAlteracoes.registrarAlteracao(Disciplina.class);
+					salvas.forEach(salva -> auditoriaService.registrar(EntidadeAuditada.DISCIPLINA, OperacaoAuditada.INCLUSAO, salva.getId(), salva.getNome()));
+				})
+				.flatMapMany(Flux::fromIterable);
+	}
+
+	/**
+	 * Retorna uma página de disciplinas ordenadas pelo ID, a partir do cursor informado (paginação por keyset). Os
+	 * registros são lidos conforme a demanda do assinante; o cursor da próxima página é o ID do último registro.
+	 * 
+	 * @param cursor O último ID retornado na página anterior, ou nulo para a primeira página.
+	 * @param tamanho A quantidade de registros desejada (limitada a DisciplinaService.TAMANHO_MAXIMO_PAGINA).
+	 * @return Os disciplinas da página.
+	 */
+	public Flux<DisciplinaDTO> buscarDisciplinasPaginadas(Integer cursor, int tamanho) {
+		int limite = Math.min(Math.max(tamanho, 1), DisciplinaService.TAMANHO_MAXIMO_PAGINA);
+		return disciplinaReativoRepository.buscarPagina(cursor == null ? 0 : cursor, limite);
+	}
+
+	/**
+	 * Busca as disciplinas pelo nome, sem diferenciar maiúsculas, minúsculas e acentos.
+	 * 
+	 * @param nome O termo a ser buscado.
+	 * @param modo Se o nome deve começar com o termo ou apenas contê-lo.
+	 * @param limite A quantidade máxima de registros (limitada a DisciplinaService.TAMANHO_MAXIMO_BUSCA).
+	 * @return As disciplinas encontradas, em ordem alfabética; vazio se o termo estiver em branco.
+	 */
+	public Flux<DisciplinaDTO> buscarDisciplinasPorNome(String nome, ModoBusca modo, int limite) {
+		String termo = NormalizadorTexto.normalizar(nome);
+		if (termo == null || termo.isEmpty()) {
+			return Flux.empty();
+		}
+		int maximo = Math.min(Math.max(limite, 1), DisciplinaService.TAMANHO_MAXIMO_BUSCA);
+		return disciplinaReativoRepository.buscarPorNomeNormalizado(termo, modo == ModoBusca.CONTEM, maximo);
+	}
+
+	/**
+	 * Percorre todas as disciplinas em ordem de ID, entregando cada registro conforme a demanda do assinante.
+	 * 
+	 * @return Todas as disciplinas.
+	 */
+	public Flux<DisciplinaDTO> exportarDisciplinas() {
+		return disciplinaReativoRepository.buscarTodos();
+	}
+
+	/**
+	 * Busca uma disciplina pelo ID fornecido.
+	 * 
+	 * @param id O ID da disciplina.
+	 * @return O DisciplinaDTO da disciplina, ou um erro RecursoNaoEncontradoException se o ID não existir.
+	 */
+	public Mono<DisciplinaDTO> buscarDisciplinaPorId(Integer id) {
+		return disciplinaReativoRepository.buscarPorId(id)
+				.switchIfEmpty(Mono.error(() -> naoEncontrada(id)));
+	}
+
+	/**
+	 * Atualiza o nome da disciplina com um único comando UPDATE.
+	 * 
+	 * @param id O ID da disciplina.
+	 * @param disciplinaAlteracao Os novos dados da disciplina.
+	 * @return O DisciplinaDTO da disciplina atualizada, ou um erro RecursoNaoEncontradoException se o ID não existir.
+	 */
+	public Mono<DisciplinaDTO> atualizarDisciplina(Integer id, DisciplinaDTO disciplinaAlteracao) {
+		String nome = disciplinaAlteracao.getNome();
+		return disciplinaReativoRepository.atualizarNome(id, nome, NormalizadorTexto.normalizar(nome))
+				.flatMap(alterados -> {
+					if (alterados == 0) {
+						return Mono.error(naoEncontrada(id));
+					}
+					contadorAlteracoes.registrarAlteracao(Disciplina.class);
+					auditoriaService.registrar(EntidadeAuditada.DISCIPLINA, OperacaoAuditada.ALTERACAO, id, nome);
+					return Mono.just(new DisciplinaDTO(id, nome));
+				});
+	}
+
+	/**
+	 * Exclui a disciplina com um único comando DELETE.
+	 * 
+	 * @param id O ID da disciplina.
+	 * @return Um Mono vazio, ou um erro RecursoNaoEncontradoException se o ID não existir.
+	 */
+	public Mono<Void> excluirDisciplina(Integer id) {
+		return disciplinaReativoRepository.excluirPorId(id)
+				.flatMap(excluidos -> {
+					if (excluidos == 0) {
+						return Mono.error(naoEncontrada(id));
+					}
+					contadorAlteracoes.registrarAlteracao(Disciplina.class);
+					auditoriaService.registrar(EntidadeAuditada.DISCIPLINA, OperacaoAuditada.EXCLUSAO, id, null);
+					return Mono.empty();
+				});
+	}
+
+	private Mono<DisciplinaDTO> inserir(DisciplinaDTO disciplinaDTO) {
+		return disciplinaReativoRepository.inserir(disciplinaDTO.getNome(), NormalizadorTexto.normalizar(disciplinaDTO.getNome()));
+	}
+
+	private static EntityNotFoundException naoEncontrada(Integer id) {
+		return RecursoNaoEncontradoException.feminino("Disciplina", id);
+	}
+
+}
@@ -1,29 +1,80 @@
 package br.com.senac.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.senac.auditoria.EntidadeAuditada;
+import br.com.senac.auditoria.OperacaoAuditada;
+import br.com.senac.dto.DisciplinaDTO;
+import br.com.senac.dto.PaginaDTO;
 import br.com.senac.entity.Disciplina;
 import br.com.senac.repository.DisciplinaRepository;
+import br.com.senac.util.NormalizadorTexto;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 
 @Service
+//Registra o tempo de execução de cada método público do serviço (Metricas.TEMPO_SERVICO)
+@Timed(value = Metricas.TEMPO_SERVICO, histogram = true)
 public class DisciplinaService {
 
+//  Tamanho máximo de página aceito na listagem paginada
+	public static final int TAMANHO_MAXIMO_PAGINA = 500;
+
+//  Quantidade de registros enviados ao banco por lote JDBC (deve acompanhar hibernate.jdbc.batch_size)
+	public static final int TAMANHO_LOTE = 50;
+
+//  Quantidade máxima de resultados retornados pela busca por nome
+	public static final int TAMANHO_MAXIMO_BUSCA = 50;
+
 //  Realiza a injeção automática de dependência do DisciplinaRepository pelo Spring
 	@Autowired
 	DisciplinaRepository disciplinaRepository;
 
+//  Realiza a injeção do EntityManager da transação corrente pelo Spring
+	@PersistenceContext
+	EntityManager entityManager;
+
+//  Realiza a injeção automática de dependência do ContadorAlteracoes pelo Spring
+	@Autowired
+	ContadorAlteracoes contadorAlteracoes;
+
+//  Realiza a injeção automática de dependência do AuditoriaService pelo Spring
+	@Autowired
+	AuditoriaService auditoriaService;
+
+//  Realiza a injeção do agrupador das buscas por ID (definido em CarregamentoConfig) pelo Spring
+	@Autowired
+	CarregamentoUnico<Integer, Disciplina> carregamentoDisciplina;
+
 	/**
-	 * Salva uma nova disciplina no repositório.
+	 * Salva uma nova disciplina no repositório. O ID recebido é descartado e gerado pela sequência.
 	 * 
 	 * @param disciplina A disciplina a ser salva.
 	 * @return A disciplina salva no repositório.
 	 */
 	public Disciplina salvarDisciplina(Disciplina disciplina) {
-		return disciplinaRepository.save(disciplina);
+//		Um ID enviado pelo cliente faria o save() tratar a nova entidade, sem versão, como destacada
+		disciplina.setId(null);
+		Disciplina salva = disciplinaRepository.save(disciplina);
+		contadorAlteracoes.registrarAlteracao(Disciplina.class);
+		auditoriaService.registrar(EntidadeAuditada.DISCIPLINA, OperacaoAuditada.INCLUSAO, salva.getId(), salva.getNome());
+		return salva;
 	}
 
 	/**
@@ -31,19 +82,84 @@ public class DisciplinaService {
 	 * 
 	 * @return Lista contendo todas as disciplinas.
 	 */
+	@Transactional(readOnly = true)
 	public List<Disciplina> buscarTodasDisciplinas() {
 		return disciplinaRepository.findAll();
 	}
 
 	/**
-	 * Busca uma disciplina no repositório com base no ID fornecido.
+	 * Retorna uma página de disciplinas ordenadas pelo ID, a partir do cursor informado (paginação por keyset).
+	 * O tamanho da página é limitado a {@link #TAMANHO_MAXIMO_PAGINA}.
+	 * 
+	 * @param cursor O último ID retornado na página anterior, ou nulo para a primeira página.
+	 * @param tamanho A quantidade de registros desejada na página.
+	 * @return A página com os registros encontrados e o cursor da próxima página (nulo se for a última).
+	 */
+	@Transactional(readOnly = true)
+	public PaginaDTO<DisciplinaDTO> buscarDisciplinasPaginadas(Integer cursor, int tamanho) {
+		int limite = Math.min(Math.max(tamanho, 1), TAMANHO_MAXIMO_PAGINA);
+//		Busca um registro a mais para saber se existe uma próxima página sem precisar de um count
+		List<DisciplinaDTO> disciplinas = disciplinaRepository.buscarPagina(cursor == null ? 0 : cursor, Limit.of(limite + 1));
+		if (disciplinas.size() <= limite) {
+			return new PaginaDTO<>(disciplinas, null);
+		}
+		List<DisciplinaDTO> pagina = disciplinas.subList(0, limite);
+		return new PaginaDTO<>(pagina, pagina.get(limite - 1).getId());
+	}
+
+	/**
+	 * Busca as disciplinas pelo nome, sem diferenciar maiúsculas, minúsculas e acentos. O termo é normalizado da
+	 * mesma forma que o nome armazenado e a quantidade de resultados é limitada a {@link #TAMANHO_MAXIMO_BUSCA}.
+	 * 
+	 * @param nome O termo a ser buscado.
+	 * @param modo Se o nome deve começar com o termo ou apenas contê-lo.
+	 * @param limite A quantidade máxima de registros desejada.
+	 * @return Lista das disciplinas encontradas, em ordem alfabética; vazia se o termo estiver em branco.
+	 */
+	@Transactional(readOnly = true)
+	public List<Disciplina> buscarDisciplinasPorNome(String nome, ModoBusca modo, int limite) {
+		String termo = NormalizadorTexto.normalizar(nome);
+		if (termo == null || termo.isEmpty()) {
+			return new ArrayList<>();
+		}
+		Limit maximo = Limit.of(Math.min(Math.max(limite, 1), TAMANHO_MAXIMO_BUSCA));
+		if (modo == ModoBusca.CONTEM) {
+			return disciplinaRepository.findByNomeNormalizadoContainingOrderByNomeNormalizadoAscIdAsc(termo, maximo);
+		}
+		return disciplinaRepository.findByNomeNormalizadoStartingWithOrderByNomeNormalizadoAscIdAsc(termo, maximo);
+	}
+
+	/**
+	 * Percorre todas as disciplinas do repositório em ordem de ID, entregando cada registro ao consumidor assim
+	 * que é lido do banco. Os registros já entregues são removidos do contexto de persistência, de forma
+	 * que o consumo de memória não cresce com o tamanho da tabela.
+	 * 
+	 * @param consumidor A função que recebe cada registro lido.
+	 */
+	@Transactional(readOnly = true)
+	public void exportarDisciplinas(Consumer<Disciplina> consumidor) {
+		try (Stream<Disciplina> disciplinas = disciplinaRepository.streamAllByOrderByIdAsc()) {
+			disciplinas.forEach(disciplina -> {
+				consumidor.accept(disciplina);
+				entityManager.detach(disciplina);
+			});
+		}
+	}
+
+	/**
+	 * Busca uma disciplina no repositório com base no ID fornecido. A busca é atendida pela região "disciplina" do cache de
+	 * segundo nível, sem ocupar o cache de consultas usado pelas páginas da listagem. Buscas simultâneas pelo
+	 * mesmo ID compartilham uma única leitura (ver {@link CarregamentoUnico}).
 	 * 
 	 * @param id O ID da disciplina a ser buscada.
 	 * @return A disciplina encontrada com o ID especificado.
 	 * @throws EntityNotFoundException Se a disciplina com o ID fornecido não for encontrada.
 	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
 	public Disciplina buscarDisciplinaPorId(Integer id) {
-		return disciplinaRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Disciplina com o ID " + id + " não encontrada."));
+//		Sem transação própria: as chamadas agrupadas apenas aguardam o resultado, sem ocupar uma conexão do pool
+		return carregamentoDisciplina.carregar(id, chave -> disciplinaRepository.findById(chave)
+				.orElseThrow(() -> RecursoNaoEncontradoException.feminino("Disciplina", chave)));
 	}
 
 	/**
@@ -54,10 +170,16 @@ public class DisciplinaService {
 	 * @return A disciplina com as informações atualizadas no repositório.
 	 * @throws EntityNotFoundException Se a disciplina com o ID fornecido não for encontrada.
 	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
 	public Disciplina atualizarDisciplina(Integer id, Disciplina disciplinaAlteracao) {
-		Disciplina disciplina = disciplinaRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Disciplina com o ID " + id + " não encontrada."));
-		disciplina.setNome(disciplinaAlteracao.getNome());
-	    return disciplinaRepository.save(disciplina);
+		if (disciplinaRepository.atualizarNome(id, disciplinaAlteracao.getNome(), NormalizadorTexto.normalizar(disciplinaAlteracao.getNome())) == 0) {
+			throw RecursoNaoEncontradoException.feminino("Disciplina", id);
+		}
+		contadorAlteracoes.registrarAlteracao(Disciplina.class);
+		auditoriaService.registrar(EntidadeAuditada.DISCIPLINA, OperacaoAuditada.ALTERACAO, id, disciplinaAlteracao.getNome());
+		disciplinaAlteracao.setId(id);
+		return disciplinaAlteracao;
 	}
 
 	/**
@@ -66,9 +188,84 @@ public class DisciplinaService {
 	 * @param id O ID da disciplina a ser excluída.
 	 * @throws EntityNotFoundException Se a disciplina com o ID fornecido não for encontrada.
 	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
 	public void excluirDisciplina(Integer id) {
-		disciplinaRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Disciplina com o ID " + id + " não encontrada."));
-		disciplinaRepository.deleteById(id);
+		if (disciplinaRepository.excluirPorId(id) == 0) {
+			throw RecursoNaoEncontradoException.feminino("Disciplina", id);
+		}
+		contadorAlteracoes.registrarAlteracao(Disciplina.class);
+		auditoriaService.registrar(EntidadeAuditada.DISCIPLINA, OperacaoAuditada.EXCLUSAO, id, null);
+	}
+
+	/**
+	 * Salva as disciplinas informadas em uma única transação. As inserções são enviadas ao banco em lotes
+	 * JDBC e o contexto de persistência é esvaziado a cada lote para manter o uso de memória constante. Os IDs
+	 * recebidos são descartados e gerados pela sequência.
+	 * 
+	 * @param disciplinas As disciplinas a serem salvas.
+	 * @return As disciplinas salvas no repositório, na mesma ordem recebida.
+	 */
+	@Transactional
+	public List<Disciplina> salvarDisciplinas(List<Disciplina> disciplinas) {
+		List<Disciplina> salvas = new ArrayList<>(disciplinas.size());
+		for (Disciplina disciplina : disciplinas) {
+			disciplina.setId(null);
+			salvas.add(disciplinaRepository.save(disciplina));
+			if (salvas.size() % TAMANHO_LOTE == 0) {
+				entityManager.flush();
+				entityManager.clear();
+			}
+		}
+		contadorAlteracoes.registrarAlteracao(Disciplina.class);
+		salvas.forEach(salva -> auditoriaService.registrar(EntidadeAuditada.DISCIPLINA, OperacaoAuditada.INCLUSAO, salva.getId(), salva.getNome()));
+		return salvas;
+	}
+
+	/**
+	 * Atualiza as disciplinas informadas em uma única transação. Os registros são carregados com uma
+	 * única consulta e as alterações são enviadas ao banco em lotes JDBC no commit.
+	 * 
+	 * @param alteracoes As disciplinas com o ID e as informações atualizadas.
+	 * @return As disciplinas com as informações atualizadas, na mesma ordem recebida.
+	 * @throws EntityNotFoundException Se algum dos IDs fornecidos não for encontrado.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
+	public List<Disciplina> atualizarDisciplinas(List<Disciplina> alteracoes) {
+		List<Integer> ids = alteracoes.stream().map(Disciplina::getId).collect(Collectors.toList());
+		Map<Integer, Disciplina> disciplinas = disciplinaRepository.findAllById(ids).stream().collect(Collectors.toMap(Disciplina::getId, Function.identity()));
+		List<Disciplina> atualizadas = new ArrayList<>(alteracoes.size());
+		for (Disciplina alteracao : alteracoes) {
+			Disciplina disciplina = disciplinas.get(alteracao.getId());
+			if (disciplina == null) {
+				throw RecursoNaoEncontradoException.feminino("Disciplina", alteracao.getId());
+			}
+			disciplina.setNome(alteracao.getNome());
+			atualizadas.add(disciplina);
+		}
+		contadorAlteracoes.registrarAlteracao(Disciplina.class);
+		atualizadas.forEach(disciplina -> auditoriaService.registrar(EntidadeAuditada.DISCIPLINA, OperacaoAuditada.ALTERACAO, disciplina.getId(), disciplina.getNome()));
+		return atualizadas;
+	}
+
+	/**
+	 * Exclui as disciplinas com os IDs informados em uma única transação, com um único comando DELETE. Os IDs
+	 * repetidos são considerados uma única vez.
+	 * 
+	 * @param ids Os IDs das disciplinas a serem excluídas.
+	 * @throws EntityNotFoundException Se algum dos IDs fornecidos não for encontrado; nesse caso nada é excluído.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
+	public void excluirDisciplinas(List<Integer> ids) {
+		Set<Integer> distintos = new LinkedHashSet<>(ids);
+		int excluidos = disciplinaRepository.excluirPorIds(distintos);
+		if (excluidos != distintos.size()) {
+			throw RecursoNaoEncontradoException.femininos("disciplinas", distintos.size() - excluidos, distintos.size());
+		}
+		contadorAlteracoes.registrarAlteracao(Disciplina.class);
+		distintos.forEach(id -> auditoriaService.registrar(EntidadeAuditada.DISCIPLINA, OperacaoAuditada.EXCLUSAO, id, null));
 	}
 
 }
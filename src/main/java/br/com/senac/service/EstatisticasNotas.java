@@ -0,0 +1,250 @@
+package br.com.senac.service;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.senac.dto.EstatisticaNotasDTO;
+
+/**
+ * Mantém em memória os agregados das notas de cada turma e de cada disciplina (quantidade, soma, soma dos
+ * quadrados e distribuição em faixas de um ponto), atualizados a cada nota gravada. A média, o desvio padrão, a
+ * taxa de aprovação e a distribuição são calculados a partir dos agregados em tempo constante, sem percorrer as
+ * notas no banco.
+ *
+ * As notas são acumuladas em centésimos (inteiros), de modo que incluir e remover a mesma nota devolve exatamente
+ * os valores anteriores, sem os erros de arredondamento que se acumulariam com somas em ponto flutuante. As
+ * notas gravadas no banco são o registro durável: os agregados são recalculados a partir delas na inicialização,
+ * sob demanda e quando a verificação periódica do NotaService encontra diferença (ex.: notas removidas pela
+ * exclusão de alunos, turmas ou disciplinas, que não passam pelo serviço).
+ */
+@Component
+public class EstatisticasNotas {
+
+//  Média mínima para aprovação, em centésimos (6,00)
+	public static final int MEDIA_APROVACAO = 600;
+
+//  Quantidade de faixas da distribuição; a nota 10 entra na última faixa
+	public static final int FAIXAS = 10;
+
+	private volatile Agregados agregados = new Agregados();
+
+//  As transações que alteram notas seguram a trava de leitura até o seu fim, e o recálculo usa a trava de
+//  escrita: assim, o recálculo só lê o banco quando não há notas gravadas e ainda não aplicadas aos agregados
+	private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+
+	/**
+	 * Impede que os agregados sejam recalculados até o fim da transação atual. Deve ser chamado antes de ler e
+	 * travar a linha da nota, para que a transação não fique com a linha travada no banco enquanto aguarda um
+	 * recálculo em andamento. Fora de transação, não faz nada.
+	 */
+	public void iniciarAlteracao() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive() || TransactionSynchronizationManager.hasResource(this)) {
+			return;
+		}
+		trava.readLock().lock();
+		TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(EstatisticasNotas.this);
+				trava.readLock().unlock();
+			}
+		});
+	}
+
+	/**
+	 * Registra a alteração de uma nota, que é aplicada aos agregados após o commit da transação (ou de imediato,
+	 * fora de transação). Deve ser chamado depois de a linha da nota ter sido gravada pela transação.
+	 *
+	 * @param turmaId O ID da turma.
+	 * @param disciplinaId O ID da disciplina.
+	 * @param anterior A nota anterior em centésimos, ou nula se a nota foi incluída.
+	 * @param nova A nova nota em centésimos, ou nula se a nota foi excluída.
+	 */
+	public void registrar(Integer turmaId, Integer disciplinaId, Integer anterior, Integer nova) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			trava.readLock().lock();
+			try {
+				aplicar(turmaId, disciplinaId, anterior, nova);
+			} finally {
+				trava.readLock().unlock();
+			}
+			return;
+		}
+		iniciarAlteracao();
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				aplicar(turmaId, disciplinaId, anterior, nova);
+			}
+		});
+	}
+
+	/**
+	 * Recalcula todos os agregados a partir das notas lidas do banco, substituindo os atuais de uma só vez. As
+	 * alterações de notas aguardam o fim do recálculo segurando suas conexões; por isso, deve ser chamado dentro
+	 * da transação que lê as notas, com a conexão já obtida, para não disputar o pool com elas.
+	 *
+	 * @param lerNotas Função que entrega cada nota gravada ao Recalculo recebido.
+	 */
+	public void recalcular(Consumer<Recalculo> lerNotas) {
+		trava.writeLock().lock();
+		try {
+			substituir(lerNotas);
+		} finally {
+			trava.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Compara a quantidade de notas dos agregados com a do banco e recalcula os agregados se forem diferentes.
+	 * Assim como recalcular(), deve ser chamado dentro da transação que conta e lê as notas.
+	 *
+	 * @param contarNotas Função que conta as notas gravadas no banco.
+	 * @param lerNotas Função que entrega cada nota gravada ao Recalculo recebido.
+	 * @return Verdadeiro se os agregados foram recalculados.
+	 */
+	public boolean verificar(LongSupplier contarNotas, Consumer<Recalculo> lerNotas) {
+		trava.writeLock().lock();
+		try {
+			if (contarNotas.getAsLong() == agregados.total()) {
+				return false;
+			}
+			substituir(lerNotas);
+			return true;
+		} finally {
+			trava.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @param turmaId O ID da turma.
+	 * @return As estatísticas das notas da turma (zeradas se a turma não tiver notas).
+	 */
+	public EstatisticaNotasDTO daTurma(Integer turmaId) {
+		return estatisticas(agregados.porTurma.get(turmaId));
+	}
+
+	/**
+	 * @param disciplinaId O ID da disciplina.
+	 * @return As estatísticas das notas da disciplina em todas as turmas (zeradas se não houver notas).
+	 */
+	public EstatisticaNotasDTO daDisciplina(Integer disciplinaId) {
+		return estatisticas(agregados.porDisciplina.get(disciplinaId));
+	}
+
+	/**
+	 * @return A quantidade total de notas nos agregados.
+	 */
+	public long getTotal() {
+		return agregados.total();
+	}
+
+	private void substituir(Consumer<Recalculo> lerNotas) {
+		Recalculo recalculo = new Recalculo();
+		lerNotas.accept(recalculo);
+		agregados = recalculo.agregados;
+	}
+
+	private void aplicar(Integer turmaId, Integer disciplinaId, Integer anterior, Integer nova) {
+		Agregados atuais = agregados;
+		atuais.porTurma.computeIfAbsent(turmaId, chave -> new Agregado()).alterar(anterior, nova);
+		atuais.porDisciplina.computeIfAbsent(disciplinaId, chave -> new Agregado()).alterar(anterior, nova);
+	}
+
+	private static EstatisticaNotasDTO estatisticas(Agregado agregado) {
+		return agregado == null ? new EstatisticaNotasDTO(0, null, null, 0, 0, new long[FAIXAS]) : agregado.estatisticas();
+	}
+
+	/**
+	 * Agregados em construção durante um recálculo, que recebe cada nota lida do banco.
+	 */
+	public static final class Recalculo {
+
+		private final Agregados agregados = new Agregados();
+
+		Recalculo() {
+		}
+
+		/**
+		 * @param turmaId O ID da turma.
+		 * @param disciplinaId O ID da disciplina.
+		 * @param centesimos A nota em centésimos.
+		 */
+		public void adicionar(Integer turmaId, Integer disciplinaId, int centesimos) {
+			agregados.porTurma.computeIfAbsent(turmaId, chave -> new Agregado()).alterar(null, centesimos);
+			agregados.porDisciplina.computeIfAbsent(disciplinaId, chave -> new Agregado()).alterar(null, centesimos);
+		}
+
+	}
+
+//  Agregados de todas as turmas e disciplinas, substituídos por inteiro a cada recálculo
+	private static final class Agregados {
+
+		private final Map<Integer, Agregado> porTurma = new ConcurrentHashMap<>();
+		private final Map<Integer, Agregado> porDisciplina = new ConcurrentHashMap<>();
+
+		long total() {
+			long total = 0;
+			for (Agregado agregado : porTurma.values()) {
+				total += agregado.quantidade();
+			}
+			return total;
+		}
+
+	}
+
+//  Quantidade, soma e soma dos quadrados das notas (em centésimos) e quantidade de notas por faixa; as
+//  alterações e as leituras são sincronizadas para que as estatísticas sejam calculadas de um estado consistente
+	private static final class Agregado {
+
+		private long quantidade;
+		private long soma;
+		private long somaQuadrados;
+		private long aprovados;
+		private final long[] faixas = new long[FAIXAS];
+
+		synchronized void alterar(Integer anterior, Integer nova) {
+			if (anterior != null) {
+				acumular(anterior, -1);
+			}
+			if (nova != null) {
+				acumular(nova, 1);
+			}
+		}
+
+		synchronized long quantidade() {
+			return quantidade;
+		}
+
+		synchronized EstatisticaNotasDTO estatisticas() {
+			if (quantidade == 0) {
+				return new EstatisticaNotasDTO(0, null, null, 0, 0, new long[FAIXAS]);
+			}
+			double media = (double) soma / quantidade;
+			double variancia = Math.max((double) somaQuadrados / quantidade - media * media, 0);
+			return new EstatisticaNotasDTO(quantidade, media / 100, Math.sqrt(variancia) / 100, aprovados,
+					(double) aprovados / quantidade, Arrays.copyOf(faixas, FAIXAS));
+		}
+
+		private void acumular(int centesimos, int sinal) {
+			quantidade += sinal;
+			soma += sinal * centesimos;
+			somaQuadrados += sinal * (long) centesimos * centesimos;
+			faixas[Math.min(centesimos / 100, FAIXAS - 1)] += sinal;
+			if (centesimos >= MEDIA_APROVACAO) {
+				aprovados += sinal;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,365 @@
+package br.com.senac.service;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.senac.dto.ConflitoHorarioDTO;
+import br.com.senac.entity.Horario;
+import br.com.senac.util.NormalizadorTexto;
+
+/**
+ * Mantém em memória a ocupação semanal de cada sala, professor e turma, usada para recusar aulas sobrepostas
+ * sem consultar o banco. A semana é dividida em intervalos de {@link #MINUTOS_POR_SLOT} minutos e cada recurso
+ * tem um BitSet de {@link #SLOTS_POR_SEMANA} bits (252 bytes), de modo que verificar um conflito é uma
+ * interseção de bits, independentemente da quantidade de aulas já cadastradas.
+ *
+ * Salas e professores são identificados pelo nome normalizado (NormalizadorTexto), para que "Sala 101" e
+ * "sala 101" sejam o mesmo recurso.
+ */
+@Component
+public class GradeHoraria {
+
+//  Granularidade da grade: os horários de início e fim devem ser múltiplos desse valor
+	public static final int MINUTOS_POR_SLOT = 5;
+	public static final int SLOTS_POR_DIA = 24 * 60 / MINUTOS_POR_SLOT;
+	public static final int SLOTS_POR_SEMANA = 7 * SLOTS_POR_DIA;
+
+	private final Map<String, BitSet> salas = new HashMap<>();
+	private final Map<String, BitSet> professores = new HashMap<>();
+	private final Map<Integer, BitSet> turmas = new HashMap<>();
+
+//  Alocações de cada turma por ID do horário, usadas para liberar os bits quando o horário ou a turma é excluído
+	private final Map<Integer, Map<Integer, Alocacao>> alocacoes = new HashMap<>();
+
+	/**
+	 * Reserva a sala, o professor e o intervalo do horário na grade. Dentro de uma transação, a reserva é
+	 * desfeita se a transação não for confirmada; enquanto isso, ela já impede reservas conflitantes de outras
+	 * transações.
+	 *
+	 * @param horario O horário já salvo (com ID e turma).
+	 * @param turmasComAlunosEmComum As turmas que têm alunos em comum com a turma do horário.
+	 * @throws RequisicaoInvalidaException Se o horário for inválido.
+	 * @throws ConflitoException Se o horário estiver em conflito com a sala, o professor, outra aula da própria
+	 * turma ou uma aula de turma com alunos em comum.
+	 */
+	public void reservar(Horario horario, Collection<Integer> turmasComAlunosEmComum) {
+		Alocacao alocacao = alocacao(horario);
+		Integer turmaId = horario.getTurma().getId();
+		synchronized (this) {
+			List<String> conflitos = new ArrayList<>();
+			if (ocupado(salas.get(alocacao.sala()), alocacao)) {
+				conflitos.add("sala " + horario.getSala());
+			}
+			if (ocupado(professores.get(alocacao.professor()), alocacao)) {
+				conflitos.add("professor " + horario.getProfessor());
+			}
+			if (ocupado(turmas.get(turmaId), alocacao)) {
+				conflitos.add("outra aula da turma");
+			}
+			for (Integer outraTurma : turmasComAlunosEmComum) {
+				if (ocupado(turmas.get(outraTurma), alocacao)) {
+					conflitos.add("aula da turma com o ID " + outraTurma + ", que tem alunos em comum");
+				}
+			}
+			if (!conflitos.isEmpty()) {
+				throw new ConflitoException("Horário em conflito com: " + String.join(", ", conflitos) + ".");
+			}
+			marcar(turmaId, horario.getId(), alocacao);
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status != STATUS_COMMITTED) {
+						desmarcar(turmaId, horario.getId());
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * Libera o intervalo do horário excluído. Dentro de uma transação, só é liberado após o commit.
+	 *
+	 * @param turmaId O ID da turma do horário.
+	 * @param horarioId O ID do horário.
+	 */
+	public void liberar(Integer turmaId, Integer horarioId) {
+		aposCommit(() -> desmarcar(turmaId, horarioId));
+	}
+
+	/**
+	 * Libera todos os horários da turma excluída. Dentro de uma transação, só são liberados após o commit.
+	 *
+	 * @param turmaId O ID da turma.
+	 */
+	public void liberarTurma(Integer turmaId) {
+		aposCommit(() -> {
+			synchronized (this) {
+				Map<Integer, Alocacao> daTurma = alocacoes.get(turmaId);
+				if (daTurma != null) {
+					for (Integer horarioId : new ArrayList<>(daTurma.keySet())) {
+						desmarcar(turmaId, horarioId);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Reconstrói a grade a partir dos horários gravados no banco (ex.: na inicialização da aplicação). Os
+	 * horários não são verificados, pois já foram validados ao serem gravados.
+	 *
+	 * @param horarios Todos os horários cadastrados.
+	 */
+	public synchronized void carregar(List<Horario> horarios) {
+		salas.clear();
+		professores.clear();
+		turmas.clear();
+		alocacoes.clear();
+		for (Horario horario : horarios) {
+			marcar(horario.getTurma().getId(), horario.getId(), alocacao(horario));
+		}
+	}
+
+	/**
+	 * @param turmaId O ID da turma.
+	 * @return Se a turma tem ao menos um horário na grade (sem horários, não há conflitos a verificar).
+	 */
+	public synchronized boolean possuiHorarios(Integer turmaId) {
+		return turmas.containsKey(turmaId);
+	}
+
+	/**
+	 * Verifica quais das turmas informadas têm aulas no mesmo horário que a turma alvo, o que impede que um
+	 * aluno matriculado nelas seja matriculado também na turma alvo.
+	 *
+	 * @param turmaId O ID da turma alvo.
+	 * @param outrasTurmas Os IDs das turmas a comparar (ex.: as turmas do aluno).
+	 * @return Os IDs das turmas com aulas sobrepostas às da turma alvo.
+	 */
+	public synchronized List<Integer> turmasEmConflito(Integer turmaId, Collection<Integer> outrasTurmas) {
+		List<Integer> emConflito = new ArrayList<>();
+		BitSet alvo = turmas.get(turmaId);
+		if (alvo == null) {
+			return emConflito;
+		}
+		for (Integer outraTurma : outrasTurmas) {
+			BitSet outra = turmas.get(outraTurma);
+			if (!outraTurma.equals(turmaId) && outra != null && alvo.intersects(outra)) {
+				emConflito.add(outraTurma);
+			}
+		}
+		return emConflito;
+	}
+
+	/**
+	 * Valida uma grade completa proposta, sem alterar a grade em memória. Os conflitos de sala, professor e
+	 * turma são verificados com BitSets locais; a lista de turmas com alunos em comum só é consultada para as
+	 * turmas que têm aulas sobrepostas às de outra turma da grade proposta.
+	 *
+	 * @param horarios Os horários da grade proposta, cada um com o ID da turma.
+	 * @param paresComAlunosEmComum Função que recebe IDs de turmas e retorna os pares (ver {@link #par}) entre
+	 * elas que têm alunos em comum.
+	 * @return Os conflitos encontrados, com as posições dos horários envolvidos; vazia se a grade for válida.
+	 * @throws RequisicaoInvalidaException Se algum horário for inválido.
+	 */
+	public List<ConflitoHorarioDTO> validar(List<Horario> horarios, Function<Collection<Integer>, Set<Long>> paresComAlunosEmComum) {
+		List<Alocacao> propostas = new ArrayList<>(horarios.size());
+		for (int i = 0; i < horarios.size(); i++) {
+			Horario horario = horarios.get(i);
+			if (horario.getTurma() == null || horario.getTurma().getId() == null) {
+				throw new RequisicaoInvalidaException("Horário na posição " + i + " sem turmaId.");
+			}
+			try {
+				propostas.add(alocacao(horario));
+			} catch (RequisicaoInvalidaException e) {
+				throw new RequisicaoInvalidaException("Horário na posição " + i + ": " + e.getMessage());
+			}
+		}
+
+		List<ConflitoHorarioDTO> conflitos = new ArrayList<>();
+		Map<Integer, Ocupacao> porTurma = new LinkedHashMap<>();
+		Map<String, Ocupacao> porSala = new HashMap<>();
+		Map<String, Ocupacao> porProfessor = new HashMap<>();
+		for (int i = 0; i < propostas.size(); i++) {
+			Alocacao alocacao = propostas.get(i);
+			Horario horario = horarios.get(i);
+			porSala.computeIfAbsent(alocacao.sala(), chave -> new Ocupacao())
+					.adicionar(i, alocacao, propostas, conflitos, "sala", "Sala " + horario.getSala() + " ocupada por mais de uma aula.");
+			porProfessor.computeIfAbsent(alocacao.professor(), chave -> new Ocupacao())
+					.adicionar(i, alocacao, propostas, conflitos, "professor", "Professor " + horario.getProfessor() + " em mais de uma aula.");
+			porTurma.computeIfAbsent(horario.getTurma().getId(), chave -> new Ocupacao())
+					.adicionar(i, alocacao, propostas, conflitos, "turma", "Turma com o ID " + horario.getTurma().getId() + " com aulas sobrepostas.");
+		}
+
+//      Somente as turmas com aulas no mesmo intervalo de outra turma podem ter conflito de alunos
+		BitSet uniao = new BitSet(SLOTS_POR_SEMANA);
+		BitSet repetidos = new BitSet(SLOTS_POR_SEMANA);
+		for (Ocupacao ocupacao : porTurma.values()) {
+			BitSet comum = (BitSet) uniao.clone();
+			comum.and(ocupacao.bits);
+			repetidos.or(comum);
+			uniao.or(ocupacao.bits);
+		}
+		List<Integer> candidatas = new ArrayList<>();
+		porTurma.forEach((turmaId, ocupacao) -> {
+			if (ocupacao.bits.intersects(repetidos)) {
+				candidatas.add(turmaId);
+			}
+		});
+		if (candidatas.size() < 2) {
+			return conflitos;
+		}
+
+		Set<Long> pares = paresComAlunosEmComum.apply(candidatas);
+		for (int a = 0; a < candidatas.size(); a++) {
+			for (int b = a + 1; b < candidatas.size(); b++) {
+				Integer turmaA = candidatas.get(a);
+				Integer turmaB = candidatas.get(b);
+				Ocupacao ocupacaoA = porTurma.get(turmaA);
+				Ocupacao ocupacaoB = porTurma.get(turmaB);
+				if (ocupacaoA.bits.intersects(ocupacaoB.bits) && pares.contains(par(turmaA, turmaB))) {
+					for (Integer i : ocupacaoA.posicoes) {
+						for (Integer j : ocupacaoB.posicoes) {
+							if (propostas.get(i).sobrepoe(propostas.get(j))) {
+								conflitos.add(new ConflitoHorarioDTO("aluno", "Turmas com os IDs " + turmaA + " e " + turmaB
+										+ " têm alunos em comum e aulas sobrepostas.", List.of(Math.min(i, j), Math.max(i, j))));
+							}
+						}
+					}
+				}
+			}
+		}
+		return conflitos;
+	}
+
+	/**
+	 * Identifica um par não ordenado de turmas em um único long.
+	 *
+	 * @param turmaA O ID de uma das turmas.
+	 * @param turmaB O ID da outra turma.
+	 * @return O par, igual para (turmaA, turmaB) e (turmaB, turmaA).
+	 */
+	public static long par(int turmaA, int turmaB) {
+		return ((long) Math.min(turmaA, turmaB) << 32) | Math.max(turmaA, turmaB);
+	}
+
+	private void marcar(Integer turmaId, Integer horarioId, Alocacao alocacao) {
+		salas.computeIfAbsent(alocacao.sala(), chave -> new BitSet(SLOTS_POR_SEMANA)).set(alocacao.inicio(), alocacao.fim());
+		professores.computeIfAbsent(alocacao.professor(), chave -> new BitSet(SLOTS_POR_SEMANA)).set(alocacao.inicio(), alocacao.fim());
+		turmas.computeIfAbsent(turmaId, chave -> new BitSet(SLOTS_POR_SEMANA)).set(alocacao.inicio(), alocacao.fim());
+		alocacoes.computeIfAbsent(turmaId, chave -> new HashMap<>()).put(horarioId, alocacao);
+	}
+
+	private synchronized void desmarcar(Integer turmaId, Integer horarioId) {
+		Map<Integer, Alocacao> daTurma = alocacoes.get(turmaId);
+		Alocacao alocacao = daTurma == null ? null : daTurma.remove(horarioId);
+		if (alocacao == null) {
+			return;
+		}
+		if (daTurma.isEmpty()) {
+			alocacoes.remove(turmaId);
+		}
+		limpar(salas, alocacao.sala(), alocacao);
+		limpar(professores, alocacao.professor(), alocacao);
+		limpar(turmas, turmaId, alocacao);
+	}
+
+//  Os intervalos de um mesmo recurso nunca se sobrepõem, então limpar os bits da alocação não afeta as demais
+	private static <K> void limpar(Map<K, BitSet> ocupacao, K recurso, Alocacao alocacao) {
+		BitSet bits = ocupacao.get(recurso);
+		if (bits != null) {
+			bits.clear(alocacao.inicio(), alocacao.fim());
+			if (bits.isEmpty()) {
+				ocupacao.remove(recurso);
+			}
+		}
+	}
+
+	private static boolean ocupado(BitSet bits, Alocacao alocacao) {
+		if (bits == null) {
+			return false;
+		}
+		int proximo = bits.nextSetBit(alocacao.inicio());
+		return proximo >= 0 && proximo < alocacao.fim();
+	}
+
+	private static void aposCommit(Runnable acao) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					acao.run();
+				}
+			});
+		} else {
+			acao.run();
+		}
+	}
+
+	private static Alocacao alocacao(Horario horario) {
+		if (horario.getDiaSemana() == null || horario.getInicio() == null || horario.getFim() == null) {
+			throw new RequisicaoInvalidaException("Dia da semana, início e fim são obrigatórios.");
+		}
+		if (horario.getSala() == null || horario.getSala().isBlank() || horario.getProfessor() == null || horario.getProfessor().isBlank()) {
+			throw new RequisicaoInvalidaException("Sala e professor são obrigatórios.");
+		}
+		if (!horario.getInicio().isBefore(horario.getFim())) {
+			throw new RequisicaoInvalidaException("O início deve ser anterior ao fim.");
+		}
+		int dia = (horario.getDiaSemana().getValue() - 1) * SLOTS_POR_DIA;
+		return new Alocacao(NormalizadorTexto.normalizar(horario.getSala()), NormalizadorTexto.normalizar(horario.getProfessor()),
+				dia + slot(horario.getInicio()), dia + slot(horario.getFim()));
+	}
+
+	private static int slot(LocalTime horario) {
+		int minutos = horario.getHour() * 60 + horario.getMinute();
+		if (minutos % MINUTOS_POR_SLOT != 0 || horario.getSecond() != 0 || horario.getNano() != 0) {
+			throw new RequisicaoInvalidaException("Horários devem ser múltiplos de " + MINUTOS_POR_SLOT + " minutos.");
+		}
+		return minutos / MINUTOS_POR_SLOT;
+	}
+
+//  Intervalo [inicio, fim) de slots da semana ocupado por um horário
+	private record Alocacao(String sala, String professor, int inicio, int fim) {
+
+		boolean sobrepoe(Alocacao outra) {
+			return inicio < outra.fim && outra.inicio < fim;
+		}
+
+	}
+
+//  Ocupação de um recurso na grade proposta, com as posições dos horários para localizar os conflitos
+	private static class Ocupacao {
+
+		private final BitSet bits = new BitSet(SLOTS_POR_SEMANA);
+		private final List<Integer> posicoes = new ArrayList<>();
+
+		void adicionar(int posicao, Alocacao alocacao, List<Alocacao> propostas, List<ConflitoHorarioDTO> conflitos, String tipo, String mensagem) {
+			if (ocupado(bits, alocacao)) {
+				for (Integer anterior : posicoes) {
+					if (propostas.get(anterior).sobrepoe(alocacao)) {
+						conflitos.add(new ConflitoHorarioDTO(tipo, mensagem, List.of(anterior, posicao)));
+					}
+				}
+			}
+			bits.set(alocacao.inicio(), alocacao.fim());
+			posicoes.add(posicao);
+		}
+
+	}
+
+}
@@ -0,0 +1,138 @@
+package br.com.senac.service;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.senac.dto.ConflitoHorarioDTO;
+import br.com.senac.entity.Horario;
+import br.com.senac.entity.Turma;
+import br.com.senac.repository.HorarioRepository;
+import br.com.senac.repository.MatriculaRepository;
+import br.com.senac.repository.TurmaRepository;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityNotFoundException;
+
+@Service
+//Registra o tempo de execução de cada método público do serviço (Metricas.TEMPO_SERVICO)
+@Timed(value = Metricas.TEMPO_SERVICO, histogram = true)
+public class HorarioService {
+
+//  Ordem de exibição dos horários: pelo dia da semana (segunda a domingo) e pelo início
+	private static final Comparator<Horario> ORDEM_SEMANA = Comparator.comparing(Horario::getDiaSemana).thenComparing(Horario::getInicio);
+
+//  Realiza a injeção automática de dependência do HorarioRepository pelo Spring
+	@Autowired
+	HorarioRepository horarioRepository;
+
+//  Realiza a injeção automática de dependência do TurmaRepository pelo Spring
+	@Autowired
+	TurmaRepository turmaRepository;
+
+//  Realiza a injeção automática de dependência do MatriculaRepository pelo Spring
+	@Autowired
+	MatriculaRepository matriculaRepository;
+
+//  Realiza a injeção automática de dependência da GradeHoraria pelo Spring
+	@Autowired
+	GradeHoraria gradeHoraria;
+
+	/**
+	 * Carrega na GradeHoraria os horários já cadastrados, quando a aplicação termina de inicializar.
+	 *
+	 * @param evento O evento de aplicação pronta.
+	 */
+	@EventListener
+	@Transactional(readOnly = true)
+	public void carregarGrade(ApplicationReadyEvent evento) {
+		gradeHoraria.carregar(horarioRepository.buscarTodos());
+	}
+
+	/**
+	 * Retorna os horários da turma informada, em ordem de dia da semana e início.
+	 *
+	 * @param turmaId O ID da turma.
+	 * @return Lista dos horários da turma.
+	 * @throws EntityNotFoundException Se a turma com o ID fornecido não for encontrada.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional(readOnly = true)
+	public List<Horario> buscarHorariosDaTurma(Integer turmaId) {
+		if (!turmaRepository.existsById(turmaId)) {
+			throw RecursoNaoEncontradoException.feminino("Turma", turmaId);
+		}
+		List<Horario> horarios = horarioRepository.buscarHorariosDaTurma(turmaId);
+		horarios.sort(ORDEM_SEMANA);
+		return horarios;
+	}
+
+	/**
+	 * Adiciona um horário à turma informada. A sala, o professor, as demais aulas da turma e as aulas das turmas
+	 * com alunos em comum são verificados na GradeHoraria, em memória.
+	 *
+	 * @param turmaId O ID da turma.
+	 * @param horario O horário a ser adicionado.
+	 * @return O horário salvo no repositório.
+	 * @throws EntityNotFoundException Se a turma com o ID fornecido não for encontrada.
+	 * @throws RequisicaoInvalidaException Se o horário for inválido.
+	 * @throws ConflitoException Se o horário estiver em conflito com outra aula.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
+	public Horario adicionarHorario(Integer turmaId, Horario horario) {
+		Turma turma = turmaRepository.findById(turmaId).orElseThrow(() -> RecursoNaoEncontradoException.feminino("Turma", turmaId));
+		horario.setId(null);
+		horario.setTurma(turma);
+		Horario salvo = horarioRepository.save(horario);
+		gradeHoraria.reservar(salvo, matriculaRepository.buscarTurmasComAlunosEmComum(turmaId));
+		return salvo;
+	}
+
+	/**
+	 * Exclui um horário da turma informada com um único comando DELETE.
+	 *
+	 * @param turmaId O ID da turma.
+	 * @param horarioId O ID do horário a ser excluído.
+	 * @throws EntityNotFoundException Se o horário não for encontrado na turma.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
+	public void excluirHorario(Integer turmaId, Integer horarioId) {
+		if (horarioRepository.excluirPorIdETurma(horarioId, turmaId) == 0) {
+			throw RecursoNaoEncontradoException.masculino("Horário", horarioId);
+		}
+		gradeHoraria.liberar(turmaId, horarioId);
+	}
+
+	/**
+	 * Valida uma grade horária completa proposta, sem gravá-la. Os alunos em comum entre turmas são consultados
+	 * com uma única consulta, e apenas quando há turmas com aulas sobrepostas.
+	 *
+	 * @param horarios Os horários da grade proposta, cada um com o ID da turma.
+	 * @return Os conflitos encontrados; vazia se a grade for válida.
+	 * @throws RequisicaoInvalidaException Se algum horário for inválido.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional(readOnly = true)
+	public List<ConflitoHorarioDTO> validarGrade(List<Horario> horarios) {
+		return gradeHoraria.validar(horarios, this::buscarParesComAlunosEmComum);
+	}
+
+	private Set<Long> buscarParesComAlunosEmComum(Collection<Integer> turmas) {
+		Set<Long> pares = new HashSet<>();
+		for (Object[] par : matriculaRepository.buscarParesDeTurmasComAlunosEmComum(turmas)) {
+			pares.add(GradeHoraria.par((Integer) par[0], (Integer) par[1]));
+		}
+		return pares;
+	}
+
+}
@@ -0,0 +1,258 @@
+package br.com.senac.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+import br.com.senac.dto.ErroImportacaoDTO;
+import br.com.senac.dto.ResultadoImportacaoDTO;
+import br.com.senac.entity.Aluno;
+import br.com.senac.util.NormalizadorTexto;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.PersistenceException;
+
+/**
+ * Importa alunos a partir de arquivos CSV lidos linha a linha. As linhas válidas são gravadas em blocos de
+ * {@link #TAMANHO_BLOCO} por meio do {@link AlunoService#salvarAlunos(List)}, cada bloco em sua própria
+ * transação, de forma que o uso de memória não depende do tamanho do arquivo.
+ */
+@Service
+//Registra o tempo de execução de cada método público do serviço (Metricas.TEMPO_SERVICO)
+@Timed(value = Metricas.TEMPO_SERVICO, histogram = true)
+public class ImportacaoAlunoService {
+
+//  Quantidade de alunos gravados por transação
+	public static final int TAMANHO_BLOCO = 1000;
+
+//  Quantidade máxima de erros listados no resultado; os demais são apenas contados
+	public static final int MAXIMO_ERROS_RELATADOS = 100;
+
+//  Tamanho máximo do nome (tamanho padrão da coluna varchar gerada pelo Hibernate)
+	public static final int TAMANHO_MAXIMO_NOME = 255;
+
+//  Tamanho máximo de uma linha (o nome e algumas colunas de tamanho semelhante, com aspas e separadores); o restante
+//  de uma linha maior é descartado até a próxima quebra de linha, sem ser mantido em memória, e a linha é rejeitada
+	public static final int TAMANHO_MAXIMO_LINHA = 4 * TAMANHO_MAXIMO_NOME + 64;
+
+	private static final String COLUNA_NOME = "nome";
+
+//  Realiza a injeção automática de dependência do AlunoService pelo Spring
+	@Autowired
+	AlunoService alunoService;
+
+	/**
+	 * Importa os alunos do CSV informado. O arquivo pode ter um cabeçalho com a coluna "nome" (em qualquer
+	 * posição); sem cabeçalho, o nome é a primeira coluna. O separador pode ser vírgula ou ponto e vírgula e
+	 * os valores podem estar entre aspas duplas. Linhas inválidas, inclusive as com mais de
+	 * {@link #TAMANHO_MAXIMO_LINHA} caracteres, são rejeitadas e relatadas sem interromper a importação.
+	 * 
+	 * @param leitor O conteúdo do arquivo CSV.
+	 * @return O resultado da importação, com as quantidades e os erros por linha.
+	 * @throws IOException Se ocorrer um erro na leitura do arquivo.
+	 */
+	public ResultadoImportacaoDTO importar(Reader leitor) throws IOException {
+		ResultadoImportacaoDTO resultado = new ResultadoImportacaoDTO();
+		LeitorLinhas linhas = new LeitorLinhas(leitor);
+		StringBuilder conteudo = new StringBuilder();
+		List<Aluno> bloco = new ArrayList<>(TAMANHO_BLOCO);
+		long primeiraLinhaBloco = 0;
+		char separador = ',';
+		int colunaNome = -1;
+		long numero = 0;
+		while (linhas.proxima(conteudo)) {
+			numero++;
+			if (linhas.isExcedida()) {
+				resultado.setLinhasLidas(resultado.getLinhasLidas() + 1);
+				rejeitar(resultado, numero, 1, "Linha com mais de " + TAMANHO_MAXIMO_LINHA + " caracteres.");
+				continue;
+			}
+			String linha = conteudo.toString();
+			if (numero == 1 && !linha.isEmpty() && linha.charAt(0) == '\uFEFF') {
+				linha = linha.substring(1);
+			}
+			if (linha.isBlank()) {
+				continue;
+			}
+			if (colunaNome < 0) {
+//				A primeira linha preenchida define o separador e, se for um cabeçalho, a posição da coluna nome
+				separador = linha.indexOf(';') >= 0 && linha.indexOf(',') < 0 ? ';' : ',';
+				colunaNome = posicaoColunaNome(linha, separador);
+				if (colunaNome >= 0) {
+					continue;
+				}
+				colunaNome = 0;
+			}
+			resultado.setLinhasLidas(resultado.getLinhasLidas() + 1);
+			try {
+				Aluno aluno = new Aluno();
+				aluno.setNome(lerNome(linha, separador, colunaNome));
+				if (bloco.isEmpty()) {
+					primeiraLinhaBloco = numero;
+				}
+				bloco.add(aluno);
+			} catch (IllegalArgumentException e) {
+				rejeitar(resultado, numero, 1, e.getMessage());
+			}
+			if (bloco.size() == TAMANHO_BLOCO) {
+				gravar(bloco, primeiraLinhaBloco, numero, resultado);
+			}
+		}
+		gravar(bloco, primeiraLinhaBloco, numero, resultado);
+		return resultado;
+	}
+
+//  Grava o bloco em uma transação; se o banco recusar o bloco, todas as suas linhas são rejeitadas. A recusa pode
+//  chegar como DataAccessException (traduzida pelo repositório), como PersistenceException (no flush explícito de
+//  salvarAlunos, fora do repositório) ou como TransactionException (no flush do commit)
+	private void gravar(List<Aluno> bloco, long primeiraLinha, long ultimaLinha, ResultadoImportacaoDTO resultado) {
+		if (bloco.isEmpty()) {
+			return;
+		}
+		try {
+			alunoService.salvarAlunos(bloco);
+			resultado.setImportados(resultado.getImportados() + bloco.size());
+		} catch (DataAccessException | PersistenceException | TransactionException e) {
+			rejeitar(resultado, primeiraLinha, bloco.size(), "Bloco das linhas " + primeiraLinha + " a " + ultimaLinha + " não gravado: "
+					+ NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+		}
+		bloco.clear();
+	}
+
+//  Conta as linhas rejeitadas e relata o erro enquanto o limite de erros relatados não for atingido
+	private void rejeitar(ResultadoImportacaoDTO resultado, long linha, int quantidade, String mensagem) {
+		resultado.setRejeitados(resultado.getRejeitados() + quantidade);
+		if (resultado.getErros().size() < MAXIMO_ERROS_RELATADOS) {
+			resultado.getErros().add(new ErroImportacaoDTO(linha, mensagem));
+		} else {
+			resultado.setErrosTruncados(true);
+		}
+	}
+
+//  Retorna a posição da coluna "nome" se a linha for um cabeçalho, ou -1 se for uma linha de dados
+	private int posicaoColunaNome(String linha, char separador) {
+		try {
+			List<String> colunas = separarColunas(linha, separador);
+			for (int i = 0; i < colunas.size(); i++) {
+				if (COLUNA_NOME.equals(NormalizadorTexto.normalizar(colunas.get(i)))) {
+					return i;
+				}
+			}
+		} catch (IllegalArgumentException e) {
+//			Linha inválida: será tratada (e relatada) como linha de dados
+		}
+		return -1;
+	}
+
+//  Lê e valida o nome da linha de dados
+	private String lerNome(String linha, char separador, int colunaNome) {
+		List<String> colunas = separarColunas(linha, separador);
+		if (colunas.size() <= colunaNome) {
+			throw new IllegalArgumentException("Coluna nome ausente.");
+		}
+		String nome = colunas.get(colunaNome).trim();
+		if (nome.isEmpty()) {
+			throw new IllegalArgumentException("Nome em branco.");
+		}
+		if (nome.length() > TAMANHO_MAXIMO_NOME) {
+			throw new IllegalArgumentException("Nome com mais de " + TAMANHO_MAXIMO_NOME + " caracteres.");
+		}
+		return nome;
+	}
+
+//  Separa as colunas de uma linha CSV, aceitando valores entre aspas duplas (com "" representando uma aspa)
+	private List<String> separarColunas(String linha, char separador) {
+		List<String> colunas = new ArrayList<>();
+		StringBuilder valor = new StringBuilder();
+		boolean entreAspas = false;
+		for (int i = 0; i < linha.length(); i++) {
+			char c = linha.charAt(i);
+			if (entreAspas) {
+				if (c == '"' && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+					valor.append('"');
+					i++;
+				} else if (c == '"') {
+					entreAspas = false;
+				} else {
+					valor.append(c);
+				}
+			} else if (c == '"') {
+				entreAspas = true;
+			} else if (c == separador) {
+				colunas.add(valor.toString());
+				valor.setLength(0);
+			} else {
+				valor.append(c);
+			}
+		}
+		if (entreAspas) {
+			throw new IllegalArgumentException("Aspas não fechadas.");
+		}
+		colunas.add(valor.toString());
+		return colunas;
+	}
+
+//  Lê as linhas do arquivo (terminadas por \n, \r ou \r\n, como no BufferedReader.readLine()) guardando no máximo
+//  TAMANHO_MAXIMO_LINHA caracteres de cada uma
+	private static final class LeitorLinhas {
+
+		private final Reader leitor;
+		private final char[] buffer = new char[8192];
+		private int posicao;
+		private int limite;
+//  Indica que a linha anterior terminou em \r e que um \n logo em seguida pertence a ela
+		private boolean ignorarLf;
+//  Indica que a última linha lida passou de TAMANHO_MAXIMO_LINHA caracteres (e foi truncada)
+		private boolean excedida;
+
+		LeitorLinhas(Reader leitor) {
+			this.leitor = leitor;
+		}
+
+//  Copia a próxima linha para o destino, sem a quebra de linha; retorna false no fim do arquivo
+		boolean proxima(StringBuilder destino) throws IOException {
+			destino.setLength(0);
+			excedida = false;
+			boolean lida = false;
+			while (true) {
+				if (posicao == limite) {
+					limite = leitor.read(buffer);
+					posicao = 0;
+					if (limite <= 0) {
+						limite = 0;
+						return lida;
+					}
+				}
+				char c = buffer[posicao++];
+				if (ignorarLf) {
+					ignorarLf = false;
+					if (c == '\n') {
+						continue;
+					}
+				}
+				lida = true;
+				if (c == '\n' || c == '\r') {
+					ignorarLf = c == '\r';
+					return true;
+				}
+				if (destino.length() < TAMANHO_MAXIMO_LINHA) {
+					destino.append(c);
+				} else {
+					excedida = true;
+				}
+			}
+		}
+
+		boolean isExcedida() {
+			return excedida;
+		}
+
+	}
+
+}
@@ -0,0 +1,166 @@
+package br.com.senac.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.senac.entity.Aluno;
+import br.com.senac.entity.Matricula;
+import br.com.senac.entity.Turma;
+import br.com.senac.repository.AlunoRepository;
+import br.com.senac.repository.MatriculaRepository;
+import br.com.senac.repository.TurmaRepository;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityNotFoundException;
+
+@Service
+//Registra o tempo de execução de cada método público do serviço (Metricas.TEMPO_SERVICO)
+@Timed(value = Metricas.TEMPO_SERVICO, histogram = true)
+public class MatriculaService {
+
+//  Realiza a injeção automática de dependência do MatriculaRepository pelo Spring
+	@Autowired
+	MatriculaRepository matriculaRepository;
+
+//  Realiza a injeção automática de dependência do AlunoRepository pelo Spring
+	@Autowired
+	AlunoRepository alunoRepository;
+
+//  Realiza a injeção automática de dependência do TurmaRepository pelo Spring
+	@Autowired
+	TurmaRepository turmaRepository;
+
+//  Realiza a injeção automática de dependência da GradeHoraria pelo Spring
+	@Autowired
+	GradeHoraria gradeHoraria;
+
+//  Realiza a injeção automática de dependência do ControleVagas pelo Spring
+	@Autowired
+	ControleVagas controleVagas;
+
+//  Publica o evento VagaLiberada, que promove a lista de espera da turma após o commit
+	@Autowired
+	ApplicationEventPublisher eventos;
+
+	/**
+	 * Cria uma matrícula do aluno na turma informada, ocupando uma vaga se a turma tiver capacidade. A vaga
+	 * é reservada em memória pelo ControleVagas, sem travar a linha da turma, e devolvida se a transação falhar.
+	 * A matrícula é gravada imediatamente, para que a restrição única uk_matricula_aluno_turma resolva as
+	 * requisições simultâneas do mesmo aluno que passarem juntas pela verificação de existência.
+	 * 
+	 * @param alunoId O ID do aluno.
+	 * @param turmaId O ID da turma.
+	 * @return A matrícula salva no repositório.
+	 * @throws EntityNotFoundException Se o aluno ou a turma não for encontrado.
+	 * @throws ConflitoException Se o aluno já estiver matriculado na turma ou em outra turma com aulas
+	 * no mesmo horário.
+	 * @throws VagasEsgotadasException Se a turma não tiver vagas disponíveis.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
+	public Matricula salvarMatricula(Integer alunoId, Integer turmaId) {
+		Aluno aluno = buscarAluno(alunoId);
+		Turma turma = buscarTurma(turmaId);
+		if (matriculaRepository.existsByAlunoIdAndTurmaId(alunoId, turmaId)) {
+			throw jaMatriculado(alunoId, turmaId);
+		}
+		if (gradeHoraria.possuiHorarios(turmaId)) {
+			List<Integer> emConflito = gradeHoraria.turmasEmConflito(turmaId, matriculaRepository.buscarIdsTurmasDoAluno(alunoId));
+			if (!emConflito.isEmpty()) {
+				throw new ConflitoException("Aluno com o ID " + alunoId + " matriculado em turma com aulas no mesmo horário: " + emConflito + ".");
+			}
+		}
+		if (!controleVagas.reservar(turmaId)) {
+			throw new VagasEsgotadasException(turmaId);
+		}
+		Matricula matricula = new Matricula();
+		matricula.setAluno(aluno);
+		matricula.setTurma(turma);
+		try {
+			return matriculaRepository.saveAndFlush(matricula);
+		} catch (DataIntegrityViolationException e) {
+			if (ConflitoException.causadaPor(e, "uk_matricula_aluno_turma")) {
+				throw jaMatriculado(alunoId, turmaId);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Busca uma matrícula no repositório com base no ID fornecido.
+	 * 
+	 * @param id O ID da matrícula a ser buscada.
+	 * @return A matrícula encontrada com o ID especificado.
+	 * @throws EntityNotFoundException Se a matrícula com o ID fornecido não for encontrada.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	public Matricula buscarMatriculaPorId(Integer id) {
+		return matriculaRepository.findById(id).orElseThrow(() -> RecursoNaoEncontradoException.feminino("Matrícula", id));
+	}
+
+	/**
+	 * Exclui uma matrícula do repositório com base no ID fornecido, devolvendo a vaga à turma e promovendo
+	 * a lista de espera após o commit.
+	 * 
+	 * @param id O ID da matrícula a ser excluída.
+	 * @throws EntityNotFoundException Se a matrícula com o ID fornecido não for encontrada.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
+	public void excluirMatricula(Integer id) {
+		Integer turmaId = matriculaRepository.buscarIdTurma(id).orElseThrow(() -> RecursoNaoEncontradoException.feminino("Matrícula", id));
+		if (matriculaRepository.excluirPorId(id) == 0) {
+			throw RecursoNaoEncontradoException.feminino("Matrícula", id);
+		}
+		controleVagas.liberar(turmaId);
+		eventos.publishEvent(new VagaLiberada(turmaId));
+	}
+
+	/**
+	 * Retorna os alunos da turma informada, em ordem alfabética, com uma única consulta.
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @return Lista dos alunos da turma.
+	 * @throws EntityNotFoundException Se a turma com o ID fornecido não for encontrada.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional(readOnly = true)
+	public List<Aluno> buscarAlunosDaTurma(Integer turmaId) {
+		buscarTurma(turmaId);
+		return matriculaRepository.buscarAlunosDaTurma(turmaId);
+	}
+
+	/**
+	 * Retorna as turmas do aluno informado, em ordem alfabética, com uma única consulta.
+	 * 
+	 * @param alunoId O ID do aluno.
+	 * @return Lista das turmas do aluno.
+	 * @throws EntityNotFoundException Se o aluno com o ID fornecido não for encontrado.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional(readOnly = true)
+	public List<Turma> buscarTurmasDoAluno(Integer alunoId) {
+		buscarAluno(alunoId);
+		return matriculaRepository.buscarTurmasDoAluno(alunoId);
+	}
+
+//  Busca o aluno pelo ID (normalmente resolvido pelo cache de segundo nível, sem consulta ao banco)
+	private Aluno buscarAluno(Integer id) {
+		return alunoRepository.findById(id).orElseThrow(() -> RecursoNaoEncontradoException.masculino("Aluno", id));
+	}
+
+//  Busca a turma pelo ID (normalmente resolvida pelo cache de segundo nível, sem consulta ao banco)
+	private Turma buscarTurma(Integer id) {
+		return turmaRepository.findById(id).orElseThrow(() -> RecursoNaoEncontradoException.feminino("Turma", id));
+	}
+
+	private static ConflitoException jaMatriculado(Integer alunoId, Integer turmaId) {
+		return new ConflitoException("Aluno com o ID " + alunoId + " já matriculado na turma com o ID " + turmaId + ".");
+	}
+
+}
@@ -0,0 +1,38 @@
+package br.com.senac.service;
+
+/**
+ * Nomes das métricas registradas pelos serviços, publicadas em GET /actuator/prometheus.
+ */
+public final class Metricas {
+
+//  Timer (com histograma) de cada método dos serviços; as tags class e method identificam o método
+	public static final String TEMPO_SERVICO = "academico.servico";
+
+//  Contador de chamadas encerradas com exceção; a tag exception separa os registros não encontrados (RecursoNaoEncontradoException)
+	public static final String FALHAS_SERVICO = "academico.servico.falhas";
+
+//  Contadores do CarregamentoUnico: buscas por ID executadas no banco e chamadas agrupadas a uma busca em andamento
+	public static final String CARREGAMENTOS = "academico.carregamento";
+	public static final String CARREGAMENTOS_AGRUPADOS = "academico.carregamento.agrupados";
+
+//  Contador de reservas de vagas do ControleVagas; a tag resultado separa as aceitas das recusadas por falta de vaga
+	public static final String RESERVAS_VAGAS = "academico.vagas.reservas";
+
+//  Contador de conexões do RoteadorDataSource (perfil "replica"); as tags destino e operacao separam as leituras na
+//  réplica, as leituras que voltaram ao primário e as escritas
+	public static final String ROTEAMENTO_DATASOURCE = "academico.datasource.roteamento";
+
+//  Atraso da réplica do perfil "replica", em milissegundos desde o início da última sincronização
+	public static final String ATRASO_REPLICA = "academico.replica.atraso";
+
+//  Contadores do LogAuditoria: registros gravados e gravações em disco (force), cada uma com os registros do intervalo
+	public static final String AUDITORIA_REGISTROS = "academico.auditoria.registros";
+	public static final String AUDITORIA_SINCRONIZACOES = "academico.auditoria.sincronizacoes";
+
+//  Contador do AuditoriaService: alterações confirmadas no banco que não puderam ser gravadas no log de auditoria
+	public static final String AUDITORIA_FALHAS = "academico.auditoria.falhas";
+
+	private Metricas() {
+	}
+
+}
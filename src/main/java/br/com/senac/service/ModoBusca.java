@@ -0,0 +1,13 @@
+package br.com.senac.service;
+
+/**
+ * Forma de comparação do termo nas buscas por nome.
+ */
+public enum ModoBusca {
+
+//  O nome normalizado começa com o termo (usa o índice da coluna nome_normalizado)
+	PREFIXO,
+//  O nome normalizado contém o termo em qualquer posição (não usa o índice: percorre a tabela inteira)
+	CONTEM
+
+}
@@ -0,0 +1,270 @@
+package br.com.senac.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.senac.dto.EstatisticaNotasDTO;
+import br.com.senac.entity.Aluno;
+import br.com.senac.entity.Disciplina;
+import br.com.senac.entity.Nota;
+import br.com.senac.entity.Turma;
+import br.com.senac.repository.AlunoRepository;
+import br.com.senac.repository.DisciplinaRepository;
+import br.com.senac.repository.MatriculaRepository;
+import br.com.senac.repository.NotaRepository;
+import br.com.senac.repository.OfertaRepository;
+import br.com.senac.repository.TurmaRepository;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Lançamento das notas dos alunos nas disciplinas oferecidas em suas turmas. Cada nota gravada atualiza os
+ * agregados da turma e da disciplina mantidos pelas EstatisticasNotas, de onde são lidas as estatísticas dos
+ * painéis sem consultar as notas no banco.
+ */
+@Service
+//Registra o tempo de execução de cada método público do serviço (Metricas.TEMPO_SERVICO)
+@Timed(value = Metricas.TEMPO_SERVICO, histogram = true)
+public class NotaService {
+
+	private static final Logger log = LoggerFactory.getLogger(NotaService.class);
+
+	private static final BigDecimal NOTA_MAXIMA = BigDecimal.TEN;
+
+//  Realiza a injeção automática de dependência do NotaRepository pelo Spring
+	@Autowired
+	NotaRepository notaRepository;
+
+//  Realiza a injeção automática de dependência do TurmaRepository pelo Spring
+	@Autowired
+	TurmaRepository turmaRepository;
+
+//  Realiza a injeção automática de dependência do DisciplinaRepository pelo Spring
+	@Autowired
+	DisciplinaRepository disciplinaRepository;
+
+//  Realiza a injeção automática de dependência do AlunoRepository pelo Spring
+	@Autowired
+	AlunoRepository alunoRepository;
+
+//  Realiza a injeção automática de dependência do MatriculaRepository pelo Spring
+	@Autowired
+	MatriculaRepository matriculaRepository;
+
+//  Realiza a injeção automática de dependência do OfertaRepository pelo Spring
+	@Autowired
+	OfertaRepository ofertaRepository;
+
+//  Realiza a injeção automática de dependência das EstatisticasNotas pelo Spring
+	@Autowired
+	EstatisticasNotas estatisticasNotas;
+
+//  Transações programáticas dos recálculos, que leem as notas com a conexão obtida antes da trava (definido pelo Spring Boot)
+	@Autowired
+	TransactionTemplate transacao;
+
+	/**
+	 * Lança a nota do aluno na disciplina da turma, substituindo a nota anterior se já houver uma. Se outro
+	 * lançamento simultâneo incluir a primeira nota do aluno antes desta transação (restrição única
+	 * uk_nota_turma_disciplina_aluno), o lançamento é repetido uma vez em nova transação, como alteração.
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @param disciplinaId O ID da disciplina.
+	 * @param alunoId O ID do aluno.
+	 * @param valor A nota, de 0 a 10 com até duas casas decimais.
+	 * @return A nota salva no repositório.
+	 * @throws EntityNotFoundException Se a turma, a disciplina ou o aluno não for encontrado.
+	 * @throws RequisicaoInvalidaException Se a nota for inválida, se o aluno não estiver matriculado na turma ou se
+	 * a disciplina não for oferecida na turma.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	public Nota lancarNota(Integer turmaId, Integer disciplinaId, Integer alunoId, BigDecimal valor) {
+		int centesimos = paraCentesimos(valor);
+		try {
+			return transacao.execute(status -> gravarNota(turmaId, disciplinaId, alunoId, centesimos));
+		} catch (DataIntegrityViolationException e) {
+			if (!ConflitoException.causadaPor(e, "uk_nota_turma_disciplina_aluno")) {
+				throw e;
+			}
+//			A nota incluída pela outra transação já está gravada: a nova tentativa a trava e substitui
+			return transacao.execute(status -> gravarNota(turmaId, disciplinaId, alunoId, centesimos));
+		}
+	}
+
+//  Inclui ou altera a nota dentro da transação atual; a inclusão é gravada de imediato, para que a violação da
+//  restrição única chegue a lancarNota() antes do commit
+	private Nota gravarNota(Integer turmaId, Integer disciplinaId, Integer alunoId, int centesimos) {
+		estatisticasNotas.iniciarAlteracao();
+		Turma turma = buscarTurma(turmaId);
+		Disciplina disciplina = buscarDisciplina(disciplinaId);
+		Aluno aluno = buscarAluno(alunoId);
+		if (!matriculaRepository.existsByAlunoIdAndTurmaId(alunoId, turmaId)) {
+			throw new RequisicaoInvalidaException("Aluno com o ID " + alunoId + " não está matriculado na turma com o ID " + turmaId + ".");
+		}
+		if (!ofertaRepository.existsByDisciplinaIdAndTurmaId(disciplinaId, turmaId)) {
+			throw new RequisicaoInvalidaException("Disciplina com o ID " + disciplinaId + " não é oferecida na turma com o ID " + turmaId + ".");
+		}
+		Nota nota = notaRepository.findByTurmaIdAndDisciplinaIdAndAlunoId(turmaId, disciplinaId, alunoId).orElse(null);
+		Integer anterior = null;
+		if (nota == null) {
+			nota = new Nota();
+			nota.setTurma(turma);
+			nota.setDisciplina(disciplina);
+			nota.setAluno(aluno);
+		} else {
+			anterior = paraCentesimos(nota.getValor());
+		}
+		nota.setValor(BigDecimal.valueOf(centesimos, 2));
+		nota = notaRepository.saveAndFlush(nota);
+		estatisticasNotas.registrar(turmaId, disciplinaId, anterior, centesimos);
+		return nota;
+	}
+
+	/**
+	 * Busca uma nota no repositório com base no ID fornecido.
+	 * 
+	 * @param id O ID da nota a ser buscada.
+	 * @return A nota encontrada com o ID especificado.
+	 * @throws EntityNotFoundException Se a nota com o ID fornecido não for encontrada.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	public Nota buscarNotaPorId(Integer id) {
+		return notaRepository.findById(id).orElseThrow(() -> RecursoNaoEncontradoException.feminino("Nota", id));
+	}
+
+	/**
+	 * Retorna as notas da disciplina na turma, em ordem de ID do aluno.
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @param disciplinaId O ID da disciplina.
+	 * @return Lista das notas da disciplina na turma.
+	 * @throws EntityNotFoundException Se a turma ou a disciplina não for encontrada.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional(readOnly = true)
+	public List<Nota> buscarNotasDaTurma(Integer turmaId, Integer disciplinaId) {
+		buscarTurma(turmaId);
+		buscarDisciplina(disciplinaId);
+		return notaRepository.buscarNotasDaTurma(turmaId, disciplinaId);
+	}
+
+	/**
+	 * Exclui uma nota do repositório com base no ID fornecido.
+	 * 
+	 * @param id O ID da nota a ser excluída.
+	 * @throws EntityNotFoundException Se a nota com o ID fornecido não for encontrada.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
+	public void excluirNota(Integer id) {
+		estatisticasNotas.iniciarAlteracao();
+		Nota nota = notaRepository.buscarParaAlterar(id).orElseThrow(() -> RecursoNaoEncontradoException.feminino("Nota", id));
+		notaRepository.delete(nota);
+		estatisticasNotas.registrar(nota.getTurma().getId(), nota.getDisciplina().getId(), paraCentesimos(nota.getValor()), null);
+	}
+
+	/**
+	 * Retorna as estatísticas das notas da turma, lidas dos agregados em memória.
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @return As estatísticas das notas da turma.
+	 * @throws EntityNotFoundException Se a turma com o ID fornecido não for encontrada.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	public EstatisticaNotasDTO buscarEstatisticasDaTurma(Integer turmaId) {
+		buscarTurma(turmaId);
+		return estatisticasNotas.daTurma(turmaId);
+	}
+
+	/**
+	 * Retorna as estatísticas das notas da disciplina em todas as turmas, lidas dos agregados em memória.
+	 * 
+	 * @param disciplinaId O ID da disciplina.
+	 * @return As estatísticas das notas da disciplina.
+	 * @throws EntityNotFoundException Se a disciplina com o ID fornecido não for encontrada.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	public EstatisticaNotasDTO buscarEstatisticasDaDisciplina(Integer disciplinaId) {
+		buscarDisciplina(disciplinaId);
+		return estatisticasNotas.daDisciplina(disciplinaId);
+	}
+
+	/**
+	 * Recalcula todos os agregados das notas a partir do banco, em uma única leitura da tabela.
+	 * 
+	 * @return A quantidade de notas lidas.
+	 */
+	public long recalcularEstatisticas() {
+		transacao.executeWithoutResult(status -> estatisticasNotas.recalcular(this::lerNotas));
+		return estatisticasNotas.getTotal();
+	}
+
+	/**
+	 * Monta os agregados das notas a partir do banco quando a aplicação termina de inicializar.
+	 * 
+	 * @param evento O evento de aplicação pronta.
+	 */
+	@EventListener
+	public void carregarEstatisticas(ApplicationReadyEvent evento) {
+		log.info("Estatísticas de notas carregadas: {} notas", recalcularEstatisticas());
+	}
+
+	/**
+	 * Verifica periodicamente se a quantidade de notas dos agregados confere com a do banco e os recalcula se
+	 * houver diferença (ex.: notas removidas pela exclusão de alunos, turmas ou disciplinas).
+	 */
+	@Scheduled(fixedDelayString = "${academico.notas.verificacao-ms:60000}", initialDelayString = "${academico.notas.verificacao-ms:60000}")
+	public void verificarEstatisticas() {
+		if (transacao.execute(status -> estatisticasNotas.verificar(notaRepository::count, this::lerNotas))) {
+			log.info("Estatísticas de notas recalculadas: {} notas", estatisticasNotas.getTotal());
+		}
+	}
+
+//  Entrega cada nota gravada ao recálculo, lidas por cursor na transação em andamento
+	private void lerNotas(EstatisticasNotas.Recalculo recalculo) {
+		try (Stream<Object[]> notas = notaRepository.streamValores()) {
+			notas.forEach(nota -> recalculo.adicionar((Integer) nota[0], (Integer) nota[1], paraCentesimos((BigDecimal) nota[2])));
+		}
+	}
+
+//  Converte a nota em centésimos, rejeitando notas fora do intervalo de 0 a 10 ou com mais de duas casas decimais
+	private static int paraCentesimos(BigDecimal valor) {
+		if (valor == null || valor.signum() < 0 || valor.compareTo(NOTA_MAXIMA) > 0) {
+			throw new RequisicaoInvalidaException("A nota deve estar entre 0 e 10.");
+		}
+		try {
+			return valor.movePointRight(2).intValueExact();
+		} catch (ArithmeticException e) {
+			throw new RequisicaoInvalidaException("A nota deve ter no máximo duas casas decimais.");
+		}
+	}
+
+//  Busca a turma pelo ID (normalmente resolvida pelo cache de segundo nível, sem consulta ao banco)
+	private Turma buscarTurma(Integer id) {
+		return turmaRepository.findById(id).orElseThrow(() -> RecursoNaoEncontradoException.feminino("Turma", id));
+	}
+
+//  Busca a disciplina pelo ID (normalmente resolvido pelo cache de segundo nível, sem consulta ao banco)
+	private Disciplina buscarDisciplina(Integer id) {
+		return disciplinaRepository.findById(id).orElseThrow(() -> RecursoNaoEncontradoException.feminino("Disciplina", id));
+	}
+
+//  Busca o aluno pelo ID (normalmente resolvido pelo cache de segundo nível, sem consulta ao banco)
+	private Aluno buscarAluno(Integer id) {
+		return alunoRepository.findById(id).orElseThrow(() -> RecursoNaoEncontradoException.masculino("Aluno", id));
+	}
+
+}
@@ -0,0 +1,137 @@
+package br.com.senac.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.senac.entity.Disciplina;
+import br.com.senac.entity.Oferta;
+import br.com.senac.entity.Turma;
+import br.com.senac.repository.DisciplinaRepository;
+import br.com.senac.repository.OfertaRepository;
+import br.com.senac.repository.TurmaRepository;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityNotFoundException;
+
+@Service
+//Registra o tempo de execução de cada método público do serviço (Metricas.TEMPO_SERVICO)
+@Timed(value = Metricas.TEMPO_SERVICO, histogram = true)
+public class OfertaService {
+
+//  Realiza a injeção automática de dependência do OfertaRepository pelo Spring
+	@Autowired
+	OfertaRepository ofertaRepository;
+
+//  Realiza a injeção automática de dependência do DisciplinaRepository pelo Spring
+	@Autowired
+	DisciplinaRepository disciplinaRepository;
+
+//  Realiza a injeção automática de dependência do TurmaRepository pelo Spring
+	@Autowired
+	TurmaRepository turmaRepository;
+
+	/**
+	 * Cria uma oferta da disciplina na turma informada. A oferta é gravada imediatamente, para que a restrição
+	 * única uk_oferta_disciplina_turma resolva as requisições simultâneas que passarem juntas pela verificação
+	 * de existência.
+	 * 
+	 * @param disciplinaId O ID da disciplina.
+	 * @param turmaId O ID da turma.
+	 * @return A oferta salva no repositório.
+	 * @throws EntityNotFoundException Se a disciplina ou a turma não for encontrada.
+	 * @throws ConflitoException Se a disciplina já estiver oferecida na turma.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
+	public Oferta salvarOferta(Integer disciplinaId, Integer turmaId) {
+		Disciplina disciplina = buscarDisciplina(disciplinaId);
+		Turma turma = buscarTurma(turmaId);
+		if (ofertaRepository.existsByDisciplinaIdAndTurmaId(disciplinaId, turmaId)) {
+			throw jaOferecida(disciplinaId, turmaId);
+		}
+		Oferta oferta = new Oferta();
+		oferta.setDisciplina(disciplina);
+		oferta.setTurma(turma);
+		try {
+			return ofertaRepository.saveAndFlush(oferta);
+		} catch (DataIntegrityViolationException e) {
+			if (ConflitoException.causadaPor(e, "uk_oferta_disciplina_turma")) {
+				throw jaOferecida(disciplinaId, turmaId);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Busca uma oferta no repositório com base no ID fornecido.
+	 * 
+	 * @param id O ID da oferta a ser buscada.
+	 * @return A oferta encontrada com o ID especificado.
+	 * @throws EntityNotFoundException Se a oferta com o ID fornecido não for encontrada.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	public Oferta buscarOfertaPorId(Integer id) {
+		return ofertaRepository.findById(id).orElseThrow(() -> RecursoNaoEncontradoException.feminino("Oferta", id));
+	}
+
+	/**
+	 * Exclui uma oferta do repositório com base no ID fornecido.
+	 * 
+	 * @param id O ID da oferta a ser excluída.
+	 * @throws EntityNotFoundException Se a oferta com o ID fornecido não for encontrada.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
+	public void excluirOferta(Integer id) {
+		if (ofertaRepository.excluirPorId(id) == 0) {
+			throw RecursoNaoEncontradoException.feminino("Oferta", id);
+		}
+	}
+
+	/**
+	 * Retorna as disciplinas da turma informada, em ordem alfabética, com uma única consulta.
+	 * 
+	 * @param turmaId O ID da turma.
+	 * @return Lista das disciplinas da turma.
+	 * @throws EntityNotFoundException Se a turma com o ID fornecido não for encontrada.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional(readOnly = true)
+	public List<Disciplina> buscarDisciplinasDaTurma(Integer turmaId) {
+		buscarTurma(turmaId);
+		return ofertaRepository.buscarDisciplinasDaTurma(turmaId);
+	}
+
+	/**
+	 * Retorna as turmas da disciplina informada, em ordem alfabética, com uma única consulta.
+	 * 
+	 * @param disciplinaId O ID da disciplina.
+	 * @return Lista das turmas da disciplina.
+	 * @throws EntityNotFoundException Se a disciplina com o ID fornecido não for encontrada.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional(readOnly = true)
+	public List<Turma> buscarTurmasDaDisciplina(Integer disciplinaId) {
+		buscarDisciplina(disciplinaId);
+		return ofertaRepository.buscarTurmasDaDisciplina(disciplinaId);
+	}
+
+//  Busca a disciplina pelo ID (normalmente resolvido pelo cache de segundo nível, sem consulta ao banco)
+	private Disciplina buscarDisciplina(Integer id) {
+		return disciplinaRepository.findById(id).orElseThrow(() -> RecursoNaoEncontradoException.feminino("Disciplina", id));
+	}
+
+//  Busca a turma pelo ID (normalmente resolvida pelo cache de segundo nível, sem consulta ao banco)
+	private Turma buscarTurma(Integer id) {
+		return turmaRepository.findById(id).orElseThrow(() -> RecursoNaoEncontradoException.feminino("Turma", id));
+	}
+
+	private static ConflitoException jaOferecida(Integer disciplinaId, Integer turmaId) {
+		return new ConflitoException("Disciplina com o ID " + disciplinaId + " já oferecida na turma com o ID " + turmaId + ".");
+	}
+
+}
@@ -0,0 +1,101 @@
+package br.com.senac.service;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Exceção lançada pelos serviços quando o registro com o ID informado não existe. Como IDs inexistentes são
+ * um resultado esperado (e frequente, em varreduras de IDs), a exceção não captura a pilha de chamadas e só
+ * monta a mensagem quando ela é lida; o TratadorExcecoes a converte em uma resposta 404 compacta.
+ *
+ * Estende EntityNotFoundException para manter o contrato já documentado nos serviços.
+ */
+public class RecursoNaoEncontradoException extends EntityNotFoundException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String recurso;
+	private final Object id;
+	private final String modelo;
+	private final Object[] argumentos;
+
+	private RecursoNaoEncontradoException(String recurso, Object id, String modelo, Object... argumentos) {
+		this.recurso = recurso;
+		this.id = id;
+		this.modelo = modelo;
+		this.argumentos = argumentos;
+	}
+
+	/**
+	 * @param recurso O nome do recurso com gênero masculino (ex.: "Aluno").
+	 * @param id O ID não encontrado.
+	 * @return A exceção com a mensagem "Aluno com o ID 1 não encontrado."
+	 */
+	public static RecursoNaoEncontradoException masculino(String recurso, Object id) {
+		return new RecursoNaoEncontradoException(recurso, id, "%s com o ID %s não encontrado.", recurso, id);
+	}
+
+	/**
+	 * @param recurso O nome do recurso com gênero feminino (ex.: "Turma").
+	 * @param id O ID não encontrado.
+	 * @return A exceção com a mensagem "Turma com o ID 1 não encontrada."
+	 */
+	public static RecursoNaoEncontradoException feminino(String recurso, Object id) {
+		return new RecursoNaoEncontradoException(recurso, id, "%s com o ID %s não encontrada.", recurso, id);
+	}
+
+	/**
+	 * Usada pelas operações em lote, que só sabem quantos dos IDs informados não existem.
+	 *
+	 * @param recursos O nome do recurso no plural, com gênero masculino (ex.: "alunos").
+	 * @param ausentes A quantidade de IDs não encontrados.
+	 * @param informados A quantidade de IDs distintos informados.
+	 * @return A exceção com a mensagem "2 dos 10 alunos informados não foram encontrados."
+	 */
+	public static RecursoNaoEncontradoException masculinos(String recursos, long ausentes, long informados) {
+		return new RecursoNaoEncontradoException(recursos, null, "%d dos %d %s informados não foram encontrados.", ausentes, informados, recursos);
+	}
+
+	/**
+	 * Usada pelas operações em lote, que só sabem quantos dos IDs informados não existem.
+	 *
+	 * @param recursos O nome do recurso no plural, com gênero feminino (ex.: "turmas").
+	 * @param ausentes A quantidade de IDs não encontrados.
+	 * @param informados A quantidade de IDs distintos informados.
+	 * @return A exceção com a mensagem "2 das 10 turmas informadas não foram encontradas."
+	 */
+	public static RecursoNaoEncontradoException femininos(String recursos, long ausentes, long informados) {
+		return new RecursoNaoEncontradoException(recursos, null, "%d das %d %s informadas não foram encontradas.", ausentes, informados, recursos);
+	}
+
+	/**
+	 * @param turmaId O ID da turma.
+	 * @param alunoId O ID do aluno que não está na lista de espera.
+	 * @return A exceção com a mensagem "Aluno com o ID 1 não está na lista de espera da turma com o ID 2."
+	 */
+	public static RecursoNaoEncontradoException foraDaEspera(Integer turmaId, Integer alunoId) {
+		return new RecursoNaoEncontradoException("Aluno", alunoId, "Aluno com o ID %s não está na lista de espera da turma com o ID %s.", alunoId, turmaId);
+	}
+
+	public String getRecurso() {
+		return recurso;
+	}
+
+	/**
+	 * @return O ID não encontrado, ou nulo nas operações em lote.
+	 */
+	public Object getId() {
+		return id;
+	}
+
+	@Override
+	public String getMessage() {
+		return modelo.formatted(argumentos);
+	}
+
+//  Não preenche a pilha de chamadas, que é a parte mais cara da criação de uma exceção
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return this;
+	}
+
+}
@@ -0,0 +1,19 @@
+package br.com.senac.service;
+
+/**
+ * Exceção lançada pelos serviços quando os dados recebidos violam uma regra de negócio (ex.: nota fora da faixa,
+ * horário mal formado ou filtro de consulta inválido); o TratadorExcecoes a converte em uma resposta 400 com a
+ * mensagem da exceção. As demais IllegalArgumentExceptions (do JDK, do Spring ou do Hibernate) indicam erros
+ * internos e continuam sendo respondidas com 500, sem expor a mensagem.
+ *
+ * Estende IllegalArgumentException para manter o contrato já documentado nos serviços.
+ */
+public class RequisicaoInvalidaException extends IllegalArgumentException {
+
+	private static final long serialVersionUID = 1L;
+
+	public RequisicaoInvalidaException(String mensagem) {
+		super(mensagem);
+	}
+
+}
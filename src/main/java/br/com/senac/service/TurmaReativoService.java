@@ -0,0 +1,181 @@
+package br.com.senac.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import br.com.senac.auditoria.EntidadeAuditada;
+import br.com.senac.auditoria.OperacaoAuditada;
+import br.com.senac.dto.TurmaDTO;
+import br.com.senac.entity.Turma;
+import br.com.senac.repository.TurmaReativoRepository;
+import br.com.senac.util.NormalizadorTexto;
+import jakarta.persistence.EntityNotFoundException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Versão não bloqueante do TurmaService, utilizada pelo perfil "reativo". Aplica os mesmos limites de
+ * paginação e de busca e registra as alterações no mesmo ContadorAlteracoes (ETags) e na mesma trilha de
+ * auditoria (AuditoriaService).
+ */
+@Service
+@Profile("reativo")
+public class TurmaReativoService {
+
+//  Realiza a injeção automática de dependência do TurmaReativoRepository pelo Spring
+	@Autowired
+	TurmaReativoRepository turmaReativoRepository;
+
+//  Realiza a injeção automática de dependência do ContadorAlteracoes pelo Spring
+	@Autowired
+	ContadorAlteracoes contadorAlteracoes;
+
+//  Realiza a injeção automática de dependência do AuditoriaService pelo Spring
+	@Autowired
+	AuditoriaService auditoriaService;
+
+//  Realiza a injeção do operador de transações R2DBC (definido em ReativoConfig) pelo Spring
+	@Autowired
+	TransactionalOperator transacaoReativa;
+
+//  Realiza a injeção automática de dependência da GradeHoraria pelo Spring
+	@Autowired
+	GradeHoraria gradeHoraria;
+
+	/**
+	 * Salva uma nova turma no banco.
+	 * 
+	 * @param turmaDTO Os dados da turma.
+	 * @return O TurmaDTO da turma salva, com o ID gerado.
+	 */
+	public Mono<TurmaDTO> salvarTurma(TurmaDTO turmaDTO) {
+		String nome = turmaDTO.getNome();
+		return turmaReativoRepository.inserir(nome, NormalizadorTexto.normalizar(nome))
+				.doOnSuccess(salva -> {
+					contadorAlteracoes.registrarAlteracao(Turma.class);
+					auditoriaService.registrar(EntidadeAuditada.TURMA, OperacaoAuditada.INCLUSAO, salva.getId(), salva.getNome());
+				});
+	}
+
+	/**
+	 * Salva as turmas informadas em uma única transação R2DBC: se alguma inserção falhar, nenhuma é gravada.
+	 * 
+	 * @param turmasDTO Os dados das turmas.
+	 * @return Os TurmaDTOs das turmas salvas, na ordem recebida.
+	 */
+	public Flux<TurmaDTO> salvarTurmas(List<TurmaDTO> turmasDTO) {
+//		A lista só é emitida quando o Mono transacional termina, ou seja, após o commit: nenhum ID é entregue ao
+//		cliente (nem auditado) se a transação for desfeita
+		return Flux.fromIterable(turmasDTO)
+				.concatMap(this::inserir)
+				.collectList()
+				.as(transacaoReativa::transactional)
+				.doOnNext(salvas -> {
+					contadorAlteracoes.registrarAlteracao(Turma.class);
+					salvas.forEach(salva -> auditoriaService.registrar(EntidadeAuditada.TURMA, OperacaoAuditada.INCLUSAO, salva.getId(), salva.getNome()));
+				})
+				.flatMapMany(Flux::fromIterable);
+	}
+
+	/**
+	 * Retorna uma página de turmas ordenadas pelo ID, a partir do cursor informado (paginação por keyset). Os
+	 * registros são lidos conforme a demanda do assinante; o cursor da próxima página é o ID do último registro.
+	 * 
+	 * @param cursor O último ID retornado na página anterior, ou nulo para a primeira página.
+	 * @param tamanho A quantidade de registros desejada (limitada a TurmaService.TAMANHO_MAXIMO_PAGINA).
+	 * @return Os turmas da página.
+	 */
+	public Flux<TurmaDTO> buscarTurmasPaginadas(Integer cursor, int tamanho) {
+		int limite = Math.min(Math.max(tamanho, 1), TurmaService.TAMANHO_MAXIMO_PAGINA);
+		return turmaReativoRepository.buscarPagina(cursor == null ? 0 : cursor, limite);
+	}
+
+	/**
+	 * Busca as turmas pelo nome, sem diferenciar maiúsculas, minúsculas e acentos.
+	 * 
+	 * @param nome O termo a ser buscado.
+	 * @param modo Se o nome deve começar com o termo ou apenas contê-lo.
+	 * @param limite A quantidade máxima de registros (limitada a TurmaService.TAMANHO_MAXIMO_BUSCA).
+	 * @return As turmas encontradas, em ordem alfabética; vazio se o termo estiver em branco.
+	 */
+	public Flux<TurmaDTO> buscarTurmasPorNome(String nome, ModoBusca modo, int limite) {
+		String termo = NormalizadorTexto.normalizar(nome);
+		if (termo == null || termo.isEmpty()) {
+			return Flux.empty();
+		}
+		int maximo = Math.min(Math.max(limite, 1), TurmaService.TAMANHO_MAXIMO_BUSCA);
+		return turmaReativoRepository.buscarPorNomeNormalizado(termo, modo == ModoBusca.CONTEM, maximo);
+	}
+
+	/**
+	 * Percorre todas as turmas em ordem de ID, entregando cada registro conforme a demanda do assinante.
+	 * 
+	 * @return Todas as turmas.
+	 */
+	public Flux<TurmaDTO> exportarTurmas() {
+		return turmaReativoRepository.buscarTodos();
+	}
+
+	/**
+	 * Busca uma turma pelo ID fornecido.
+	 * 
+	 * @param id O ID da turma.
+	 * @return O TurmaDTO da turma, ou um erro RecursoNaoEncontradoException se o ID não existir.
+	 */
+	public Mono<TurmaDTO> buscarTurmaPorId(Integer id) {
+		return turmaReativoRepository.buscarPorId(id)
+				.switchIfEmpty(Mono.error(() -> naoEncontrada(id)));
+	}
+
+	/**
+	 * Atualiza o nome da turma com um único comando UPDATE.
+	 * 
+	 * @param id O ID da turma.
+	 * @param turmaAlteracao Os novos dados da turma.
+	 * @return O TurmaDTO da turma atualizada, ou um erro RecursoNaoEncontradoException se o ID não existir.
+	 */
+	public Mono<TurmaDTO> atualizarTurma(Integer id, TurmaDTO turmaAlteracao) {
+		String nome = turmaAlteracao.getNome();
+		return turmaReativoRepository.atualizarNome(id, nome, NormalizadorTexto.normalizar(nome))
+				.flatMap(alterados -> {
+					if (alterados == 0) {
+						return Mono.error(naoEncontrada(id));
+					}
+					contadorAlteracoes.registrarAlteracao(Turma.class);
+					auditoriaService.registrar(EntidadeAuditada.TURMA, OperacaoAuditada.ALTERACAO, id, nome);
+					return Mono.just(new TurmaDTO(id, nome));
+				});
+	}
+
+	/**
+	 * Exclui a turma com um único comando DELETE.
+	 * 
+	 * @param id O ID da turma.
+	 * @return Um Mono vazio, ou um erro RecursoNaoEncontradoException se o ID não existir.
+	 */
+	public Mono<Void> excluirTurma(Integer id) {
+		return turmaReativoRepository.excluirPorId(id)
+				.flatMap(excluidos -> {
+					if (excluidos == 0) {
+						return Mono.error(naoEncontrada(id));
+					}
+					contadorAlteracoes.registrarAlteracao(Turma.class);
+					auditoriaService.registrar(EntidadeAuditada.TURMA, OperacaoAuditada.EXCLUSAO, id, null);
+					gradeHoraria.liberarTurma(id);
+					return Mono.empty();
+				});
+	}
+
+	private Mono<TurmaDTO> inserir(TurmaDTO turmaDTO) {
+		return turmaReativoRepository.inserir(turmaDTO.getNome(), NormalizadorTexto.normalizar(turmaDTO.getNome()));
+	}
+
+	private static EntityNotFoundException naoEncontrada(Integer id) {
+		return RecursoNaoEncontradoException.feminino("Turma", id);
+	}
+
+}
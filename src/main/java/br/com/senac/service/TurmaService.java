@@ -1,29 +1,84 @@
 package br.com.senac.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.senac.auditoria.EntidadeAuditada;
+import br.com.senac.auditoria.OperacaoAuditada;
+import br.com.senac.dto.PaginaDTO;
+import br.com.senac.dto.TurmaDTO;
 import br.com.senac.entity.Turma;
 import br.com.senac.repository.TurmaRepository;
+import br.com.senac.util.NormalizadorTexto;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 
 @Service
+//Registra o tempo de execução de cada método público do serviço (Metricas.TEMPO_SERVICO)
+@Timed(value = Metricas.TEMPO_SERVICO, histogram = true)
 public class TurmaService {
 
+//  Tamanho máximo de página aceito na listagem paginada
+	public static final int TAMANHO_MAXIMO_PAGINA = 500;
+
+//  Quantidade de registros enviados ao banco por lote JDBC (deve acompanhar hibernate.jdbc.batch_size)
+	public static final int TAMANHO_LOTE = 50;
+
+//  Quantidade máxima de resultados retornados pela busca por nome
+	public static final int TAMANHO_MAXIMO_BUSCA = 50;
+
 //  Realiza a injeção automática de dependência do DisciplinaRepository pelo Spring
 	@Autowired
 	TurmaRepository turmaRepository;
 
+//  Realiza a injeção do EntityManager da transação corrente pelo Spring
+	@PersistenceContext
+	EntityManager entityManager;
+
+//  Realiza a injeção automática de dependência do ContadorAlteracoes pelo Spring
+	@Autowired
+	ContadorAlteracoes contadorAlteracoes;
+
+//  Realiza a injeção automática de dependência do AuditoriaService pelo Spring
+	@Autowired
+	AuditoriaService auditoriaService;
+
+//  Realiza a injeção do agrupador das buscas por ID (definido em CarregamentoConfig) pelo Spring
+	@Autowired
+	CarregamentoUnico<Integer, Turma> carregamentoTurma;
+
+//  Realiza a injeção automática de dependência da GradeHoraria pelo Spring
+	@Autowired
+	GradeHoraria gradeHoraria;
+
 	/**
-	 * Salva uma nova turma no repositório.
+	 * Salva uma nova turma no repositório. O ID recebido é descartado e gerado pela sequência.
 	 * 
 	 * @param turma A turma a ser salva.
 	 * @return A turma salva no repositório.
 	 */
 	public Turma salvarTurma(Turma turma) {
-		return turmaRepository.save(turma);
+//		Um ID enviado pelo cliente faria o save() tratar a nova entidade, sem versão, como destacada
+		turma.setId(null);
+		Turma salva = turmaRepository.save(turma);
+		contadorAlteracoes.registrarAlteracao(Turma.class);
+		auditoriaService.registrar(EntidadeAuditada.TURMA, OperacaoAuditada.INCLUSAO, salva.getId(), salva.getNome());
+		return salva;
 	}
 
 	/**
@@ -31,19 +86,84 @@ public class TurmaService {
 	 * 
 	 * @return Turma contendo todas as turmas.
 	 */
+	@Transactional(readOnly = true)
 	public List<Turma> buscarTodasTurmas() {
 		return turmaRepository.findAll();
 	}
 
 	/**
-	 * Busca uma turma no repositório com base no ID fornecido.
+	 * Retorna uma página de turmas ordenadas pelo ID, a partir do cursor informado (paginação por keyset).
+	 * O tamanho da página é limitado a {@link #TAMANHO_MAXIMO_PAGINA}.
+	 * 
+	 * @param cursor O último ID retornado na página anterior, ou nulo para a primeira página.
+	 * @param tamanho A quantidade de registros desejada na página.
+	 * @return A página com os registros encontrados e o cursor da próxima página (nulo se for a última).
+	 */
+	@Transactional(readOnly = true)
+	public PaginaDTO<TurmaDTO> buscarTurmasPaginadas(Integer cursor, int tamanho) {
+		int limite = Math.min(Math.max(tamanho, 1), TAMANHO_MAXIMO_PAGINA);
+//		Busca um registro a mais para saber se existe uma próxima página sem precisar de um count
+		List<TurmaDTO> turmas = turmaRepository.buscarPagina(cursor == null ? 0 : cursor, Limit.of(limite + 1));
+		if (turmas.size() <= limite) {
+			return new PaginaDTO<>(turmas, null);
+		}
+		List<TurmaDTO> pagina = turmas.subList(0, limite);
+		return new PaginaDTO<>(pagina, pagina.get(limite - 1).getId());
+	}
+
+	/**
+	 * Busca as turmas pelo nome, sem diferenciar maiúsculas, minúsculas e acentos. O termo é normalizado da
+	 * mesma forma que o nome armazenado e a quantidade de resultados é limitada a {@link #TAMANHO_MAXIMO_BUSCA}.
+	 * 
+	 * @param nome O termo a ser buscado.
+	 * @param modo Se o nome deve começar com o termo ou apenas contê-lo.
+	 * @param limite A quantidade máxima de registros desejada.
+	 * @return Lista das turmas encontradas, em ordem alfabética; vazia se o termo estiver em branco.
+	 */
+	@Transactional(readOnly = true)
+	public List<Turma> buscarTurmasPorNome(String nome, ModoBusca modo, int limite) {
+		String termo = NormalizadorTexto.normalizar(nome);
+		if (termo == null || termo.isEmpty()) {
+			return new ArrayList<>();
+		}
+		Limit maximo = Limit.of(Math.min(Math.max(limite, 1), TAMANHO_MAXIMO_BUSCA));
+		if (modo == ModoBusca.CONTEM) {
+			return turmaRepository.findByNomeNormalizadoContainingOrderByNomeNormalizadoAscIdAsc(termo, maximo);
+		}
+		return turmaRepository.findByNomeNormalizadoStartingWithOrderByNomeNormalizadoAscIdAsc(termo, maximo);
+	}
+
+	/**
+	 * Percorre todas as turmas do repositório em ordem de ID, entregando cada registro ao consumidor assim
+	 * que é lido do banco. Os registros já entregues são removidos do contexto de persistência, de forma
+	 * que o consumo de memória não cresce com o tamanho da tabela.
+	 * 
+	 * @param consumidor A função que recebe cada registro lido.
+	 */
+	@Transactional(readOnly = true)
+	public void exportarTurmas(Consumer<Turma> consumidor) {
+		try (Stream<Turma> turmas = turmaRepository.streamAllByOrderByIdAsc()) {
+			turmas.forEach(turma -> {
+				consumidor.accept(turma);
+				entityManager.detach(turma);
+			});
+		}
+	}
+
+	/**
+	 * Busca uma turma no repositório com base no ID fornecido. A busca é atendida pela região "turma" do cache de
+	 * segundo nível, sem ocupar o cache de consultas usado pelas páginas da listagem. Buscas simultâneas pelo
+	 * mesmo ID compartilham uma única leitura (ver {@link CarregamentoUnico}).
 	 * 
 	 * @param id O ID da turma a ser buscada.
 	 * @return A turma encontrada com o ID especificado.
 	 * @throws EntityNotFoundException Se a turma com o ID fornecido não for encontrada.
 	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
 	public Turma buscarTurmaPorId(Integer id) {
-		return turmaRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Turma com o ID " + id + " não encontrada."));
+//		Sem transação própria: as chamadas agrupadas apenas aguardam o resultado, sem ocupar uma conexão do pool
+		return carregamentoTurma.carregar(id, chave -> turmaRepository.findById(chave)
+				.orElseThrow(() -> RecursoNaoEncontradoException.feminino("Turma", chave)));
 	}
 
 	/**
@@ -54,10 +174,16 @@ public class TurmaService {
 	 * @return A turma com as informações atualizadas no repositório.
 	 * @throws EntityNotFoundException Se a turma com o ID fornecido não for encontrada.
 	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
 	public Turma atualizarTurma(Integer id, Turma turmaAlteracao) {
-		Turma turma = turmaRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Turma com o ID " + id + " não encontrada."));
-	    turma.setNome(turmaAlteracao.getNome());
-	    return turmaRepository.save(turma);
+		if (turmaRepository.atualizarNome(id, turmaAlteracao.getNome(), NormalizadorTexto.normalizar(turmaAlteracao.getNome())) == 0) {
+			throw RecursoNaoEncontradoException.feminino("Turma", id);
+		}
+		contadorAlteracoes.registrarAlteracao(Turma.class);
+		auditoriaService.registrar(EntidadeAuditada.TURMA, OperacaoAuditada.ALTERACAO, id, turmaAlteracao.getNome());
+		turmaAlteracao.setId(id);
+		return turmaAlteracao;
 	}
 
 	/**
@@ -66,9 +192,86 @@ public class TurmaService {
 	 * @param id O ID da turma a ser excluída.
 	 * @throws EntityNotFoundException Se a turma com o ID fornecido não for encontrada.
 	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
 	public void excluirTurma(Integer id) {
-		turmaRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Aluno com o ID " + id + " não encontrado."));
-		turmaRepository.deleteById(id);
+		if (turmaRepository.excluirPorId(id) == 0) {
+			throw RecursoNaoEncontradoException.feminino("Turma", id);
+		}
+		contadorAlteracoes.registrarAlteracao(Turma.class);
+		auditoriaService.registrar(EntidadeAuditada.TURMA, OperacaoAuditada.EXCLUSAO, id, null);
+		gradeHoraria.liberarTurma(id);
+	}
+
+	/**
+	 * Salva as turmas informadas em uma única transação. As inserções são enviadas ao banco em lotes
+	 * JDBC e o contexto de persistência é esvaziado a cada lote para manter o uso de memória constante. Os IDs
+	 * recebidos são descartados e gerados pela sequência.
+	 * 
+	 * @param turmas As turmas a serem salvas.
+	 * @return As turmas salvas no repositório, na mesma ordem recebida.
+	 */
+	@Transactional
+	public List<Turma> salvarTurmas(List<Turma> turmas) {
+		List<Turma> salvas = new ArrayList<>(turmas.size());
+		for (Turma turma : turmas) {
+			turma.setId(null);
+			salvas.add(turmaRepository.save(turma));
+			if (salvas.size() % TAMANHO_LOTE == 0) {
+				entityManager.flush();
+				entityManager.clear();
+			}
+		}
+		contadorAlteracoes.registrarAlteracao(Turma.class);
+		salvas.forEach(salva -> auditoriaService.registrar(EntidadeAuditada.TURMA, OperacaoAuditada.INCLUSAO, salva.getId(), salva.getNome()));
+		return salvas;
+	}
+
+	/**
+	 * Atualiza as turmas informadas em uma única transação. Os registros são carregados com uma
+	 * única consulta e as alterações são enviadas ao banco em lotes JDBC no commit.
+	 * 
+	 * @param alteracoes As turmas com o ID e as informações atualizadas.
+	 * @return As turmas com as informações atualizadas, na mesma ordem recebida.
+	 * @throws EntityNotFoundException Se algum dos IDs fornecidos não for encontrado.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
+	public List<Turma> atualizarTurmas(List<Turma> alteracoes) {
+		List<Integer> ids = alteracoes.stream().map(Turma::getId).collect(Collectors.toList());
+		Map<Integer, Turma> turmas = turmaRepository.findAllById(ids).stream().collect(Collectors.toMap(Turma::getId, Function.identity()));
+		List<Turma> atualizadas = new ArrayList<>(alteracoes.size());
+		for (Turma alteracao : alteracoes) {
+			Turma turma = turmas.get(alteracao.getId());
+			if (turma == null) {
+				throw RecursoNaoEncontradoException.feminino("Turma", alteracao.getId());
+			}
+			turma.setNome(alteracao.getNome());
+			atualizadas.add(turma);
+		}
+		contadorAlteracoes.registrarAlteracao(Turma.class);
+		atualizadas.forEach(turma -> auditoriaService.registrar(EntidadeAuditada.TURMA, OperacaoAuditada.ALTERACAO, turma.getId(), turma.getNome()));
+		return atualizadas;
+	}
+
+	/**
+	 * Exclui as turmas com os IDs informados em uma única transação, com um único comando DELETE. Os IDs
+	 * repetidos são considerados uma única vez.
+	 * 
+	 * @param ids Os IDs das turmas a serem excluídas.
+	 * @throws EntityNotFoundException Se algum dos IDs fornecidos não for encontrado; nesse caso nada é excluído.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
+	public void excluirTurmas(List<Integer> ids) {
+		Set<Integer> distintos = new LinkedHashSet<>(ids);
+		int excluidos = turmaRepository.excluirPorIds(distintos);
+		if (excluidos != distintos.size()) {
+			throw RecursoNaoEncontradoException.femininos("turmas", distintos.size() - excluidos, distintos.size());
+		}
+		contadorAlteracoes.registrarAlteracao(Turma.class);
+		distintos.forEach(id -> auditoriaService.registrar(EntidadeAuditada.TURMA, OperacaoAuditada.EXCLUSAO, id, null));
+		distintos.forEach(gradeHoraria::liberarTurma);
 	}
 
 }
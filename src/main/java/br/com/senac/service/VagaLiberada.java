@@ -0,0 +1,10 @@
+package br.com.senac.service;
+
+/**
+ * Evento publicado quando uma matrícula é excluída, tratado após o commit pelo VagaService para promover o
+ * próximo aluno da lista de espera da turma.
+ *
+ * @param turmaId O ID da turma com a vaga liberada.
+ */
+public record VagaLiberada(Integer turmaId) {
+}
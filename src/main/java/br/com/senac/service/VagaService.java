@@ -0,0 +1,261 @@
+package br.com.senac.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.senac.dto.ReservaDTO;
+import br.com.senac.dto.VagasDTO;
+import br.com.senac.entity.Aluno;
+import br.com.senac.entity.Espera;
+import br.com.senac.entity.Matricula;
+import br.com.senac.entity.Turma;
+import br.com.senac.repository.AlunoRepository;
+import br.com.senac.repository.EsperaRepository;
+import br.com.senac.repository.MatriculaRepository;
+import br.com.senac.repository.TurmaRepository;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Reservas de vagas nas turmas com capacidade e listas de espera. A disputa pelas vagas é resolvida em memória
+ * pelo ControleVagas; a matrícula é gravada normalmente pelo MatriculaService, e quem não consegue vaga entra na
+ * lista de espera da turma, promovida em ordem de chegada quando uma vaga é liberada.
+ */
+@Service
+//Registra o tempo de execução de cada método público do serviço (Metricas.TEMPO_SERVICO)
+@Timed(value = Metricas.TEMPO_SERVICO, histogram = true)
+public class VagaService {
+
+	private static final Logger log = LoggerFactory.getLogger(VagaService.class);
+
+//  Situações retornadas em ReservaDTO
+	public static final String MATRICULADO = "MATRICULADO";
+	public static final String EM_ESPERA = "EM_ESPERA";
+
+//  Realiza a injeção automática de dependência do TurmaRepository pelo Spring
+	@Autowired
+	TurmaRepository turmaRepository;
+
+//  Realiza a injeção automática de dependência do AlunoRepository pelo Spring
+	@Autowired
+	AlunoRepository alunoRepository;
+
+//  Realiza a injeção automática de dependência do MatriculaRepository pelo Spring
+	@Autowired
+	MatriculaRepository matriculaRepository;
+
+//  Realiza a injeção automática de dependência do EsperaRepository pelo Spring
+	@Autowired
+	EsperaRepository esperaRepository;
+
+//  Realiza a injeção automática de dependência da MatriculaService pelo Spring
+	@Autowired
+	MatriculaService matriculaService;
+
+//  Realiza a injeção automática de dependência do ControleVagas pelo Spring
+	@Autowired
+	ControleVagas controleVagas;
+
+//  Transações programáticas, uma por promoção da lista de espera (definido pelo Spring Boot)
+	@Autowired
+	TransactionTemplate transacao;
+
+	/**
+	 * Retorna a capacidade, as vagas ocupadas e o tamanho da lista de espera da turma.
+	 *
+	 * @param turmaId O ID da turma.
+	 * @return As vagas da turma.
+	 * @throws EntityNotFoundException Se a turma com o ID fornecido não for encontrada.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional(readOnly = true)
+	public VagasDTO consultarVagas(Integer turmaId) {
+		Turma turma = buscarTurma(turmaId);
+		Integer ocupadas = controleVagas.ocupadas(turmaId);
+		if (ocupadas == null) {
+			ocupadas = (int) matriculaRepository.countByTurmaId(turmaId);
+		}
+		return new VagasDTO(turmaId, turma.getCapacidade(), ocupadas, controleVagas.disponiveis(turmaId), esperaRepository.countByTurmaId(turmaId));
+	}
+
+	/**
+	 * Define a capacidade da turma. Se a nova capacidade abrir vagas, a lista de espera é promovida em seguida.
+	 *
+	 * @param turmaId O ID da turma.
+	 * @param capacidade A nova capacidade, ou nula para remover o limite.
+	 * @return As vagas da turma após a alteração.
+	 * @throws EntityNotFoundException Se a turma com o ID fornecido não for encontrada.
+	 * @throws RequisicaoInvalidaException Se a capacidade for negativa.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	public VagasDTO definirCapacidade(Integer turmaId, Integer capacidade) {
+		if (capacidade != null && capacidade < 0) {
+			throw new RequisicaoInvalidaException("A capacidade não pode ser negativa.");
+		}
+		transacao.executeWithoutResult(status -> {
+			if (turmaRepository.atualizarCapacidade(turmaId, capacidade) == 0) {
+				throw RecursoNaoEncontradoException.feminino("Turma", turmaId);
+			}
+			controleVagas.definir(turmaId, capacidade, matriculaRepository.countByTurmaId(turmaId));
+		});
+		promoverEspera(turmaId);
+		return consultarVagas(turmaId);
+	}
+
+	/**
+	 * Reserva uma vaga do aluno na turma: matricula o aluno se houver vaga ou o coloca no fim da lista de espera.
+	 *
+	 * @param turmaId O ID da turma.
+	 * @param alunoId O ID do aluno.
+	 * @return A situação do aluno: matriculado (com o ID da matrícula) ou em espera (com a posição na fila).
+	 * @throws EntityNotFoundException Se o aluno ou a turma não for encontrado.
+	 * @throws ConflitoException Se o aluno já estiver matriculado, na lista de espera ou em turma com
+	 * aulas no mesmo horário.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	public ReservaDTO reservar(Integer turmaId, Integer alunoId) {
+//		Com a turma já lotada, vai direto para a lista de espera, sem abrir a transação da matrícula
+		Integer disponiveis = controleVagas.disponiveis(turmaId);
+		if (disponiveis == null || disponiveis > 0) {
+			try {
+				Matricula matricula = matriculaService.salvarMatricula(alunoId, turmaId);
+				return new ReservaDTO(MATRICULADO, matricula.getId(), null);
+			} catch (VagasEsgotadasException e) {
+//				Outras reservas ocuparam as últimas vagas
+			}
+		}
+		return transacao.execute(status -> entrarNaEspera(turmaId, alunoId));
+	}
+
+	/**
+	 * Remove o aluno da lista de espera da turma.
+	 *
+	 * @param turmaId O ID da turma.
+	 * @param alunoId O ID do aluno.
+	 * @throws EntityNotFoundException Se o aluno não estiver na lista de espera da turma.
+	 */
+	@Counted(value = Metricas.FALHAS_SERVICO, recordFailuresOnly = true)
+	@Transactional
+	public void sairDaEspera(Integer turmaId, Integer alunoId) {
+		if (esperaRepository.excluirPorTurmaEAluno(turmaId, alunoId) == 0) {
+			throw RecursoNaoEncontradoException.foraDaEspera(turmaId, alunoId);
+		}
+	}
+
+	/**
+	 * Promove a lista de espera da turma quando uma matrícula é excluída, após o commit da exclusão e fora da
+	 * thread da requisição.
+	 *
+	 * @param evento O evento com a turma que teve a vaga liberada.
+	 */
+	@Async
+	@TransactionalEventListener(fallbackExecution = true)
+	public void aoLiberarVaga(VagaLiberada evento) {
+		promoverEspera(evento.turmaId());
+	}
+
+	/**
+	 * Monta os contadores de vagas a partir do banco quando a aplicação termina de inicializar.
+	 *
+	 * @param evento O evento de aplicação pronta.
+	 */
+	@EventListener
+	public void carregarVagas(ApplicationReadyEvent evento) {
+		reconciliar();
+	}
+
+	/**
+	 * Reconcilia periodicamente os contadores de vagas com as matrículas gravadas no banco e promove as listas
+	 * de espera das turmas que voltaram a ter vagas (ex.: após a exclusão de alunos, que remove as matrículas
+	 * diretamente no banco).
+	 */
+	@Scheduled(fixedDelayString = "${academico.vagas.reconciliacao-ms:5000}", initialDelayString = "${academico.vagas.reconciliacao-ms:5000}")
+	public void reconciliar() {
+		Map<Integer, Integer> capacidades = new HashMap<>();
+		transacao.executeWithoutResult(status -> turmaRepository.buscarCapacidades()
+				.forEach(linha -> capacidades.put((Integer) linha[0], (Integer) linha[1])));
+		controleVagas.reconciliar(capacidades, () -> transacao.execute(status -> {
+			Map<Integer, Integer> contagens = new HashMap<>();
+			matriculaRepository.contarMatriculasDasTurmasComCapacidade()
+					.forEach(linha -> contagens.put((Integer) linha[0], ((Long) linha[1]).intValue()));
+			return contagens;
+		}));
+		for (Integer turmaId : esperaRepository.buscarTurmasComEspera()) {
+			promoverEspera(turmaId);
+		}
+	}
+
+//  Matricula os primeiros da lista de espera enquanto houver vagas, cada um em uma transação que exclui a
+//  entrada da fila e grava a matrícula; quem não pode mais ser matriculado (ex.: conflito de horário) sai da fila
+	private void promoverEspera(Integer turmaId) {
+		while (controleVagas.disponiveis(turmaId) == null || controleVagas.disponiveis(turmaId) > 0) {
+			List<Object[]> proximos = esperaRepository.buscarProximos(turmaId, Limit.of(1));
+			if (proximos.isEmpty()) {
+				return;
+			}
+			Integer esperaId = (Integer) proximos.get(0)[0];
+			Integer alunoId = (Integer) proximos.get(0)[1];
+			try {
+				transacao.executeWithoutResult(status -> {
+//					Outra promoção simultânea já atendeu essa entrada: apenas segue para a próxima
+					if (esperaRepository.excluirPorId(esperaId) == 1) {
+						matriculaService.salvarMatricula(alunoId, turmaId);
+					}
+				});
+			} catch (VagasEsgotadasException e) {
+				return;
+			} catch (RequisicaoInvalidaException | EntityNotFoundException e) {
+				log.info("Aluno {} removido da lista de espera da turma {}: {}", alunoId, turmaId, e.getMessage());
+				transacao.executeWithoutResult(status -> esperaRepository.excluirPorId(esperaId));
+			}
+		}
+	}
+
+	private ReservaDTO entrarNaEspera(Integer turmaId, Integer alunoId) {
+		if (matriculaRepository.existsByAlunoIdAndTurmaId(alunoId, turmaId)) {
+			throw new ConflitoException("Aluno com o ID " + alunoId + " já matriculado na turma com o ID " + turmaId + ".");
+		}
+		if (esperaRepository.existsByTurmaIdAndAlunoId(turmaId, alunoId)) {
+			throw jaNaEspera(turmaId, alunoId);
+		}
+		Aluno aluno = alunoRepository.findById(alunoId).orElseThrow(() -> RecursoNaoEncontradoException.masculino("Aluno", alunoId));
+		Espera espera = new Espera();
+		espera.setTurma(buscarTurma(turmaId));
+		espera.setAluno(aluno);
+//		Gravada imediatamente: reservas simultâneas do mesmo aluno são resolvidas pela restrição uk_espera_turma_aluno
+		try {
+			espera = esperaRepository.saveAndFlush(espera);
+		} catch (DataIntegrityViolationException e) {
+			if (ConflitoException.causadaPor(e, "uk_espera_turma_aluno")) {
+				throw jaNaEspera(turmaId, alunoId);
+			}
+			throw e;
+		}
+		return new ReservaDTO(EM_ESPERA, null, esperaRepository.calcularPosicao(turmaId, espera.getId()));
+	}
+
+	private Turma buscarTurma(Integer id) {
+		return turmaRepository.findById(id).orElseThrow(() -> RecursoNaoEncontradoException.feminino("Turma", id));
+	}
+
+	private static ConflitoException jaNaEspera(Integer turmaId, Integer alunoId) {
+		return new ConflitoException("Aluno com o ID " + alunoId + " já está na lista de espera da turma com o ID " + turmaId + ".");
+	}
+
+}
@@ -0,0 +1,33 @@
+package br.com.senac.service;
+
+/**
+ * Exceção lançada quando a turma não tem mais vagas. Durante a abertura das matrículas ela é lançada milhares
+ * de vezes por segundo para as turmas mais procuradas, por isso, como a RecursoNaoEncontradoException, não
+ * captura a pilha de chamadas; o TratadorExcecoes a converte em uma resposta 409.
+ */
+public class VagasEsgotadasException extends IllegalStateException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Integer turmaId;
+
+	public VagasEsgotadasException(Integer turmaId) {
+		this.turmaId = turmaId;
+	}
+
+	public Integer getTurmaId() {
+		return turmaId;
+	}
+
+	@Override
+	public String getMessage() {
+		return "Turma com o ID " + turmaId + " sem vagas disponíveis.";
+	}
+
+//  Não preenche a pilha de chamadas, que é a parte mais cara da criação de uma exceção
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return this;
+	}
+
+}
@@ -0,0 +1,35 @@
+package br.com.senac.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normaliza textos para busca: remove acentos, converte para minúsculas e reduz espaços repetidos,
+ * de forma que "José  Conceição" e "jose conceicao" sejam comparados como iguais.
+ */
+public final class NormalizadorTexto {
+
+//  Marcas diacríticas separadas das letras pela decomposição NFD (acentos, cedilha, til)
+	private static final Pattern DIACRITICOS = Pattern.compile("\\p{M}+");
+
+	private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+	private NormalizadorTexto() {
+	}
+
+	/**
+	 * Normaliza o texto informado.
+	 * 
+	 * @param texto O texto original (pode ser nulo).
+	 * @return O texto sem acentos, em minúsculas e sem espaços repetidos ou nas extremidades; nulo se o texto for nulo.
+	 */
+	public static String normalizar(String texto) {
+		if (texto == null) {
+			return null;
+		}
+		String semAcentos = DIACRITICOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+		return ESPACOS.matcher(semAcentos.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+	}
+
+}
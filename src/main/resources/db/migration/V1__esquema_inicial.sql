@@ -0,0 +1,60 @@
+-- Esquema inicial do sistema acadêmico (perfil "persistente"). Deve acompanhar o mapeamento das entidades,
+-- validado pelo Hibernate na inicialização (spring.jpa.hibernate.ddl-auto=validate).
+
+-- Sequências com incremento igual ao allocationSize das entidades (blocos de 50 IDs)
+create sequence aluno_seq start with 1 increment by 50;
+create sequence turma_seq start with 1 increment by 50;
+create sequence disciplina_seq start with 1 increment by 50;
+create sequence matricula_seq start with 1 increment by 50;
+create sequence oferta_seq start with 1 increment by 50;
+
+create table aluno (
+	id integer not null,
+	nome varchar(255),
+	nome_normalizado varchar(255),
+	versao bigint default 0 not null,
+	primary key (id)
+);
+
+create table turma (
+	id integer not null,
+	nome varchar(255),
+	nome_normalizado varchar(255),
+	versao bigint default 0 not null,
+	primary key (id)
+);
+
+create table disciplina (
+	id integer not null,
+	nome varchar(255),
+	nome_normalizado varchar(255),
+	versao bigint default 0 not null,
+	primary key (id)
+);
+
+create table matricula (
+	id integer not null,
+	aluno_id integer not null,
+	turma_id integer not null,
+	primary key (id),
+	constraint uk_matricula_aluno_turma unique (aluno_id, turma_id),
+	constraint fk_matricula_aluno foreign key (aluno_id) references aluno (id) on delete cascade,
+	constraint fk_matricula_turma foreign key (turma_id) references turma (id) on delete cascade
+);
+
+create table oferta (
+	id integer not null,
+	disciplina_id integer not null,
+	turma_id integer not null,
+	primary key (id),
+	constraint uk_oferta_disciplina_turma unique (disciplina_id, turma_id),
+	constraint fk_oferta_disciplina foreign key (disciplina_id) references disciplina (id) on delete cascade,
+	constraint fk_oferta_turma foreign key (turma_id) references turma (id) on delete cascade
+);
+
+-- Índices das buscas por nome e das consultas de matrículas e ofertas por turma
+create index idx_aluno_nome_normalizado on aluno (nome_normalizado);
+create index idx_turma_nome_normalizado on turma (nome_normalizado);
+create index idx_disciplina_nome_normalizado on disciplina (nome_normalizado);
+create index idx_matricula_turma on matricula (turma_id);
+create index idx_oferta_turma on oferta (turma_id);
@@ -0,0 +1,17 @@
+-- Horários semanais das turmas (dia da semana, intervalo, sala e professor)
+
+create sequence horario_seq start with 1 increment by 50;
+
+create table horario (
+	id integer not null,
+	turma_id integer not null,
+	dia_semana varchar(9) not null check (dia_semana in ('MONDAY','TUESDAY','WEDNESDAY','THURSDAY','FRIDAY','SATURDAY','SUNDAY')),
+	inicio time not null,
+	fim time not null,
+	sala varchar(255) not null,
+	professor varchar(255) not null,
+	primary key (id),
+	constraint fk_horario_turma foreign key (turma_id) references turma (id) on delete cascade
+);
+
+create index idx_horario_turma on horario (turma_id);
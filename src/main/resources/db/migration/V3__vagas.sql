@@ -0,0 +1,15 @@
+-- Capacidade das turmas e listas de espera (ordem de chegada pelo ID)
+
+alter table turma add column capacidade integer;
+
+create sequence espera_seq start with 1 increment by 50;
+
+create table espera (
+	id integer not null,
+	turma_id integer not null,
+	aluno_id integer not null,
+	primary key (id),
+	constraint uk_espera_turma_aluno unique (turma_id, aluno_id),
+	constraint fk_espera_turma foreign key (turma_id) references turma (id) on delete cascade,
+	constraint fk_espera_aluno foreign key (aluno_id) references aluno (id) on delete cascade
+);
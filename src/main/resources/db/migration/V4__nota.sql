@@ -0,0 +1,16 @@
+-- Notas dos alunos por turma e disciplina (0 a 10, com duas casas decimais)
+
+create sequence nota_seq start with 1 increment by 50;
+
+create table nota (
+	id integer not null,
+	turma_id integer not null,
+	disciplina_id integer not null,
+	aluno_id integer not null,
+	valor numeric(4,2) not null check (valor between 0 and 10),
+	primary key (id),
+	constraint uk_nota_turma_disciplina_aluno unique (turma_id, disciplina_id, aluno_id),
+	constraint fk_nota_turma foreign key (turma_id) references turma (id) on delete cascade,
+	constraint fk_nota_disciplina foreign key (disciplina_id) references disciplina (id) on delete cascade,
+	constraint fk_nota_aluno foreign key (aluno_id) references aluno (id) on delete cascade
+);
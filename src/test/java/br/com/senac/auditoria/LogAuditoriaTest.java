@@ -0,0 +1,203 @@
+package br.com.senac.auditoria;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.senac.dto.RegistroAuditoriaDTO;
+
+class LogAuditoriaTest {
+
+	@TempDir
+	Path diretorio;
+
+	private LogAuditoria log;
+
+	@AfterEach
+	public void tearDown() {
+		if (log != null) {
+			log.close();
+		}
+	}
+
+	/**
+	 * Teste para verificar se os registros gravados são lidos em ordem de sequência e filtrados por entidade e ID.
+	 */
+	@Test
+	public void gravarPercorrerTest() throws IOException {
+		log = new LogAuditoria(diretorio, LogAuditoria.TAMANHO_MINIMO_SEGMENTO, 1000);
+		log.gravar(List.of(new Alteracao(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, 1, "João"),
+				new Alteracao(EntidadeAuditada.TURMA, OperacaoAuditada.INCLUSAO, 1, "Turma A")));
+		log.gravar(List.of(new Alteracao(EntidadeAuditada.ALUNO, OperacaoAuditada.ALTERACAO, 1, "João Silva")));
+		log.gravar(List.of(new Alteracao(EntidadeAuditada.ALUNO, OperacaoAuditada.EXCLUSAO, 1, null)));
+
+//		Verifica se todos os registros são lidos com sequências consecutivas
+		List<RegistroAuditoriaDTO> todos = percorrer(null, null, null, null);
+		assertEquals(4, todos.size());
+		assertEquals(List.of(1L, 2L, 3L, 4L), todos.stream().map(RegistroAuditoriaDTO::getSequencia).toList());
+
+//		Verifica se o histórico do aluno 1 não inclui a turma com o mesmo ID
+		List<RegistroAuditoriaDTO> aluno = percorrer(EntidadeAuditada.ALUNO, 1, null, null);
+		assertEquals(List.of(OperacaoAuditada.INCLUSAO, OperacaoAuditada.ALTERACAO, OperacaoAuditada.EXCLUSAO),
+				aluno.stream().map(RegistroAuditoriaDTO::getOperacao).toList());
+		assertEquals("João Silva", aluno.get(1).getNome());
+		assertNull(aluno.get(2).getNome());
+
+//		Verifica se o limite interrompe a leitura
+		List<RegistroAuditoriaDTO> limitados = new ArrayList<>();
+		log.percorrer(null, null, null, null, 2, limitados::add);
+		assertEquals(2, limitados.size());
+	}
+
+	/**
+	 * Teste para verificar se o período filtra os registros pelo instante da gravação.
+	 */
+	@Test
+	public void percorrerPeriodoTest() throws Exception {
+		log = new LogAuditoria(diretorio, LogAuditoria.TAMANHO_MINIMO_SEGMENTO, 1000);
+		log.gravar(List.of(new Alteracao(EntidadeAuditada.DISCIPLINA, OperacaoAuditada.INCLUSAO, 1, "Matemática")));
+		Thread.sleep(5);
+		Instant meio = Instant.now();
+		Thread.sleep(5);
+		log.gravar(List.of(new Alteracao(EntidadeAuditada.DISCIPLINA, OperacaoAuditada.INCLUSAO, 2, "Física")));
+
+//		Verifica se cada lado do período contém apenas o registro gravado nele
+		assertEquals(List.of(1), percorrer(null, null, null, meio).stream().map(RegistroAuditoriaDTO::getEntidadeId).toList());
+		assertEquals(List.of(2), percorrer(null, null, meio, null).stream().map(RegistroAuditoriaDTO::getEntidadeId).toList());
+	}
+
+	/**
+	 * Teste para verificar se, ao ser reaberto, o log mantém os registros e continua a sequência.
+	 */
+	@Test
+	public void reabrirTest() throws IOException {
+		log = new LogAuditoria(diretorio, LogAuditoria.TAMANHO_MINIMO_SEGMENTO, 1000);
+		log.gravar(List.of(new Alteracao(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, 1, "João")));
+		log.close();
+
+		log = new LogAuditoria(diretorio, LogAuditoria.TAMANHO_MINIMO_SEGMENTO, 1000);
+		log.gravar(List.of(new Alteracao(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, 2, "Maria")));
+
+//		Verifica se os dois registros são lidos com as sequências 1 e 2
+		List<RegistroAuditoriaDTO> registros = percorrer(null, null, null, null);
+		assertEquals(List.of(1L, 2L), registros.stream().map(RegistroAuditoriaDTO::getSequencia).toList());
+		assertEquals("Maria", registros.get(1).getNome());
+	}
+
+	/**
+	 * Teste para verificar se um registro corrompido no fim do log (ex.: gravação interrompida) é descartado na
+	 * abertura e a sequência continua a partir do último registro íntegro.
+	 */
+	@Test
+	public void reabrirRegistroCorrompidoTest() throws IOException {
+		log = new LogAuditoria(diretorio, LogAuditoria.TAMANHO_MINIMO_SEGMENTO, 1000);
+		log.gravar(List.of(new Alteracao(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, 1, "João"),
+				new Alteracao(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, 2, "Maria")));
+		log.close();
+
+//		Altera o último byte do nome do segundo registro, invalidando o seu CRC
+		Path segmento = segmentos().get(0);
+		int posicao = 8 + 24 + "João".getBytes("UTF-8").length + 8 + 24 + "Maria".length() - 1;
+		try (FileChannel canal = FileChannel.open(segmento, StandardOpenOption.WRITE)) {
+			canal.write(ByteBuffer.wrap(new byte[] { 'X' }), posicao);
+		}
+
+		log = new LogAuditoria(diretorio, LogAuditoria.TAMANHO_MINIMO_SEGMENTO, 1000);
+
+//		Verifica se só o primeiro registro foi mantido e se o próximo registro recebe a sequência 2
+		assertEquals(2, log.getProximaSequencia());
+		log.gravar(List.of(new Alteracao(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, 3, "José")));
+		List<RegistroAuditoriaDTO> registros = percorrer(null, null, null, null);
+		assertEquals(List.of(1, 3), registros.stream().map(RegistroAuditoriaDTO::getEntidadeId).toList());
+	}
+
+	/**
+	 * Teste para verificar se um novo segmento é criado quando o atual fica cheio e se os registros de todos os
+	 * segmentos são lidos em ordem, inclusive depois de o log ser reaberto.
+	 */
+	@Test
+	public void segmentosTest() throws IOException {
+		log = new LogAuditoria(diretorio, LogAuditoria.TAMANHO_MINIMO_SEGMENTO, 1000);
+		String nome = "x".repeat(10_000);
+		for (int id = 1; id <= 10; id++) {
+			log.gravar(List.of(new Alteracao(EntidadeAuditada.TURMA, OperacaoAuditada.INCLUSAO, id, nome)));
+		}
+		log.sincronizar();
+
+//		Verifica se os registros foram divididos em quatro segmentos de três registros (o último com um)
+		assertEquals(4, log.getQuantidadeSegmentos());
+		assertEquals(4, segmentos().size());
+		assertEquals(10, percorrer(EntidadeAuditada.TURMA, null, null, null).size());
+		log.close();
+
+		log = new LogAuditoria(diretorio, LogAuditoria.TAMANHO_MINIMO_SEGMENTO, 1000);
+
+//		Verifica se, após reaberto, o log lê os dez registros em ordem e continua a sequência
+		List<RegistroAuditoriaDTO> registros = percorrer(null, null, null, null);
+		assertEquals(10, registros.size());
+		assertEquals(10, registros.get(9).getEntidadeId());
+		assertEquals(11, log.getProximaSequencia());
+	}
+
+	/**
+	 * Teste para verificar se, com um limite de segmentos, os segmentos mais antigos são excluídos e a sequência
+	 * continua a partir do último registro.
+	 */
+	@Test
+	public void segmentosMaximosTest() throws IOException {
+		log = new LogAuditoria(diretorio, LogAuditoria.TAMANHO_MINIMO_SEGMENTO, 2, 1000);
+		String nome = "x".repeat(10_000);
+		for (int id = 1; id <= 10; id++) {
+			log.gravar(List.of(new Alteracao(EntidadeAuditada.TURMA, OperacaoAuditada.INCLUSAO, id, nome)));
+		}
+
+//		Verifica se só os dois últimos segmentos (registros 7 a 10) foram mantidos
+		assertEquals(2, log.getQuantidadeSegmentos());
+		assertEquals(2, segmentos().size());
+		assertEquals(List.of(7, 8, 9, 10), percorrer(null, null, null, null).stream().map(RegistroAuditoriaDTO::getEntidadeId).toList());
+		assertEquals(11, log.getProximaSequencia());
+	}
+
+	/**
+	 * Teste para verificar se o diretório não pode ser aberto por um segundo log enquanto o primeiro está aberto.
+	 */
+	@Test
+	public void travaTest() throws IOException {
+		log = new LogAuditoria(diretorio, LogAuditoria.TAMANHO_MINIMO_SEGMENTO, 1000);
+		log.gravar(List.of(new Alteracao(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, 1, "João")));
+
+//		Verifica se a segunda abertura é recusada
+		assertThrows(IOException.class, () -> new LogAuditoria(diretorio, LogAuditoria.TAMANHO_MINIMO_SEGMENTO, 1000));
+		log.close();
+
+//		Verifica se, depois de fechado, o diretório pode ser aberto novamente
+		log = new LogAuditoria(diretorio, LogAuditoria.TAMANHO_MINIMO_SEGMENTO, 1000);
+		assertEquals(2, log.getProximaSequencia());
+	}
+
+	private List<RegistroAuditoriaDTO> percorrer(EntidadeAuditada entidade, Integer id, Instant de, Instant ate) {
+		List<RegistroAuditoriaDTO> registros = new ArrayList<>();
+		log.percorrer(entidade, id, de, ate, Long.MAX_VALUE, registros::add);
+		return registros;
+	}
+
+	private List<Path> segmentos() throws IOException {
+		try (Stream<Path> arquivos = Files.list(diretorio)) {
+			return arquivos.filter(arquivo -> arquivo.getFileName().toString().endsWith(".audit")).sorted().toList();
+		}
+	}
+
+}
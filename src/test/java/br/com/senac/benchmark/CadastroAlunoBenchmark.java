@@ -0,0 +1,63 @@
+package br.com.senac.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import br.com.senac.entity.Aluno;
+import br.com.senac.service.AlunoService;
+
+/**
+ * Mede a vazão de inserções individuais de alunos (salvarAluno) contra o H2, com uma e com várias threads.
+ *
+ * Execução: mvn -Pbenchmark verify -Dbenchmark.args="CadastroAlunoBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CadastroAlunoBenchmark {
+
+	private ConfigurableApplicationContext contexto;
+	private AlunoService alunoService;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		contexto = ContextoBenchmark.iniciar("cadastro");
+		alunoService = contexto.getBean(AlunoService.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		contexto.close();
+	}
+
+	@Benchmark
+	public Aluno salvarAluno() {
+		Aluno aluno = new Aluno();
+		aluno.setNome("Aluno benchmark");
+		return alunoService.salvarAluno(aluno);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Aluno salvarAlunoConcorrente() {
+		return salvarAluno();
+	}
+
+}
@@ -0,0 +1,224 @@
+package br.com.senac.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Teste de carga HTTP para comparar o modo de threads de plataforma com os perfis "virtual" e "reativo"
+ * (WebFlux + R2DBC, que publica os mesmos endereços) e medir a escala das leituras com o perfil "replica",
+ * que encaminha as transações somente leitura para uma réplica do banco. Para cada nível de concorrência,
+ * mantém N clientes enviando requisições sem pausa aos três controllers (80% leituras por ID, 10% listagens e
+ * 10% atualizações) e informa vazão, latências p50/p99/máxima, erros e o pico de requisições simultâneas em
+ * andamento (que fica abaixo de N quando o próprio cliente não consegue manter todas as requisições abertas).
+ *
+ * As leituras usam os IDs retornados pelo cadastro em lote feito antes da medição. Com o perfil "replica", os
+ * registros recém-cadastrados só são lidos pelas outras requisições depois que a réplica os recebe (até
+ * academico.replica.intervalo-ms depois); a medição só começa quando o último registro de cada recurso pode ser
+ * lido, para que essas leituras não sejam contadas como erros 404.
+ *
+ * Execução, com a aplicação já iniciada (em Java 21 para o perfil virtual):
+ *   java -jar target/sistemaacademico-0.0.1-SNAPSHOT.jar [--spring.profiles.active=virtual|reativo|replica]
+ *   mvn -Pbenchmark verify -DskipTests -Dbenchmark.main=br.com.senac.benchmark.CargaHttp \
+ *       -Dbenchmark.args="http://localhost:8080 50,200,800,2000 20"
+ */
+public final class CargaHttp {
+
+	private static final String[] RECURSOS = { "aluno", "turma", "disciplina" };
+
+//  Quantidade de registros de cada recurso criados antes da medição
+	private static final int REGISTROS = 1000;
+
+//  Tempo máximo de espera até que os registros criados possam ser lidos (réplica sincronizada)
+	private static final Duration ESPERA_MAXIMA = Duration.ofSeconds(30);
+
+	private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+	private CargaHttp() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		String base = args.length > 0 ? args[0] : "http://localhost:8080";
+		int[] niveis = Arrays.stream((args.length > 1 ? args[1] : "50,200,800").split(",")).mapToInt(Integer::parseInt).toArray();
+		int segundos = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+		HttpClient cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(10)).build();
+		Map<String, int[]> ids = popular(cliente, base);
+		aguardarLeitura(cliente, base, ids);
+
+		System.out.printf("%-12s %12s %10s %10s %10s %8s %8s%n", "concorrencia", "req/s", "p50 (ms)", "p99 (ms)", "max (ms)", "erros", "pico");
+		for (int nivel : niveis) {
+			executar(cliente, base, ids, nivel, segundos);
+		}
+	}
+
+//  Cadastra os registros de cada recurso e retorna os IDs gerados, que não dependem do estado anterior do banco
+	private static Map<String, int[]> popular(HttpClient cliente, String base) throws Exception {
+		StringBuilder corpo = new StringBuilder("[");
+		for (int i = 1; i <= REGISTROS; i++) {
+			corpo.append(i > 1 ? "," : "").append("{\"nome\":\"Carga ").append(i).append("\"}");
+		}
+		corpo.append("]");
+		Map<String, int[]> ids = new HashMap<>();
+		for (String recurso : RECURSOS) {
+			HttpRequest requisicao = HttpRequest.newBuilder(URI.create(base + "/" + recurso + "/batch"))
+					.header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString(corpo.toString())).build();
+			HttpResponse<String> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.ofString());
+			if (resposta.statusCode() != 200) {
+				throw new IllegalStateException("Cadastro em lote de " + recurso + " recusado: HTTP " + resposta.statusCode());
+			}
+			Matcher encontrados = ID.matcher(resposta.body());
+			List<Integer> gerados = new ArrayList<>(REGISTROS);
+			while (encontrados.find()) {
+				gerados.add(Integer.parseInt(encontrados.group(1)));
+			}
+			ids.put(recurso, gerados.stream().mapToInt(Integer::intValue).toArray());
+		}
+		return ids;
+	}
+
+//  Aguarda até que o último registro cadastrado de cada recurso possa ser lido por uma requisição qualquer
+	private static void aguardarLeitura(HttpClient cliente, String base, Map<String, int[]> ids) throws Exception {
+		long limite = System.nanoTime() + ESPERA_MAXIMA.toNanos();
+		for (String recurso : RECURSOS) {
+			int[] gerados = ids.get(recurso);
+			HttpRequest requisicao = HttpRequest.newBuilder(URI.create(base + "/" + recurso + "/" + gerados[gerados.length - 1])).build();
+			while (cliente.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+				if (System.nanoTime() > limite) {
+					throw new IllegalStateException("Registros de " + recurso + " não disponíveis para leitura após " + ESPERA_MAXIMA.toSeconds() + " s");
+				}
+				Thread.sleep(100);
+			}
+		}
+	}
+
+	private static void executar(HttpClient cliente, String base, Map<String, int[]> ids, int nivel, int segundos) throws Exception {
+		long fim = System.nanoTime() + TimeUnit.SECONDS.toNanos(segundos);
+		ExecutorService executor = Executors.newFixedThreadPool(nivel);
+		Simultaneas simultaneas = new Simultaneas();
+		List<Future<Resultado>> futuros = new ArrayList<>(nivel);
+		for (int i = 0; i < nivel; i++) {
+			futuros.add(executor.submit(() -> cliente(cliente, base, ids, fim, simultaneas)));
+		}
+		Resultado total = new Resultado();
+		for (Future<Resultado> futuro : futuros) {
+			total.somar(futuro.get());
+		}
+		executor.shutdown();
+
+		long[] latencias = Arrays.copyOf(total.latencias, total.quantidade);
+		Arrays.sort(latencias);
+		System.out.printf("%-12d %12.0f %10.2f %10.2f %10.2f %8d %8d%n", nivel, total.quantidade / (double) segundos,
+				percentil(latencias, 0.50), percentil(latencias, 0.99),
+				latencias.length == 0 ? 0 : latencias[latencias.length - 1] / 1e6, total.erros, simultaneas.getPico());
+	}
+
+	private static Resultado cliente(HttpClient cliente, String base, Map<String, int[]> ids, long fim, Simultaneas simultaneas) {
+		Resultado resultado = new Resultado();
+		ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+		while (System.nanoTime() < fim) {
+			String recurso = RECURSOS[aleatorio.nextInt(RECURSOS.length)];
+			int[] gerados = ids.get(recurso);
+			int id = gerados[aleatorio.nextInt(gerados.length)];
+			int sorteio = aleatorio.nextInt(10);
+			HttpRequest.Builder requisicao;
+			if (sorteio == 0) {
+				requisicao = HttpRequest.newBuilder(URI.create(base + "/" + recurso + "?tamanho=50"));
+			} else if (sorteio == 1) {
+				requisicao = HttpRequest.newBuilder(URI.create(base + "/" + recurso + "/" + id))
+						.header("Content-Type", "application/json")
+						.PUT(HttpRequest.BodyPublishers.ofString("{\"nome\":\"Carga " + id + "\"}"));
+			} else {
+				requisicao = HttpRequest.newBuilder(URI.create(base + "/" + recurso + "/" + id));
+			}
+			simultaneas.iniciar();
+			long inicio = System.nanoTime();
+			try {
+				int status = cliente.send(requisicao.timeout(Duration.ofSeconds(30)).build(),
+						HttpResponse.BodyHandlers.discarding()).statusCode();
+				resultado.registrar(System.nanoTime() - inicio, status >= 400);
+			} catch (Exception e) {
+				resultado.registrar(System.nanoTime() - inicio, true);
+			} finally {
+				simultaneas.terminar();
+			}
+		}
+		return resultado;
+	}
+
+	private static double percentil(long[] ordenadas, double percentil) {
+		if (ordenadas.length == 0) {
+			return 0;
+		}
+		return ordenadas[(int) Math.min(ordenadas.length - 1, Math.ceil(percentil * ordenadas.length) - 1)] / 1e6;
+	}
+
+	/**
+	 * Quantidade de requisições em andamento e o maior valor observado durante um nível de concorrência.
+	 */
+	private static final class Simultaneas {
+
+		private final AtomicInteger emAndamento = new AtomicInteger();
+		private final AtomicInteger pico = new AtomicInteger();
+
+		void iniciar() {
+			int atual = emAndamento.incrementAndGet();
+			pico.accumulateAndGet(atual, Math::max);
+		}
+
+		void terminar() {
+			emAndamento.decrementAndGet();
+		}
+
+		int getPico() {
+			return pico.get();
+		}
+
+	}
+
+	/**
+	 * Latências (em nanossegundos) e erros acumulados por um cliente.
+	 */
+	private static final class Resultado {
+
+		private long[] latencias = new long[1024];
+		private int quantidade;
+		private long erros;
+
+		void registrar(long latencia, boolean erro) {
+			if (quantidade == latencias.length) {
+				latencias = Arrays.copyOf(latencias, quantidade * 2);
+			}
+			latencias[quantidade++] = latencia;
+			if (erro) {
+				erros++;
+			}
+		}
+
+		void somar(Resultado outro) {
+			for (int i = 0; i < outro.quantidade; i++) {
+				registrar(outro.latencias[i], false);
+			}
+			erros += outro.erros;
+		}
+
+	}
+
+}
@@ -0,0 +1,145 @@
+package br.com.senac.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Teste de estresse das reservas de vagas: simula a abertura das matrículas de uma turma disputada, com N clientes
+ * reservando vagas ao mesmo tempo (POST /turma/{id}/reserva). Com repetições, cada aluno é reservado várias vezes
+ * seguidas, por clientes diferentes, como em um usuário que repete o envio: apenas uma reserva por aluno deve ser
+ * aceita e as demais devem receber 409. Informa a vazão em reservas por segundo e verifica, ao final, que nenhuma
+ * reserva falhou com outro código, que a turma não recebeu mais matrículas do que a capacidade e que todos os
+ * demais alunos entraram na lista de espera; caso contrário, termina com código de saída 1.
+ *
+ * Execução, com a aplicação já iniciada:
+ *   java -jar target/sistemaacademico-0.0.1-SNAPSHOT.jar
+ *   mvn -Pbenchmark verify -DskipTests -Dbenchmark.main=br.com.senac.benchmark.CargaReservas \
+ *       -Dbenchmark.args="http://localhost:8080 5000 500 200 3"
+ *   (argumentos: endereço, alunos, capacidade da turma, clientes simultâneos e reservas por aluno)
+ */
+public final class CargaReservas {
+
+	private static final ObjectMapper JSON = new ObjectMapper();
+
+	private CargaReservas() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		String base = args.length > 0 ? args[0] : "http://localhost:8080";
+		int quantidadeAlunos = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+		int capacidade = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+		int clientes = args.length > 3 ? Integer.parseInt(args[3]) : 200;
+		int repeticoes = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+
+		HttpClient cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(10)).build();
+		List<Integer> alunos = cadastrarAlunos(cliente, base, quantidadeAlunos);
+		int turmaId = enviar(cliente, base + "/turma", "POST", "{\"nome\":\"Reservas " + System.currentTimeMillis() + "\"}").get("id").asInt();
+		enviar(cliente, base + "/turma/" + turmaId + "/vagas", "PUT", "{\"capacidade\":" + capacidade + "}");
+
+		int reservas = alunos.size() * repeticoes;
+		Set<Integer> matriculados = ConcurrentHashMap.newKeySet();
+		Set<Integer> emEspera = ConcurrentHashMap.newKeySet();
+		LongAdder conflitos = new LongAdder();
+		LongAdder duplicadas = new LongAdder();
+		LongAdder erros = new LongAdder();
+		AtomicInteger proximo = new AtomicInteger();
+		CountDownLatch largada = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(clientes);
+		for (int i = 0; i < clientes; i++) {
+			executor.submit(() -> {
+				largada.await();
+				for (int indice = proximo.getAndIncrement(); indice < reservas; indice = proximo.getAndIncrement()) {
+					Integer alunoId = alunos.get(indice / repeticoes);
+					try {
+						HttpResponse<String> resposta = reservar(cliente, base + "/turma/" + turmaId + "/reserva?alunoId=" + alunoId);
+						if (resposta.statusCode() == 409) {
+							conflitos.increment();
+						} else if (resposta.statusCode() >= 400) {
+							erros.increment();
+						} else if (!("MATRICULADO".equals(JSON.readTree(resposta.body()).path("situacao").asText()) ? matriculados : emEspera).add(alunoId)) {
+//							Duas reservas do mesmo aluno aceitas com a mesma situação
+							duplicadas.increment();
+						}
+					} catch (Exception e) {
+						erros.increment();
+					}
+				}
+				return null;
+			});
+		}
+		long inicio = System.nanoTime();
+		largada.countDown();
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.MINUTES);
+		double segundos = (System.nanoTime() - inicio) / 1e9;
+
+		int naTurma = enviar(cliente, base + "/turma/" + turmaId + "/alunos", "GET", null).size();
+		JsonNode vagas = enviar(cliente, base + "/turma/" + turmaId + "/vagas", "GET", null);
+		System.out.printf("%-10s %10s %12s %12s %10s %10s %10s %8s%n", "reservas", "tempo (s)", "reservas/s", "matriculados", "em espera",
+				"conflitos", "duplicadas", "erros");
+		System.out.printf("%-10d %10.2f %12.0f %12d %10d %10d %10d %8d%n", reservas, segundos, reservas / segundos,
+				matriculados.size(), emEspera.size(), conflitos.sum(), duplicadas.sum(), erros.sum());
+		System.out.printf("turma %d: capacidade %d, alunos matriculados %d, vagas %s%n", turmaId, capacidade, naTurma, vagas);
+
+		int esperados = Math.min(capacidade, alunos.size());
+		emEspera.removeAll(matriculados);
+		if (erros.sum() > 0 || duplicadas.sum() > 0) {
+			System.out.println("FALHA: reservas rejeitadas com erro ou aceitas mais de uma vez para o mesmo aluno");
+			System.exit(1);
+		}
+		if (naTurma != esperados || matriculados.size() != esperados || emEspera.size() != alunos.size() - esperados) {
+			System.out.println("FALHA: matrículas ou lista de espera diferentes da capacidade da turma");
+			System.exit(1);
+		}
+	}
+
+	private static List<Integer> cadastrarAlunos(HttpClient cliente, String base, int quantidade) throws Exception {
+		StringBuilder corpo = new StringBuilder("[");
+		for (int i = 1; i <= quantidade; i++) {
+			corpo.append(i > 1 ? "," : "").append("{\"nome\":\"Reserva ").append(i).append("\"}");
+		}
+		corpo.append("]");
+		List<Integer> ids = new ArrayList<>(quantidade);
+		enviar(cliente, base + "/aluno/batch", "POST", corpo.toString()).forEach(aluno -> ids.add(aluno.get("id").asInt()));
+		return ids;
+	}
+
+	private static HttpResponse<String> reservar(HttpClient cliente, String endereco) throws Exception {
+		HttpRequest requisicao = HttpRequest.newBuilder(URI.create(endereco))
+				.timeout(Duration.ofSeconds(30))
+				.POST(HttpRequest.BodyPublishers.noBody())
+				.build();
+		return cliente.send(requisicao, HttpResponse.BodyHandlers.ofString());
+	}
+
+	private static JsonNode enviar(HttpClient cliente, String endereco, String metodo, String corpo) throws Exception {
+		HttpRequest requisicao = HttpRequest.newBuilder(URI.create(endereco))
+				.header("Content-Type", "application/json")
+				.timeout(Duration.ofSeconds(30))
+				.method(metodo, corpo == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(corpo))
+				.build();
+		HttpResponse<String> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.ofString());
+		if (resposta.statusCode() >= 400) {
+			throw new IllegalStateException(metodo + " " + endereco + ": " + resposta.statusCode() + " " + resposta.body());
+		}
+		return JSON.readTree(resposta.body());
+	}
+
+}
@@ -0,0 +1,77 @@
+package br.com.senac.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import br.com.senac.SistemaacademicoApplication;
+import br.com.senac.util.NormalizadorTexto;
+
+/**
+ * Utilitário compartilhado pelos benchmarks que precisam da aplicação real (serviços, repositórios e H2).
+ */
+final class ContextoBenchmark {
+
+//  Quantidade de linhas enviadas por lote na carga inicial das tabelas
+	private static final int TAMANHO_LOTE = 5_000;
+
+	private ContextoBenchmark() {
+	}
+
+	/**
+	 * Inicia o contexto Spring sem servidor web, apontando para um banco H2 em memória exclusivo.
+	 * 
+	 * @param nomeBanco O nome do banco H2 em memória a ser criado.
+	 * @return O contexto iniciado, que deve ser fechado ao final do benchmark.
+	 */
+	static ConfigurableApplicationContext iniciar(String nomeBanco) {
+		return executar("--spring.datasource.url=jdbc:h2:mem:" + nomeBanco + ";DB_CLOSE_DELAY=-1");
+	}
+
+	/**
+	 * Inicia o contexto Spring sem servidor web com o perfil "persistente", usando o arquivo H2 informado
+	 * (criado e migrado pelo Flyway se ainda não existir).
+	 * 
+	 * @param arquivo O caminho do arquivo do banco, sem a extensão .mv.db.
+	 * @return O contexto iniciado, que deve ser fechado ao final do benchmark.
+	 */
+	static ConfigurableApplicationContext iniciarPersistente(String arquivo) {
+		return executar("--spring.profiles.active=persistente", "--academico.banco.arquivo=" + arquivo);
+	}
+
+	private static ConfigurableApplicationContext executar(String... argumentos) {
+		List<String> todos = new ArrayList<>(List.of(argumentos));
+		todos.add("--spring.devtools.restart.enabled=false");
+		todos.add("--logging.level.root=WARN");
+		return new SpringApplicationBuilder(SistemaacademicoApplication.class)
+				.web(WebApplicationType.NONE)
+				.logStartupInfo(false)
+				.run(todos.toArray(new String[0]));
+	}
+
+	/**
+	 * Insere a quantidade informada de registros na tabela indicada usando lotes JDBC.
+	 * 
+	 * @param contexto O contexto da aplicação.
+	 * @param tabela A tabela que possui a coluna nome (aluno, turma ou disciplina).
+	 * @param quantidade A quantidade de linhas a inserir.
+	 */
+	static void popular(ConfigurableApplicationContext contexto, String tabela, int quantidade) {
+		JdbcTemplate jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+		List<Object[]> lote = new ArrayList<>(TAMANHO_LOTE);
+		for (int i = 1; i <= quantidade; i++) {
+			String nome = tabela + " " + i;
+			lote.add(new Object[] { nome, NormalizadorTexto.normalizar(nome) });
+			if (lote.size() == TAMANHO_LOTE || i == quantidade) {
+				jdbcTemplate.batchUpdate("insert into " + tabela + " (id, nome, nome_normalizado, versao) values (next value for " + tabela
+						+ "_seq, ?, ?, 0)", lote);
+				lote.clear();
+			}
+		}
+	}
+
+}
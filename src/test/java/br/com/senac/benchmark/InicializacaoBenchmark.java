@@ -0,0 +1,68 @@
+package br.com.senac.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Mede a inicialização a frio da aplicação com 1 milhão de alunos: no perfil "persistente" o banco em arquivo
+ * já existe e é apenas aberto (Flyway e Hibernate só conferem o esquema); no banco em memória a tabela precisa
+ * ser populada novamente a cada inicialização. Cada medição roda em uma JVM nova.
+ *
+ * Execução: mvn -Pbenchmark verify -Dbenchmark.args="InicializacaoBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 5, jvmArgsAppend = "-Xmx2g")
+public class InicializacaoBenchmark {
+
+	private static final int LINHAS = 1_000_000;
+
+//  Arquivo do banco persistente, criado na primeira execução e reaproveitado nas seguintes
+	private static final String ARQUIVO = "./target/benchmark/inicializacao";
+
+	@Param({ "persistente", "memoria" })
+	private String modo;
+
+//  Garante que o banco em arquivo exista com todas as linhas, fora da medição
+	@Setup(Level.Trial)
+	public void setUp() {
+		if (!"persistente".equals(modo)) {
+			return;
+		}
+		try (ConfigurableApplicationContext contexto = ContextoBenchmark.iniciarPersistente(ARQUIVO)) {
+			Integer existentes = contexto.getBean(JdbcTemplate.class).queryForObject("select count(*) from aluno", Integer.class);
+			if (existentes < LINHAS) {
+				ContextoBenchmark.popular(contexto, "aluno", LINHAS - existentes);
+			}
+		}
+	}
+
+	@Benchmark
+	public void inicializar() {
+		if ("persistente".equals(modo)) {
+			ContextoBenchmark.iniciarPersistente(ARQUIVO).close();
+		} else {
+			try (ConfigurableApplicationContext contexto = ContextoBenchmark.iniciar("inicializacao")) {
+				ContextoBenchmark.popular(contexto, "aluno", LINHAS);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+package br.com.senac.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import br.com.senac.dto.AlunoDTO;
+import br.com.senac.mapper.AlunoMapper;
+import br.com.senac.service.AlunoService;
+
+/**
+ * Mede o pipeline de listagem (buscar no H2 e converter em AlunoDTO) para tabelas de diferentes tamanhos,
+ * comparando a leitura completa de entidades (buscarTodosAlunos + AlunoMapper) com a primeira página da
+ * listagem paginada, projetada diretamente em AlunoDTO.
+ *
+ * Execução: mvn -Pbenchmark verify -Dbenchmark.args="ListagemAlunosBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ListagemAlunosBenchmark {
+
+	@Param({ "1000", "100000", "1000000" })
+	private int linhas;
+
+	private ConfigurableApplicationContext contexto;
+	private AlunoService alunoService;
+	private AlunoMapper alunoMapper;
+
+//  Inicia a aplicação e popula a tabela de alunos com a quantidade de linhas do parâmetro
+	@Setup(Level.Trial)
+	public void setUp() {
+		contexto = ContextoBenchmark.iniciar("listagem" + linhas);
+		ContextoBenchmark.popular(contexto, "aluno", linhas);
+		alunoService = contexto.getBean(AlunoService.class);
+		alunoMapper = contexto.getBean(AlunoMapper.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		contexto.close();
+	}
+
+	@Benchmark
+	public List<AlunoDTO> listarTodos() {
+		return alunoMapper.paraDTO(alunoService.buscarTodosAlunos());
+	}
+
+	@Benchmark
+	public List<AlunoDTO> listarPrimeiraPagina() {
+		return alunoService.buscarAlunosPaginados(null, 100).getItens();
+	}
+
+}
@@ -0,0 +1,77 @@
+package br.com.senac.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.senac.auditoria.Alteracao;
+import br.com.senac.auditoria.EntidadeAuditada;
+import br.com.senac.auditoria.LogAuditoria;
+import br.com.senac.auditoria.OperacaoAuditada;
+
+/**
+ * Mede o custo acrescentado a cada alteração pela gravação de um registro no LogAuditoria (tempo médio por
+ * gravação), com uma e com várias threads, com a sincronização em disco em grupo a cada 50 ms.
+ *
+ * Execução: mvn -Pbenchmark verify -Dbenchmark.args="LogAuditoriaBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogAuditoriaBenchmark {
+
+	private static final List<Alteracao> ALTERACAO = List.of(
+			new Alteracao(EntidadeAuditada.ALUNO, OperacaoAuditada.ALTERACAO, 42, "Aluno benchmark da auditoria"));
+
+	private Path diretorio;
+	private LogAuditoria log;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		diretorio = Files.createTempDirectory("auditoria-benchmark");
+		log = new LogAuditoria(diretorio, 64 * 1024 * 1024, 50);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		log.close();
+		try (Stream<Path> arquivos = Files.walk(diretorio)) {
+			for (Path arquivo : arquivos.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(arquivo);
+			}
+		}
+	}
+
+	@Benchmark
+	public void gravar() {
+		log.gravar(ALTERACAO);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public void gravarConcorrente() {
+		log.gravar(ALTERACAO);
+	}
+
+}
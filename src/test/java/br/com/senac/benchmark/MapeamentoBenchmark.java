@@ -0,0 +1,71 @@
+package br.com.senac.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.senac.dto.AlunoDTO;
+import br.com.senac.entity.Aluno;
+import br.com.senac.mapper.AlunoMapper;
+
+/**
+ * Compara o custo da conversão Aluno -> AlunoDTO feita pelo ModelMapper (baseada em reflexão) com a
+ * do AlunoMapper gerado pelo MapStruct, para um único registro e para uma lista como a das listagens.
+ *
+ * Execução: mvn -Pbenchmark verify -Dbenchmark.args="MapeamentoBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapeamentoBenchmark {
+
+	@Param({ "1", "1000" })
+	private int quantidade;
+
+	private ModelMapper modelMapper;
+	private AlunoMapper alunoMapper;
+	private List<Aluno> alunos;
+
+//  Prepara os mapeadores e a lista de alunos utilizada em todas as medições
+	@Setup
+	public void setUp() {
+		modelMapper = new ModelMapper();
+		alunoMapper = Mappers.getMapper(AlunoMapper.class);
+		alunos = new ArrayList<>(quantidade);
+		for (int i = 1; i <= quantidade; i++) {
+			Aluno aluno = new Aluno();
+			aluno.setId(i);
+			aluno.setNome("Aluno " + i);
+			alunos.add(aluno);
+		}
+	}
+
+	@Benchmark
+	public List<AlunoDTO> modelMapper() {
+		return alunos.stream().map(aluno -> modelMapper.map(aluno, AlunoDTO.class)).collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public List<AlunoDTO> mapStruct() {
+		return alunoMapper.paraDTO(alunos);
+	}
+
+}
@@ -0,0 +1,77 @@
+package br.com.senac.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.senac.dto.AlunoDTO;
+
+/**
+ * Mede a serialização JSON de uma List&lt;AlunoDTO&gt;, como a feita nas respostas de GET /aluno, e a compara
+ * com os formatos binários CBOR e Smile negociados pelo cabeçalho Accept.
+ *
+ * Execução: mvn -Pbenchmark verify -Dbenchmark.args="SerializacaoJsonBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacaoJsonBenchmark {
+
+	@Param({ "100", "1000", "100000" })
+	private int quantidade;
+
+	private ObjectMapper objectMapper;
+	private ObjectMapper cborMapper;
+	private ObjectMapper smileMapper;
+	private List<AlunoDTO> alunos;
+
+//  Utiliza o mesmo construtor de ObjectMapper que o Spring Boot usa para as respostas HTTP
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+		smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+		alunos = new ArrayList<>(quantidade);
+		for (int i = 1; i <= quantidade; i++) {
+			AlunoDTO aluno = new AlunoDTO();
+			aluno.setId(i);
+			aluno.setNome("Aluno " + i);
+			alunos.add(aluno);
+		}
+	}
+
+	@Benchmark
+	public byte[] serializarLista() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(alunos);
+	}
+
+	@Benchmark
+	public byte[] serializarListaCbor() throws JsonProcessingException {
+		return cborMapper.writeValueAsBytes(alunos);
+	}
+
+	@Benchmark
+	public byte[] serializarListaSmile() throws JsonProcessingException {
+		return smileMapper.writeValueAsBytes(alunos);
+	}
+
+}
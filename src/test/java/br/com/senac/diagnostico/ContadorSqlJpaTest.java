@@ -0,0 +1,84 @@
+package br.com.senac.diagnostico;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import br.com.senac.config.DiagnosticoSqlConfig;
+import br.com.senac.entity.Aluno;
+import br.com.senac.entity.Matricula;
+import br.com.senac.entity.Turma;
+import br.com.senac.repository.MatriculaRepository;
+
+/**
+ * Testes do orçamento de SQL com o JPA real: o DataSource do contexto é envolvido pelo proxy do modo de
+ * diagnóstico e o cache de segundo nível fica desligado, para que cada leitura chegue ao banco e seja contada.
+ */
+@DataJpaTest(properties = { "academico.diagnostico.sql.habilitado=true", "academico.cache.habilitado=false" })
+@Import(DiagnosticoSqlConfig.class)
+class ContadorSqlJpaTest {
+
+//  Quantidade de alunos matriculados na turma dos testes
+	private static final int ALUNOS = 60;
+
+//  Realiza a injeção automática de dependência do TestEntityManager pelo Spring
+	@Autowired
+	private TestEntityManager entityManager;
+
+//  Realiza a injeção automática de dependência do MatriculaRepository pelo Spring
+	@Autowired
+	private MatriculaRepository matriculaRepository;
+
+	private Integer turmaId;
+
+//  Configuração prévia para testes: uma turma com 60 alunos matriculados, gravados no banco e fora do contexto de persistência
+	@BeforeEach
+	public void setUp() {
+		Turma turma = new Turma();
+		turma.setNome("Java");
+		turmaId = entityManager.persist(turma).getId();
+		for (int i = 1; i <= ALUNOS; i++) {
+			Aluno aluno = new Aluno();
+			aluno.setNome("Aluno " + i);
+			Matricula matricula = new Matricula();
+			matricula.setAluno(entityManager.persist(aluno));
+			matricula.setTurma(turma);
+			entityManager.persist(matricula);
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	/**
+	 * Teste para verificar se o método verificar() aceita uma consulta de repositório que lê os 60 alunos da turma
+	 * em um único comando.
+	 */
+	@Test
+	public void verificarRepositorioTest() {
+        ContadorSql.verificar(1, () -> assertEquals(ALUNOS, matriculaRepository.buscarAlunosDaTurma(turmaId).size()));
+    }
+
+	/**
+	 * Teste para verificar se o método verificar() falha quando o acesso às associações preguiçosas gera um
+	 * SELECT por matrícula (padrão N+1).
+	 */
+	@Test
+	public void verificarNMaisUmTest() {
+//      Lê as matrículas e, em seguida, o nome do aluno de cada uma, carregado sob demanda
+        AssertionError erro = assertThrows(AssertionError.class, () -> ContadorSql.verificar(1, () -> {
+            List<Matricula> matriculas = matriculaRepository.findAll();
+            matriculas.forEach(matricula -> matricula.getAluno().getNome());
+        }));
+
+//      Verifica se o relatório aponta as 61 execuções
+        assertTrue(erro.getMessage().contains("executados " + (ALUNOS + 1) + ":"), erro.getMessage());
+    }
+
+}
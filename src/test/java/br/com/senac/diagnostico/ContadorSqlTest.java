@@ -0,0 +1,102 @@
+package br.com.senac.diagnostico;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+class ContadorSqlTest {
+
+	private DataSource dataSource;
+
+//  Configuração prévia para testes: banco H2 em memória envolvido pelo mesmo proxy usado no modo de diagnóstico
+	@BeforeEach
+	public void setUp() throws SQLException {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:diagnostico;DB_CLOSE_DELAY=-1");
+		try (Connection conexao = h2.getConnection(); Statement comando = conexao.createStatement()) {
+			comando.execute("create table if not exists aluno (id int primary key, nome varchar(255))");
+			comando.execute("merge into aluno key (id) values (1, 'João'), (2, 'Maria'), (3, 'José')");
+		}
+		dataSource = ProxyDataSourceBuilder.create(h2).listener(new OuvinteContadorSql()).build();
+	}
+
+	/**
+	 * Teste para verificar se o método medir() conta cada execução e agrupa os comandos repetidos (padrão N+1).
+	 */
+	@Test
+	public void medirTest() {
+//		Executa o mesmo SELECT por ID três vezes, como em um N+1
+		RelatorioSql relatorio = ContadorSql.medir(() -> {
+			for (int id = 1; id <= 3; id++) {
+				buscarNome(id);
+			}
+		});
+
+//		Verifica se as três execuções foram contadas com um único formato de comando
+		assertEquals(3, relatorio.getQuantidade());
+		assertEquals(1, relatorio.getFormatos().size());
+		assertEquals("3x select nome from aluno where id = ?", relatorio.formatosMaisFrequentes(1).get(0));
+	}
+
+	/**
+	 * Teste para verificar se o método verificar() falha quando o orçamento de comandos é ultrapassado.
+	 */
+	@Test
+	public void verificarOrcamentoUltrapassadoTest() {
+//		Verifica se duas execuções passam com orçamento 2 e falham com orçamento 1
+		assertDoesNotThrow(() -> ContadorSql.verificar(2, () -> {
+			buscarNome(1);
+			buscarNome(2);
+		}));
+		AssertionError erro = assertThrows(AssertionError.class, () -> ContadorSql.verificar(1, () -> {
+			buscarNome(1);
+			buscarNome(2);
+		}));
+
+//		Verifica se a mensagem informa o comando repetido
+		assertTrue(erro.getMessage().contains("2x select nome from aluno where id = ?"));
+	}
+
+	/**
+	 * Teste para verificar se os comandos executados fora de uma medição são ignorados.
+	 */
+	@Test
+	public void foraDaMedicaoTest() {
+		buscarNome(1);
+
+//		Verifica se o relatório de uma thread sem medição iniciada está vazio
+		assertEquals(0, ContadorSql.finalizar().getQuantidade());
+	}
+
+	/**
+	 * Teste para verificar se listas de parâmetros de tamanhos diferentes geram o mesmo formato de comando.
+	 */
+	@Test
+	public void formatoTest() {
+		assertEquals("select * from aluno where id in (?...)", RelatorioSql.formato("select *  from aluno\n where id in (?, ?,?)"));
+		assertEquals("select * from aluno where id in (?...)", RelatorioSql.formato("select * from aluno where id in (?,?)"));
+	}
+
+//  Executa um SELECT por ID usando o DataSource com proxy
+	private void buscarNome(int id) {
+		try (Connection conexao = dataSource.getConnection();
+				PreparedStatement comando = conexao.prepareStatement("select nome from aluno where id = ?")) {
+			comando.setInt(1, id);
+			comando.executeQuery().close();
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
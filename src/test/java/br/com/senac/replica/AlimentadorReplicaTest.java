@@ -0,0 +1,115 @@
+package br.com.senac.replica;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.senac.entity.Aluno;
+import br.com.senac.service.ContadorAlteracoes;
+
+class AlimentadorReplicaTest {
+
+	private static final String URL_PRIMARIO = "jdbc:h2:mem:primario-alimentador;DB_CLOSE_DELAY=-1";
+
+	private JdbcDataSource primario;
+	private JdbcDataSource replica;
+	private ContadorAlteracoes contadorAlteracoes;
+	private AlimentadorReplica alimentador;
+
+//  Configuração prévia para testes: primário e réplica H2 em memória com o mesmo esquema
+	@BeforeEach
+	public void setUp() throws SQLException {
+		primario = new JdbcDataSource();
+		primario.setURL(URL_PRIMARIO);
+		replica = new JdbcDataSource();
+		replica.setURL("jdbc:h2:mem:replica-alimentador;DB_CLOSE_DELAY=-1");
+		for (JdbcDataSource banco : List.of(primario, replica)) {
+			executar(banco, "drop all objects");
+			executar(banco, "create table aluno (id int primary key, nome varchar(255))");
+		}
+		executar(primario, "insert into aluno values (1, 'João'), (2, 'Maria'), (3, 'José')");
+		contadorAlteracoes = new ContadorAlteracoes();
+		alimentador = new AlimentadorReplica(replica, URL_PRIMARIO, "", "", contadorAlteracoes::capturar);
+	}
+
+	/**
+	 * Teste para verificar se o método sincronizar() copia para a réplica as linhas do primário.
+	 */
+	@Test
+	public void sincronizarTest() throws SQLException {
+//		Verifica se a réplica começa sem sincronização
+		assertNull(alimentador.getInicioUltimaSincronizacao());
+		assertEquals(-1, alimentador.getAtrasoMillis());
+
+		assertEquals(3, alimentador.sincronizar());
+
+//		Verifica se as três linhas foram inseridas na réplica e se o instante da sincronização foi registrado
+		assertEquals(List.of("1 João", "2 Maria", "3 José"), alunos(replica));
+		assertNotNull(alimentador.getInicioUltimaSincronizacao());
+		assertTrue(alimentador.getAtrasoMillis() >= 0);
+	}
+
+	/**
+	 * Teste para verificar se o método sincronizar() aplica na réplica as inclusões, alterações e exclusões feitas
+	 * no primário desde a sincronização anterior, sem alterar as linhas iguais.
+	 */
+	@Test
+	public void sincronizarAlteracoesTest() throws SQLException {
+		alimentador.sincronizar();
+		executar(primario, "insert into aluno values (4, 'Ana')");
+		executar(primario, "update aluno set nome = 'Maria Silva' where id = 2");
+		executar(primario, "delete from aluno where id = 3");
+
+//		Verifica se só as três linhas alteradas foram contadas
+		assertEquals(3, alimentador.sincronizar());
+		assertEquals(List.of("1 João", "2 Maria Silva", "4 Ana"), alunos(replica));
+
+//		Verifica se uma nova sincronização sem alterações não altera nenhuma linha
+		assertEquals(0, alimentador.sincronizar());
+	}
+
+	/**
+	 * Teste para verificar se o método sincronizar() guarda os contadores de alterações capturados no seu início,
+	 * e não os de alterações registradas depois dele.
+	 */
+	@Test
+	public void sincronizarContadoresTest() throws SQLException {
+		assertNull(alimentador.getContadoresUltimaSincronizacao());
+
+//		Registra uma alteração antes e outra depois da sincronização
+		contadorAlteracoes.registrarAlteracao(Aluno.class);
+		alimentador.sincronizar();
+		contadorAlteracoes.registrarAlteracao(Aluno.class);
+
+//		Verifica se só a alteração anterior à sincronização foi capturada
+		assertEquals(Map.of(Aluno.class, 1L), alimentador.getContadoresUltimaSincronizacao());
+	}
+
+	private static void executar(JdbcDataSource banco, String sql) throws SQLException {
+		try (Connection conexao = banco.getConnection(); Statement comando = conexao.createStatement()) {
+			comando.execute(sql);
+		}
+	}
+
+	private static List<String> alunos(JdbcDataSource banco) throws SQLException {
+		List<String> alunos = new ArrayList<>();
+		try (Connection conexao = banco.getConnection(); Statement comando = conexao.createStatement();
+				ResultSet resultado = comando.executeQuery("select id, nome from aluno order by id")) {
+			while (resultado.next()) {
+				alunos.add(resultado.getInt(1) + " " + resultado.getString(2));
+			}
+		}
+		return alunos;
+	}
+
+}
@@ -0,0 +1,134 @@
+package br.com.senac.replica;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.SQLException;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.senac.entity.Aluno;
+import br.com.senac.replica.RoteadorDataSource.Destino;
+
+@ExtendWith(MockitoExtension.class)
+class RoteadorDataSourceTest {
+
+	@Mock
+	private DataSource primario;
+
+	@Mock
+	private DataSource replica;
+
+	@Mock
+	private AlimentadorReplica alimentador;
+
+	private RoteadorDataSource roteador;
+
+//  Configuração prévia para testes: roteador com atraso máximo de 5 segundos, dentro de uma transação simulada
+	@BeforeEach
+	public void setUp() {
+		roteador = new RoteadorDataSource(primario, replica, alimentador, 5000);
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		TransactionSynchronizationManager.clear();
+		RoteadorDataSource.limparUltimaEscrita();
+	}
+
+	/**
+	 * Teste para verificar se as transações somente leitura obtêm a conexão da réplica e as demais, do primário.
+	 */
+	@Test
+	public void getConnectionTest() throws SQLException {
+		when(alimentador.getInicioUltimaSincronizacao()).thenReturn(System.nanoTime());
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		roteador.getConnection();
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		roteador.getConnection();
+
+//		Verifica se cada DataSource forneceu uma conexão
+		verify(replica).getConnection();
+		verify(primario).getConnection();
+	}
+
+	/**
+	 * Teste para verificar se as leituras voltam ao primário enquanto a réplica não foi sincronizada ou quando
+	 * ela passa do atraso máximo.
+	 */
+	@Test
+	public void destinoReplicaAtrasadaTest() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+//		Verifica se a leitura vai ao primário antes da primeira sincronização
+		when(alimentador.getInicioUltimaSincronizacao()).thenReturn(null);
+		assertEquals(Destino.PRIMARIO, roteador.destino());
+
+//		Verifica se a leitura vai ao primário com a última sincronização iniciada há 6 segundos
+		when(alimentador.getInicioUltimaSincronizacao()).thenReturn(System.nanoTime() - 6_000_000_000L);
+		assertEquals(Destino.PRIMARIO, roteador.destino());
+
+//		Verifica se a leitura vai à réplica com a última sincronização iniciada há 1 segundo
+		when(alimentador.getInicioUltimaSincronizacao()).thenReturn(System.nanoTime() - 1_000_000_000L);
+		assertEquals(Destino.REPLICA, roteador.destino());
+	}
+
+	/**
+	 * Teste para verificar se, depois de confirmar uma escrita, a thread lê do primário até a réplica iniciar
+	 * uma sincronização posterior à escrita.
+	 */
+	@Test
+	public void destinoLeituraAposEscritaTest() {
+		long sincronizacaoAnterior = System.nanoTime();
+
+//		Simula o commit de uma transação de escrita
+		assertEquals(Destino.PRIMARIO, roteador.destino());
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+//		Verifica se a leitura vai ao primário enquanto a última sincronização é anterior à escrita
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		when(alimentador.getInicioUltimaSincronizacao()).thenReturn(sincronizacaoAnterior);
+		assertEquals(Destino.PRIMARIO, roteador.destino());
+
+//		Verifica se a leitura volta à réplica depois de uma sincronização posterior à escrita
+		when(alimentador.getInicioUltimaSincronizacao()).thenReturn(System.nanoTime());
+		assertEquals(Destino.REPLICA, roteador.destino());
+	}
+
+	/**
+	 * Teste para verificar se o método contadoresLeitura() retorna os contadores da última sincronização com a
+	 * réplica em dia e, com a réplica atrasada, fixa a próxima leitura da thread no primário.
+	 */
+	@Test
+	public void contadoresLeituraTest() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		when(alimentador.getContadoresUltimaSincronizacao()).thenReturn(Map.of(Aluno.class, 3L));
+
+//		Verifica se, com a réplica em dia, os contadores da sincronização são usados e a leitura vai à réplica
+		when(alimentador.getInicioUltimaSincronizacao()).thenReturn(System.nanoTime());
+		assertEquals(Map.of(Aluno.class, 3L), roteador.contadoresLeitura());
+		assertEquals(Destino.REPLICA, roteador.destino());
+
+//		Verifica se, com a réplica atrasada, os contadores atuais devem ser usados
+		when(alimentador.getInicioUltimaSincronizacao()).thenReturn(System.nanoTime() - 6_000_000_000L);
+		assertNull(roteador.contadoresLeitura());
+
+//		Verifica se a leitura seguinte vai ao primário mesmo que a réplica seja sincronizada antes dela
+		when(alimentador.getInicioUltimaSincronizacao()).thenReturn(System.nanoTime());
+		assertEquals(Destino.PRIMARIO, roteador.destino());
+		assertEquals(Destino.REPLICA, roteador.destino());
+	}
+
+}
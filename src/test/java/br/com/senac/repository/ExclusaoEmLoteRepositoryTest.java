@@ -0,0 +1,96 @@
+package br.com.senac.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import br.com.senac.entity.Aluno;
+import br.com.senac.entity.Disciplina;
+import br.com.senac.entity.Turma;
+
+/**
+ * Testes das exclusões em lote contra o banco H2 com o JPA real: a lista de IDs passa pelo Hibernate e pelo
+ * banco, o que os testes com repositórios simulados não verificam.
+ */
+@DataJpaTest
+class ExclusaoEmLoteRepositoryTest {
+
+//  Quantidade de IDs excluídos em cada teste, acima dos 5.000 que estouravam a pilha ao montar o JPQL com OR
+	private static final int QUANTIDADE = 10_000;
+
+//  Realiza a injeção automática de dependência do AlunoRepository pelo Spring
+	@Autowired
+	private AlunoRepository alunoRepository;
+
+//  Realiza a injeção automática de dependência do TurmaRepository pelo Spring
+	@Autowired
+	private TurmaRepository turmaRepository;
+
+//  Realiza a injeção automática de dependência do DisciplinaRepository pelo Spring
+	@Autowired
+	private DisciplinaRepository disciplinaRepository;
+
+	/**
+	 * Teste para verificar se o método excluirPorIds() do AlunoRepository exclui 10.000 alunos em um único comando.
+	 */
+	@Test
+	public void excluirAlunosPorIdsTest() {
+        List<Integer> ids = inserir(alunoRepository, () -> {
+            Aluno aluno = new Aluno();
+            aluno.setNome("Aluno");
+            return aluno;
+        }, Aluno::getId);
+
+        assertEquals(QUANTIDADE, alunoRepository.excluirPorIds(ids));
+        assertEquals(0, alunoRepository.count());
+    }
+
+	/**
+	 * Teste para verificar se o método excluirPorIds() do TurmaRepository exclui 10.000 turmas em um único comando.
+	 */
+	@Test
+	public void excluirTurmasPorIdsTest() {
+        List<Integer> ids = inserir(turmaRepository, () -> {
+            Turma turma = new Turma();
+            turma.setNome("Turma");
+            return turma;
+        }, Turma::getId);
+
+        assertEquals(QUANTIDADE, turmaRepository.excluirPorIds(ids));
+        assertEquals(0, turmaRepository.count());
+    }
+
+	/**
+	 * Teste para verificar se o método excluirPorIds() do DisciplinaRepository exclui 10.000 disciplinas em um
+	 * único comando.
+	 */
+	@Test
+	public void excluirDisciplinasPorIdsTest() {
+        List<Integer> ids = inserir(disciplinaRepository, () -> {
+            Disciplina disciplina = new Disciplina();
+            disciplina.setNome("Disciplina");
+            return disciplina;
+        }, Disciplina::getId);
+
+        assertEquals(QUANTIDADE, disciplinaRepository.excluirPorIds(ids));
+        assertEquals(0, disciplinaRepository.count());
+    }
+
+//  Grava QUANTIDADE entidades criadas pela fábrica e devolve os IDs gerados
+	private static <T> List<Integer> inserir(JpaRepository<T, Integer> repositorio, Supplier<T> fabrica, Function<T, Integer> id) {
+        List<T> entidades = new ArrayList<>(QUANTIDADE);
+        for (int i = 0; i < QUANTIDADE; i++) {
+            entidades.add(fabrica.get());
+        }
+        return repositorio.saveAll(entidades).stream().map(id).toList();
+    }
+
+}
@@ -0,0 +1,114 @@
+package br.com.senac.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import br.com.senac.config.DiagnosticoSqlConfig;
+import br.com.senac.diagnostico.ContadorSql;
+import br.com.senac.entity.Aluno;
+import br.com.senac.entity.Matricula;
+import br.com.senac.entity.Turma;
+
+/**
+ * Testes das consultas por junção do MatriculaRepository com o orçamento de um comando SQL, para que a volta de
+ * um SELECT por matrícula (N+1) seja detectada. O cache de segundo nível fica desligado, para que as entidades
+ * carregadas sob demanda cheguem ao banco e sejam contadas.
+ */
+@DataJpaTest(properties = { "academico.diagnostico.sql.habilitado=true", "academico.cache.habilitado=false" })
+@Import(DiagnosticoSqlConfig.class)
+class MatriculaRepositoryTest {
+
+//  Quantidade de alunos da turma principal e de turmas do aluno principal
+	private static final int QUANTIDADE = 60;
+
+//  Realiza a injeção automática de dependência do TestEntityManager pelo Spring
+	@Autowired
+	private TestEntityManager entityManager;
+
+//  Realiza a injeção automática de dependência do MatriculaRepository pelo Spring
+	@Autowired
+	private MatriculaRepository matriculaRepository;
+
+	private Integer turmaId;
+
+	private Integer alunoId;
+
+//  Configuração prévia para testes: uma turma com 60 alunos, o primeiro deles matriculado em 60 turmas, gravados
+//  em ordem alfabética inversa e fora do contexto de persistência
+	@BeforeEach
+	public void setUp() {
+		List<Turma> turmas = new ArrayList<>();
+		List<Aluno> alunos = new ArrayList<>();
+		for (int i = QUANTIDADE; i >= 1; i--) {
+			Turma turma = new Turma();
+			turma.setNome("Turma %02d".formatted(i));
+			turmas.add(entityManager.persist(turma));
+			Aluno aluno = new Aluno();
+			aluno.setNome("Aluno %02d".formatted(i));
+			alunos.add(entityManager.persist(aluno));
+		}
+		Turma principal = turmas.get(0);
+		Aluno primeiro = alunos.get(0);
+		alunos.forEach(aluno -> matricular(aluno, principal));
+		turmas.stream().skip(1).forEach(turma -> matricular(primeiro, turma));
+		turmaId = principal.getId();
+		alunoId = primeiro.getId();
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	/**
+	 * Teste para verificar se o método buscarAlunosDaTurma() lê os 60 alunos da turma, em ordem alfabética, com um
+	 * único comando SQL.
+	 */
+	@Test
+	public void buscarAlunosDaTurmaTest() {
+        List<Aluno> alunos = new ArrayList<>();
+
+//      Lê os alunos e o nome de cada um dentro do orçamento
+        ContadorSql.verificar(1, () -> matriculaRepository.buscarAlunosDaTurma(turmaId).forEach(aluno -> {
+            aluno.getNome();
+            alunos.add(aluno);
+        }));
+
+        assertEquals(QUANTIDADE, alunos.size());
+        assertEquals("Aluno 01", alunos.get(0).getNome());
+        assertEquals("Aluno 60", alunos.get(QUANTIDADE - 1).getNome());
+    }
+
+	/**
+	 * Teste para verificar se o método buscarTurmasDoAluno() lê as 60 turmas do aluno, em ordem alfabética, com um
+	 * único comando SQL.
+	 */
+	@Test
+	public void buscarTurmasDoAlunoTest() {
+        List<Turma> turmas = new ArrayList<>();
+
+//      Lê as turmas e o nome de cada uma dentro do orçamento
+        ContadorSql.verificar(1, () -> matriculaRepository.buscarTurmasDoAluno(alunoId).forEach(turma -> {
+            turma.getNome();
+            turmas.add(turma);
+        }));
+
+        assertEquals(QUANTIDADE, turmas.size());
+        assertEquals("Turma 01", turmas.get(0).getNome());
+        assertEquals("Turma 60", turmas.get(QUANTIDADE - 1).getNome());
+    }
+
+	private void matricular(Aluno aluno, Turma turma) {
+		Matricula matricula = new Matricula();
+		matricula.setAluno(aluno);
+		matricula.setTurma(turma);
+		entityManager.persist(matricula);
+	}
+
+}
@@ -0,0 +1,147 @@
+package br.com.senac.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import br.com.senac.auditoria.EntidadeAuditada;
+import br.com.senac.auditoria.OperacaoAuditada;
+import br.com.senac.dto.AlunoDTO;
+import br.com.senac.entity.Aluno;
+import br.com.senac.repository.AlunoReativoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+//Integra o Mockito para configurar e usar mocks nos testes
+@ExtendWith(MockitoExtension.class)
+class AlunoReativoServiceTest {
+
+//  Cria um mock (objeto simulado) para o AlunoReativoRepository
+	@Mock
+	private AlunoReativoRepository alunoReativoRepository;
+
+//  Cria um mock (objeto simulado) para o ContadorAlteracoes utilizado na geração das ETags
+	@Mock
+	private ContadorAlteracoes contadorAlteracoes;
+
+//  Cria um mock (objeto simulado) para o AuditoriaService que registra as alterações na trilha de auditoria
+	@Mock
+	private AuditoriaService auditoriaService;
+
+//  Cria um mock (objeto simulado) para o operador de transações R2DBC
+	@Mock
+	private TransactionalOperator transacaoReativa;
+
+//  Injeta mocks automaticamente em AlunoReativoService
+	@InjectMocks
+	private AlunoReativoService alunoReativoService;
+
+	/**
+	 * Teste para verificar se o método salvarAluno() grava o nome normalizado e registra a alteração.
+	 */
+	@Test
+    public void salvarAlunoTest() {
+//      Configura o comportamento simulado do repositório para a inserção
+        when(alunoReativoRepository.inserir("João Conceição", "joao conceicao")).thenReturn(Mono.just(new AlunoDTO(1, "João Conceição")));
+
+//      Chama o método de salvar e aguarda o resultado
+        AlunoDTO salvo = alunoReativoService.salvarAluno(new AlunoDTO(null, "João Conceição")).block();
+
+//      Verifica o ID retornado e se a alteração foi registrada para invalidar as ETags
+        assertEquals(1, salvo.getId());
+        verify(contadorAlteracoes, times(1)).registrarAlteracao(Aluno.class);
+    }
+
+	/**
+	 * Teste para verificar se o método salvarAlunos() entrega e audita os alunos salvos, na ordem recebida.
+	 */
+	@Test
+    public void salvarAlunosTest() {
+//      Configura o operador de transações para executar o Mono recebido e o repositório para as inserções
+        when(transacaoReativa.transactional(any(Mono.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+        when(alunoReativoRepository.inserir("João", "joao")).thenReturn(Mono.just(new AlunoDTO(1, "João")));
+        when(alunoReativoRepository.inserir("Maria", "maria")).thenReturn(Mono.just(new AlunoDTO(2, "Maria")));
+
+        List<AlunoDTO> salvos = alunoReativoService.salvarAlunos(List.of(new AlunoDTO(null, "João"), new AlunoDTO(null, "Maria"))).collectList().block();
+
+//      Verifica os IDs retornados e se cada aluno foi auditado
+        assertEquals(List.of(1, 2), salvos.stream().map(AlunoDTO::getId).toList());
+        verify(contadorAlteracoes, times(1)).registrarAlteracao(Aluno.class);
+        verify(auditoriaService, times(1)).registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, 1, "João");
+        verify(auditoriaService, times(1)).registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, 2, "Maria");
+    }
+
+	/**
+	 * Teste para verificar se o método salvarAlunos() não entrega nem audita nenhum ID quando uma inserção falha.
+	 */
+	@Test
+    public void salvarAlunosFalhaTest() {
+//      Configura o operador de transações e uma falha na segunda inserção
+        when(transacaoReativa.transactional(any(Mono.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+        when(alunoReativoRepository.inserir("João", "joao")).thenReturn(Mono.just(new AlunoDTO(1, "João")));
+        when(alunoReativoRepository.inserir("Maria", "maria")).thenReturn(Mono.error(new IllegalStateException("Falha na inserção")));
+
+//      Verifica se o Flux termina com erro sem emitir o ID já inserido
+        List<AlunoDTO> emitidos = new ArrayList<>();
+        assertThrows(IllegalStateException.class, () -> alunoReativoService.salvarAlunos(List.of(new AlunoDTO(null, "João"), new AlunoDTO(null, "Maria")))
+                .doOnNext(emitidos::add).blockLast());
+        assertTrue(emitidos.isEmpty());
+        verify(contadorAlteracoes, never()).registrarAlteracao(Aluno.class);
+        verify(auditoriaService, never()).registrar(any(), any(), anyInt(), anyString());
+    }
+
+	/**
+	 * Teste para verificar se o método buscarAlunosPaginados() limita o tamanho da página e começa do cursor 0.
+	 */
+	@Test
+    public void buscarAlunosPaginadosTest() {
+//      Configura o comportamento simulado do repositório para a primeira página com o tamanho máximo
+        when(alunoReativoRepository.buscarPagina(0, AlunoService.TAMANHO_MAXIMO_PAGINA)).thenReturn(Flux.just(new AlunoDTO(1, "A"), new AlunoDTO(2, "B")));
+
+//      Solicita uma página maior que o máximo permitido
+        List<AlunoDTO> pagina = alunoReativoService.buscarAlunosPaginados(null, 10_000).collectList().block();
+
+        assertEquals(2, pagina.size());
+    }
+
+	/**
+	 * Teste para verificar se o método buscarAlunoPorId() termina com RecursoNaoEncontradoException quando o ID não existe.
+	 */
+	@Test
+    public void buscarAlunoPorIdNaoEncontradoTest() {
+//      Configura o comportamento simulado do repositório para um ID inexistente
+        when(alunoReativoRepository.buscarPorId(99)).thenReturn(Mono.empty());
+
+//      Verifica se o erro emitido é a exceção de recurso não encontrado
+        assertThrows(RecursoNaoEncontradoException.class, () -> alunoReativoService.buscarAlunoPorId(99).block());
+    }
+
+	/**
+	 * Teste para verificar se o método atualizarAluno() não registra alteração quando nenhum registro é alterado.
+	 */
+	@Test
+    public void atualizarAlunoNaoEncontradoTest() {
+//      Configura o comportamento simulado do repositório para indicar que nenhum registro foi alterado
+        when(alunoReativoRepository.atualizarNome(99, "Nome", "nome")).thenReturn(Mono.just(0L));
+
+//      Verifica se a atualização de um ID inexistente termina com erro e sem registrar alteração
+        assertThrows(RecursoNaoEncontradoException.class, () -> alunoReativoService.atualizarAluno(99, new AlunoDTO(99, "Nome")).block());
+        verify(contadorAlteracoes, never()).registrarAlteracao(Aluno.class);
+    }
+
+}
@@ -2,23 +2,35 @@ package br.com.senac.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import br.com.senac.auditoria.EntidadeAuditada;
+import br.com.senac.auditoria.OperacaoAuditada;
+import br.com.senac.dto.AlunoDTO;
+import br.com.senac.dto.PaginaDTO;
 import br.com.senac.entity.Aluno;
 import br.com.senac.repository.AlunoRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
 
 //Integra o Mockito para configurar e usar mocks nos testes
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +40,18 @@ class AlunoServiceTest {
 	@Mock
 	private AlunoRepository alunoRepository;
 
+//  Cria um mock (objeto simulado) para o EntityManager utilizado na exportação
+	@Mock
+	private EntityManager entityManager;
+
+//  Cria um mock (objeto simulado) para o ContadorAlteracoes utilizado na geração das ETags
+	@Mock
+	private ContadorAlteracoes contadorAlteracoes;
+
+//  Cria um mock (objeto simulado) para o AuditoriaService que registra as alterações na trilha de auditoria
+	@Mock
+	private AuditoriaService auditoriaService;
+
 // Injeta mocks automaticamente em AlunoService
 	@InjectMocks
 	private AlunoService alunoService;
@@ -58,6 +82,9 @@ class AlunoServiceTest {
         
 //		Verifica se o nome do aluno salvo é igual ao nome do aluno de teste
         assertEquals(alunoTeste.getNome(), alunoSalvo.getNome());
+
+//		Verifica se a inclusão foi registrada na trilha de auditoria
+        verify(auditoriaService, times(1)).registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, alunoTeste.getId(), alunoTeste.getNome());
     }
 
 	/**
@@ -81,6 +108,79 @@ class AlunoServiceTest {
         assertTrue(alunos.contains(alunoTeste));
     }
 
+	/**
+	 * Teste para verificar se o método buscarAlunosPaginados() limita a página e devolve o cursor da próxima página.
+	 */
+	@Test
+    public void buscarAlunosPaginadosTest() {
+//      Cria um aluno adicional com o ID 2 para simular que existem mais registros que o tamanho da página
+        Aluno alunoSeguinte = new Aluno();
+        alunoSeguinte.setId(2);
+        alunoSeguinte.setNome("Maria");
+
+//      Configura o comportamento simulado do repositório para retornar um registro a mais que o tamanho da página
+        when(alunoRepository.buscarPagina(0, Limit.of(2))).thenReturn(Arrays.asList(new AlunoDTO(1, alunoTeste.getNome()), new AlunoDTO(2, alunoSeguinte.getNome())));
+
+//      Chama o método para buscar a primeira página com tamanho 1
+        PaginaDTO<AlunoDTO> pagina = alunoService.buscarAlunosPaginados(null, 1);
+
+//      Verifica se a página contém somente o primeiro registro
+        assertEquals(1, pagina.getItens().size());
+        assertEquals(alunoTeste.getNome(), pagina.getItens().get(0).getNome());
+
+//      Verifica se o cursor da próxima página é o ID do último registro retornado
+        assertEquals(1, pagina.getProximoCursor());
+    }
+
+	/**
+	 * Teste para verificar se o método buscarAlunosPorNome() normaliza o termo e limita a quantidade de resultados.
+	 */
+	@Test
+    public void buscarAlunosPorNomeTest() {
+//      Configura o comportamento simulado do repositório para a busca por prefixo com o termo normalizado
+        when(alunoRepository.findByNomeNormalizadoStartingWithOrderByNomeNormalizadoAscIdAsc("joao", Limit.of(AlunoService.TAMANHO_MAXIMO_BUSCA)))
+                .thenReturn(Arrays.asList(alunoTeste));
+
+//      Chama o método de busca com um termo acentuado, em maiúsculas e com um limite acima do máximo
+        List<Aluno> resultado = alunoService.buscarAlunosPorNome("  JOÃO ", ModoBusca.PREFIXO, 1000);
+
+//      Verifica se o registro retornado pelo repositório foi devolvido
+        assertEquals(1, resultado.size());
+        assertEquals(alunoTeste, resultado.get(0));
+    }
+
+	/**
+	 * Teste para verificar se o método buscarAlunosPorNome() não consulta o repositório quando o termo está em branco.
+	 */
+	@Test
+    public void buscarAlunosPorNomeEmBrancoTest() {
+//      Chama o método de busca com um termo contendo apenas espaços
+        List<Aluno> resultado = alunoService.buscarAlunosPorNome("   ", ModoBusca.CONTEM, 10);
+
+//      Verifica se nenhum registro foi retornado e se o repositório não foi consultado
+        assertTrue(resultado.isEmpty());
+        verify(alunoRepository, never()).findByNomeNormalizadoContainingOrderByNomeNormalizadoAscIdAsc(any(String.class), any(Limit.class));
+    }
+
+	/**
+	 * Teste para verificar se o método exportarAlunos() entrega todos os registros e os remove do contexto de persistência.
+	 */
+	@Test
+    public void exportarAlunosTest() {
+//      Configura o comportamento simulado do repositório para retornar um stream com o registro de teste
+        when(alunoRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(alunoTeste));
+
+//      Chama o método de exportação acumulando os registros recebidos em uma lista
+        List<Aluno> exportados = new ArrayList<>();
+        alunoService.exportarAlunos(exportados::add);
+
+//      Verifica se o registro de teste foi entregue ao consumidor
+        assertEquals(Arrays.asList(alunoTeste), exportados);
+
+//      Verifica se o registro foi desanexado do contexto de persistência após ser entregue
+        verify(entityManager, times(1)).detach(alunoTeste);
+    }
+
 	/**
 	 * Teste para verificar se o método buscarAlunoPorId() encontra corretamente um aluno com base no ID.
 	 */
@@ -96,16 +196,28 @@ class AlunoServiceTest {
         assertEquals(alunoTeste.getNome(), alunoEncontrado.getNome());
     }
 
+	/**
+	 * Teste para verificar se o método buscarAlunoPorId() lança RecursoNaoEncontradoException, sem pilha de chamadas,
+	 * quando o ID não existe.
+	 */
+	@Test
+    public void buscarAlunoPorIdNaoEncontradoTest() {
+//      Configura o comportamento simulado do repositório para um ID inexistente
+    	when(alunoRepository.findById(99)).thenReturn(Optional.empty());
+
+//      Verifica se a exceção lançada informa o ID e não carrega a pilha de chamadas
+        RecursoNaoEncontradoException excecao = assertThrows(RecursoNaoEncontradoException.class, () -> alunoService.buscarAlunoPorId(99));
+        assertEquals("Aluno com o ID 99 não encontrado.", excecao.getMessage());
+        assertEquals(0, excecao.getStackTrace().length);
+    }
+
 	/**
 	 * Teste para verificar se o método atualizarAluno() atualiza corretamente as informações de um aluno.
 	 */
 	@Test
     public void atualizarAlunoTest() {
-//       Configura o comportamento simulado do repositório para o ID 1
-    	when(alunoRepository.findById(1)).thenReturn(Optional.of(alunoTeste));
-        
-//     Configura o comportamento simulado do repositório para salvar qualquer instância de Aluno e retornar o próprio objeto salvo
-        when(alunoRepository.save(any(Aluno.class))).thenAnswer(invocation -> invocation.getArgument(0));
+//      Configura o comportamento simulado do repositório para indicar que um registro com o ID 1 foi alterado
+        when(alunoRepository.atualizarNome(1, "João Silva", "joao silva")).thenReturn(1);
 
 //      Cria uma nova instância de Turma com o ID 1 e nome "Java Avançado"
         Aluno alunoAtualizado = new Aluno();
@@ -131,13 +243,121 @@ class AlunoServiceTest {
 	@Test
     public void excluirAlunoTest() {
 //      Configura o comportamento simulado do repositório para o ID 1
-        when(alunoRepository.findById(1)).thenReturn(Optional.of(alunoTeste));
+        when(alunoRepository.excluirPorId(1)).thenReturn(1);
 
-//      Verifica se o método excluirAluno(1) do AlunoService chama corretamente o método deleteById(1) do repositório
+//      Verifica se o método excluirAluno(1) do AlunoService chama corretamente o método excluirPorId(1) do repositório
         alunoService.excluirAluno(1);
         
-//      Verifica se o método deleteById(1) do turmaRepository foi chamado exatamente uma vez
-        verify(alunoRepository, times(1)).deleteById(1);
+//      Verifica se o método excluirPorId(1) do alunoRepository foi chamado exatamente uma vez
+        verify(alunoRepository, times(1)).excluirPorId(1);
+
+//      Verifica se a alteração na tabela foi registrada para invalidar as ETags
+        verify(contadorAlteracoes, times(1)).registrarAlteracao(Aluno.class);
+
+//      Verifica se a exclusão foi registrada na trilha de auditoria
+        verify(auditoriaService, times(1)).registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.EXCLUSAO, 1, null);
+    }
+
+	/**
+	 * Teste para verificar se o método excluirAluno() lança EntityNotFoundException quando nenhum registro é excluído.
+	 */
+	@Test
+    public void excluirAlunoNaoEncontradoTest() {
+//      Configura o comportamento simulado do repositório para indicar que nenhum registro foi excluído
+        when(alunoRepository.excluirPorId(99)).thenReturn(0);
+
+//      Verifica se a exclusão de um ID inexistente lança EntityNotFoundException
+        assertThrows(EntityNotFoundException.class, () -> alunoService.excluirAluno(99));
+    }
+
+	/**
+	 * Teste para verificar se o método salvarAlunos() salva cada registro da lista.
+	 */
+	@Test
+    public void salvarAlunosTest() {
+//      Configura o comportamento simulado para salvar qualquer instância e retornar o próprio objeto salvo
+        when(alunoRepository.save(any(Aluno.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+//      Salva uma lista com o registro de teste utilizando o AlunoService
+        List<Aluno> salvos = alunoService.salvarAlunos(Arrays.asList(alunoTeste));
+
+//      Verifica se a lista retornada contém o registro de teste e se o repositório foi chamado uma vez
+        assertEquals(Arrays.asList(alunoTeste), salvos);
+        verify(alunoRepository, times(1)).save(alunoTeste);
+    }
+
+	/**
+	 * Teste para verificar se o ID enviado no corpo de um cadastro (POST /aluno e POST /aluno/batch) é descartado,
+	 * para que o save() insira um novo registro em vez de tratar a entidade sem versão como destacada.
+	 */
+	@Test
+    public void salvarAlunoComIdTest() {
+//      Configura o comportamento simulado para salvar qualquer instância e retornar o próprio objeto salvo
+        when(alunoRepository.save(any(Aluno.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+//      Cria dois alunos com IDs informados pelo cliente, sem versão (como chegam do AlunoMapper)
+        Aluno outro = new Aluno();
+        outro.setId(2);
+        outro.setNome("Maria");
+
+//      Salva um aluno individualmente e outro em lote
+        alunoService.salvarAluno(alunoTeste);
+        alunoService.salvarAlunos(Arrays.asList(outro));
+
+//      Verifica se os dois foram enviados ao repositório sem o ID recebido
+        ArgumentCaptor<Aluno> salvos = ArgumentCaptor.forClass(Aluno.class);
+        verify(alunoRepository, times(2)).save(salvos.capture());
+        assertEquals(Arrays.asList(null, null), salvos.getAllValues().stream().map(Aluno::getId).toList());
+    }
+
+	/**
+	 * Teste para verificar se o método atualizarAlunos() atualiza os registros carregados em uma única consulta.
+	 */
+	@Test
+    public void atualizarAlunosTest() {
+//      Configura o comportamento simulado do repositório para carregar o registro de ID 1
+        when(alunoRepository.findAllById(Arrays.asList(1))).thenReturn(Arrays.asList(alunoTeste));
+
+//      Cria a alteração com o ID 1 e o novo nome
+        Aluno alteracao = new Aluno();
+        alteracao.setId(1);
+        alteracao.setNome("João Silva");
+
+//      Chama o método de atualização em lote e verifica se o nome foi atualizado
+        List<Aluno> atualizados = alunoService.atualizarAlunos(Arrays.asList(alteracao));
+        assertEquals("João Silva", atualizados.get(0).getNome());
+    }
+
+	/**
+	 * Teste para verificar se o método excluirAlunos() exclui os registros com um único comando DELETE e audita
+	 * uma única exclusão por ID, mesmo com IDs repetidos.
+	 */
+	@Test
+    public void excluirAlunosTest() {
+//      Configura o comportamento simulado do repositório para excluir os dois IDs distintos
+        when(alunoRepository.excluirPorIds(new LinkedHashSet<>(Arrays.asList(1, 2)))).thenReturn(2);
+
+//      Chama o método de exclusão em lote com o ID 1 repetido
+        alunoService.excluirAlunos(Arrays.asList(1, 2, 1));
+
+//      Verifica se cada ID foi auditado uma única vez
+        verify(auditoriaService, times(1)).registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.EXCLUSAO, 1, null);
+        verify(auditoriaService, times(1)).registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.EXCLUSAO, 2, null);
+    }
+
+	/**
+	 * Teste para verificar se o método excluirAlunos() lança EntityNotFoundException, para que a transação seja
+	 * desfeita, quando algum ID não existe.
+	 */
+	@Test
+    public void excluirAlunosNaoEncontradoTest() {
+//      Configura o comportamento simulado do repositório para excluir apenas um dos dois IDs
+        when(alunoRepository.excluirPorIds(new LinkedHashSet<>(Arrays.asList(1, 2)))).thenReturn(1);
+
+//      Verifica se a exclusão em lote lança EntityNotFoundException e se nada é auditado
+        EntityNotFoundException excecao = assertThrows(EntityNotFoundException.class, () -> alunoService.excluirAlunos(Arrays.asList(1, 2)));
+        assertEquals("1 dos 2 alunos informados não foram encontrados.", excecao.getMessage());
+        verify(auditoriaService, never()).registrar(any(), any(), any(), any());
     }
 
 }
@@ -0,0 +1,94 @@
+package br.com.senac.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.senac.auditoria.Alteracao;
+import br.com.senac.auditoria.EntidadeAuditada;
+import br.com.senac.auditoria.LogAuditoria;
+import br.com.senac.auditoria.OperacaoAuditada;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+//Integra o Mockito para configurar e usar mocks nos testes
+@ExtendWith(MockitoExtension.class)
+class AuditoriaServiceTest {
+
+//  Cria um mock (objeto simulado) para o LogAuditoria
+	@Mock
+	private LogAuditoria logAuditoria;
+
+//  Injeta mocks automaticamente em AuditoriaService
+	@InjectMocks
+	private AuditoriaService auditoriaService;
+
+	@AfterEach
+	public void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clear();
+		}
+	}
+
+	/**
+	 * Teste para verificar se as alterações de uma transação são gravadas juntas somente após o commit.
+	 */
+	@Test
+	public void registrarTransacaoTest() {
+		TransactionSynchronizationManager.initSynchronization();
+		auditoriaService.registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, 1, "João");
+		auditoriaService.registrar(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, 2, "Maria");
+
+//      Simula o commit da transação
+		concluir();
+
+//      Verifica se as duas alterações foram gravadas em uma única chamada
+		verify(logAuditoria, times(1)).gravar(List.of(new Alteracao(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, 1, "João"),
+				new Alteracao(EntidadeAuditada.ALUNO, OperacaoAuditada.INCLUSAO, 2, "Maria")));
+	}
+
+	/**
+	 * Teste para verificar se uma falha na gravação após o commit não é propagada e é contada na métrica de falhas.
+	 */
+	@Test
+	public void registrarFalhaGravacaoTest() {
+		doThrow(new IllegalStateException("O log de auditoria está fechado.")).when(logAuditoria).gravar(anyList());
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		auditoriaService.bindTo(registry);
+
+//      Simula uma transação com duas alterações e o seu commit
+		TransactionSynchronizationManager.initSynchronization();
+		auditoriaService.registrar(EntidadeAuditada.TURMA, OperacaoAuditada.INCLUSAO, 1, "Java");
+		auditoriaService.registrar(EntidadeAuditada.TURMA, OperacaoAuditada.ALTERACAO, 1, "Java Avançado");
+		assertDoesNotThrow(this::concluir);
+
+//      Verifica se a gravação fora de transação também não propaga a falha
+		assertDoesNotThrow(() -> auditoriaService.registrar(EntidadeAuditada.TURMA, OperacaoAuditada.EXCLUSAO, 1, null));
+
+//      Verifica se as três alterações perdidas foram contadas
+		assertEquals(3, registry.get(Metricas.AUDITORIA_FALHAS).functionCounter().count());
+	}
+
+//  Simula o commit e o encerramento da transação corrente
+	private void concluir() {
+		List<TransactionSynchronization> sincronizacoes = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clear();
+		for (TransactionSynchronization sincronizacao : sincronizacoes) {
+			sincronizacao.afterCommit();
+			sincronizacao.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+		}
+	}
+
+}
@@ -0,0 +1,137 @@
+package br.com.senac.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+
+class CarregamentoUnicoTest {
+
+	private CarregamentoUnico<Integer, String> carregamentoUnico;
+
+	private ExecutorService executor;
+
+//  Configuração prévia para testes
+	@BeforeEach
+	public void setUp() {
+		carregamentoUnico = new CarregamentoUnico<>("turma");
+		executor = Executors.newFixedThreadPool(8);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Teste para verificar se chamadas simultâneas para o mesmo ID executam o carregador uma única vez.
+	 */
+	@Test
+	public void carregarMesmaChaveTest() throws Exception {
+		AtomicInteger consultas = new AtomicInteger();
+		CountDownLatch liberar = new CountDownLatch(1);
+
+//      Inicia a primeira chamada, que fica bloqueada dentro do carregador até o latch ser liberado
+		Future<String> primeira = executor.submit(() -> carregamentoUnico.carregar(1, id -> {
+			consultas.incrementAndGet();
+			aguardar(liberar);
+			return "Turma " + id;
+		}));
+		while (consultas.get() == 0) {
+			Thread.onSpinWait();
+		}
+
+//      Inicia outras chamadas para o mesmo ID enquanto a primeira ainda está em andamento
+		List<Future<String>> demais = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			demais.add(executor.submit(() -> carregamentoUnico.carregar(1, id -> {
+				consultas.incrementAndGet();
+				return "Turma " + id;
+			})));
+		}
+		while (carregamentoUnico.getAgrupados() < 5) {
+			Thread.onSpinWait();
+		}
+		liberar.countDown();
+
+//      Verifica se todas receberam o mesmo resultado e se o carregador foi executado apenas uma vez
+		assertEquals("Turma 1", primeira.get(5, TimeUnit.SECONDS));
+		for (Future<String> chamada : demais) {
+			assertEquals("Turma 1", chamada.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(1, consultas.get());
+		assertEquals(1, carregamentoUnico.getCarregamentos());
+		assertEquals(5, carregamentoUnico.getAgrupados());
+	}
+
+	/**
+	 * Teste para verificar se um carregamento em andamento não bloqueia as chamadas para outros IDs.
+	 */
+	@Test
+	public void carregarChavesDiferentesTest() throws Exception {
+		CountDownLatch liberar = new CountDownLatch(1);
+
+//      Deixa o carregamento do ID 1 bloqueado
+		Future<String> bloqueada = executor.submit(() -> carregamentoUnico.carregar(1, id -> {
+			aguardar(liberar);
+			return "Turma " + id;
+		}));
+
+//      Verifica se o ID 2 é carregado normalmente enquanto o ID 1 aguarda
+		assertEquals("Turma 2", carregamentoUnico.carregar(2, id -> "Turma " + id));
+
+		liberar.countDown();
+		assertEquals("Turma 1", bloqueada.get(5, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Teste para verificar se a exceção do carregador é repassada sem invólucro e se a chave é liberada depois dela.
+	 */
+	@Test
+	public void carregarComExcecaoTest() {
+//      Verifica se a EntityNotFoundException chega ao chamador como foi lançada
+		assertThrows(EntityNotFoundException.class, () -> carregamentoUnico.carregar(99, id -> {
+			throw new EntityNotFoundException("Turma com o ID " + id + " não encontrada.");
+		}));
+
+//      Verifica se uma nova chamada para o mesmo ID executa o carregador novamente
+		assertEquals("Turma 99", carregamentoUnico.carregar(99, id -> "Turma " + id));
+		assertEquals(2, carregamentoUnico.getCarregamentos());
+	}
+
+	/**
+	 * Teste para verificar se os contadores são publicados no MeterRegistry com a tag do recurso.
+	 */
+	@Test
+	public void bindToTest() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		carregamentoUnico.bindTo(registry);
+
+		carregamentoUnico.carregar(1, id -> "Turma " + id);
+
+		assertEquals(1.0, registry.get(Metricas.CARREGAMENTOS).tag("recurso", "turma").functionCounter().count());
+		assertEquals(0.0, registry.get(Metricas.CARREGAMENTOS_AGRUPADOS).tag("recurso", "turma").functionCounter().count());
+	}
+
+	private static void aguardar(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
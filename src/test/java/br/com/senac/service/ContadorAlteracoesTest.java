@@ -0,0 +1,69 @@
+package br.com.senac.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.senac.entity.Aluno;
+import br.com.senac.entity.Turma;
+
+class ContadorAlteracoesTest {
+
+	private ContadorAlteracoes contadorAlteracoes;
+
+//  Configuração prévia para testes
+	@BeforeEach
+	public void setUp() {
+		contadorAlteracoes = new ContadorAlteracoes();
+	}
+
+	/**
+	 * Teste para verificar se a ETag permanece a mesma enquanto a tabela não é alterada.
+	 */
+	@Test
+	public void gerarEtagSemAlteracaoTest() {
+//      Gera duas ETags seguidas para a mesma entidade e verifica se são iguais
+		assertEquals(contadorAlteracoes.gerarEtag(Aluno.class), contadorAlteracoes.gerarEtag(Aluno.class));
+	}
+
+	/**
+	 * Teste para verificar se a ETag muda somente para a tabela que foi alterada.
+	 */
+	@Test
+	public void registrarAlteracaoTest() {
+		String etagAluno = contadorAlteracoes.gerarEtag(Aluno.class);
+		String etagTurma = contadorAlteracoes.gerarEtag(Turma.class);
+
+//      Registra uma alteração fora de transação, que deve ser aplicada imediatamente
+		contadorAlteracoes.registrarAlteracao(Aluno.class);
+
+//      Verifica se somente a ETag de Aluno mudou
+		assertNotEquals(etagAluno, contadorAlteracoes.gerarEtag(Aluno.class));
+		assertEquals(etagTurma, contadorAlteracoes.gerarEtag(Turma.class));
+	}
+
+	/**
+	 * Teste para verificar se, com uma fonte de leitura definida, a ETag usa os contadores visíveis para as
+	 * leituras e volta aos contadores atuais quando a fonte retorna nulo.
+	 */
+	@Test
+	public void gerarEtagFonteLeituraTest() {
+		contadorAlteracoes.registrarAlteracao(Aluno.class);
+		Map<Class<?>, Long> capturados = contadorAlteracoes.capturar();
+		String etagCapturada = contadorAlteracoes.gerarEtag(Aluno.class);
+		contadorAlteracoes.registrarAlteracao(Aluno.class);
+		String etagAtual = contadorAlteracoes.gerarEtag(Aluno.class);
+
+//      Verifica se a ETag corresponde aos contadores capturados, e não à alteração registrada depois
+		contadorAlteracoes.setFonteLeitura(() -> capturados);
+		assertEquals(etagCapturada, contadorAlteracoes.gerarEtag(Aluno.class));
+
+//      Verifica se os contadores atuais são usados quando a fonte não informa contadores
+		contadorAlteracoes.setFonteLeitura(() -> null);
+		assertEquals(etagAtual, contadorAlteracoes.gerarEtag(Aluno.class));
+	}
+
+}
@@ -0,0 +1,108 @@
+package br.com.senac.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ControleVagasTest {
+
+	private ControleVagas controleVagas;
+
+	private ExecutorService executor;
+
+//  Configuração prévia para testes
+	@BeforeEach
+	public void setUp() {
+		controleVagas = new ControleVagas();
+		executor = Executors.newFixedThreadPool(16);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Teste para verificar se reservas simultâneas de muitas threads nunca ultrapassam a capacidade da turma.
+	 */
+	@Test
+	public void reservarConcorrenteTest() throws Exception {
+		int capacidade = 1000;
+		int tentativasPorThread = 5000;
+		controleVagas.definir(1, capacidade, 0);
+
+//      Libera todas as threads ao mesmo tempo para maximizar a disputa pelo mesmo contador
+		CountDownLatch largada = new CountDownLatch(1);
+		List<Future<Integer>> threads = new ArrayList<>();
+		for (int t = 0; t < 16; t++) {
+			threads.add(executor.submit(() -> {
+				largada.await();
+				int reservadas = 0;
+				for (int i = 0; i < tentativasPorThread; i++) {
+					if (controleVagas.reservar(1)) {
+						reservadas++;
+					}
+				}
+				return reservadas;
+			}));
+		}
+		largada.countDown();
+		int total = 0;
+		for (Future<Integer> thread : threads) {
+			total += thread.get(30, TimeUnit.SECONDS);
+		}
+
+//      Verifica se exatamente a capacidade foi reservada e se todas as demais tentativas foram recusadas
+		assertEquals(capacidade, total);
+		assertEquals(capacidade, controleVagas.ocupadas(1));
+		assertEquals(0, controleVagas.disponiveis(1));
+		assertEquals(capacidade, controleVagas.getAceitas());
+		assertEquals(16L * tentativasPorThread - capacidade, controleVagas.getRecusadas());
+	}
+
+	/**
+	 * Teste para verificar se a vaga liberada pode ser reservada novamente e se turmas sem capacidade não são limitadas.
+	 */
+	@Test
+	public void liberarTest() {
+		controleVagas.definir(1, 1, 0);
+		assertTrue(controleVagas.reservar(1));
+		assertFalse(controleVagas.reservar(1));
+
+//      Libera fora de transação, o que deve ser aplicado imediatamente
+		controleVagas.liberar(1);
+		assertTrue(controleVagas.reservar(1));
+
+//      A turma 2 não tem capacidade definida
+		assertTrue(controleVagas.reservar(2));
+		assertNull(controleVagas.disponiveis(2));
+	}
+
+	/**
+	 * Teste para verificar se a reconciliação corrige o contador pela contagem do banco e remove as turmas sem capacidade.
+	 */
+	@Test
+	public void reconciliarTest() {
+		controleVagas.definir(1, 10, 5);
+		controleVagas.definir(2, 10, 0);
+
+//      O banco informa 3 matrículas na turma 1 (ex.: alunos excluídos) e a turma 2 deixou de ter capacidade
+		controleVagas.reconciliar(Map.of(1, 10, 3, 20), () -> Map.of(1, 3, 3, 7));
+
+		assertEquals(3, controleVagas.ocupadas(1));
+		assertNull(controleVagas.ocupadas(2));
+		assertEquals(13, controleVagas.disponiveis(3));
+	}
+
+}
@@ -0,0 +1,98 @@
+package br.com.senac.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.senac.dto.DisciplinaDTO;
+import br.com.senac.entity.Disciplina;
+import br.com.senac.repository.DisciplinaReativoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+//Integra o Mockito para configurar e usar mocks nos testes
+@ExtendWith(MockitoExtension.class)
+class DisciplinaReativoServiceTest {
+
+//  Cria um mock (objeto simulado) para o DisciplinaReativoRepository
+	@Mock
+	private DisciplinaReativoRepository disciplinaReativoRepository;
+
+//  Cria um mock (objeto simulado) para o ContadorAlteracoes utilizado na geração das ETags
+	@Mock
+	private ContadorAlteracoes contadorAlteracoes;
+
+//  Cria um mock (objeto simulado) para o AuditoriaService que registra as alterações na trilha de auditoria
+	@Mock
+	private AuditoriaService auditoriaService;
+
+//  Injeta mocks automaticamente em DisciplinaReativoService
+	@InjectMocks
+	private DisciplinaReativoService disciplinaReativoService;
+
+	/**
+	 * Teste para verificar se o método salvarDisciplina() grava o nome normalizado e registra a alteração.
+	 */
+	@Test
+    public void salvarDisciplinaTest() {
+//      Configura o comportamento simulado do repositório para a inserção
+        when(disciplinaReativoRepository.inserir("Programação", "programacao")).thenReturn(Mono.just(new DisciplinaDTO(1, "Programação")));
+
+//      Chama o método de salvar e aguarda o resultado
+        DisciplinaDTO salva = disciplinaReativoService.salvarDisciplina(new DisciplinaDTO(null, "Programação")).block();
+
+//      Verifica o ID retornado e se a alteração foi registrada para invalidar as ETags
+        assertEquals(1, salva.getId());
+        verify(contadorAlteracoes, times(1)).registrarAlteracao(Disciplina.class);
+    }
+
+	/**
+	 * Teste para verificar se o método buscarDisciplinasPaginadas() limita o tamanho da página e começa do cursor 0.
+	 */
+	@Test
+    public void buscarDisciplinasPaginadasTest() {
+//      Configura o comportamento simulado do repositório para a primeira página com o tamanho máximo
+        when(disciplinaReativoRepository.buscarPagina(0, DisciplinaService.TAMANHO_MAXIMO_PAGINA)).thenReturn(Flux.just(new DisciplinaDTO(1, "A"), new DisciplinaDTO(2, "B")));
+
+//      Solicita uma página maior que o máximo permitido
+        List<DisciplinaDTO> pagina = disciplinaReativoService.buscarDisciplinasPaginadas(null, 10_000).collectList().block();
+
+        assertEquals(2, pagina.size());
+    }
+
+	/**
+	 * Teste para verificar se o método buscarDisciplinaPorId() termina com RecursoNaoEncontradoException quando o ID não existe.
+	 */
+	@Test
+    public void buscarDisciplinaPorIdNaoEncontradoTest() {
+//      Configura o comportamento simulado do repositório para um ID inexistente
+        when(disciplinaReativoRepository.buscarPorId(99)).thenReturn(Mono.empty());
+
+//      Verifica se o erro emitido é a exceção de recurso não encontrado
+        assertThrows(RecursoNaoEncontradoException.class, () -> disciplinaReativoService.buscarDisciplinaPorId(99).block());
+    }
+
+	/**
+	 * Teste para verificar se o método atualizarDisciplina() não registra alteração quando nenhum registro é alterado.
+	 */
+	@Test
+    public void atualizarDisciplinaNaoEncontradoTest() {
+//      Configura o comportamento simulado do repositório para indicar que nenhum registro foi alterado
+        when(disciplinaReativoRepository.atualizarNome(99, "Nome", "nome")).thenReturn(Mono.just(0L));
+
+//      Verifica se a atualização de um ID inexistente termina com erro e sem registrar alteração
+        assertThrows(RecursoNaoEncontradoException.class, () -> disciplinaReativoService.atualizarDisciplina(99, new DisciplinaDTO(99, "Nome")).block());
+        verify(contadorAlteracoes, never()).registrarAlteracao(Disciplina.class);
+    }
+
+}
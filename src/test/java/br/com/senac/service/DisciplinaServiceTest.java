@@ -2,23 +2,35 @@ package br.com.senac.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import br.com.senac.auditoria.EntidadeAuditada;
+import br.com.senac.auditoria.OperacaoAuditada;
+import br.com.senac.dto.DisciplinaDTO;
+import br.com.senac.dto.PaginaDTO;
 import br.com.senac.entity.Disciplina;
 import br.com.senac.repository.DisciplinaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
 
 //Integra o Mockito para configurar e usar mocks nos testes
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +39,22 @@ class DisciplinaServiceTest {
 //	Cria um mock (objeto simulado) para AlunoRepository
 	@Mock
 	private DisciplinaRepository disciplinaRepository;
+//  Cria um mock (objeto simulado) para o EntityManager utilizado na exportação
+	@Mock
+	private EntityManager entityManager;
+
+//  Cria um mock (objeto simulado) para o ContadorAlteracoes utilizado na geração das ETags
+	@Mock
+	private ContadorAlteracoes contadorAlteracoes;
+
+//  Cria um mock (objeto simulado) para o AuditoriaService que registra as alterações na trilha de auditoria
+	@Mock
+	private AuditoriaService auditoriaService;
+
+//  Usa um CarregamentoUnico real (espiado) para que as buscas por ID cheguem ao repositório simulado
+	@Spy
+	private CarregamentoUnico<Integer, Disciplina> carregamentoDisciplina = new CarregamentoUnico<>("disciplina");
+
 	
 	@InjectMocks
 	private DisciplinaService disciplinaService;
@@ -79,6 +107,79 @@ class DisciplinaServiceTest {
 //		Verifica se a lista de disciplinas contém exatamente a disciplina de teste (disciplinaTeste)
         assertTrue(disciplinas.contains(disciplinaTeste));
 	}
+
+	/**
+	 * Teste para verificar se o método buscarDisciplinasPaginadas() limita a página e devolve o cursor da próxima página.
+	 */
+	@Test
+    public void buscarDisciplinasPaginadasTest() {
+//      Cria uma disciplina adicional com o ID 2 para simular que existem mais registros que o tamanho da página
+        Disciplina disciplinaSeguinte = new Disciplina();
+        disciplinaSeguinte.setId(2);
+        disciplinaSeguinte.setNome("Redes");
+
+//      Configura o comportamento simulado do repositório para retornar um registro a mais que o tamanho da página
+        when(disciplinaRepository.buscarPagina(0, Limit.of(2))).thenReturn(Arrays.asList(new DisciplinaDTO(1, disciplinaTeste.getNome()), new DisciplinaDTO(2, disciplinaSeguinte.getNome())));
+
+//      Chama o método para buscar a primeira página com tamanho 1
+        PaginaDTO<DisciplinaDTO> pagina = disciplinaService.buscarDisciplinasPaginadas(null, 1);
+
+//      Verifica se a página contém somente o primeiro registro
+        assertEquals(1, pagina.getItens().size());
+        assertEquals(disciplinaTeste.getNome(), pagina.getItens().get(0).getNome());
+
+//      Verifica se o cursor da próxima página é o ID do último registro retornado
+        assertEquals(1, pagina.getProximoCursor());
+    }
+
+	/**
+	 * Teste para verificar se o método buscarDisciplinasPorNome() normaliza o termo e limita a quantidade de resultados.
+	 */
+	@Test
+    public void buscarDisciplinasPorNomeTest() {
+//      Configura o comportamento simulado do repositório para a busca por prefixo com o termo normalizado
+        when(disciplinaRepository.findByNomeNormalizadoStartingWithOrderByNomeNormalizadoAscIdAsc("programacao", Limit.of(DisciplinaService.TAMANHO_MAXIMO_BUSCA)))
+                .thenReturn(Arrays.asList(disciplinaTeste));
+
+//      Chama o método de busca com um termo acentuado, em maiúsculas e com um limite acima do máximo
+        List<Disciplina> resultado = disciplinaService.buscarDisciplinasPorNome("PROGRAMAÇÃO", ModoBusca.PREFIXO, 1000);
+
+//      Verifica se o registro retornado pelo repositório foi devolvido
+        assertEquals(1, resultado.size());
+        assertEquals(disciplinaTeste, resultado.get(0));
+    }
+
+	/**
+	 * Teste para verificar se o método buscarDisciplinasPorNome() não consulta o repositório quando o termo está em branco.
+	 */
+	@Test
+    public void buscarDisciplinasPorNomeEmBrancoTest() {
+//      Chama o método de busca com um termo contendo apenas espaços
+        List<Disciplina> resultado = disciplinaService.buscarDisciplinasPorNome("   ", ModoBusca.CONTEM, 10);
+
+//      Verifica se nenhum registro foi retornado e se o repositório não foi consultado
+        assertTrue(resultado.isEmpty());
+        verify(disciplinaRepository, never()).findByNomeNormalizadoContainingOrderByNomeNormalizadoAscIdAsc(any(String.class), any(Limit.class));
+    }
+
+	/**
+	 * Teste para verificar se o método exportarDisciplinas() entrega todos os registros e os remove do contexto de persistência.
+	 */
+	@Test
+    public void exportarDisciplinasTest() {
+//      Configura o comportamento simulado do repositório para retornar um stream com o registro de teste
+        when(disciplinaRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(disciplinaTeste));
+
+//      Chama o método de exportação acumulando os registros recebidos em uma lista
+        List<Disciplina> exportadas = new ArrayList<>();
+        disciplinaService.exportarDisciplinas(exportadas::add);
+
+//      Verifica se o registro de teste foi entregue ao consumidor
+        assertEquals(Arrays.asList(disciplinaTeste), exportadas);
+
+//      Verifica se o registro foi desanexado do contexto de persistência após ser entregue
+        verify(entityManager, times(1)).detach(disciplinaTeste);
+    }
 	
 	/**
 	 * Teste para verificar se o método buscarDisciplinaPorId() encontra corretamente uma disciplina com base no ID.
@@ -100,11 +201,8 @@ class DisciplinaServiceTest {
 	 */
 	@Test
     public void atualizarDisciplinaTest() {
-//      Configura o comportamento simulado do repositório para o ID 1
-    	when(disciplinaRepository.findById(1)).thenReturn(Optional.of(disciplinaTeste));
-        
-//      Configura o comportamento simulado do repositório para salvar qualquer instância de disciplina e retornar o próprio objeto salvo.
-        when(disciplinaRepository.save(any(Disciplina.class))).thenAnswer(invocation -> invocation.getArgument(0));
+//      Configura o comportamento simulado do repositório para indicar que um registro com o ID 1 foi alterado
+        when(disciplinaRepository.atualizarNome(1, "Teste de Software", "teste de software")).thenReturn(1);
 
 //      Cria uma nova instância de Disciplina com o ID 1 e nome "Teste de Software"
         Disciplina disciplinaAtualizada = new Disciplina();
@@ -130,13 +228,94 @@ class DisciplinaServiceTest {
 	@Test
     public void excluirDisciplinaTest() {
 //      Configura o comportamento simulado do repositório para o ID 1
-        when(disciplinaRepository.findById(1)).thenReturn(Optional.of(disciplinaTeste));
+        when(disciplinaRepository.excluirPorId(1)).thenReturn(1);
 
-//      Verifica se o método excluirDisciplina(1) da DisciplinaService chama corretamente o método deleteById(1) do repositório
+//      Verifica se o método excluirDisciplina(1) da DisciplinaService chama corretamente o método excluirPorId(1) do repositório
         disciplinaService.excluirDisciplina(1);
         
-//      Verifica se o método deleteById(1) do disciplinaRepository foi chamado exatamente uma vez
-        verify(disciplinaRepository, times(1)).deleteById(1);
+//      Verifica se o método excluirPorId(1) do disciplinaRepository foi chamado exatamente uma vez
+        verify(disciplinaRepository, times(1)).excluirPorId(1);
+
+//      Verifica se a alteração na tabela foi registrada para invalidar as ETags
+        verify(contadorAlteracoes, times(1)).registrarAlteracao(Disciplina.class);
+    }
+
+	/**
+	 * Teste para verificar se o método excluirDisciplina() lança EntityNotFoundException quando nenhum registro é excluído.
+	 */
+	@Test
+    public void excluirDisciplinaNaoEncontradoTest() {
+//      Configura o comportamento simulado do repositório para indicar que nenhum registro foi excluído
+        when(disciplinaRepository.excluirPorId(99)).thenReturn(0);
+
+//      Verifica se a exclusão de um ID inexistente lança EntityNotFoundException
+        assertThrows(EntityNotFoundException.class, () -> disciplinaService.excluirDisciplina(99));
+    }
+
+	/**
+	 * Teste para verificar se o método salvarDisciplinas() salva cada registro da lista.
+	 */
+	@Test
+    public void salvarDisciplinasTest() {
+//      Configura o comportamento simulado para salvar qualquer instância e retornar o próprio objeto salvo
+        when(disciplinaRepository.save(any(Disciplina.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+//      Salva uma lista com o registro de teste utilizando o DisciplinaService
+        List<Disciplina> salvas = disciplinaService.salvarDisciplinas(Arrays.asList(disciplinaTeste));
+
+//      Verifica se a lista retornada contém o registro de teste e se o repositório foi chamado uma vez
+        assertEquals(Arrays.asList(disciplinaTeste), salvas);
+        verify(disciplinaRepository, times(1)).save(disciplinaTeste);
+    }
+
+	/**
+	 * Teste para verificar se o método atualizarDisciplinas() atualiza os registros carregados em uma única consulta.
+	 */
+	@Test
+    public void atualizarDisciplinasTest() {
+//      Configura o comportamento simulado do repositório para carregar o registro de ID 1
+        when(disciplinaRepository.findAllById(Arrays.asList(1))).thenReturn(Arrays.asList(disciplinaTeste));
+
+//      Cria a alteração com o ID 1 e o novo nome
+        Disciplina alteracao = new Disciplina();
+        alteracao.setId(1);
+        alteracao.setNome("Teste de Software");
+
+//      Chama o método de atualização em lote e verifica se o nome foi atualizado
+        List<Disciplina> atualizadas = disciplinaService.atualizarDisciplinas(Arrays.asList(alteracao));
+        assertEquals("Teste de Software", atualizadas.get(0).getNome());
+    }
+
+	/**
+	 * Teste para verificar se o método excluirDisciplinas() exclui os registros com um único comando DELETE e audita
+	 * uma única exclusão por ID, mesmo com IDs repetidos.
+	 */
+	@Test
+    public void excluirDisciplinasTest() {
+//      Configura o comportamento simulado do repositório para excluir os dois IDs distintos
+        when(disciplinaRepository.excluirPorIds(new LinkedHashSet<>(Arrays.asList(1, 2)))).thenReturn(2);
+
+//      Chama o método de exclusão em lote com o ID 1 repetido
+        disciplinaService.excluirDisciplinas(Arrays.asList(1, 2, 1));
+
+//      Verifica se cada ID foi auditado uma única vez
+        verify(auditoriaService, times(1)).registrar(EntidadeAuditada.DISCIPLINA, OperacaoAuditada.EXCLUSAO, 1, null);
+        verify(auditoriaService, times(1)).registrar(EntidadeAuditada.DISCIPLINA, OperacaoAuditada.EXCLUSAO, 2, null);
+    }
+
+	/**
+	 * Teste para verificar se o método excluirDisciplinas() lança EntityNotFoundException, para que a transação seja
+	 * desfeita, quando algum ID não existe.
+	 */
+	@Test
+    public void excluirDisciplinasNaoEncontradoTest() {
+//      Configura o comportamento simulado do repositório para excluir apenas um dos dois IDs
+        when(disciplinaRepository.excluirPorIds(new LinkedHashSet<>(Arrays.asList(1, 2)))).thenReturn(1);
+
+//      Verifica se a exclusão em lote lança EntityNotFoundException e se nada é auditado
+        EntityNotFoundException excecao = assertThrows(EntityNotFoundException.class, () -> disciplinaService.excluirDisciplinas(Arrays.asList(1, 2)));
+        assertEquals("1 das 2 disciplinas informadas não foram encontradas.", excecao.getMessage());
+        verify(auditoriaService, never()).registrar(any(), any(), any(), any());
     }
 
 }
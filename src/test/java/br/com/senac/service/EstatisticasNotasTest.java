@@ -0,0 +1,112 @@
+package br.com.senac.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.senac.dto.EstatisticaNotasDTO;
+
+class EstatisticasNotasTest {
+
+	private EstatisticasNotas estatisticasNotas;
+
+//  Configuração prévia para testes
+	@BeforeEach
+	public void setUp() {
+		estatisticasNotas = new EstatisticasNotas();
+	}
+
+	/**
+	 * Teste para verificar se a média, o desvio padrão, a aprovação e a distribuição são calculados dos agregados.
+	 */
+	@Test
+	public void estatisticasTest() {
+		estatisticasNotas.registrar(1, 5, null, 400);
+		estatisticasNotas.registrar(1, 5, null, 600);
+		estatisticasNotas.registrar(1, 6, null, 1000);
+		estatisticasNotas.registrar(1, 6, null, 800);
+
+		EstatisticaNotasDTO turma = estatisticasNotas.daTurma(1);
+		assertEquals(4, turma.getQuantidade());
+		assertEquals(7.0, turma.getMedia(), 1e-9);
+		assertEquals(Math.sqrt(5), turma.getDesvioPadrao(), 1e-9);
+		assertEquals(3, turma.getAprovados());
+		assertEquals(0.75, turma.getTaxaAprovacao(), 1e-9);
+		assertArrayEquals(new long[] { 0, 0, 0, 0, 1, 0, 1, 0, 1, 1 }, turma.getDistribuicao());
+
+		EstatisticaNotasDTO disciplina = estatisticasNotas.daDisciplina(5);
+		assertEquals(2, disciplina.getQuantidade());
+		assertEquals(5.0, disciplina.getMedia(), 1e-9);
+	}
+
+	/**
+	 * Teste para verificar se alterar e excluir notas devolve exatamente os agregados anteriores.
+	 */
+	@Test
+	public void alterarExcluirTest() {
+		estatisticasNotas.registrar(1, 5, null, 733);
+		estatisticasNotas.registrar(1, 5, 733, 512);
+		estatisticasNotas.registrar(1, 5, 512, null);
+
+		EstatisticaNotasDTO turma = estatisticasNotas.daTurma(1);
+		assertEquals(0, turma.getQuantidade());
+		assertNull(turma.getMedia());
+		assertArrayEquals(new long[EstatisticasNotas.FAIXAS], turma.getDistribuicao());
+		assertEquals(0, estatisticasNotas.getTotal());
+	}
+
+	/**
+	 * Teste para verificar se, dentro de uma transação, a nota só é aplicada após o commit e se a trava é liberada ao final.
+	 */
+	@Test
+	public void registrarEmTransacaoTest() {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			estatisticasNotas.iniciarAlteracao();
+			estatisticasNotas.registrar(1, 5, null, 700);
+			assertEquals(0, estatisticasNotas.getTotal());
+			for (TransactionSynchronization sincronizacao : TransactionSynchronizationManager.getSynchronizations()) {
+				sincronizacao.afterCommit();
+				sincronizacao.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+			}
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		assertEquals(1, estatisticasNotas.getTotal());
+
+//      Se a trava de leitura não tivesse sido liberada, o recálculo (em outra thread) ficaria bloqueado
+		assertTimeoutPreemptively(Duration.ofSeconds(5), () -> estatisticasNotas.recalcular(recalculo -> recalculo.adicionar(1, 5, 700)));
+		assertEquals(7.0, estatisticasNotas.daTurma(1).getMedia(), 1e-9);
+	}
+
+	/**
+	 * Teste para verificar se o recálculo substitui os agregados e se a verificação só recalcula quando a quantidade diverge.
+	 */
+	@Test
+	public void recalcularVerificarTest() {
+		estatisticasNotas.registrar(1, 5, null, 900);
+		estatisticasNotas.registrar(2, 5, null, 300);
+
+//      O banco tem apenas a nota da turma 2 (ex.: a turma 1 foi excluída)
+		assertTrue(estatisticasNotas.verificar(() -> 1, recalculo -> recalculo.adicionar(2, 5, 300)));
+		assertEquals(0, estatisticasNotas.daTurma(1).getQuantidade());
+		assertEquals(3.0, estatisticasNotas.daDisciplina(5).getMedia(), 1e-9);
+
+//      Quantidades iguais: não lê as notas
+		assertFalse(estatisticasNotas.verificar(() -> 1, recalculo -> fail("Não deveria recalcular")));
+
+		estatisticasNotas.recalcular(recalculo -> {
+			recalculo.adicionar(3, 7, 1000);
+			recalculo.adicionar(3, 7, 0);
+		});
+		assertEquals(2, estatisticasNotas.getTotal());
+		assertEquals(5.0, estatisticasNotas.daTurma(3).getMedia(), 1e-9);
+		assertEquals(0, estatisticasNotas.daTurma(2).getQuantidade());
+	}
+
+}
@@ -0,0 +1,126 @@
+package br.com.senac.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.senac.dto.ConflitoHorarioDTO;
+import br.com.senac.entity.Horario;
+import br.com.senac.entity.Turma;
+
+class GradeHorariaTest {
+
+	private GradeHoraria gradeHoraria;
+
+//  Configuração prévia para testes
+	@BeforeEach
+	public void setUp() {
+		gradeHoraria = new GradeHoraria();
+	}
+
+	/**
+	 * Teste para verificar se aulas na mesma sala e no mesmo intervalo são recusadas, sem diferenciar maiúsculas
+	 * e minúsculas no nome da sala.
+	 */
+	@Test
+	public void reservarSalaOcupadaTest() {
+		gradeHoraria.reservar(horario(1, 1, DayOfWeek.MONDAY, "19:00", "20:40", "Sala 101", "Ana"), List.of());
+
+//      Verifica se outra turma não pode usar a mesma sala em um intervalo sobreposto
+		Horario conflitante = horario(2, 2, DayOfWeek.MONDAY, "20:00", "21:00", "sala 101", "Bruno");
+		assertThrows(ConflitoException.class, () -> gradeHoraria.reservar(conflitante, List.of()));
+
+//      Verifica se a mesma sala pode ser usada logo após o fim da aula anterior e em outro dia
+		gradeHoraria.reservar(horario(3, 2, DayOfWeek.MONDAY, "20:40", "22:00", "Sala 101", "Bruno"), List.of());
+		gradeHoraria.reservar(horario(4, 2, DayOfWeek.TUESDAY, "19:00", "20:40", "Sala 101", "Bruno"), List.of());
+	}
+
+	/**
+	 * Teste para verificar se aulas sobrepostas de turmas com alunos em comum são recusadas.
+	 */
+	@Test
+	public void reservarTurmaComAlunosEmComumTest() {
+		gradeHoraria.reservar(horario(1, 1, DayOfWeek.MONDAY, "19:00", "20:40", "Sala 101", "Ana"), List.of());
+
+		Horario horario = horario(2, 2, DayOfWeek.MONDAY, "19:00", "20:40", "Sala 102", "Bruno");
+		assertThrows(ConflitoException.class, () -> gradeHoraria.reservar(horario, List.of(1)));
+
+//      Sem alunos em comum, a mesma aula pode ser reservada
+		gradeHoraria.reservar(horario, List.of());
+		assertEquals(List.of(1), gradeHoraria.turmasEmConflito(2, List.of(1)));
+	}
+
+	/**
+	 * Teste para verificar se horários inválidos (fim antes do início ou fora da granularidade) são recusados.
+	 */
+	@Test
+	public void reservarHorarioInvalidoTest() {
+		Horario invertido = horario(1, 1, DayOfWeek.MONDAY, "20:00", "19:00", "Sala 101", "Ana");
+		assertThrows(RequisicaoInvalidaException.class, () -> gradeHoraria.reservar(invertido, List.of()));
+
+		Horario desalinhado = horario(2, 1, DayOfWeek.MONDAY, "19:03", "20:00", "Sala 101", "Ana");
+		assertThrows(RequisicaoInvalidaException.class, () -> gradeHoraria.reservar(desalinhado, List.of()));
+	}
+
+	/**
+	 * Teste para verificar se a exclusão da turma libera a sala e o professor.
+	 */
+	@Test
+	public void liberarTurmaTest() {
+		gradeHoraria.reservar(horario(1, 1, DayOfWeek.MONDAY, "19:00", "20:40", "Sala 101", "Ana"), List.of());
+
+//      Libera fora de transação, o que deve ser aplicado imediatamente
+		gradeHoraria.liberarTurma(1);
+
+		assertFalse(gradeHoraria.possuiHorarios(1));
+		gradeHoraria.reservar(horario(2, 2, DayOfWeek.MONDAY, "19:00", "20:40", "Sala 101", "Ana"), List.of());
+	}
+
+	/**
+	 * Teste para verificar se a validação da grade completa informa as posições dos horários em conflito e só
+	 * consulta os alunos em comum das turmas com aulas sobrepostas.
+	 */
+	@Test
+	public void validarTest() {
+		List<Horario> grade = Arrays.asList(
+				horario(null, 1, DayOfWeek.MONDAY, "19:00", "20:40", "Sala 101", "Ana"),
+				horario(null, 2, DayOfWeek.MONDAY, "19:00", "20:40", "Sala 101", "Bruno"),
+				horario(null, 3, DayOfWeek.MONDAY, "20:00", "21:00", "Sala 102", "Carla"),
+				horario(null, 4, DayOfWeek.FRIDAY, "19:00", "20:40", "Sala 102", "Ana"));
+
+		List<ConflitoHorarioDTO> conflitos = gradeHoraria.validar(grade, turmas -> {
+//          A turma 4 não tem aulas sobrepostas às de outra turma e não precisa ser consultada
+			assertFalse(turmas.contains(4));
+			return Set.of(GradeHoraria.par(1, 3));
+		});
+
+//      Sala 101 repetida entre as posições 0 e 1, e alunos em comum entre as turmas 1 e 3 (posições 0 e 2)
+		assertEquals(2, conflitos.size());
+		assertEquals("sala", conflitos.get(0).getTipo());
+		assertEquals(List.of(0, 1), conflitos.get(0).getPosicoes());
+		assertEquals("aluno", conflitos.get(1).getTipo());
+		assertEquals(List.of(0, 2), conflitos.get(1).getPosicoes());
+	}
+
+	private static Horario horario(Integer id, Integer turmaId, DayOfWeek dia, String inicio, String fim, String sala, String professor) {
+		Turma turma = new Turma();
+		turma.setId(turmaId);
+		Horario horario = new Horario();
+		horario.setId(id);
+		horario.setTurma(turma);
+		horario.setDiaSemana(dia);
+		horario.setInicio(LocalTime.parse(inicio));
+		horario.setFim(LocalTime.parse(fim));
+		horario.setSala(sala);
+		horario.setProfessor(professor);
+		return horario;
+	}
+
+}
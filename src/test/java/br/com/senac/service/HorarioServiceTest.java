@@ -0,0 +1,140 @@
+package br.com.senac.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.senac.entity.Horario;
+import br.com.senac.entity.Turma;
+import br.com.senac.repository.HorarioRepository;
+import br.com.senac.repository.MatriculaRepository;
+import br.com.senac.repository.TurmaRepository;
+import jakarta.persistence.EntityNotFoundException;
+
+//Integra o Mockito para configurar e usar mocks nos testes
+@ExtendWith(MockitoExtension.class)
+class HorarioServiceTest {
+
+//  Cria um mock (objeto simulado) para HorarioRepository
+	@Mock
+	private HorarioRepository horarioRepository;
+
+//  Cria um mock (objeto simulado) para TurmaRepository
+	@Mock
+	private TurmaRepository turmaRepository;
+
+//  Cria um mock (objeto simulado) para MatriculaRepository
+	@Mock
+	private MatriculaRepository matriculaRepository;
+
+//  Cria um mock (objeto simulado) para a GradeHoraria
+	@Mock
+	private GradeHoraria gradeHoraria;
+
+//  Injeta mocks automaticamente em HorarioService
+	@InjectMocks
+	private HorarioService horarioService;
+
+	private Turma turmaTeste;
+
+	private Horario horarioTeste;
+
+//  Configuração prévia para testes
+	@BeforeEach
+	public void setUp() {
+		turmaTeste = new Turma();
+		turmaTeste.setId(1);
+		turmaTeste.setNome("Java");
+		horarioTeste = new Horario();
+		horarioTeste.setDiaSemana(DayOfWeek.MONDAY);
+		horarioTeste.setInicio(LocalTime.of(19, 0));
+		horarioTeste.setFim(LocalTime.of(20, 40));
+		horarioTeste.setSala("Sala 101");
+		horarioTeste.setProfessor("Ana");
+	}
+
+	/**
+	 * Teste para verificar se o método adicionarHorario() salva o horário na turma e o reserva na grade.
+	 */
+	@Test
+    public void adicionarHorarioTest() {
+//      Configura o comportamento simulado dos repositórios para encontrar a turma e uma turma com alunos em comum
+        when(turmaRepository.findById(1)).thenReturn(Optional.of(turmaTeste));
+        when(horarioRepository.save(horarioTeste)).thenReturn(horarioTeste);
+        when(matriculaRepository.buscarTurmasComAlunosEmComum(1)).thenReturn(Arrays.asList(2));
+
+//      Chama o método de inclusão do horário
+        Horario salvo = horarioService.adicionarHorario(1, horarioTeste);
+
+//      Verifica se o horário pertence à turma e se foi reservado considerando a turma com alunos em comum
+        assertEquals(turmaTeste, salvo.getTurma());
+        verify(gradeHoraria).reservar(horarioTeste, Arrays.asList(2));
+    }
+
+	/**
+	 * Teste para verificar se o método adicionarHorario() lança EntityNotFoundException para uma turma inexistente.
+	 */
+	@Test
+    public void adicionarHorarioTurmaNaoEncontradaTest() {
+        when(turmaRepository.findById(99)).thenReturn(Optional.empty());
+
+//      Verifica se a inclusão lança EntityNotFoundException e se nada é salvo
+        assertThrows(EntityNotFoundException.class, () -> horarioService.adicionarHorario(99, horarioTeste));
+        verify(horarioRepository, never()).save(horarioTeste);
+    }
+
+	/**
+	 * Teste para verificar se o método buscarHorariosDaTurma() ordena os horários pelos dias da semana.
+	 */
+	@Test
+    public void buscarHorariosDaTurmaTest() {
+        Horario sexta = new Horario();
+        sexta.setDiaSemana(DayOfWeek.FRIDAY);
+        sexta.setInicio(LocalTime.of(19, 0));
+        when(turmaRepository.existsById(1)).thenReturn(true);
+        when(horarioRepository.buscarHorariosDaTurma(1)).thenReturn(new ArrayList<>(Arrays.asList(sexta, horarioTeste)));
+
+//      Verifica se a segunda-feira vem antes da sexta-feira (a ordem alfabética dos nomes seria a inversa)
+        assertEquals(Arrays.asList(horarioTeste, sexta), horarioService.buscarHorariosDaTurma(1));
+    }
+
+	/**
+	 * Teste para verificar se o método excluirHorario() libera o horário na grade.
+	 */
+	@Test
+    public void excluirHorarioTest() {
+        when(horarioRepository.excluirPorIdETurma(5, 1)).thenReturn(1);
+
+        horarioService.excluirHorario(1, 5);
+
+//      Verifica se o horário excluído foi liberado na grade
+        verify(gradeHoraria).liberar(1, 5);
+    }
+
+	/**
+	 * Teste para verificar se o método excluirHorario() lança EntityNotFoundException quando nenhum registro é excluído.
+	 */
+	@Test
+    public void excluirHorarioNaoEncontradoTest() {
+        when(horarioRepository.excluirPorIdETurma(99, 1)).thenReturn(0);
+
+        assertThrows(EntityNotFoundException.class, () -> horarioService.excluirHorario(1, 99));
+        verify(gradeHoraria, never()).liberar(1, 99);
+    }
+
+}
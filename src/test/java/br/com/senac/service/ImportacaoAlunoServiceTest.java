@@ -0,0 +1,177 @@
+package br.com.senac.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionSystemException;
+
+import br.com.senac.dto.ErroImportacaoDTO;
+import br.com.senac.dto.ResultadoImportacaoDTO;
+import br.com.senac.entity.Aluno;
+import jakarta.persistence.PersistenceException;
+
+//Integra o Mockito para configurar e usar mocks nos testes
+@ExtendWith(MockitoExtension.class)
+class ImportacaoAlunoServiceTest {
+
+//  Cria um mock (objeto simulado) para AlunoService
+	@Mock
+	private AlunoService alunoService;
+
+//  Injeta mocks automaticamente em ImportacaoAlunoService
+	@InjectMocks
+	private ImportacaoAlunoService importacaoAlunoService;
+
+	/**
+	 * Teste para verificar se o método importar() lê o cabeçalho, os valores entre aspas e relata as linhas inválidas.
+	 */
+	@Test
+	public void importarTest() throws IOException {
+		String csv = "matricula;Nome\n"
+				+ "1;João Silva\n"
+				+ "2;\"Maria; da Silva\"\n"
+				+ "\n"
+				+ "3;   \n"
+				+ "4\n";
+
+//		Guarda os nomes dos alunos enviados ao AlunoService
+		List<String> gravados = new ArrayList<>();
+		when(alunoService.salvarAlunos(anyList())).thenAnswer(invocation -> {
+			List<Aluno> alunos = invocation.getArgument(0);
+			alunos.forEach(aluno -> gravados.add(aluno.getNome()));
+			return alunos;
+		});
+
+		ResultadoImportacaoDTO resultado = importacaoAlunoService.importar(new StringReader(csv));
+
+//		Verifica se as linhas válidas foram gravadas com os nomes corretos
+		assertEquals(List.of("João Silva", "Maria; da Silva"), gravados);
+		assertEquals(4, resultado.getLinhasLidas());
+		assertEquals(2, resultado.getImportados());
+		assertEquals(2, resultado.getRejeitados());
+
+//		Verifica se os erros informam o número da linha no arquivo
+		assertEquals(5, resultado.getErros().get(0).getLinha());
+		assertEquals("Nome em branco.", resultado.getErros().get(0).getMensagem());
+		assertEquals(6, resultado.getErros().get(1).getLinha());
+		assertEquals("Coluna nome ausente.", resultado.getErros().get(1).getMensagem());
+	}
+
+	/**
+	 * Teste para verificar se o método importar() grava os alunos em blocos de TAMANHO_BLOCO.
+	 */
+	@Test
+	public void importarEmBlocosTest() throws IOException {
+		StringBuilder csv = new StringBuilder();
+		for (int i = 1; i <= 2500; i++) {
+			csv.append("Aluno ").append(i).append('\n');
+		}
+		List<Integer> tamanhos = new ArrayList<>();
+		when(alunoService.salvarAlunos(anyList())).thenAnswer(invocation -> {
+			tamanhos.add(invocation.<List<Aluno>>getArgument(0).size());
+			return invocation.getArgument(0);
+		});
+
+		ResultadoImportacaoDTO resultado = importacaoAlunoService.importar(new StringReader(csv.toString()));
+
+//		Verifica se o arquivo sem cabeçalho foi gravado em três blocos (1000, 1000 e 500)
+		verify(alunoService, times(3)).salvarAlunos(anyList());
+		assertEquals(List.of(1000, 1000, 500), tamanhos);
+		assertEquals(2500, resultado.getImportados());
+	}
+
+	/**
+	 * Teste para verificar se o método importar() limita a quantidade de erros relatados e rejeita o bloco recusado pelo banco.
+	 */
+	@Test
+	public void importarErrosTest() throws IOException {
+		StringBuilder csv = new StringBuilder("nome\n");
+		for (int i = 1; i <= ImportacaoAlunoService.MAXIMO_ERROS_RELATADOS + 10; i++) {
+			csv.append("\"sem fechar\n");
+		}
+		csv.append("Aluno válido\n");
+		when(alunoService.salvarAlunos(anyList())).thenThrow(new DataIntegrityViolationException("recusado"));
+
+		ResultadoImportacaoDTO resultado = importacaoAlunoService.importar(new StringReader(csv.toString()));
+
+//		Verifica se todas as linhas foram rejeitadas, mas somente MAXIMO_ERROS_RELATADOS erros foram listados
+		assertEquals(ImportacaoAlunoService.MAXIMO_ERROS_RELATADOS + 11, resultado.getRejeitados());
+		assertEquals(0, resultado.getImportados());
+		assertEquals(ImportacaoAlunoService.MAXIMO_ERROS_RELATADOS, resultado.getErros().size());
+		assertTrue(resultado.isErrosTruncados());
+	}
+
+	/**
+	 * Teste para verificar se o método importar() rejeita a linha com mais de TAMANHO_MAXIMO_LINHA caracteres e
+	 * continua a leitura na linha seguinte, com quebras de linha \n, \r\n e \r.
+	 */
+	@Test
+	public void importarLinhaLongaTest() throws IOException {
+		String csv = "\uFEFFnome\r\n"
+				+ "Aluno 1\r\n"
+				+ "\"" + "x".repeat(1024 * 1024) + "\"\r\n"
+				+ "Aluno 2\r"
+				+ "x".repeat(ImportacaoAlunoService.TAMANHO_MAXIMO_LINHA + 1) + "\n"
+				+ "Aluno 3";
+
+//		Guarda os nomes dos alunos enviados ao AlunoService
+		List<String> gravados = new ArrayList<>();
+		when(alunoService.salvarAlunos(anyList())).thenAnswer(invocation -> {
+			List<Aluno> alunos = invocation.getArgument(0);
+			alunos.forEach(aluno -> gravados.add(aluno.getNome()));
+			return alunos;
+		});
+
+		ResultadoImportacaoDTO resultado = importacaoAlunoService.importar(new StringReader(csv));
+
+//		Verifica se as linhas longas foram rejeitadas com o número da linha e se as demais foram importadas
+		assertEquals(List.of("Aluno 1", "Aluno 2", "Aluno 3"), gravados);
+		assertEquals(5, resultado.getLinhasLidas());
+		assertEquals(2, resultado.getRejeitados());
+		String mensagem = "Linha com mais de " + ImportacaoAlunoService.TAMANHO_MAXIMO_LINHA + " caracteres.";
+		assertEquals(3, resultado.getErros().get(0).getLinha());
+		assertEquals(mensagem, resultado.getErros().get(0).getMensagem());
+		assertEquals(5, resultado.getErros().get(1).getLinha());
+		assertEquals(mensagem, resultado.getErros().get(1).getMensagem());
+	}
+
+	/**
+	 * Teste para verificar se o método importar() rejeita apenas o bloco recusado no flush ou no commit, sem
+	 * interromper a importação dos blocos seguintes.
+	 */
+	@Test
+	public void importarBlocoRecusadoNoFlushTest() throws IOException {
+		StringBuilder csv = new StringBuilder();
+		for (int i = 1; i <= 2500; i++) {
+			csv.append("Aluno ").append(i).append('\n');
+		}
+//		O primeiro bloco falha no flush explícito, o segundo no commit e o terceiro é gravado
+		when(alunoService.salvarAlunos(anyList()))
+				.thenThrow(new PersistenceException("could not execute batch", new IllegalStateException("violação de restrição")))
+				.thenThrow(new TransactionSystemException("Could not commit JPA transaction"))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+
+		ResultadoImportacaoDTO resultado = importacaoAlunoService.importar(new StringReader(csv.toString()));
+
+//		Verifica se os dois blocos recusados foram relatados pela primeira linha de cada um
+		assertEquals(500, resultado.getImportados());
+		assertEquals(2000, resultado.getRejeitados());
+		assertEquals(List.of(1L, 1001L), resultado.getErros().stream().map(ErroImportacaoDTO::getLinha).toList());
+		assertTrue(resultado.getErros().get(0).getMensagem().endsWith("violação de restrição"));
+	}
+
+}
@@ -0,0 +1,242 @@
+package br.com.senac.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import br.com.senac.entity.Aluno;
+import br.com.senac.entity.Matricula;
+import br.com.senac.entity.Turma;
+import br.com.senac.repository.AlunoRepository;
+import br.com.senac.repository.MatriculaRepository;
+import br.com.senac.repository.TurmaRepository;
+import jakarta.persistence.EntityNotFoundException;
+
+//Integra o Mockito para configurar e usar mocks nos testes
+@ExtendWith(MockitoExtension.class)
+class MatriculaServiceTest {
+
+//  Cria um mock (objeto simulado) para MatriculaRepository
+	@Mock
+	private MatriculaRepository matriculaRepository;
+
+//  Cria um mock (objeto simulado) para AlunoRepository
+	@Mock
+	private AlunoRepository alunoRepository;
+
+//  Cria um mock (objeto simulado) para TurmaRepository
+	@Mock
+	private TurmaRepository turmaRepository;
+
+//  Cria um mock (objeto simulado) para a GradeHoraria utilizada na verificação de conflitos de horário
+	@Mock
+	private GradeHoraria gradeHoraria;
+
+//  Cria um mock (objeto simulado) para o ControleVagas utilizado na reserva das vagas
+	@Mock
+	private ControleVagas controleVagas;
+
+//  Cria um mock (objeto simulado) para o publicador do evento VagaLiberada
+	@Mock
+	private ApplicationEventPublisher eventos;
+
+//  Injeta mocks automaticamente em MatriculaService
+	@InjectMocks
+	private MatriculaService matriculaService;
+
+	private Aluno alunoTeste;
+
+	private Turma turmaTeste;
+
+//  Configuração prévia para testes
+	@BeforeEach
+	public void setUp() {
+		alunoTeste = new Aluno();
+		alunoTeste.setId(1);
+		alunoTeste.setNome("João");
+		turmaTeste = new Turma();
+		turmaTeste.setId(2);
+		turmaTeste.setNome("Java");
+	}
+
+	/**
+	 * Teste para verificar se o método salvarMatricula() vincula o aluno à turma.
+	 */
+	@Test
+    public void salvarMatriculaTest() {
+//      Configura o comportamento simulado dos repositórios para encontrar o aluno e a turma e salvar a matrícula
+        when(alunoRepository.findById(1)).thenReturn(Optional.of(alunoTeste));
+        when(turmaRepository.findById(2)).thenReturn(Optional.of(turmaTeste));
+        when(matriculaRepository.existsByAlunoIdAndTurmaId(1, 2)).thenReturn(false);
+        when(controleVagas.reservar(2)).thenReturn(true);
+        when(matriculaRepository.saveAndFlush(any(Matricula.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+//      Chama o método de criação da matrícula
+        Matricula matricula = matriculaService.salvarMatricula(1, 2);
+
+//      Verifica se a matrícula referencia o aluno e a turma encontrados
+        assertEquals(alunoTeste, matricula.getAluno());
+        assertEquals(turmaTeste, matricula.getTurma());
+    }
+
+	/**
+	 * Teste para verificar se o método salvarMatricula() rejeita uma matrícula repetida.
+	 */
+	@Test
+    public void salvarMatriculaDuplicadaTest() {
+//      Configura o comportamento simulado do repositório para indicar que a matrícula já existe
+        when(alunoRepository.findById(1)).thenReturn(Optional.of(alunoTeste));
+        when(turmaRepository.findById(2)).thenReturn(Optional.of(turmaTeste));
+        when(matriculaRepository.existsByAlunoIdAndTurmaId(1, 2)).thenReturn(true);
+
+//      Verifica se a criação lança ConflitoException e se nada é salvo
+        assertThrows(ConflitoException.class, () -> matriculaService.salvarMatricula(1, 2));
+        verify(matriculaRepository, never()).saveAndFlush(any(Matricula.class));
+    }
+
+	/**
+	 * Teste para verificar se o método salvarMatricula() converte em conflito a violação da restrição única quando
+	 * outra requisição simultânea matricula o mesmo aluno depois da verificação de existência.
+	 */
+	@Test
+    public void salvarMatriculaSimultaneaTest() {
+//      Configura o comportamento simulado para que a verificação passe e a gravação viole uk_matricula_aluno_turma
+        when(alunoRepository.findById(1)).thenReturn(Optional.of(alunoTeste));
+        when(turmaRepository.findById(2)).thenReturn(Optional.of(turmaTeste));
+        when(matriculaRepository.existsByAlunoIdAndTurmaId(1, 2)).thenReturn(false);
+        when(controleVagas.reservar(2)).thenReturn(true);
+        when(matriculaRepository.saveAndFlush(any(Matricula.class))).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException("Unique index or primary key violation: \"PUBLIC.UK_MATRICULA_ALUNO_TURMA_INDEX_8 ON PUBLIC.MATRICULA(ALUNO_ID, TURMA_ID)\"")));
+
+//      Verifica se a criação lança ConflitoException com a mesma mensagem da verificação de existência
+        ConflitoException excecao = assertThrows(ConflitoException.class, () -> matriculaService.salvarMatricula(1, 2));
+        assertEquals("Aluno com o ID 1 já matriculado na turma com o ID 2.", excecao.getMessage());
+    }
+
+	/**
+	 * Teste para verificar se o método salvarMatricula() repassa as demais falhas de integridade.
+	 */
+	@Test
+    public void salvarMatriculaFalhaIntegridadeTest() {
+//      Configura o comportamento simulado para que a gravação viole a chave estrangeira do aluno (ex.: excluído em paralelo)
+        when(alunoRepository.findById(1)).thenReturn(Optional.of(alunoTeste));
+        when(turmaRepository.findById(2)).thenReturn(Optional.of(turmaTeste));
+        when(matriculaRepository.existsByAlunoIdAndTurmaId(1, 2)).thenReturn(false);
+        when(controleVagas.reservar(2)).thenReturn(true);
+        when(matriculaRepository.saveAndFlush(any(Matricula.class))).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException("Referential integrity constraint violation: \"FK_MATRICULA_ALUNO\"")));
+
+//      Verifica se a exceção original é repassada
+        assertThrows(DataIntegrityViolationException.class, () -> matriculaService.salvarMatricula(1, 2));
+    }
+
+	/**
+	 * Teste para verificar se o método salvarMatricula() rejeita a matrícula em turma sem vagas.
+	 */
+	@Test
+    public void salvarMatriculaTurmaLotadaTest() {
+//      Configura o comportamento simulado para que o ControleVagas recuse a reserva
+        when(alunoRepository.findById(1)).thenReturn(Optional.of(alunoTeste));
+        when(turmaRepository.findById(2)).thenReturn(Optional.of(turmaTeste));
+        when(matriculaRepository.existsByAlunoIdAndTurmaId(1, 2)).thenReturn(false);
+        when(controleVagas.reservar(2)).thenReturn(false);
+
+//      Verifica se a criação lança VagasEsgotadasException e se nada é salvo
+        assertThrows(VagasEsgotadasException.class, () -> matriculaService.salvarMatricula(1, 2));
+        verify(matriculaRepository, never()).saveAndFlush(any(Matricula.class));
+    }
+
+	/**
+	 * Teste para verificar se o método salvarMatricula() rejeita a matrícula em turma com aulas no mesmo horário
+	 * de outra turma do aluno.
+	 */
+	@Test
+    public void salvarMatriculaConflitoHorarioTest() {
+//      Configura o comportamento simulado para que a turma 2 tenha aulas sobrepostas às da turma 3, já cursada pelo aluno
+        when(alunoRepository.findById(1)).thenReturn(Optional.of(alunoTeste));
+        when(turmaRepository.findById(2)).thenReturn(Optional.of(turmaTeste));
+        when(matriculaRepository.existsByAlunoIdAndTurmaId(1, 2)).thenReturn(false);
+        when(gradeHoraria.possuiHorarios(2)).thenReturn(true);
+        when(matriculaRepository.buscarIdsTurmasDoAluno(1)).thenReturn(Arrays.asList(3));
+        when(gradeHoraria.turmasEmConflito(2, Arrays.asList(3))).thenReturn(Arrays.asList(3));
+
+//      Verifica se a criação lança ConflitoException e se nada é salvo
+        assertThrows(ConflitoException.class, () -> matriculaService.salvarMatricula(1, 2));
+        verify(matriculaRepository, never()).saveAndFlush(any(Matricula.class));
+    }
+
+	/**
+	 * Teste para verificar se o método buscarAlunosDaTurma() retorna os alunos obtidos em uma única consulta.
+	 */
+	@Test
+    public void buscarAlunosDaTurmaTest() {
+//      Configura o comportamento simulado dos repositórios para encontrar a turma e os alunos vinculados
+        when(turmaRepository.findById(2)).thenReturn(Optional.of(turmaTeste));
+        when(matriculaRepository.buscarAlunosDaTurma(2)).thenReturn(Arrays.asList(alunoTeste));
+
+//      Chama o método de busca dos alunos da turma
+        List<Aluno> alunos = matriculaService.buscarAlunosDaTurma(2);
+
+//      Verifica se a lista retornada é a da consulta
+        assertEquals(1, alunos.size());
+        assertEquals(alunoTeste, alunos.get(0));
+    }
+
+	/**
+	 * Teste para verificar se o método buscarTurmasDoAluno() lança EntityNotFoundException quando o aluno não existe.
+	 */
+	@Test
+    public void buscarTurmasDoAlunoNaoEncontradoTest() {
+//      Configura o comportamento simulado do repositório para não encontrar o aluno
+        when(alunoRepository.findById(99)).thenReturn(Optional.empty());
+
+//      Verifica se a busca lança EntityNotFoundException sem consultar as matrículas
+        assertThrows(EntityNotFoundException.class, () -> matriculaService.buscarTurmasDoAluno(99));
+        verify(matriculaRepository, never()).buscarTurmasDoAluno(99);
+    }
+
+	/**
+	 * Teste para verificar se o método excluirMatricula() lança EntityNotFoundException quando nenhum registro é excluído.
+	 */
+	@Test
+    public void excluirMatriculaNaoEncontradaTest() {
+//      Configura o comportamento simulado do repositório para indicar que a matrícula não existe
+        when(matriculaRepository.buscarIdTurma(99)).thenReturn(Optional.empty());
+
+//      Verifica se a exclusão de um ID inexistente lança EntityNotFoundException e se nenhuma vaga é liberada
+        assertThrows(EntityNotFoundException.class, () -> matriculaService.excluirMatricula(99));
+        verify(controleVagas, never()).liberar(any());
+    }
+
+	/**
+	 * Teste para verificar se o método excluirMatricula() devolve a vaga e avisa a lista de espera da turma.
+	 */
+	@Test
+    public void excluirMatriculaTest() {
+        when(matriculaRepository.buscarIdTurma(5)).thenReturn(Optional.of(2));
+        when(matriculaRepository.excluirPorId(5)).thenReturn(1);
+
+        matriculaService.excluirMatricula(5);
+
+//      Verifica se a vaga da turma 2 foi liberada e se o evento para a lista de espera foi publicado
+        verify(controleVagas).liberar(2);
+        verify(eventos).publishEvent(new VagaLiberada(2));
+    }
+
+}
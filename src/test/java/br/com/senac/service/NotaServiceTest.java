@@ -0,0 +1,220 @@
+package br.com.senac.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.senac.entity.Aluno;
+import br.com.senac.entity.Disciplina;
+import br.com.senac.entity.Nota;
+import br.com.senac.entity.Turma;
+import br.com.senac.repository.AlunoRepository;
+import br.com.senac.repository.DisciplinaRepository;
+import br.com.senac.repository.MatriculaRepository;
+import br.com.senac.repository.NotaRepository;
+import br.com.senac.repository.OfertaRepository;
+import br.com.senac.repository.TurmaRepository;
+
+//Integra o Mockito para configurar e usar mocks nos testes
+@ExtendWith(MockitoExtension.class)
+class NotaServiceTest {
+
+//  Cria um mock (objeto simulado) para NotaRepository
+	@Mock
+	private NotaRepository notaRepository;
+
+//  Cria um mock (objeto simulado) para TurmaRepository
+	@Mock
+	private TurmaRepository turmaRepository;
+
+//  Cria um mock (objeto simulado) para DisciplinaRepository
+	@Mock
+	private DisciplinaRepository disciplinaRepository;
+
+//  Cria um mock (objeto simulado) para AlunoRepository
+	@Mock
+	private AlunoRepository alunoRepository;
+
+//  Cria um mock (objeto simulado) para MatriculaRepository
+	@Mock
+	private MatriculaRepository matriculaRepository;
+
+//  Cria um mock (objeto simulado) para OfertaRepository
+	@Mock
+	private OfertaRepository ofertaRepository;
+
+//  Cria um mock (objeto simulado) para as EstatisticasNotas
+	@Mock
+	private EstatisticasNotas estatisticasNotas;
+
+//  Cria um mock (objeto simulado) para o TransactionTemplate, que apenas executa o callback recebido
+	@Mock
+	private TransactionTemplate transacao;
+
+//  Injeta mocks automaticamente em NotaService
+	@InjectMocks
+	private NotaService notaService;
+
+	private Turma turmaTeste;
+
+	private Disciplina disciplinaTeste;
+
+	private Aluno alunoTeste;
+
+//  Configuração prévia para testes
+	@BeforeEach
+	public void setUp() {
+		turmaTeste = new Turma();
+		turmaTeste.setId(1);
+		disciplinaTeste = new Disciplina();
+		disciplinaTeste.setId(2);
+		alunoTeste = new Aluno();
+		alunoTeste.setId(3);
+	}
+
+	/**
+	 * Teste para verificar se o método lancarNota() inclui a nota e a registra nas estatísticas.
+	 */
+	@Test
+    public void lancarNotaTest() {
+        configurarTurmaDisciplinaAluno();
+        when(notaRepository.findByTurmaIdAndDisciplinaIdAndAlunoId(1, 2, 3)).thenReturn(Optional.empty());
+        when(notaRepository.saveAndFlush(any(Nota.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Nota nota = notaService.lancarNota(1, 2, 3, new BigDecimal("7.5"));
+
+//      Verifica se a nota foi gravada com duas casas decimais e registrada como inclusão
+        assertEquals(new BigDecimal("7.50"), nota.getValor());
+        assertEquals(alunoTeste, nota.getAluno());
+        verify(estatisticasNotas).registrar(1, 2, null, 750);
+    }
+
+	/**
+	 * Teste para verificar se o método lancarNota() substitui a nota existente informando o valor anterior.
+	 */
+	@Test
+    public void lancarNotaExistenteTest() {
+        configurarTurmaDisciplinaAluno();
+        Nota existente = new Nota();
+        existente.setId(9);
+        existente.setValor(new BigDecimal("4.25"));
+        when(notaRepository.findByTurmaIdAndDisciplinaIdAndAlunoId(1, 2, 3)).thenReturn(Optional.of(existente));
+        when(notaRepository.saveAndFlush(existente)).thenReturn(existente);
+
+        notaService.lancarNota(1, 2, 3, new BigDecimal("9"));
+
+        assertEquals(new BigDecimal("9.00"), existente.getValor());
+        verify(estatisticasNotas).registrar(1, 2, 425, 900);
+    }
+
+	/**
+	 * Teste para verificar se o método lancarNota() repete o lançamento como alteração quando outro lançamento
+	 * simultâneo inclui a primeira nota do aluno antes dele.
+	 */
+	@Test
+    public void lancarNotaSimultaneaTest() {
+        configurarTurmaDisciplinaAluno();
+        Nota existente = new Nota();
+        existente.setId(9);
+        existente.setValor(new BigDecimal("4.25"));
+//      Configura o comportamento simulado para que a primeira tentativa não encontre a nota e viole
+//      uk_nota_turma_disciplina_aluno ao incluí-la, e a segunda encontre a nota gravada pela outra transação
+        when(notaRepository.findByTurmaIdAndDisciplinaIdAndAlunoId(1, 2, 3)).thenReturn(Optional.empty(), Optional.of(existente));
+        when(notaRepository.saveAndFlush(any(Nota.class))).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException("Unique index or primary key violation: \"PUBLIC.UK_NOTA_TURMA_DISCIPLINA_ALUNO_INDEX_2 ON PUBLIC.NOTA(TURMA_ID, DISCIPLINA_ID, ALUNO_ID)\"")))
+                .thenReturn(existente);
+
+        Nota nota = notaService.lancarNota(1, 2, 3, new BigDecimal("9"));
+
+//      Verifica se a nota da outra transação foi substituída e registrada como alteração
+        assertEquals(existente, nota);
+        assertEquals(new BigDecimal("9.00"), existente.getValor());
+        verify(estatisticasNotas).registrar(1, 2, 425, 900);
+        verify(estatisticasNotas, never()).registrar(1, 2, null, 900);
+    }
+
+	/**
+	 * Teste para verificar se o método lancarNota() rejeita notas fora do intervalo ou com mais de duas casas decimais.
+	 */
+	@Test
+    public void lancarNotaInvalidaTest() {
+        assertThrows(IllegalArgumentException.class, () -> notaService.lancarNota(1, 2, 3, new BigDecimal("10.01")));
+        assertThrows(IllegalArgumentException.class, () -> notaService.lancarNota(1, 2, 3, new BigDecimal("-1")));
+        assertThrows(IllegalArgumentException.class, () -> notaService.lancarNota(1, 2, 3, new BigDecimal("5.555")));
+        assertThrows(IllegalArgumentException.class, () -> notaService.lancarNota(1, 2, 3, null));
+        verify(notaRepository, never()).save(any(Nota.class));
+    }
+
+	/**
+	 * Teste para verificar se o método lancarNota() rejeita alunos que não estão matriculados na turma.
+	 */
+	@Test
+    public void lancarNotaAlunoNaoMatriculadoTest() {
+        when(turmaRepository.findById(1)).thenReturn(Optional.of(turmaTeste));
+        when(disciplinaRepository.findById(2)).thenReturn(Optional.of(disciplinaTeste));
+        when(alunoRepository.findById(3)).thenReturn(Optional.of(alunoTeste));
+        when(matriculaRepository.existsByAlunoIdAndTurmaId(3, 1)).thenReturn(false);
+        executarTransacoes();
+
+        assertThrows(IllegalArgumentException.class, () -> notaService.lancarNota(1, 2, 3, BigDecimal.ONE));
+        verify(estatisticasNotas, never()).registrar(any(), any(), any(), anyInt());
+    }
+
+	/**
+	 * Teste para verificar se o método excluirNota() remove a nota das estatísticas.
+	 */
+	@Test
+    public void excluirNotaTest() {
+        Nota nota = new Nota();
+        nota.setTurma(turmaTeste);
+        nota.setDisciplina(disciplinaTeste);
+        nota.setValor(new BigDecimal("6.00"));
+        when(notaRepository.buscarParaAlterar(9)).thenReturn(Optional.of(nota));
+
+        notaService.excluirNota(9);
+
+        verify(notaRepository).delete(nota);
+        verify(estatisticasNotas).registrar(1, 2, 600, null);
+    }
+
+	/**
+	 * Teste para verificar se o método excluirNota() lança exceção quando a nota não existe.
+	 */
+	@Test
+    public void excluirNotaNaoEncontradaTest() {
+        when(notaRepository.buscarParaAlterar(9)).thenReturn(Optional.empty());
+
+        assertThrows(RecursoNaoEncontradoException.class, () -> notaService.excluirNota(9));
+    }
+
+	private void configurarTurmaDisciplinaAluno() {
+		executarTransacoes();
+		when(turmaRepository.findById(1)).thenReturn(Optional.of(turmaTeste));
+		when(disciplinaRepository.findById(2)).thenReturn(Optional.of(disciplinaTeste));
+		when(alunoRepository.findById(3)).thenReturn(Optional.of(alunoTeste));
+		when(matriculaRepository.existsByAlunoIdAndTurmaId(3, 1)).thenReturn(true);
+		when(ofertaRepository.existsByDisciplinaIdAndTurmaId(2, 1)).thenReturn(true);
+	}
+
+	private void executarTransacoes() {
+		when(transacao.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+
+}
@@ -0,0 +1,159 @@
+package br.com.senac.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import br.com.senac.entity.Disciplina;
+import br.com.senac.entity.Oferta;
+import br.com.senac.entity.Turma;
+import br.com.senac.repository.DisciplinaRepository;
+import br.com.senac.repository.OfertaRepository;
+import br.com.senac.repository.TurmaRepository;
+import jakarta.persistence.EntityNotFoundException;
+
+//Integra o Mockito para configurar e usar mocks nos testes
+@ExtendWith(MockitoExtension.class)
+class OfertaServiceTest {
+
+//  Cria um mock (objeto simulado) para OfertaRepository
+	@Mock
+	private OfertaRepository ofertaRepository;
+
+//  Cria um mock (objeto simulado) para DisciplinaRepository
+	@Mock
+	private DisciplinaRepository disciplinaRepository;
+
+//  Cria um mock (objeto simulado) para TurmaRepository
+	@Mock
+	private TurmaRepository turmaRepository;
+
+//  Injeta mocks automaticamente em OfertaService
+	@InjectMocks
+	private OfertaService ofertaService;
+
+	private Disciplina disciplinaTeste;
+
+	private Turma turmaTeste;
+
+//  Configuração prévia para testes
+	@BeforeEach
+	public void setUp() {
+		disciplinaTeste = new Disciplina();
+		disciplinaTeste.setId(1);
+		disciplinaTeste.setNome("Redes");
+		turmaTeste = new Turma();
+		turmaTeste.setId(2);
+		turmaTeste.setNome("Java");
+	}
+
+	/**
+	 * Teste para verificar se o método salvarOferta() vincula a disciplina à turma.
+	 */
+	@Test
+    public void salvarOfertaTest() {
+//      Configura o comportamento simulado dos repositórios para encontrar a disciplina e a turma e salvar a oferta
+        when(disciplinaRepository.findById(1)).thenReturn(Optional.of(disciplinaTeste));
+        when(turmaRepository.findById(2)).thenReturn(Optional.of(turmaTeste));
+        when(ofertaRepository.existsByDisciplinaIdAndTurmaId(1, 2)).thenReturn(false);
+        when(ofertaRepository.saveAndFlush(any(Oferta.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+//      Chama o método de criação da oferta
+        Oferta oferta = ofertaService.salvarOferta(1, 2);
+
+//      Verifica se a oferta referencia a disciplina e a turma encontradas
+        assertEquals(disciplinaTeste, oferta.getDisciplina());
+        assertEquals(turmaTeste, oferta.getTurma());
+    }
+
+	/**
+	 * Teste para verificar se o método salvarOferta() rejeita uma oferta repetida.
+	 */
+	@Test
+    public void salvarOfertaDuplicadaTest() {
+//      Configura o comportamento simulado do repositório para indicar que a oferta já existe
+        when(disciplinaRepository.findById(1)).thenReturn(Optional.of(disciplinaTeste));
+        when(turmaRepository.findById(2)).thenReturn(Optional.of(turmaTeste));
+        when(ofertaRepository.existsByDisciplinaIdAndTurmaId(1, 2)).thenReturn(true);
+
+//      Verifica se a criação lança IllegalArgumentException e se nada é salvo
+        assertThrows(IllegalArgumentException.class, () -> ofertaService.salvarOferta(1, 2));
+        verify(ofertaRepository, never()).saveAndFlush(any(Oferta.class));
+    }
+
+	/**
+	 * Teste para verificar se o método salvarOferta() converte em conflito a violação da restrição única quando
+	 * outra requisição simultânea grava a mesma oferta depois da verificação de existência.
+	 */
+	@Test
+    public void salvarOfertaSimultaneaTest() {
+//      Configura o comportamento simulado para que a verificação passe e a gravação viole uk_oferta_disciplina_turma
+        when(disciplinaRepository.findById(1)).thenReturn(Optional.of(disciplinaTeste));
+        when(turmaRepository.findById(2)).thenReturn(Optional.of(turmaTeste));
+        when(ofertaRepository.existsByDisciplinaIdAndTurmaId(1, 2)).thenReturn(false);
+        when(ofertaRepository.saveAndFlush(any(Oferta.class))).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException("Unique index or primary key violation: \"PUBLIC.UK_OFERTA_DISCIPLINA_TURMA_INDEX_8 ON PUBLIC.OFERTA(DISCIPLINA_ID, TURMA_ID)\"")));
+
+//      Verifica se a criação lança ConflitoException com a mesma mensagem da verificação de existência
+        ConflitoException excecao = assertThrows(ConflitoException.class, () -> ofertaService.salvarOferta(1, 2));
+        assertEquals("Disciplina com o ID 1 já oferecida na turma com o ID 2.", excecao.getMessage());
+    }
+
+	/**
+	 * Teste para verificar se o método buscarDisciplinasDaTurma() retorna as disciplinas obtidas em uma única consulta.
+	 */
+	@Test
+    public void buscarDisciplinasDaTurmaTest() {
+//      Configura o comportamento simulado dos repositórios para encontrar a turma e as disciplinas vinculadas
+        when(turmaRepository.findById(2)).thenReturn(Optional.of(turmaTeste));
+        when(ofertaRepository.buscarDisciplinasDaTurma(2)).thenReturn(Arrays.asList(disciplinaTeste));
+
+//      Chama o método de busca das disciplinas da turma
+        List<Disciplina> disciplinas = ofertaService.buscarDisciplinasDaTurma(2);
+
+//      Verifica se a lista retornada é a da consulta
+        assertEquals(1, disciplinas.size());
+        assertEquals(disciplinaTeste, disciplinas.get(0));
+    }
+
+	/**
+	 * Teste para verificar se o método buscarTurmasDaDisciplina() lança EntityNotFoundException quando a disciplina não existe.
+	 */
+	@Test
+    public void buscarTurmasDaDisciplinaNaoEncontradaTest() {
+//      Configura o comportamento simulado do repositório para não encontrar a disciplina
+        when(disciplinaRepository.findById(99)).thenReturn(Optional.empty());
+
+//      Verifica se a busca lança EntityNotFoundException sem consultar as ofertas
+        assertThrows(EntityNotFoundException.class, () -> ofertaService.buscarTurmasDaDisciplina(99));
+        verify(ofertaRepository, never()).buscarTurmasDaDisciplina(99);
+    }
+
+	/**
+	 * Teste para verificar se o método excluirOferta() lança EntityNotFoundException quando nenhum registro é excluído.
+	 */
+	@Test
+    public void excluirOfertaNaoEncontradaTest() {
+//      Configura o comportamento simulado do repositório para indicar que nenhum registro foi excluído
+        when(ofertaRepository.excluirPorId(99)).thenReturn(0);
+
+//      Verifica se a exclusão de um ID inexistente lança EntityNotFoundException
+        assertThrows(EntityNotFoundException.class, () -> ofertaService.excluirOferta(99));
+    }
+
+}
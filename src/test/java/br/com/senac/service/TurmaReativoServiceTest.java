@@ -0,0 +1,102 @@
+package br.com.senac.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.senac.dto.TurmaDTO;
+import br.com.senac.entity.Turma;
+import br.com.senac.repository.TurmaReativoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+//Integra o Mockito para configurar e usar mocks nos testes
+@ExtendWith(MockitoExtension.class)
+class TurmaReativoServiceTest {
+
+//  Cria um mock (objeto simulado) para o TurmaReativoRepository
+	@Mock
+	private TurmaReativoRepository turmaReativoRepository;
+
+//  Cria um mock (objeto simulado) para o ContadorAlteracoes utilizado na geração das ETags
+	@Mock
+	private ContadorAlteracoes contadorAlteracoes;
+
+//  Cria um mock (objeto simulado) para o AuditoriaService que registra as alterações na trilha de auditoria
+	@Mock
+	private AuditoriaService auditoriaService;
+
+//  Cria um mock (objeto simulado) para a GradeHoraria, que libera os horários das turmas excluídas
+	@Mock
+	private GradeHoraria gradeHoraria;
+
+//  Injeta mocks automaticamente em TurmaReativoService
+	@InjectMocks
+	private TurmaReativoService turmaReativoService;
+
+	/**
+	 * Teste para verificar se o método salvarTurma() grava o nome normalizado e registra a alteração.
+	 */
+	@Test
+    public void salvarTurmaTest() {
+//      Configura o comportamento simulado do repositório para a inserção
+        when(turmaReativoRepository.inserir("Java Avançado", "java avancado")).thenReturn(Mono.just(new TurmaDTO(1, "Java Avançado")));
+
+//      Chama o método de salvar e aguarda o resultado
+        TurmaDTO salva = turmaReativoService.salvarTurma(new TurmaDTO(null, "Java Avançado")).block();
+
+//      Verifica o ID retornado e se a alteração foi registrada para invalidar as ETags
+        assertEquals(1, salva.getId());
+        verify(contadorAlteracoes, times(1)).registrarAlteracao(Turma.class);
+    }
+
+	/**
+	 * Teste para verificar se o método buscarTurmasPaginadas() limita o tamanho da página e começa do cursor 0.
+	 */
+	@Test
+    public void buscarTurmasPaginadasTest() {
+//      Configura o comportamento simulado do repositório para a primeira página com o tamanho máximo
+        when(turmaReativoRepository.buscarPagina(0, TurmaService.TAMANHO_MAXIMO_PAGINA)).thenReturn(Flux.just(new TurmaDTO(1, "A"), new TurmaDTO(2, "B")));
+
+//      Solicita uma página maior que o máximo permitido
+        List<TurmaDTO> pagina = turmaReativoService.buscarTurmasPaginadas(null, 10_000).collectList().block();
+
+        assertEquals(2, pagina.size());
+    }
+
+	/**
+	 * Teste para verificar se o método buscarTurmaPorId() termina com RecursoNaoEncontradoException quando o ID não existe.
+	 */
+	@Test
+    public void buscarTurmaPorIdNaoEncontradoTest() {
+//      Configura o comportamento simulado do repositório para um ID inexistente
+        when(turmaReativoRepository.buscarPorId(99)).thenReturn(Mono.empty());
+
+//      Verifica se o erro emitido é a exceção de recurso não encontrado
+        assertThrows(RecursoNaoEncontradoException.class, () -> turmaReativoService.buscarTurmaPorId(99).block());
+    }
+
+	/**
+	 * Teste para verificar se o método atualizarTurma() não registra alteração quando nenhum registro é alterado.
+	 */
+	@Test
+    public void atualizarTurmaNaoEncontradoTest() {
+//      Configura o comportamento simulado do repositório para indicar que nenhum registro foi alterado
+        when(turmaReativoRepository.atualizarNome(99, "Nome", "nome")).thenReturn(Mono.just(0L));
+
+//      Verifica se a atualização de um ID inexistente termina com erro e sem registrar alteração
+        assertThrows(RecursoNaoEncontradoException.class, () -> turmaReativoService.atualizarTurma(99, new TurmaDTO(99, "Nome")).block());
+        verify(contadorAlteracoes, never()).registrarAlteracao(Turma.class);
+    }
+
+}
@@ -2,23 +2,35 @@ package br.com.senac.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import br.com.senac.auditoria.EntidadeAuditada;
+import br.com.senac.auditoria.OperacaoAuditada;
+import br.com.senac.dto.PaginaDTO;
+import br.com.senac.dto.TurmaDTO;
 import br.com.senac.entity.Turma;
 import br.com.senac.repository.TurmaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
 
 //Integra o Mockito para configurar e usar mocks nos testes
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +40,26 @@ class TurmaServiceTest {
 	@Mock
 	private TurmaRepository turmaRepository;
 	
+//  Cria um mock (objeto simulado) para o EntityManager utilizado na exportação
+	@Mock
+	private EntityManager entityManager;
+
+//  Cria um mock (objeto simulado) para o ContadorAlteracoes utilizado na geração das ETags
+	@Mock
+	private ContadorAlteracoes contadorAlteracoes;
+
+//  Cria um mock (objeto simulado) para o AuditoriaService que registra as alterações na trilha de auditoria
+	@Mock
+	private AuditoriaService auditoriaService;
+
+//  Usa um CarregamentoUnico real (espiado) para que as buscas por ID cheguem ao repositório simulado
+	@Spy
+	private CarregamentoUnico<Integer, Turma> carregamentoTurma = new CarregamentoUnico<>("turma");
+
+//  Cria um mock (objeto simulado) para a GradeHoraria, que libera os horários das turmas excluídas
+	@Mock
+	private GradeHoraria gradeHoraria;
+
 //  Injeta mocks automaticamente em AlunoService
 	@InjectMocks
 	private TurmaService turmaService;
@@ -80,6 +112,79 @@ class TurmaServiceTest {
 //		Verifica se a lista de turmas contém exatamente a turma de teste (turmaTeste)
         assertTrue(turmas.contains(turmaTeste));
 	}
+
+	/**
+	 * Teste para verificar se o método buscarTurmasPaginadas() limita a página e devolve o cursor da próxima página.
+	 */
+	@Test
+    public void buscarTurmasPaginadasTest() {
+//      Cria uma turma adicional com o ID 2 para simular que existem mais registros que o tamanho da página
+        Turma turmaSeguinte = new Turma();
+        turmaSeguinte.setId(2);
+        turmaSeguinte.setNome("Python");
+
+//      Configura o comportamento simulado do repositório para retornar um registro a mais que o tamanho da página
+        when(turmaRepository.buscarPagina(0, Limit.of(2))).thenReturn(Arrays.asList(new TurmaDTO(1, turmaTeste.getNome()), new TurmaDTO(2, turmaSeguinte.getNome())));
+
+//      Chama o método para buscar a primeira página com tamanho 1
+        PaginaDTO<TurmaDTO> pagina = turmaService.buscarTurmasPaginadas(null, 1);
+
+//      Verifica se a página contém somente o primeiro registro
+        assertEquals(1, pagina.getItens().size());
+        assertEquals(turmaTeste.getNome(), pagina.getItens().get(0).getNome());
+
+//      Verifica se o cursor da próxima página é o ID do último registro retornado
+        assertEquals(1, pagina.getProximoCursor());
+    }
+
+	/**
+	 * Teste para verificar se o método buscarTurmasPorNome() normaliza o termo e limita a quantidade de resultados.
+	 */
+	@Test
+    public void buscarTurmasPorNomeTest() {
+//      Configura o comportamento simulado do repositório para a busca por prefixo com o termo normalizado
+        when(turmaRepository.findByNomeNormalizadoStartingWithOrderByNomeNormalizadoAscIdAsc("avancado", Limit.of(TurmaService.TAMANHO_MAXIMO_BUSCA)))
+                .thenReturn(Arrays.asList(turmaTeste));
+
+//      Chama o método de busca com um termo acentuado, em maiúsculas e com um limite acima do máximo
+        List<Turma> resultado = turmaService.buscarTurmasPorNome("Avançado", ModoBusca.PREFIXO, 1000);
+
+//      Verifica se o registro retornado pelo repositório foi devolvido
+        assertEquals(1, resultado.size());
+        assertEquals(turmaTeste, resultado.get(0));
+    }
+
+	/**
+	 * Teste para verificar se o método buscarTurmasPorNome() não consulta o repositório quando o termo está em branco.
+	 */
+	@Test
+    public void buscarTurmasPorNomeEmBrancoTest() {
+//      Chama o método de busca com um termo contendo apenas espaços
+        List<Turma> resultado = turmaService.buscarTurmasPorNome("   ", ModoBusca.CONTEM, 10);
+
+//      Verifica se nenhum registro foi retornado e se o repositório não foi consultado
+        assertTrue(resultado.isEmpty());
+        verify(turmaRepository, never()).findByNomeNormalizadoContainingOrderByNomeNormalizadoAscIdAsc(any(String.class), any(Limit.class));
+    }
+
+	/**
+	 * Teste para verificar se o método exportarTurmas() entrega todos os registros e os remove do contexto de persistência.
+	 */
+	@Test
+    public void exportarTurmasTest() {
+//      Configura o comportamento simulado do repositório para retornar um stream com o registro de teste
+        when(turmaRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(turmaTeste));
+
+//      Chama o método de exportação acumulando os registros recebidos em uma lista
+        List<Turma> exportadas = new ArrayList<>();
+        turmaService.exportarTurmas(exportadas::add);
+
+//      Verifica se o registro de teste foi entregue ao consumidor
+        assertEquals(Arrays.asList(turmaTeste), exportadas);
+
+//      Verifica se o registro foi desanexado do contexto de persistência após ser entregue
+        verify(entityManager, times(1)).detach(turmaTeste);
+    }
 	
 	/**
 	 * Teste para verificar se o método buscarTurmaPorId() encontra corretamente uma turma com base no ID.
@@ -101,11 +206,8 @@ class TurmaServiceTest {
 	 */
 	@Test
     public void atualizarTurmaTest() {
-//      Configura o comportamento simulado do repositório para o ID 1
-    	when(turmaRepository.findById(1)).thenReturn(Optional.of(turmaTeste));
-        
-//      Configura o comportamento simulado do repositório para salvar qualquer instância de turma e retornar o próprio objeto salvo.
-        when(turmaRepository.save(any(Turma.class))).thenAnswer(invocation -> invocation.getArgument(0));
+//      Configura o comportamento simulado do repositório para indicar que um registro com o ID 1 foi alterado
+        when(turmaRepository.atualizarNome(1, "Java Avançado", "java avancado")).thenReturn(1);
 
 //      Cria uma nova instância de Turma com o ID 1 e nome "Java Avançado"
         Turma turmaAtualizada = new Turma();
@@ -131,13 +233,97 @@ class TurmaServiceTest {
 	@Test
     public void excluirTurmaTest() {
 //      Configura o comportamento simulado do repositório para o ID 1
-        when(turmaRepository.findById(1)).thenReturn(Optional.of(turmaTeste));
+        when(turmaRepository.excluirPorId(1)).thenReturn(1);
 
-//      Verifica se o método excluirTurma(1) da TurmaService chama corretamente o método deleteById(1) do repositório
+//      Verifica se o método excluirTurma(1) da TurmaService chama corretamente o método excluirPorId(1) do repositório
         turmaService.excluirTurma(1);
         
-//      Verifica se o método deleteById(1) do turmaRepository foi chamado exatamente uma vez
-        verify(turmaRepository, times(1)).deleteById(1);
+//      Verifica se o método excluirPorId(1) do turmaRepository foi chamado exatamente uma vez
+        verify(turmaRepository, times(1)).excluirPorId(1);
+
+//      Verifica se a alteração na tabela foi registrada para invalidar as ETags
+        verify(contadorAlteracoes, times(1)).registrarAlteracao(Turma.class);
+
+//      Verifica se os horários da turma foram liberados na grade horária
+        verify(gradeHoraria, times(1)).liberarTurma(1);
+    }
+
+	/**
+	 * Teste para verificar se o método excluirTurma() lança EntityNotFoundException quando nenhum registro é excluído.
+	 */
+	@Test
+    public void excluirTurmaNaoEncontradoTest() {
+//      Configura o comportamento simulado do repositório para indicar que nenhum registro foi excluído
+        when(turmaRepository.excluirPorId(99)).thenReturn(0);
+
+//      Verifica se a exclusão de um ID inexistente lança EntityNotFoundException
+        assertThrows(EntityNotFoundException.class, () -> turmaService.excluirTurma(99));
+    }
+
+	/**
+	 * Teste para verificar se o método salvarTurmas() salva cada registro da lista.
+	 */
+	@Test
+    public void salvarTurmasTest() {
+//      Configura o comportamento simulado para salvar qualquer instância e retornar o próprio objeto salvo
+        when(turmaRepository.save(any(Turma.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+//      Salva uma lista com o registro de teste utilizando o TurmaService
+        List<Turma> salvas = turmaService.salvarTurmas(Arrays.asList(turmaTeste));
+
+//      Verifica se a lista retornada contém o registro de teste e se o repositório foi chamado uma vez
+        assertEquals(Arrays.asList(turmaTeste), salvas);
+        verify(turmaRepository, times(1)).save(turmaTeste);
+    }
+
+	/**
+	 * Teste para verificar se o método atualizarTurmas() atualiza os registros carregados em uma única consulta.
+	 */
+	@Test
+    public void atualizarTurmasTest() {
+//      Configura o comportamento simulado do repositório para carregar o registro de ID 1
+        when(turmaRepository.findAllById(Arrays.asList(1))).thenReturn(Arrays.asList(turmaTeste));
+
+//      Cria a alteração com o ID 1 e o novo nome
+        Turma alteracao = new Turma();
+        alteracao.setId(1);
+        alteracao.setNome("Java Avançado");
+
+//      Chama o método de atualização em lote e verifica se o nome foi atualizado
+        List<Turma> atualizadas = turmaService.atualizarTurmas(Arrays.asList(alteracao));
+        assertEquals("Java Avançado", atualizadas.get(0).getNome());
+    }
+
+	/**
+	 * Teste para verificar se o método excluirTurmas() exclui os registros com um único comando DELETE e audita
+	 * uma única exclusão por ID, mesmo com IDs repetidos.
+	 */
+	@Test
+    public void excluirTurmasTest() {
+//      Configura o comportamento simulado do repositório para excluir os dois IDs distintos
+        when(turmaRepository.excluirPorIds(new LinkedHashSet<>(Arrays.asList(1, 2)))).thenReturn(2);
+
+//      Chama o método de exclusão em lote com o ID 1 repetido
+        turmaService.excluirTurmas(Arrays.asList(1, 2, 1));
+
+//      Verifica se cada ID foi auditado uma única vez
+        verify(auditoriaService, times(1)).registrar(EntidadeAuditada.TURMA, OperacaoAuditada.EXCLUSAO, 1, null);
+        verify(auditoriaService, times(1)).registrar(EntidadeAuditada.TURMA, OperacaoAuditada.EXCLUSAO, 2, null);
+    }
+
+	/**
+	 * Teste para verificar se o método excluirTurmas() lança EntityNotFoundException, para que a transação seja
+	 * desfeita, quando algum ID não existe.
+	 */
+	@Test
+    public void excluirTurmasNaoEncontradoTest() {
+//      Configura o comportamento simulado do repositório para excluir apenas um dos dois IDs
+        when(turmaRepository.excluirPorIds(new LinkedHashSet<>(Arrays.asList(1, 2)))).thenReturn(1);
+
+//      Verifica se a exclusão em lote lança EntityNotFoundException e se nada é auditado
+        EntityNotFoundException excecao = assertThrows(EntityNotFoundException.class, () -> turmaService.excluirTurmas(Arrays.asList(1, 2)));
+        assertEquals("1 das 2 turmas informadas não foram encontradas.", excecao.getMessage());
+        verify(auditoriaService, never()).registrar(any(), any(), any(), any());
     }
 
 }
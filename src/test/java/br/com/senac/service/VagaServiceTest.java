@@ -0,0 +1,213 @@
+package br.com.senac.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.senac.dto.ReservaDTO;
+import br.com.senac.entity.Aluno;
+import br.com.senac.entity.Espera;
+import br.com.senac.entity.Matricula;
+import br.com.senac.entity.Turma;
+import br.com.senac.repository.AlunoRepository;
+import br.com.senac.repository.EsperaRepository;
+import br.com.senac.repository.MatriculaRepository;
+import br.com.senac.repository.TurmaRepository;
+
+//Integra o Mockito para configurar e usar mocks nos testes
+@ExtendWith(MockitoExtension.class)
+class VagaServiceTest {
+
+//  Cria um mock (objeto simulado) para TurmaRepository
+	@Mock
+	private TurmaRepository turmaRepository;
+
+//  Cria um mock (objeto simulado) para AlunoRepository
+	@Mock
+	private AlunoRepository alunoRepository;
+
+//  Cria um mock (objeto simulado) para MatriculaRepository
+	@Mock
+	private MatriculaRepository matriculaRepository;
+
+//  Cria um mock (objeto simulado) para EsperaRepository
+	@Mock
+	private EsperaRepository esperaRepository;
+
+//  Cria um mock (objeto simulado) para MatriculaService
+	@Mock
+	private MatriculaService matriculaService;
+
+//  Cria um mock (objeto simulado) para o ControleVagas
+	@Mock
+	private ControleVagas controleVagas;
+
+//  Cria um mock (objeto simulado) para o TransactionTemplate, que apenas executa o callback recebido
+	@Mock
+	private TransactionTemplate transacao;
+
+//  Injeta mocks automaticamente em VagaService
+	@InjectMocks
+	private VagaService vagaService;
+
+	private Aluno alunoTeste;
+
+	private Turma turmaTeste;
+
+//  Configuração prévia para testes
+	@BeforeEach
+	public void setUp() {
+		alunoTeste = new Aluno();
+		alunoTeste.setId(1);
+		alunoTeste.setNome("João");
+		turmaTeste = new Turma();
+		turmaTeste.setId(2);
+		turmaTeste.setNome("Java");
+		turmaTeste.setCapacidade(30);
+	}
+
+	/**
+	 * Teste para verificar se o método reservar() matricula o aluno quando há vaga.
+	 */
+	@Test
+    public void reservarComVagaTest() {
+        Matricula matricula = new Matricula();
+        matricula.setId(10);
+        when(controleVagas.disponiveis(2)).thenReturn(1);
+        when(matriculaService.salvarMatricula(1, 2)).thenReturn(matricula);
+
+        ReservaDTO reserva = vagaService.reservar(2, 1);
+
+//      Verifica se o aluno foi matriculado e não entrou na lista de espera
+        assertEquals(VagaService.MATRICULADO, reserva.getSituacao());
+        assertEquals(10, reserva.getMatriculaId());
+        verify(esperaRepository, never()).saveAndFlush(any(Espera.class));
+    }
+
+	/**
+	 * Teste para verificar se o método reservar() coloca o aluno na lista de espera quando a turma está lotada.
+	 */
+	@Test
+    public void reservarTurmaLotadaTest() {
+//      Configura o comportamento simulado para que outra reserva ocupe a última vaga antes da matrícula
+        when(controleVagas.disponiveis(2)).thenReturn(1);
+        when(matriculaService.salvarMatricula(1, 2)).thenThrow(new VagasEsgotadasException(2));
+        when(transacao.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(alunoRepository.findById(1)).thenReturn(Optional.of(alunoTeste));
+        when(turmaRepository.findById(2)).thenReturn(Optional.of(turmaTeste));
+        when(esperaRepository.saveAndFlush(any(Espera.class))).thenAnswer(invocation -> {
+            Espera espera = invocation.getArgument(0);
+            espera.setId(7);
+            return espera;
+        });
+        when(esperaRepository.calcularPosicao(2, 7)).thenReturn(3L);
+
+        ReservaDTO reserva = vagaService.reservar(2, 1);
+
+//      Verifica se o aluno entrou na lista de espera na terceira posição
+        assertEquals(VagaService.EM_ESPERA, reserva.getSituacao());
+        assertNull(reserva.getMatriculaId());
+        assertEquals(3L, reserva.getPosicaoEspera());
+    }
+
+	/**
+	 * Teste para verificar se o método reservar() não tenta matricular o aluno quando a turma já está lotada.
+	 */
+	@Test
+    public void reservarSemVagasDisponiveisTest() {
+        when(controleVagas.disponiveis(2)).thenReturn(0);
+        when(transacao.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(alunoRepository.findById(1)).thenReturn(Optional.of(alunoTeste));
+        when(turmaRepository.findById(2)).thenReturn(Optional.of(turmaTeste));
+        when(esperaRepository.saveAndFlush(any(Espera.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ReservaDTO reserva = vagaService.reservar(2, 1);
+
+//      Verifica se o aluno entrou na lista de espera sem passar pela MatriculaService
+        assertEquals(VagaService.EM_ESPERA, reserva.getSituacao());
+        verify(matriculaService, never()).salvarMatricula(any(), any());
+    }
+
+	/**
+	 * Teste para verificar se o método reservar() rejeita um aluno que já está na lista de espera.
+	 */
+	@Test
+    public void reservarJaEmEsperaTest() {
+        when(controleVagas.disponiveis(2)).thenReturn(0);
+        when(transacao.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(esperaRepository.existsByTurmaIdAndAlunoId(2, 1)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> vagaService.reservar(2, 1));
+        verify(esperaRepository, never()).saveAndFlush(any(Espera.class));
+    }
+
+	/**
+	 * Teste para verificar se o método reservar() repassa o conflito quando o mesmo aluno repete a reserva e outra
+	 * requisição simultânea já o matriculou, sem colocá-lo na lista de espera.
+	 */
+	@Test
+    public void reservarRepetidaMatriculadoTest() {
+        when(controleVagas.disponiveis(2)).thenReturn(1);
+        when(matriculaService.salvarMatricula(1, 2)).thenThrow(new ConflitoException("Aluno com o ID 1 já matriculado na turma com o ID 2."));
+
+        assertThrows(ConflitoException.class, () -> vagaService.reservar(2, 1));
+        verify(transacao, never()).execute(any());
+    }
+
+	/**
+	 * Teste para verificar se o método reservar() converte em conflito a violação da restrição única quando o mesmo
+	 * aluno repete a reserva e as duas requisições passam juntas pela verificação da lista de espera.
+	 */
+	@Test
+    public void reservarRepetidaEmEsperaTest() {
+//      Configura o comportamento simulado para que a gravação na lista de espera viole uk_espera_turma_aluno
+        when(controleVagas.disponiveis(2)).thenReturn(0);
+        when(transacao.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(alunoRepository.findById(1)).thenReturn(Optional.of(alunoTeste));
+        when(turmaRepository.findById(2)).thenReturn(Optional.of(turmaTeste));
+        when(esperaRepository.saveAndFlush(any(Espera.class))).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException("Unique index or primary key violation: \"PUBLIC.UK_ESPERA_TURMA_ALUNO_INDEX_7 ON PUBLIC.ESPERA(TURMA_ID, ALUNO_ID)\"")));
+
+//      Verifica se a reserva lança ConflitoException com a mesma mensagem da verificação de existência
+        ConflitoException excecao = assertThrows(ConflitoException.class, () -> vagaService.reservar(2, 1));
+        assertEquals("Aluno com o ID 1 já está na lista de espera da turma com o ID 2.", excecao.getMessage());
+    }
+
+	/**
+	 * Teste para verificar se o método sairDaEspera() lança RecursoNaoEncontradoException quando o aluno não está na
+	 * lista de espera da turma.
+	 */
+	@Test
+    public void sairDaEsperaNaoEncontradoTest() {
+        when(esperaRepository.excluirPorTurmaEAluno(2, 1)).thenReturn(0);
+
+        RecursoNaoEncontradoException excecao = assertThrows(RecursoNaoEncontradoException.class, () -> vagaService.sairDaEspera(2, 1));
+        assertEquals("Aluno com o ID 1 não está na lista de espera da turma com o ID 2.", excecao.getMessage());
+        assertEquals(1, excecao.getId());
+    }
+
+	/**
+	 * Teste para verificar se o método definirCapacidade() rejeita capacidades negativas.
+	 */
+	@Test
+    public void definirCapacidadeNegativaTest() {
+        assertThrows(IllegalArgumentException.class, () -> vagaService.definirCapacidade(2, -1));
+        verify(turmaRepository, never()).atualizarCapacidade(any(), any());
+    }
+
+}
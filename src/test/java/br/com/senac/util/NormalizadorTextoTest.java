@@ -0,0 +1,26 @@
+package br.com.senac.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class NormalizadorTextoTest {
+
+	/**
+	 * Teste para verificar se acentos, cedilha, maiúsculas e espaços repetidos são removidos.
+	 */
+	@Test
+	public void normalizarTest() {
+		assertEquals("jose conceicao", NormalizadorTexto.normalizar("  José   Conceição "));
+		assertEquals("joao pao", NormalizadorTexto.normalizar("JOÃO PÃO"));
+	}
+
+	/**
+	 * Teste para verificar se um texto nulo continua nulo após a normalização.
+	 */
+	@Test
+	public void normalizarNuloTest() {
+		assertNull(NormalizadorTexto.normalizar(null));
+	}
+
+}